@@ -28,6 +28,9 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
+import org.neo4j.gds.ml.core.functions.NormalizeRows;
+import org.neo4j.gds.ml.core.subgraph.SubGraph;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
 import java.util.concurrent.ExecutorService;
@@ -66,7 +69,7 @@ public class GraphSageEmbeddingsGenerator {
 
     public HugeObjectArray<double[]> makeEmbeddings(
         Graph graph,
-        HugeObjectArray<double[]> features
+        NodeFeatures features
     ) {
         HugeObjectArray<double[]> result = HugeObjectArray.newArray(
             double[].class,
@@ -89,10 +92,125 @@ public class GraphSageEmbeddingsGenerator {
         return result;
     }
 
+    /**
+     * Computes the embeddings one layer at a time for all nodes.
+     * The representations of the previous layer are stored for every node,
+     * so each batch only samples a single hop instead of the subgraphs over all layers.
+     * As neighbors are sampled per node, the result is the same as for {@link #makeEmbeddings(Graph, NodeFeatures)}.
+     *
+     * @param floatRepresentations whether to store the intermediate layer representations in single precision
+     */
+    public HugeObjectArray<double[]> makeLayerwiseEmbeddings(
+        Graph graph,
+        NodeFeatures features,
+        boolean floatRepresentations
+    ) {
+        HugeObjectArray<double[]> result = HugeObjectArray.newArray(
+            double[].class,
+            graph.nodeCount(),
+            allocationTracker
+        );
+
+        progressTracker.beginSubTask();
+
+        var previousRepresentations = features;
+        for (int layerIdx = 0; layerIdx < layers.length; layerIdx++) {
+            var layer = layers[layerIdx];
+            var layerFeatureFunction = layerIdx == 0 ? featureFunction : new SingleLabelFeatureFunction();
+            boolean isLastLayer = layerIdx == layers.length - 1;
+
+            NodeFeatures layerRepresentations;
+            RepresentationConsumer representationConsumer;
+            if (isLastLayer) {
+                layerRepresentations = NodeFeatures.of(result);
+                representationConsumer = (nodeId, representations, row) -> result.set(nodeId, representations.getRow(row));
+            } else if (floatRepresentations) {
+                var representationStore = HugeObjectArray.newArray(float[].class, graph.nodeCount(), allocationTracker);
+                layerRepresentations = NodeFeatures.ofFloats(representationStore);
+                representationConsumer = (nodeId, representations, row) -> {
+                    int cols = representations.cols();
+                    var representation = new float[cols];
+                    for (int col = 0; col < cols; col++) {
+                        representation[col] = (float) representations.dataAt(row, col);
+                    }
+                    representationStore.set(nodeId, representation);
+                };
+            } else {
+                var representationStore = HugeObjectArray.newArray(double[].class, graph.nodeCount(), allocationTracker);
+                layerRepresentations = NodeFeatures.of(representationStore);
+                representationConsumer = (nodeId, representations, row) -> representationStore.set(nodeId, representations.getRow(row));
+            }
+
+            var layerInput = previousRepresentations;
+            var tasks = PartitionUtils.rangePartitionWithBatchSize(
+                graph.nodeCount(),
+                batchSize,
+                partition -> createLayerRepresentations(
+                    graph,
+                    partition,
+                    layer,
+                    layerFeatureFunction,
+                    layerInput,
+                    isLastLayer,
+                    representationConsumer
+                )
+            );
+
+            ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+
+            // the representations of the layer before are not needed anymore
+            previousRepresentations = layerRepresentations;
+        }
+
+        progressTracker.endSubTask();
+
+        return result;
+    }
+
+    private Runnable createLayerRepresentations(
+        Graph graph,
+        Partition partition,
+        Layer layer,
+        FeatureFunction layerFeatureFunction,
+        NodeFeatures previousRepresentations,
+        boolean isLastLayer,
+        RepresentationConsumer representationConsumer
+    ) {
+        return () -> {
+            SubGraph subGraph = SubGraph.buildSubGraph(
+                partition.stream().toArray(),
+                layer::neighborhoodFunction,
+                graph,
+                isWeighted
+            );
+            Variable<Matrix> representationVariable = layer.aggregator().aggregate(
+                layerFeatureFunction.apply(graph, subGraph.originalNodeIds(), previousRepresentations),
+                subGraph
+            );
+            if (isLastLayer) {
+                representationVariable = new NormalizeRows(representationVariable);
+            }
+            Matrix representations = new ComputationContext().forward(representationVariable);
+
+            var partitionStartNodeId = partition.startNode();
+            var partitionNodeCount = partition.nodeCount();
+            for (int partitionIdx = 0; partitionIdx < partitionNodeCount; partitionIdx++) {
+                representationConsumer.accept(partitionStartNodeId + partitionIdx, representations, partitionIdx);
+            }
+
+            progressTracker.logProgress(partitionNodeCount);
+        };
+    }
+
+    @FunctionalInterface
+    private interface RepresentationConsumer {
+        void accept(long nodeId, Matrix representations, int row);
+    }
+
     private Runnable createEmbeddings(
         Graph graph,
         Partition partition,
-        HugeObjectArray<double[]> features,
+        NodeFeatures features,
         HugeObjectArray<double[]> result
     ) {
         return () -> {
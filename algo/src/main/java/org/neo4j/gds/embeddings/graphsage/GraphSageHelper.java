@@ -34,9 +34,12 @@ import org.neo4j.gds.embeddings.graphsage.algo.MultiLabelFeatureExtractors;
 import org.neo4j.gds.ml.core.NeighborhoodFunction;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.features.BiasFeature;
+import org.neo4j.gds.ml.core.features.FeatureConsumer;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
 import org.neo4j.gds.ml.core.features.FeatureExtractor;
 import org.neo4j.gds.ml.core.features.HugeObjectArrayFeatureConsumer;
+import org.neo4j.gds.ml.core.features.HugeObjectArrayFloatFeatureConsumer;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.functions.NormalizeRows;
 import org.neo4j.gds.ml.core.subgraph.SubGraph;
 import org.neo4j.gds.ml.core.tensor.Matrix;
@@ -52,6 +55,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
@@ -66,7 +70,7 @@ public final class GraphSageHelper {
         Graph graph,
         boolean useWeights,
         long[] nodeIds,
-        HugeObjectArray<double[]> features,
+        NodeFeatures features,
         Layer[] layers,
         FeatureFunction featureFunction
     ) {
@@ -213,15 +217,24 @@ public final class GraphSageHelper {
         return computationGraphBuilder.endField().build();
     }
 
-    public static HugeObjectArray<double[]> initializeSingleLabelFeatures(
+    public static NodeFeatures initializeSingleLabelFeatures(
         Graph graph,
         GraphSageTrainConfig config,
         AllocationTracker allocationTracker
     ) {
-        var features = HugeObjectArray.newArray(double[].class, graph.nodeCount(), allocationTracker);
         var extractors = featureExtractors(graph, config);
 
-        return FeatureExtraction.extract(graph, extractors, features);
+        if (config.useFloatFeatures()) {
+            var features = HugeObjectArray.newArray(float[].class, graph.nodeCount(), allocationTracker);
+            return NodeFeatures.ofFloats(FeatureExtraction.extractFloats(graph, extractors, features));
+        }
+
+        var features = HugeObjectArray.newArray(double[].class, graph.nodeCount(), allocationTracker);
+        return NodeFeatures.of(FeatureExtraction.extract(graph, extractors, features));
+    }
+
+    public static long sizeOfNodeFeatures(GraphSageTrainConfig config, int featureCount) {
+        return config.useFloatFeatures() ? sizeOfFloatArray(featureCount) : sizeOfDoubleArray(featureCount);
     }
 
     public static List<FeatureExtractor> featureExtractors(Graph graph, GraphSageTrainConfig config) {
@@ -255,23 +268,52 @@ public final class GraphSageHelper {
         return new MultiLabelFeatureExtractors(featureCountPerLabel, extractorsPerLabel);
     }
 
-    public static HugeObjectArray<double[]> initializeMultiLabelFeatures(
+    public static NodeFeatures initializeMultiLabelFeatures(
         Graph graph,
+        GraphSageTrainConfig config,
         MultiLabelFeatureExtractors multiLabelFeatureExtractors,
         AllocationTracker allocationTracker
     ) {
+        if (config.useFloatFeatures()) {
+            var features = HugeObjectArray.newArray(float[].class, graph.nodeCount(), allocationTracker);
+            extractMultiLabelFeatures(
+                graph,
+                multiLabelFeatureExtractors,
+                new HugeObjectArrayFloatFeatureConsumer(features),
+                (nodeId, featureCount) -> features.set(nodeId, new float[featureCount])
+            );
+            return NodeFeatures.ofFloats(features);
+        }
+
         var features = HugeObjectArray.newArray(double[].class, graph.nodeCount(), allocationTracker);
-        var featureConsumer = new HugeObjectArrayFeatureConsumer(features);
+        extractMultiLabelFeatures(
+            graph,
+            multiLabelFeatureExtractors,
+            new HugeObjectArrayFeatureConsumer(features),
+            (nodeId, featureCount) -> features.set(nodeId, new double[featureCount])
+        );
+        return NodeFeatures.of(features);
+    }
+
+    private static void extractMultiLabelFeatures(
+        Graph graph,
+        MultiLabelFeatureExtractors multiLabelFeatureExtractors,
+        FeatureConsumer featureConsumer,
+        NodeFeaturesAllocator allocator
+    ) {
         graph.forEachNode(nodeId -> {
             var nodeLabel = labelOf(graph, nodeId);
             var extractors = multiLabelFeatureExtractors.extractorsPerLabel().get(nodeLabel);
             var featureCount = multiLabelFeatureExtractors.featureCountPerLabel().get(nodeLabel);
-            features.set(nodeId, new double[featureCount]);
+            allocator.allocate(nodeId, featureCount);
             FeatureExtraction.extract(nodeId, nodeId, extractors, featureConsumer);
             return true;
         });
+    }
 
-        return features;
+    @FunctionalInterface
+    private interface NodeFeaturesAllocator {
+        void allocate(long nodeId, int featureCount);
     }
 
     public static Map<NodeLabel, Set<String>> propertyKeysPerNodeLabel(GraphSchema graphSchema) {
@@ -26,7 +26,6 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.ImmutableRelationshipCursor;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -34,6 +33,7 @@ import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.functions.PassthroughVariable;
 import org.neo4j.gds.ml.core.functions.Weights;
 import org.neo4j.gds.ml.core.optimizer.AdamOptimizer;
@@ -56,14 +56,17 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.neo4j.gds.embeddings.graphsage.GraphSageHelper.embeddings;
 import static org.neo4j.gds.ml.core.RelationshipWeights.UNWEIGHTED;
-import static org.neo4j.gds.ml.core.tensor.TensorFunctions.averageTensors;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class GraphSageModelTrainer {
+    // smallest number of gradient entries reduced by a single task
+    private static final int MIN_REDUCTION_RANGE = 4096;
+
     private final long randomSeed;
     private Layer[] layers;
     private final boolean useWeights;
@@ -109,19 +112,20 @@ public class GraphSageModelTrainer {
         this.randomSeed = config.randomSeed().orElseGet(() -> ThreadLocalRandom.current().nextLong());
     }
 
-    public ModelTrainResult train(Graph graph, HugeObjectArray<double[]> features) {
+    public ModelTrainResult train(Graph graph, NodeFeatures features) {
         progressTracker.beginSubTask();
 
         this.layers = layerConfigsFunction.apply(graph).stream()
             .map(LayerFactory::createLayer)
             .toArray(Layer[]::new);
 
-        var weights = getWeights();
-        var batchTasks = PartitionUtils.rangePartitionWithBatchSize(
-            graph.nodeCount(),
-            batchSize,
-            batch -> new BatchTask(lossFunction(batch, graph, features), weights, tolerance)
-        );
+        var batchTasks = createBatchTasks(graph, features);
+        var workers = createWorkers(batchTasks, getWeights());
+        // the workers own their gradient sums, the mean is reduced into a buffer of its own
+        List<? extends Tensor<?>> meanGradients = getWeights()
+            .stream()
+            .map(weight -> weight.data().createWithSameDimensions())
+            .collect(Collectors.toList());
 
         double previousLoss = Double.MAX_VALUE;
         boolean converged = false;
@@ -129,7 +133,7 @@ public class GraphSageModelTrainer {
         for (int epoch = 1; epoch <= epochs; epoch++) {
             progressTracker.beginSubTask();
 
-            double newLoss = trainEpoch(batchTasks, epoch);
+            double newLoss = trainEpoch(batchTasks, workers, meanGradients, epoch);
             epochLosses.add(newLoss);
             progressTracker.endSubTask();
             if (Math.abs((newLoss - previousLoss) / previousLoss) < tolerance) {
@@ -143,7 +147,12 @@ public class GraphSageModelTrainer {
         return ModelTrainResult.of(epochLosses, converged, this.layers);
     }
 
-    private double trainEpoch(List<BatchTask> batchTasks, int epoch) {
+    private double trainEpoch(
+        List<BatchTask> batchTasks,
+        List<TrainingWorker> workers,
+        List<? extends Tensor<?>> meanGradients,
+        int epoch
+    ) {
         List<Weights<? extends Tensor<?>>> weights = getWeights();
 
         var updater = new AdamOptimizer(weights, learningRate);
@@ -154,7 +163,7 @@ public class GraphSageModelTrainer {
             progressTracker.beginSubTask();
 
             // run forward + maybe backward for each Batch
-            ParallelUtil.runWithConcurrency(concurrency, batchTasks, executor);
+            ParallelUtil.runWithConcurrency(concurrency, workers, executor);
             totalLoss = batchTasks.stream().mapToDouble(BatchTask::loss).average().orElseThrow();
 
             var converged = batchTasks.stream().allMatch(task -> task.converged);
@@ -163,12 +172,7 @@ public class GraphSageModelTrainer {
                 break;
             }
 
-            var batchedGradients = batchTasks
-                .stream()
-                .map(BatchTask::weightGradients)
-                .collect(Collectors.toList());
-
-            var meanGradients = averageTensors(batchedGradients);
+            averageGradients(workers, batchTasks.size(), meanGradients);
 
             updater.update(meanGradients);
 
@@ -180,51 +184,167 @@ public class GraphSageModelTrainer {
         return totalLoss;
     }
 
-    static class BatchTask implements Runnable {
+    private List<BatchTask> createBatchTasks(Graph graph, NodeFeatures features) {
+        var batches = PartitionUtils.rangePartitionWithBatchSize(graph.nodeCount(), batchSize, Function.identity());
+        var batchTasks = new BatchTask[batches.size()];
+
+        // sampling the neighbors and negative examples of a batch is independent of the other batches
+        int workers = Math.min(concurrency, batches.size());
+        var samplingTasks = IntStream.range(0, workers)
+            .mapToObj(worker -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                for (int batchIdx = worker; batchIdx < batches.size(); batchIdx += workers) {
+                    batchTasks[batchIdx] = new BatchTask(
+                        lossFunction(batches.get(batchIdx), localGraph, features),
+                        tolerance
+                    );
+                }
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, samplingTasks, executor);
 
-        private final Variable<Scalar> lossFunction;
+        return Arrays.asList(batchTasks);
+    }
+
+    // every worker trains a contiguous range of batches, so that its gradient sum follows the batch order
+    private List<TrainingWorker> createWorkers(List<BatchTask> batchTasks, List<Weights<? extends Tensor<?>>> weights) {
+        int batchCount = batchTasks.size();
+        int workerCount = Math.min(concurrency, batchCount);
+
+        return IntStream.range(0, workerCount)
+            .mapToObj(worker -> new TrainingWorker(
+                batchTasks.subList(worker * batchCount / workerCount, (worker + 1) * batchCount / workerCount),
+                weights
+            ))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Averages the gradient sums of all workers into {@code meanGradients}, overwriting its previous content.
+     * The gradients are split into element ranges which are reduced in parallel.
+     * Every element sums up the workers in the same order, so the result only depends on how the batches
+     * are split among the workers.
+     */
+    private void averageGradients(
+        List<TrainingWorker> workers,
+        int batchCount,
+        List<? extends Tensor<?>> meanGradients
+    ) {
+        double scale = 1D / batchCount;
+
+        var reductionTasks = new ArrayList<Runnable>();
+        for (int weightIdx = 0; weightIdx < meanGradients.size(); weightIdx++) {
+            int weight = weightIdx;
+            double[] meanGradient = meanGradients.get(weightIdx).data();
+            int rangeSize = Math.max(MIN_REDUCTION_RANGE, ParallelUtil.threadCount(concurrency, meanGradient.length));
+
+            for (int rangeStart = 0; rangeStart < meanGradient.length; rangeStart += rangeSize) {
+                int start = rangeStart;
+                int end = Math.min(rangeStart + rangeSize, meanGradient.length);
+                reductionTasks.add(() -> {
+                    Arrays.fill(meanGradient, start, end, 0D);
+                    for (var worker : workers) {
+                        double[] gradientSum = worker.gradientSums.get(weight).data();
+                        for (int i = start; i < end; i++) {
+                            meanGradient[i] += gradientSum[i];
+                        }
+                    }
+                    for (int i = start; i < end; i++) {
+                        meanGradient[i] *= scale;
+                    }
+                });
+            }
+        }
+        ParallelUtil.runWithConcurrency(concurrency, reductionTasks, executor);
+    }
+
+    /**
+     * Trains its batches on a computation context of its own and sums up their weight gradients locally.
+     * The context is reset after every batch, so it only holds the data and gradients of a single batch at a time.
+     */
+    static class TrainingWorker implements Runnable {
+
+        private final List<BatchTask> batchTasks;
         private final List<Weights<? extends Tensor<?>>> weightVariables;
-        private List<? extends Tensor<?>> weightGradients;
+        private final ComputationContext ctx;
+        // the weight gradients of all batches of this worker in the current iteration
+        private final List<? extends Tensor<?>> gradientSums;
+        // converged batches are not recomputed, their last weight gradients still count towards the mean
+        private final List<? extends Tensor<?>> convergedGradientSums;
+
+        TrainingWorker(List<BatchTask> batchTasks, List<Weights<? extends Tensor<?>>> weightVariables) {
+            this.batchTasks = batchTasks;
+            this.weightVariables = weightVariables;
+            this.ctx = new ComputationContext();
+            this.gradientSums = weightVariables
+                .stream()
+                .map(weight -> weight.data().createWithSameDimensions())
+                .collect(Collectors.toList());
+            this.convergedGradientSums = weightVariables
+                .stream()
+                .map(weight -> weight.data().createWithSameDimensions())
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public void run() {
+            for (int weight = 0; weight < gradientSums.size(); weight++) {
+                double[] convergedGradientSum = convergedGradientSums.get(weight).data();
+                double[] gradientSum = gradientSums.get(weight).data();
+                System.arraycopy(convergedGradientSum, 0, gradientSum, 0, convergedGradientSum.length);
+            }
+
+            for (BatchTask batchTask : batchTasks) {
+                if (batchTask.converged) { // Don't try to go further
+                    continue;
+                }
+
+                batchTask.run(ctx);
+
+                for (int weight = 0; weight < gradientSums.size(); weight++) {
+                    var gradient = ctx.gradient(weightVariables.get(weight));
+                    if (gradient == null) {
+                        continue;
+                    }
+                    gradientSums.get(weight).addInPlace(gradient);
+                    if (batchTask.converged) {
+                        convergedGradientSums.get(weight).addInPlace(gradient);
+                    }
+                }
+
+                // the gradients were copied out, the buffers are handed to the next batch
+                ctx.reset();
+            }
+        }
+    }
+
+    static class BatchTask {
+
+        private final Variable<Scalar> lossFunction;
         private final double tolerance;
         private boolean converged;
         private double prevLoss;
 
-        BatchTask(
-            Variable<Scalar> lossFunction,
-            List<Weights<? extends Tensor<?>>> weightVariables,
-            double tolerance
-        ) {
+        BatchTask(Variable<Scalar> lossFunction, double tolerance) {
             this.lossFunction = lossFunction;
-            this.weightVariables = weightVariables;
             this.tolerance = tolerance;
         }
 
-        @Override
-        public void run() {
-            if(converged) { // Don't try to go further
-                return;
-            }
-
-            var localCtx = new ComputationContext();
-            var loss = localCtx.forward(lossFunction).value();
+        void run(ComputationContext ctx) {
+            var loss = ctx.forward(lossFunction).value();
 
             converged = Math.abs(prevLoss - loss) < tolerance;
             prevLoss = loss;
 
-            localCtx.backward(lossFunction);
-            weightGradients = weightVariables.stream().map(localCtx::gradient).collect(Collectors.toList());
+            ctx.backward(lossFunction);
         }
 
         public double loss() {
             return prevLoss;
         }
-
-        List<? extends Tensor<?>> weightGradients() {
-            return weightGradients;
-        }
     }
 
-    private Variable<Scalar> lossFunction(Partition batch, Graph graph, HugeObjectArray<double[]> features) {
+    private Variable<Scalar> lossFunction(Partition batch, Graph graph, NodeFeatures features) {
         var batchLocalRandomSeed = getBatchIndex(batch, graph.nodeCount()) + randomSeed;
 
         var neighbours = neighborBatch(graph, batch, batchLocalRandomSeed).toArray();
@@ -20,10 +20,10 @@
 package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.functions.Constant;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 
 import java.util.stream.IntStream;
 
@@ -31,18 +31,16 @@ public class SingleLabelFeatureFunction implements FeatureFunction {
 
     @Override
     public Variable<Matrix> apply(
-        Graph graph, long[] nodeIds, HugeObjectArray<double[]> features
+        Graph graph, long[] nodeIds, NodeFeatures features
     ) {
-        int dimension = features.get(0).length;
+        int dimension = features.dimension(0);
         double[] data = new double[Math.multiplyExact(nodeIds.length, dimension)];
         IntStream
             .range(0, nodeIds.length)
-            .forEach(nodeOffset -> System.arraycopy(
-                features.get(nodeIds[nodeOffset]),
-                0,
+            .forEach(nodeOffset -> features.copyTo(
+                nodeIds[nodeOffset],
                 data,
-                nodeOffset * dimension,
-                dimension
+                nodeOffset * dimension
             ));
         return Constant.matrix(data, nodeIds.length, dimension);
     }
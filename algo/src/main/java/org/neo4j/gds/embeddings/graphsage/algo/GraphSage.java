@@ -82,14 +82,15 @@ public class GraphSage extends Algorithm<GraphSage, GraphSage.GraphSageResult> {
         var features = trainConfig.isMultiLabel() ?
             initializeMultiLabelFeatures(
                 graph,
-                GraphSageHelper.multiLabelFeatureExtractors(graph, trainConfig), allocationTracker
+                trainConfig,
+                GraphSageHelper.multiLabelFeatureExtractors(graph, trainConfig),
+                allocationTracker
             )
             : initializeSingleLabelFeatures(graph, trainConfig, allocationTracker);
 
-        HugeObjectArray<double[]> embeddings = embeddingsGenerator.makeEmbeddings(
-            graph,
-            features
-        );
+        HugeObjectArray<double[]> embeddings = config.layerwiseInference()
+            ? embeddingsGenerator.makeLayerwiseEmbeddings(graph, features, trainConfig.useFloatFeatures())
+            : embeddingsGenerator.makeEmbeddings(graph, features);
         return GraphSageResult.of(embeddings);
     }
 
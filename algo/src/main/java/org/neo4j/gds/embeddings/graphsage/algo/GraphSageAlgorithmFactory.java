@@ -91,17 +91,28 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             graphDimensions -> withNodeCount(
                 model.trainConfig(),
                 graphDimensions.nodeCount(),
-                config instanceof MutateConfig
+                config instanceof MutateConfig,
+                config.layerwiseInference()
             )
         );
     }
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.layerwiseInference()) {
+            var model = resolveModel(modelCatalog, config.username(), config.modelName());
+            // every layer is computed for all nodes
+            return Tasks.leaf(taskName(), graph.nodeCount() * model.data().layers().length);
+        }
         return Tasks.leaf(taskName(), graph.nodeCount());
     }
 
-    private MemoryEstimation withNodeCount(GraphSageTrainConfig config, long nodeCount, boolean mutate) {
+    private MemoryEstimation withNodeCount(
+        GraphSageTrainConfig config,
+        long nodeCount,
+        boolean mutate,
+        boolean layerwiseInference
+    ) {
         var gsBuilder = MemoryEstimations.builder("GraphSage");
 
         if (mutate) {
@@ -117,7 +128,7 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             .field("this.instance", GraphSage.class)
             .add(
                 "initialFeatures",
-                HugeObjectArray.memoryEstimation(sizeOfDoubleArray(config.estimationFeatureDimension()))
+                HugeObjectArray.memoryEstimation(GraphSageHelper.sizeOfNodeFeatures(config, config.estimationFeatureDimension()))
             )
             .perThread(
                 "concurrentBatches",
@@ -125,6 +136,16 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
                     GraphSageHelper.embeddingsEstimation(config, config.batchSize(), nodeCount, 0, false)
                 ).build()
             );
+        if (layerwiseInference) {
+            // at most the representations of two intermediate layers are held at the same time
+            var intermediateLayers = Math.min(config.sampleSizes().size() - 1, 2);
+            for (int i = 0; i < intermediateLayers; i++) {
+                builder = builder.add(
+                    "layerRepresentations " + (i + 1),
+                    HugeObjectArray.memoryEstimation(GraphSageHelper.sizeOfNodeFeatures(config, config.embeddingDimension()))
+                );
+            }
+        }
         if (!mutate) {
             builder = builder.add(
                 "resultFeatures",
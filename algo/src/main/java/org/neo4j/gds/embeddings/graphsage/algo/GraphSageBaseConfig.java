@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.embeddings.graphsage.algo;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.BatchSizeConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
@@ -26,4 +27,14 @@ import org.neo4j.gds.model.ModelConfig;
 
 public interface GraphSageBaseConfig extends AlgoBaseConfig, BatchSizeConfig, ModelConfig, RelationshipWeightConfig {
     long serialVersionUID = 0x42L;
+
+    /**
+     * Whether the embeddings are computed one layer at a time for all nodes.
+     * Instead of sampling the neighborhoods over all layers for every batch, the representations of the
+     * previous layer are kept for all nodes. This trades memory for not sampling nodes multiple times.
+     */
+    @Value.Default
+    default boolean layerwiseInference() {
+        return false;
+    }
 }
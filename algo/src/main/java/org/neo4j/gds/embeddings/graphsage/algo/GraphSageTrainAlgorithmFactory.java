@@ -105,6 +105,7 @@ public final class GraphSageTrainAlgorithmFactory extends AlgorithmFactory<Graph
 
         long initialAdamOptimizer = 0L;
         long updateAdamOptimizer = 0L;
+        long layerWeightsMemory = 0L;
         for (int i = 0; i < numberOfLayers; i++) {
             var layerConfig = layerConfigs.get(i);
             var weightDimensions = layerConfig.rows() * layerConfig.cols();
@@ -118,6 +119,7 @@ public final class GraphSageTrainAlgorithmFactory extends AlgorithmFactory<Graph
                 weightsMemory += sizeOfDoubleArray(layerConfig.rows());
             }
             layerBuilder.fixed("layer " + (i + 1), weightsMemory);
+            layerWeightsMemory += weightsMemory;
 
             initialAdamOptimizer += 2 * sizeOfDoubleArray(weightDimensions);
             updateAdamOptimizer += 5 * weightDimensions;
@@ -126,8 +128,8 @@ public final class GraphSageTrainAlgorithmFactory extends AlgorithmFactory<Graph
         var isMultiLabel = config.isMultiLabel();
 
         var perNodeFeaturesMemory = MemoryRange.of(
-            sizeOfDoubleArray(isMultiLabel ? 1 : config.estimationFeatureDimension()),
-            sizeOfDoubleArray(config.estimationFeatureDimension())
+            GraphSageHelper.sizeOfNodeFeatures(config, isMultiLabel ? 1 : config.estimationFeatureDimension()),
+            GraphSageHelper.sizeOfNodeFeatures(config, config.estimationFeatureDimension())
         );
         var initialFeaturesMemory = HugeObjectArray.memoryEstimation(MemoryEstimations.of("", perNodeFeaturesMemory));
 
@@ -137,6 +139,9 @@ public final class GraphSageTrainAlgorithmFactory extends AlgorithmFactory<Graph
             .startField(TEMPORARY_MEMORY)
             .field("this.instance", GraphSage.class);
 
+        // weight gradients are summed up per worker and averaged into one buffer, each shaped like the weights
+        var gradientsMemory = MemoryRange.of(layerWeightsMemory);
+
         if (isMultiLabel) {
             var minNumProperties = 1;
             var maxNumProperties = config.featureProperties().size();
@@ -146,6 +151,7 @@ public final class GraphSageTrainAlgorithmFactory extends AlgorithmFactory<Graph
             var weightByLabelMemory = MemoryRange.of(minWeightsMemory, maxWeightsMemory).times(labelCount);
 
             estimationsBuilder.fixed("weightsByLabel", weightByLabelMemory);
+            gradientsMemory = gradientsMemory.add(weightByLabelMemory);
         }
 
         return estimationsBuilder
@@ -158,7 +164,10 @@ public final class GraphSageTrainAlgorithmFactory extends AlgorithmFactory<Graph
                 .add(GraphSageHelper.embeddingsEstimation(config, 3 * config.batchSize(), nodeCount, labelCount, true))
                 .fixed("updateAdamOptimizer", updateAdamOptimizer)
                 .endField()
+                // the gradients of the current iteration and of the converged batches
+                .fixed("gradientSums", gradientsMemory.times(2))
                 .build())
+            .fixed("meanGradients", gradientsMemory)
             .endField()
             .endField()
             .build();
@@ -132,6 +132,17 @@ public interface GraphSageTrainConfig extends
     @Configuration.IntegerRange(min = 1)
     Optional<Integer> projectedFeatureDimension();
 
+    /**
+     * Whether the node features are held in single precision during training and when computing embeddings
+     * with the trained model. This halves the memory of the features.
+     * Only the input features are affected: weights, gradients and all intermediate tensors stay in double precision,
+     * so neither the size of the stored model nor the arithmetic of training changes.
+     */
+    @Value.Default
+    default boolean useFloatFeatures() {
+        return false;
+    }
+
     @Override
     @Configuration.Ignore
     default boolean propertiesMustExistForEachNodeLabel() {
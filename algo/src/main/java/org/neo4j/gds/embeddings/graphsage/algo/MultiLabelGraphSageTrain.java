@@ -78,7 +78,7 @@ public class MultiLabelGraphSageTrain extends GraphSageTrain {
 
         var trainResult = trainer.train(
             graph,
-            initializeMultiLabelFeatures(graph, multiLabelFeatureExtractors, allocationTracker)
+            initializeMultiLabelFeatures(graph, config, multiLabelFeatureExtractors, allocationTracker)
         );
 
         return Model.of(
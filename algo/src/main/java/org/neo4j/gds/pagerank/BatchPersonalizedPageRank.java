@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Approximate personalized PageRank for many source node sets at once.
+ *
+ * Every source node set is solved independently with the forward push method of
+ * Andersen, Chung and Lang: the source nodes start with a residual of {@code 1},
+ * and a node whose residual exceeds {@code tolerance * degree} keeps
+ * {@code (1 - dampingFactor)} of it as score and spreads the rest over its neighbours.
+ * The work per source node set only depends on the neighbourhood that receives a
+ * significant residual, not on the size of the graph.
+ * Source node sets are distributed dynamically over {@code concurrency} threads.
+ *
+ * The scores approximate the ones of {@link PageRankAlgorithm} with the same
+ * {@code sourceNodes}, up to {@code tolerance * degree} per node.
+ */
+public final class BatchPersonalizedPageRank extends Algorithm<BatchPersonalizedPageRank, BatchPersonalizedPageRankResult> {
+
+    private final Graph graph;
+    private final List<long[]> sourceNodeSets;
+    private final double dampingFactor;
+    private final double tolerance;
+    private final int topK;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public static MemoryEstimation memoryEstimation(BatchPersonalizedPageRankBaseConfig config) {
+        return MemoryEstimations.builder(BatchPersonalizedPageRank.class)
+            .fixed(
+                "top scores",
+                config.sourceNodeSets().size() *
+                (MemoryUsage.sizeOfLongArray(config.topK()) + MemoryUsage.sizeOfDoubleArray(config.topK()))
+            )
+            .perThread("push state", MemoryEstimations.builder()
+                .rangePerNode("scores and residuals", nodeCount -> MemoryRange.of(
+                    2 * MemoryUsage.sizeOfLongDoubleHashMap(config.topK()),
+                    2 * MemoryUsage.sizeOfLongDoubleHashMap(nodeCount)
+                ))
+                .rangePerNode("queue", nodeCount -> MemoryRange.of(
+                    MemoryUsage.sizeOfLongArray(config.topK()),
+                    MemoryUsage.sizeOfLongArray(nodeCount)
+                ))
+                .build()
+            )
+            .build();
+    }
+
+    public BatchPersonalizedPageRank(
+        Graph graph,
+        List<long[]> sourceNodeSets,
+        BatchPersonalizedPageRankBaseConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNodeSets = sourceNodeSets;
+        this.dampingFactor = config.dampingFactor();
+        this.tolerance = config.tolerance();
+        this.topK = config.topK();
+        this.concurrency = config.concurrency();
+        this.executorService = executorService;
+    }
+
+    @Override
+    public BatchPersonalizedPageRankResult compute() {
+        progressTracker.beginSubTask();
+
+        var topScores = new BoundedLongPriorityQueue[sourceNodeSets.size()];
+        var nextSourceNodeSet = new AtomicInteger();
+        var pushes = new LongAdder();
+
+        var tasks = IntStream
+            .range(0, Math.min(concurrency, sourceNodeSets.size()))
+            .mapToObj(i -> new PushTask(graph.concurrentCopy(), nextSourceNodeSet, topScores, pushes))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        // source node sets that were not reached before the run was terminated have no scores
+        for (int i = 0; i < topScores.length; i++) {
+            if (topScores[i] == null) {
+                topScores[i] = BoundedLongPriorityQueue.max(0);
+            }
+        }
+
+        progressTracker.endSubTask();
+
+        return ImmutableBatchPersonalizedPageRankResult.builder()
+            .topScores(new ArrayList<>(Arrays.asList(topScores)))
+            .pushes(pushes.sum())
+            .build();
+    }
+
+    @Override
+    public BatchPersonalizedPageRank me() {
+        return this;
+    }
+
+    @Override
+    public void release() {}
+
+    private final class PushTask implements Runnable {
+
+        private final Graph localGraph;
+        private final AtomicInteger nextSourceNodeSet;
+        private final BoundedLongPriorityQueue[] topScores;
+        private final LongAdder pushes;
+
+        private final LongDoubleHashMap scores;
+        private final LongDoubleHashMap residuals;
+        private final LongArrayDeque queue;
+
+        PushTask(
+            Graph localGraph,
+            AtomicInteger nextSourceNodeSet,
+            BoundedLongPriorityQueue[] topScores,
+            LongAdder pushes
+        ) {
+            this.localGraph = localGraph;
+            this.nextSourceNodeSet = nextSourceNodeSet;
+            this.topScores = topScores;
+            this.pushes = pushes;
+            this.scores = new LongDoubleHashMap();
+            this.residuals = new LongDoubleHashMap();
+            this.queue = new LongArrayDeque();
+        }
+
+        @Override
+        public void run() {
+            int index;
+            while ((index = nextSourceNodeSet.getAndIncrement()) < sourceNodeSets.size() && running()) {
+                topScores[index] = push(sourceNodeSets.get(index));
+                progressTracker.logProgress(1);
+            }
+        }
+
+        private BoundedLongPriorityQueue push(long[] sourceNodes) {
+            scores.clear();
+            residuals.clear();
+            queue.clear();
+
+            for (long sourceNode : sourceNodes) {
+                addResidual(sourceNode, 1D);
+            }
+
+            long localPushes = 0;
+            while (!queue.isEmpty()) {
+                long nodeId = queue.removeFirst();
+                double residual = residuals.put(nodeId, 0D);
+                scores.addTo(nodeId, (1 - dampingFactor) * residual);
+                localPushes++;
+
+                int degree = localGraph.degree(nodeId);
+                if (degree > 0) {
+                    double share = dampingFactor * residual / degree;
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        addResidual(target, share);
+                        return true;
+                    });
+                }
+            }
+            pushes.add(localPushes);
+
+            var top = BoundedLongPriorityQueue.max(topK);
+            for (var cursor : scores) {
+                top.offer(cursor.key, cursor.value);
+            }
+            return top;
+        }
+
+        /**
+         * Enqueues the node once its residual crosses the threshold,
+         * which happens at most once between two pushes of the node.
+         */
+        private void addResidual(long nodeId, double delta) {
+            double threshold = tolerance * Math.max(1, localGraph.degree(nodeId));
+            double residual = residuals.addTo(nodeId, delta);
+            if (residual > threshold && residual - delta <= threshold) {
+                queue.addLast(nodeId);
+            }
+        }
+    }
+}
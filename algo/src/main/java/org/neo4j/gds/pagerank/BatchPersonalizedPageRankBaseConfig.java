@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
+import org.neo4j.gds.config.ToleranceConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public interface BatchPersonalizedPageRankBaseConfig extends AlgoBaseConfig, ToleranceConfig {
+
+    /**
+     * One entry per personalization, each entry is a node or a list of nodes
+     * the random surfer teleports back to.
+     */
+    @Configuration.ConvertWith("parseSourceNodeSets")
+    List<List<Long>> sourceNodeSets();
+
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
+    default double dampingFactor() {
+        return 0.85;
+    }
+
+    /**
+     * Residual threshold per unit of degree. A node keeps pushing as long as its
+     * residual exceeds {@code tolerance * degree}, so smaller values give more
+     * exact scores at the cost of touching more of the graph.
+     */
+    @Value.Default
+    @Override
+    @Configuration.DoubleRange(min = 0D, minInclusive = false)
+    default double tolerance() {
+        return 1E-6;
+    }
+
+    /**
+     * Number of highest scoring nodes returned per source node set.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return 10;
+    }
+
+    @Value.Check
+    default void validateSourceNodeSets() {
+        if (sourceNodeSets().isEmpty()) {
+            throw new IllegalArgumentException("`sourceNodeSets` must contain at least one set of source nodes.");
+        }
+        for (int i = 0; i < sourceNodeSets().size(); i++) {
+            if (sourceNodeSets().get(i).isEmpty()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Source node set at index %d must not be empty.",
+                    i
+                ));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<List<Long>> parseSourceNodeSets(Object input) {
+        if (!(input instanceof List)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a List of source node sets for `sourceNodeSets`. Got %s.",
+                input.getClass().getSimpleName()
+            ));
+        }
+
+        var sourceNodeSets = new ArrayList<List<Long>>();
+        for (Object sourceNodeSet : (List<Object>) input) {
+            sourceNodeSets.add(SourceNodesConfig.parseNodeIds(sourceNodeSet));
+        }
+        return sourceNodeSets;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+
+import java.util.List;
+
+@ValueClass
+public interface BatchPersonalizedPageRankResult {
+
+    /**
+     * Highest scoring nodes per source node set, in the order of {@code sourceNodeSets}.
+     * The queues contain internal node ids.
+     * If the computation was terminated, the queues of unprocessed source node sets are empty.
+     */
+    List<BoundedLongPriorityQueue> topScores();
+
+    /**
+     * Total number of push operations over all source node sets.
+     */
+    long pushes();
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.LongSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMapping;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Refreshes PageRank scores after a small number of relationship changes.
+ *
+ * The scores {@code x} of the previous run are a fixpoint of {@code x = (1 - d) * e + d * P^T x} on the old graph.
+ * Changing the relationships of a node {@code u} only changes the terms that {@code u} contributes to its old and
+ * new neighbours. These differences form the initial residual vector {@code r}, which is then
+ * forward-pushed in parallel rounds: every node with {@code |r(u)| > tolerance} moves its residual into its
+ * score and sends {@code d * r(u) / degree(u)} to its neighbours.
+ * Only nodes that are reachable from a change and receive a significant residual are ever touched.
+ */
+final class IncrementalPageRank {
+
+    private static final LongArrayList EMPTY = new LongArrayList(0);
+
+    private final Graph graph;
+    private final PageRankConfig config;
+    private final LongSet sourceNodes;
+    private final NodeProperties previousScores;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+    private final ProgressTracker progressTracker;
+
+    private final double dampingFactor;
+    private final double tolerance;
+
+    IncrementalPageRank(
+        Graph graph,
+        PageRankConfig config,
+        LongSet sourceNodes,
+        NodeProperties previousScores,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.config = config;
+        this.sourceNodes = sourceNodes;
+        this.previousScores = previousScores;
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+        this.progressTracker = progressTracker;
+        this.dampingFactor = config.dampingFactor();
+        this.tolerance = config.tolerance();
+    }
+
+    static Task progressTask(PageRankConfig config, String taskName) {
+        return Tasks.iterativeDynamic(
+            taskName,
+            () -> List.of(Tasks.leaf("Push iteration")),
+            config.maxIterations()
+        );
+    }
+
+    PageRankResult compute(TerminationFlag terminationFlag) {
+        var nodeCount = graph.nodeCount();
+        var scores = HugeDoubleArray.newArray(nodeCount, allocationTracker);
+        var residuals = HugeAtomicDoubleArray.newArray(nodeCount, allocationTracker);
+        var queued = HugeAtomicBitSet.fixed(nodeCount, allocationTracker);
+
+        // the frontiers are swapped after every round, a node is queued at most once per round
+        var frontier = HugeLongArray.newArray(nodeCount, allocationTracker);
+        var nextFrontier = HugeLongArray.newArray(nodeCount, allocationTracker);
+        long frontierSize = initialize(scores, residuals, queued, frontier);
+
+        progressTracker.beginSubTask();
+
+        int iterations = 0;
+        while (frontierSize > 0 && iterations < config.maxIterations() && terminationFlag.running()) {
+            progressTracker.beginSubTask();
+
+            var currentFrontier = frontier;
+            var tasks = PartitionUtils.rangePartition(
+                config.concurrency(),
+                frontierSize,
+                partition -> new PushTask(partition, currentFrontier, scores, residuals, queued),
+                Optional.empty()
+            );
+            ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executorService);
+
+            frontierSize = 0;
+            for (PushTask task : tasks) {
+                var activated = task.activated;
+                for (int i = 0; i < activated.size(); i++) {
+                    nextFrontier.set(frontierSize++, activated.get(i));
+                }
+            }
+            frontier = nextFrontier;
+            nextFrontier = currentFrontier;
+
+            iterations++;
+            progressTracker.endSubTask();
+        }
+
+        progressTracker.endSubTask();
+
+        return ImmutablePageRankResult.builder()
+            .scores(scores)
+            .iterations(iterations)
+            .didConverge(frontierSize == 0)
+            .build();
+    }
+
+    private long initialize(
+        HugeDoubleArray scores,
+        HugeAtomicDoubleArray residuals,
+        HugeAtomicBitSet queued,
+        HugeLongArray frontier
+    ) {
+        var alpha = 1 - dampingFactor;
+        var hasSourceNodes = !sourceNodes.isEmpty();
+
+        // nodes without a previous score (e.g. newly added nodes) start from zero
+        // and receive their teleport share as residual
+        var newNodes = new LongArrayList();
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            var score = previousScores.doubleValue(nodeId);
+            if (Double.isNaN(score)) {
+                scores.set(nodeId, 0D);
+                newNodes.add(nodeId);
+                if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
+                    residuals.set(nodeId, alpha);
+                }
+            } else {
+                scores.set(nodeId, score);
+            }
+        }
+
+        var added = groupBySource(config.addedRelationships());
+        var removed = groupBySource(config.removedRelationships());
+
+        var changedSources = new LongArrayList();
+        for (var cursor : added.keys()) {
+            changedSources.add(cursor.value);
+        }
+        for (var cursor : removed.keys()) {
+            if (!added.containsKey(cursor.value)) {
+                changedSources.add(cursor.value);
+            }
+        }
+
+        for (int i = 0; i < changedSources.size(); i++) {
+            long source = changedSources.get(i);
+            var addedTargets = added.getOrDefault(source, EMPTY);
+            var removedTargets = removed.getOrDefault(source, EMPTY);
+
+            var score = scores.get(source);
+            var newDegree = graph.degree(source);
+            var oldDegree = newDegree - addedTargets.size() + removedTargets.size();
+
+            var newShare = newDegree > 0 ? dampingFactor * score / newDegree : 0D;
+            var oldShare = oldDegree > 0 ? dampingFactor * score / oldDegree : 0D;
+
+            // the current adjacency contains both unchanged and added targets
+            graph.forEachRelationship(source, (s, target) -> {
+                residuals.getAndAdd(target, newShare - oldShare);
+                return true;
+            });
+            for (int j = 0; j < addedTargets.size(); j++) {
+                residuals.getAndAdd(addedTargets.get(j), oldShare);
+            }
+            for (int j = 0; j < removedTargets.size(); j++) {
+                residuals.getAndAdd(removedTargets.get(j), -oldShare);
+            }
+        }
+
+        var candidates = new LongArrayList();
+        candidates.addAll(newNodes);
+        for (int i = 0; i < changedSources.size(); i++) {
+            long source = changedSources.get(i);
+            graph.forEachRelationship(source, (s, target) -> {
+                candidates.add(target);
+                return true;
+            });
+            candidates.addAll(removed.getOrDefault(source, EMPTY));
+        }
+
+        long frontierSize = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            long nodeId = candidates.get(i);
+            if (Math.abs(residuals.get(nodeId)) > tolerance && !queued.getAndSet(nodeId)) {
+                frontier.set(frontierSize++, nodeId);
+            }
+        }
+        return frontierSize;
+    }
+
+    private LongObjectHashMap<LongArrayList> groupBySource(List<List<Long>> relationships) {
+        var bySource = new LongObjectHashMap<LongArrayList>();
+        for (List<Long> relationship : relationships) {
+            var source = toMappedNodeId(relationship.get(0));
+            var target = toMappedNodeId(relationship.get(1));
+            addTarget(bySource, source, target);
+            if (graph.isUndirected()) {
+                addTarget(bySource, target, source);
+            }
+        }
+        return bySource;
+    }
+
+    private long toMappedNodeId(long originalNodeId) {
+        var mappedNodeId = graph.safeToMappedNodeId(originalNodeId);
+        if (mappedNodeId == IdMapping.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id `%d` of a changed relationship does not exist in the graph.",
+                originalNodeId
+            ));
+        }
+        return mappedNodeId;
+    }
+
+    private static void addTarget(LongObjectHashMap<LongArrayList> bySource, long source, long target) {
+        var targets = bySource.get(source);
+        if (targets == null) {
+            targets = new LongArrayList();
+            bySource.put(source, targets);
+        }
+        targets.add(target);
+    }
+
+    private final class PushTask implements Runnable {
+
+        private final Graph localGraph;
+        private final Partition partition;
+        private final HugeLongArray frontier;
+        private final HugeDoubleArray scores;
+        private final HugeAtomicDoubleArray residuals;
+        private final HugeAtomicBitSet queued;
+        private final LongArrayList activated;
+
+        PushTask(
+            Partition partition,
+            HugeLongArray frontier,
+            HugeDoubleArray scores,
+            HugeAtomicDoubleArray residuals,
+            HugeAtomicBitSet queued
+        ) {
+            this.localGraph = graph.concurrentCopy();
+            this.partition = partition;
+            this.frontier = frontier;
+            this.scores = scores;
+            this.residuals = residuals;
+            this.queued = queued;
+            this.activated = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            partition.consume(index -> {
+                long nodeId = frontier.get(index);
+                queued.clear(nodeId);
+                double residual = residuals.getAndReplace(nodeId, 0D);
+                if (Math.abs(residual) <= tolerance) {
+                    residuals.getAndAdd(nodeId, residual);
+                    return;
+                }
+
+                scores.addTo(nodeId, residual);
+
+                int degree = localGraph.degree(nodeId);
+                if (degree > 0) {
+                    double share = dampingFactor * residual / degree;
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        double previous = residuals.getAndAdd(target, share);
+                        if (Math.abs(previous + share) > tolerance && !queued.getAndSet(target)) {
+                            activated.add(target);
+                        }
+                        return true;
+                    });
+                }
+            });
+            progressTracker.logProgress(partition.nodeCount());
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.pagerank;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.Pregel;
@@ -37,7 +38,8 @@ import static org.neo4j.gds.scaling.ScalarScaler.Variant.NONE;
 
 public class PageRankAlgorithm extends Algorithm<PageRankAlgorithm, PageRankResult> {
 
-    private final Pregel<PageRankConfig> pregelJob;
+    private final @Nullable Pregel<PageRankConfig> pregelJob;
+    private final @Nullable IncrementalPageRank incrementalPageRank;
     private final Graph graph;
     private final PageRankAlgorithmFactory.Mode mode;
     private final PageRankConfig config;
@@ -54,14 +56,37 @@ public class PageRankAlgorithm extends Algorithm<PageRankAlgorithm, PageRankResu
     ) {
         super(progressTracker);
         this.pregelJob = Pregel.create(graph, config, pregelComputation, executorService, allocationTracker, progressTracker);
+        this.incrementalPageRank = null;
         this.mode = mode;
         this.executorService = executorService;
         this.config = config;
         this.graph = graph;
     }
 
+    PageRankAlgorithm(
+        Graph graph,
+        PageRankConfig config,
+        IncrementalPageRank incrementalPageRank,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.pregelJob = null;
+        this.incrementalPageRank = incrementalPageRank;
+        this.mode = PageRankAlgorithmFactory.Mode.PAGE_RANK;
+        this.executorService = executorService;
+        this.config = config;
+        this.graph = graph;
+    }
+
     @Override
     public PageRankResult compute() {
+        if (incrementalPageRank != null) {
+            var result = incrementalPageRank.compute(terminationFlag);
+            scaleScores(result.scores());
+            return result;
+        }
+
         var pregelResult = pregelJob.run();
 
         var scores = pregelResult.nodeValues().doubleProperties(PageRankComputation.PAGE_RANK);
@@ -105,6 +130,8 @@ public class PageRankAlgorithm extends Algorithm<PageRankAlgorithm, PageRankResu
 
     @Override
     public void release() {
-        this.pregelJob.release();
+        if (this.pregelJob != null) {
+            this.pregelJob.release();
+        }
     }
 }
@@ -31,6 +31,11 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.degree.DegreeCentrality;
@@ -41,6 +46,7 @@ import java.util.function.LongToDoubleFunction;
 
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.ARTICLE_RANK;
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.EIGENVECTOR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends AlgorithmFactory<PageRankAlgorithm, CONFIG> {
 
@@ -86,6 +92,30 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Alg
         AllocationTracker allocationTracker,
         ProgressTracker progressTracker
     ) {
+        var mappedSourceNodes = new LongScatterSet(configuration.sourceNodes().size());
+        configuration.sourceNodes().stream()
+            .mapToLong(graph::toMappedNodeId)
+            .forEach(mappedSourceNodes::add);
+
+        if (configuration.isIncremental()) {
+            if (mode != Mode.PAGE_RANK) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The incremental mode is only supported for PageRank, not for %s.",
+                    mode.name()
+                ));
+            }
+            var incrementalPageRank = new IncrementalPageRank(
+                graph,
+                configuration,
+                mappedSourceNodes,
+                graph.nodeProperties(configuration.previousScoreProperty()),
+                Pools.DEFAULT,
+                allocationTracker,
+                progressTracker
+            );
+            return new PageRankAlgorithm(graph, configuration, incrementalPageRank, Pools.DEFAULT, progressTracker);
+        }
+
         PregelComputation<PageRankConfig> computation;
 
         var degreeFunction = degreeFunction(
@@ -94,11 +124,6 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Alg
             allocationTracker
         );
 
-        var mappedSourceNodes = new LongScatterSet(configuration.sourceNodes().size());
-        configuration.sourceNodes().stream()
-            .mapToLong(graph::toMappedNodeId)
-            .forEach(mappedSourceNodes::add);
-
         if (mode == ARTICLE_RANK) {
             double avgDegree = averageDegree(graph, configuration.concurrency());
             computation = new ArticleRankComputation(configuration, mappedSourceNodes, degreeFunction, avgDegree);
@@ -130,6 +155,9 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Alg
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.isIncremental()) {
+            return IncrementalPageRank.progressTask(config, taskName());
+        }
         return pagerankProgressTask(graph, config);
     }
 
@@ -158,6 +186,14 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Alg
 
     @Override
     public MemoryEstimation memoryEstimation(PageRankConfig configuration) {
+        if (configuration.isIncremental()) {
+            return MemoryEstimations.builder(IncrementalPageRank.class)
+                .perNode("scores", HugeDoubleArray::memoryEstimation)
+                .perNode("residuals", HugeAtomicDoubleArray::memoryEstimation)
+                .perNode("queued", HugeAtomicBitSet::memoryEstimation)
+                .perNode("frontier", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount))
+                .build();
+        }
         return Pregel.memoryEstimation(new PregelSchema.Builder()
             .add(PageRankComputation.PAGE_RANK, ValueType.DOUBLE)
             .build(), false, false);
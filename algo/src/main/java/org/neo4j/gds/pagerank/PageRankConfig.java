@@ -20,13 +20,28 @@
 package org.neo4j.gds.pagerank;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.beta.pregel.Partitioning;
 import org.neo4j.gds.beta.pregel.PregelConfig;
+import org.neo4j.gds.config.NodeConfig;
 import org.neo4j.gds.config.SourceNodesConfig;
 import org.neo4j.gds.config.ToleranceConfig;
 import org.neo4j.gds.scaling.ScalarScaler;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.neo4j.gds.core.StringIdentifierValidations.emptyToNull;
+import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteCharacter;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @ValueClass
 @Configuration("PageRankConfigImpl")
@@ -63,6 +78,42 @@ public interface PageRankConfig extends
         return ScalarScaler.Variant.NONE;
     }
 
+    /**
+     * Node property holding the unscaled scores of a previous run.
+     * If set, the scores are refreshed incrementally starting from these scores
+     * instead of being recomputed from scratch.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("validatePreviousScoreProperty")
+    default @Nullable String previousScoreProperty() {
+        return null;
+    }
+
+    /**
+     * Relationships, given as {@code [source, target]} pairs, that have been added
+     * to the graph since the previous scores were computed.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("parseRelationships")
+    default List<List<Long>> addedRelationships() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Relationships, given as {@code [source, target]} pairs, that have been removed
+     * from the graph since the previous scores were computed.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("parseRelationships")
+    default List<List<Long>> removedRelationships() {
+        return Collections.emptyList();
+    }
+
+    @Configuration.Ignore
+    default boolean isIncremental() {
+        return previousScoreProperty() != null;
+    }
+
     @Deprecated
     @Value.Default
     default boolean cacheWeights() {
@@ -82,4 +133,65 @@ public interface PageRankConfig extends
     default Partitioning partitioning() {
         return Partitioning.AUTO;
     }
+
+    @Value.Check
+    default void validateIncrementalMode() {
+        if (!isIncremental() && !(addedRelationships().isEmpty() && removedRelationships().isEmpty())) {
+            throw new IllegalArgumentException(
+                "Specifying `addedRelationships` or `removedRelationships` requires `previousScoreProperty` to be set."
+            );
+        }
+        if (isIncremental() && hasRelationshipWeightProperty()) {
+            throw new IllegalArgumentException(
+                "The incremental mode does not support `relationshipWeightProperty`."
+            );
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    @Value.Default
+    default void previousScorePropertyValidation(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        String previousScoreProperty = previousScoreProperty();
+        if (previousScoreProperty != null && !graphStore.hasNodeProperty(selectedLabels, previousScoreProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Previous score property `%s` not found in graph with node properties: %s",
+                previousScoreProperty,
+                StringJoining.join(graphStore.nodePropertyKeys(selectedLabels))
+            ));
+        }
+    }
+
+    static @Nullable String validatePreviousScoreProperty(String input) {
+        return validateNoWhiteCharacter(emptyToNull(input), "previousScoreProperty");
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<List<Long>> parseRelationships(Object input) {
+        if (!(input instanceof List)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a List of `[source, target]` pairs. Got %s.",
+                input.getClass().getSimpleName()
+            ));
+        }
+
+        var relationships = new ArrayList<List<Long>>();
+        for (Object relationship : (List<Object>) input) {
+            if (!(relationship instanceof List) || ((List<Object>) relationship).size() != 2) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected a relationship to be a `[source, target]` pair. Got %s.",
+                    relationship
+                ));
+            }
+            var pair = (List<Object>) relationship;
+            relationships.add(List.of(
+                NodeConfig.parseNodeId(pair.get(0), "source"),
+                NodeConfig.parseNodeId(pair.get(1), "target")
+            ));
+        }
+        return relationships;
+    }
 }
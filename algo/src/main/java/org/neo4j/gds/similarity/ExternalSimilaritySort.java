@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity;
+
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Sorts similarity results that do not fit into the heap.
+ * Results are buffered until a run is full, which is then sorted and written to a temporary file.
+ * A full run is swapped for an empty one under the lock and spilled outside of it, so other threads keep adding.
+ * Streaming the results k-way merges all runs, so the heap only holds a run buffer per spilling thread
+ * and one read buffer per merged run, regardless of the number of results.
+ * <p>
+ * With a limit, only the first {@code limit} results in sort order are kept.
+ * Every run is truncated to the limit before it is written, and once the spilled runs hold twice the limit,
+ * they are merged into a single run of the limit, so the disk usage is bounded by the limit as well.
+ */
+public final class ExternalSimilaritySort implements AutoCloseable {
+
+    public enum Order {
+        SOURCE {
+            @Override
+            int compare(long source1, long target1, double score1, long source2, long target2, double score2) {
+                int result = Long.compare(source1, source2);
+                if (result != 0) {
+                    return result;
+                }
+                result = Long.compare(target1, target2);
+                return result != 0 ? result : Double.compare(score1, score2);
+            }
+        },
+        DESCENDING {
+            @Override
+            int compare(long source1, long target1, double score1, long source2, long target2, double score2) {
+                int result = Double.compare(score2, score1);
+                return result != 0 ? result : SOURCE.compare(source1, target1, score1, source2, target2, score2);
+            }
+        },
+        ASCENDING {
+            @Override
+            int compare(long source1, long target1, double score1, long source2, long target2, double score2) {
+                int result = Double.compare(score1, score2);
+                return result != 0 ? result : SOURCE.compare(source1, target1, score1, source2, target2, score2);
+            }
+        };
+
+        abstract int compare(long source1, long target1, double score1, long source2, long target2, double score2);
+    }
+
+    public static final int DEFAULT_RUN_SIZE = 1 << 20;
+    // Runs are merged in several passes if there are more of them, which bounds the open files and read buffers.
+    static final int MAX_FAN_IN = 64;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    public static MemoryEstimation memoryEstimation(int runSize) {
+        return MemoryEstimations.builder(ExternalSimilaritySort.class)
+            .perThread("run buffer", 2 * sizeOfLongArray(runSize) + sizeOfDoubleArray(runSize))
+            .perThread("run order", sizeOfIntArray(runSize))
+            .fixed("merge buffers", (long) (MAX_FAN_IN + 1) * IO_BUFFER_SIZE)
+            .build();
+    }
+
+    private final Order order;
+    private final int runSize;
+    private final long limit;
+    private final long compactionThreshold;
+    private final Path directory;
+    private final List<Run> runs;
+
+    private RunBuffer buffer;
+    private int nextRunId;
+    private long spilledResults;
+
+    public static ExternalSimilaritySort create(Order order, int runSize, long limit) {
+        try {
+            return new ExternalSimilaritySort(order, runSize, limit, Files.createTempDirectory("gds-similarity-"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    ExternalSimilaritySort(Order order, int runSize, long limit, Path directory) {
+        this.order = order;
+        this.runSize = runSize;
+        this.limit = limit;
+        this.compactionThreshold = limit <= Long.MAX_VALUE / 2 ? 2 * limit : Long.MAX_VALUE;
+        this.directory = directory;
+        this.runs = new ArrayList<>();
+        this.buffer = new RunBuffer(runSize);
+    }
+
+    public void add(long source, long target, double score) {
+        RunBuffer fullBuffer = null;
+        synchronized (this) {
+            buffer.add(source, target, score);
+            if (buffer.isFull()) {
+                fullBuffer = swapBuffer();
+            }
+        }
+        if (fullBuffer != null) {
+            spill(fullBuffer);
+        }
+    }
+
+    /**
+     * Adds all neighbors of {@code source} at once, which keeps the lock per source instead of per result.
+     */
+    public void add(long source, BoundedLongPriorityQueue neighbors) {
+        List<RunBuffer> fullBuffers = new ArrayList<>(1);
+        synchronized (this) {
+            neighbors.forEach((target, score) -> {
+                buffer.add(source, target, score);
+                if (buffer.isFull()) {
+                    fullBuffers.add(swapBuffer());
+                }
+            });
+        }
+        fullBuffers.forEach(this::spill);
+    }
+
+    synchronized int runCount() {
+        return runs.size();
+    }
+
+    /**
+     * Returns the results in sort order, up to the limit.
+     * Closing the stream, or fully consuming it, deletes the temporary files.
+     */
+    public synchronized Stream<SimilarityResult> stream() {
+        if (runs.isEmpty()) {
+            // everything fit into a single run, there is nothing to merge
+            var iterator = new BufferIterator(buffer, buffer.sort(order));
+            return stream(iterator, limit).onClose(this::close);
+        }
+        if (buffer.size > 0) {
+            spill(swapBuffer());
+        }
+        List<Run> mergeableRuns = reduceToFanIn(new ArrayList<>(runs));
+        runs.clear();
+        runs.addAll(mergeableRuns);
+        var iterator = new MergeIterator(new ArrayList<>(runs));
+        return stream(iterator, limit).onClose(() -> {
+            iterator.close();
+            close();
+        });
+    }
+
+    private static Stream<SimilarityResult> stream(Iterator<SimilarityResult> iterator, long limit) {
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .limit(limit);
+    }
+
+    /**
+     * Deletes all runs, including the ones of spills that failed or are still in progress, and the directory itself.
+     */
+    @Override
+    public synchronized void close() {
+        runs.clear();
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // requires the lock, the returned buffer is exclusively owned by the caller
+    private RunBuffer swapBuffer() {
+        RunBuffer fullBuffer = buffer;
+        fullBuffer.file = nextFile();
+        buffer = new RunBuffer(runSize);
+        return fullBuffer;
+    }
+
+    private void spill(RunBuffer fullBuffer) {
+        int[] runOrder = fullBuffer.sort(order);
+        // results beyond the limit of their run cannot be within the limit of all runs
+        int runLength = (int) Math.min(runOrder.length, limit);
+        try (var out = output(fullBuffer.file)) {
+            for (int i = 0; i < runLength; i++) {
+                int index = runOrder[i];
+                out.writeLong(fullBuffer.sources[index]);
+                out.writeLong(fullBuffer.targets[index]);
+                out.writeDouble(fullBuffer.scores[index]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        addRun(new Run(fullBuffer.file, runLength));
+    }
+
+    private void addRun(Run run) {
+        List<Run> runsToCompact = null;
+        synchronized (this) {
+            runs.add(run);
+            spilledResults += run.size;
+            if (spilledResults > compactionThreshold && runs.size() > 1) {
+                runsToCompact = new ArrayList<>(runs);
+                runs.clear();
+                spilledResults = 0;
+            }
+        }
+        if (runsToCompact != null) {
+            // other threads keep spilling while this one merges, the compacted run is added like any other
+            var mergeableRuns = reduceToFanIn(runsToCompact);
+            addRun(merge(mergeableRuns, nextFile()));
+        }
+    }
+
+    private List<Run> reduceToFanIn(List<Run> runsToMerge) {
+        while (runsToMerge.size() > MAX_FAN_IN) {
+            List<Run> merged = new ArrayList<>();
+            for (int start = 0; start < runsToMerge.size(); start += MAX_FAN_IN) {
+                var group = runsToMerge.subList(start, Math.min(start + MAX_FAN_IN, runsToMerge.size()));
+                merged.add(merge(group, nextFile()));
+            }
+            runsToMerge = merged;
+        }
+        return runsToMerge;
+    }
+
+    private Run merge(List<Run> group, Path file) {
+        long size = 0;
+        try (var out = output(file); var mergeIterator = new MergeIterator(new ArrayList<>(group))) {
+            while (size < limit && mergeIterator.hasNext()) {
+                mergeIterator.advance();
+                RunReader head = mergeIterator.current;
+                out.writeLong(head.source);
+                out.writeLong(head.target);
+                out.writeDouble(head.score);
+                size++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Run(file, size);
+    }
+
+    private synchronized Path nextFile() {
+        return directory.resolve("run-" + nextRunId++);
+    }
+
+    private static DataOutputStream output(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_SIZE));
+    }
+
+    private static final class RunBuffer {
+        final long[] sources;
+        final long[] targets;
+        final double[] scores;
+        int size;
+        Path file;
+
+        RunBuffer(int runSize) {
+            this.sources = new long[runSize];
+            this.targets = new long[runSize];
+            this.scores = new double[runSize];
+        }
+
+        void add(long source, long target, double score) {
+            sources[size] = source;
+            targets[size] = target;
+            scores[size] = score;
+            size++;
+        }
+
+        boolean isFull() {
+            return size == sources.length;
+        }
+
+        int[] sort(Order order) {
+            return IndirectSort.mergesort(
+                0,
+                size,
+                (i, j) -> order.compare(sources[i], targets[i], scores[i], sources[j], targets[j], scores[j])
+            );
+        }
+    }
+
+    private static final class Run {
+        final Path file;
+        final long size;
+
+        Run(Path file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+
+    private static final class RunReader implements AutoCloseable {
+        private final Run run;
+        private final DataInputStream in;
+        private long remaining;
+
+        long source;
+        long target;
+        double score;
+
+        RunReader(Run run) throws IOException {
+            this.run = run;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file), IO_BUFFER_SIZE));
+            this.remaining = run.size;
+        }
+
+        boolean next() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            source = in.readLong();
+            target = in.readLong();
+            score = in.readDouble();
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+            Files.deleteIfExists(run.file);
+        }
+    }
+
+    private final class BufferIterator implements Iterator<SimilarityResult> {
+        private final RunBuffer buffer;
+        private final int[] runOrder;
+        private int position;
+
+        BufferIterator(RunBuffer buffer, int[] runOrder) {
+            this.buffer = buffer;
+            this.runOrder = runOrder;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < runOrder.length) {
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        @Override
+        public SimilarityResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int index = runOrder[position++];
+            return new SimilarityResult(buffer.sources[index], buffer.targets[index], buffer.scores[index]);
+        }
+    }
+
+    private final class MergeIterator implements Iterator<SimilarityResult>, AutoCloseable {
+        private final PriorityQueue<RunReader> heads;
+        private final List<RunReader> readers;
+        private RunReader current;
+
+        MergeIterator(List<Run> runs) {
+            this.heads = new PriorityQueue<>(
+                runs.size(),
+                (a, b) -> order.compare(a.source, a.target, a.score, b.source, b.target, b.score)
+            );
+            this.readers = new ArrayList<>(runs.size());
+            try {
+                for (Run run : runs) {
+                    var reader = new RunReader(run);
+                    readers.add(reader);
+                    if (reader.next()) {
+                        heads.add(reader);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current != null) {
+                refill(current);
+                current = null;
+            }
+            if (heads.isEmpty()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public SimilarityResult next() {
+            advance();
+            return new SimilarityResult(current.source, current.target, current.score);
+        }
+
+        void advance() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = heads.poll();
+        }
+
+        private void refill(RunReader reader) {
+            try {
+                if (reader.next()) {
+                    heads.add(reader);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                for (RunReader reader : readers) {
+                    reader.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            readers.clear();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.BatchingProgressLogger;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds an {@link HnswIndex} over a {@code float[]} or {@code double[]} node property.
+ * Nodes without a value for the property are not indexed.
+ */
+public class Hnsw extends Algorithm<Hnsw, HnswIndex> {
+
+    private final Graph graph;
+    private final HnswBaseConfig config;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+
+    public Hnsw(
+        Graph graph,
+        HnswBaseConfig config,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.config = config;
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+    }
+
+    @Override
+    public HnswIndex compute() {
+        progressTracker.beginSubTask();
+
+        var nodeProperties = Objects.requireNonNull(
+            graph.nodeProperties(config.nodeProperty()),
+            () -> formatWithLocale("The property `%s` has not been loaded", config.nodeProperty())
+        );
+        var vectors = HugeObjectArray.newArray(float[].class, graph.nodeCount(), allocationTracker);
+        vectors.setAll(node -> normalizedVector(nodeProperties, node));
+        int dimension = dimension(vectors);
+
+        var index = new HnswIndex(
+            config.nodeProperty(),
+            graph,
+            vectors,
+            dimension,
+            config.m(),
+            config.efConstruction(),
+            config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong()),
+            allocationTracker
+        );
+
+        var tasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            graph.nodeCount(),
+            partition -> (Runnable) () -> partition.consume(node -> {
+                if ((node & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
+                    assertRunning();
+                }
+                if (vectors.get(node) != null) {
+                    index.insert(node);
+                }
+                progressTracker.logProgress();
+            }),
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executorService);
+
+        progressTracker.endSubTask();
+        return index;
+    }
+
+    @Override
+    public Hnsw me() {
+        return this;
+    }
+
+    @Override
+    public void release() {}
+
+    private static float[] normalizedVector(NodeProperties nodeProperties, long node) {
+        float[] vector;
+        switch (nodeProperties.valueType()) {
+            case FLOAT_ARRAY:
+                var floats = nodeProperties.floatArrayValue(node);
+                vector = floats == null ? null : floats.clone();
+                break;
+            case DOUBLE_ARRAY:
+                var doubles = nodeProperties.doubleArrayValue(node);
+                if (doubles == null) {
+                    vector = null;
+                } else {
+                    vector = new float[doubles.length];
+                    for (int i = 0; i < doubles.length; i++) {
+                        vector[i] = (float) doubles[i];
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The property has an unsupported type [%s], expected one of [%s, %s].",
+                    nodeProperties.valueType(),
+                    "FLOAT_ARRAY",
+                    "DOUBLE_ARRAY"
+                ));
+        }
+        if (vector != null) {
+            HnswIndex.normalize(vector);
+        }
+        return vector;
+    }
+
+    private int dimension(HugeObjectArray<float[]> vectors) {
+        int dimension = -1;
+        for (long node = 0; node < vectors.size(); node++) {
+            float[] vector = vectors.get(node);
+            if (vector == null) {
+                continue;
+            }
+            if (dimension == -1) {
+                dimension = vector.length;
+            } else if (vector.length != dimension) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "All vectors of property `%s` must have the same dimension, found %d and %d.",
+                    config.nodeProperty(),
+                    dimension,
+                    vector.length
+                ));
+            }
+        }
+        return Math.max(dimension, 0);
+    }
+}
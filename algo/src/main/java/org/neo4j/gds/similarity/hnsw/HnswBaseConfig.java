@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+
+public interface HnswBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
+
+    /**
+     * The name under which the index is stored next to the graph.
+     */
+    String indexName();
+
+    /**
+     * A node property of type {@code float[]} or {@code double[]}.
+     */
+    String nodeProperty();
+
+    /**
+     * Maximum number of connections per node on the upper layers.
+     * The bottom layer allows twice as many connections.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 2)
+    default int m() {
+        return 16;
+    }
+
+    /**
+     * Size of the dynamic candidate list while inserting nodes.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int efConstruction() {
+        return 100;
+    }
+}
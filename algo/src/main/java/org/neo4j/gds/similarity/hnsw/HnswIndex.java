@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.IdMapping;
+import org.neo4j.gds.core.loading.GraphStoreIndex;
+import org.neo4j.gds.core.utils.VectorKernels;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.similarity.SimilarityResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Hierarchical navigable small world graph (Malkov and Yashunin) over the
+ * normalized vectors of a node property, using cosine similarity.
+ * <p>
+ * Nodes can be inserted concurrently. Every node guards its neighbour lists with its own
+ * monitor and publishes them copy-on-write, searches therefore never block.
+ */
+public final class HnswIndex implements GraphStoreIndex {
+
+    public static final String INDEX_TYPE = "hnsw";
+
+    private static final long[] NO_NEIGHBOURS = new long[0];
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble((Candidate c) -> c.similarity).reversed();
+    private static final Comparator<Candidate> WORST_FIRST = Comparator.comparingDouble(c -> c.similarity);
+
+    private final String nodeProperty;
+    private final IdMapping idMapping;
+    private final int dimension;
+    private final int maxConnections;
+    private final int maxConnectionsBottomLayer;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final long randomSeed;
+
+    private final HugeObjectArray<float[]> vectors;
+    private final HugeObjectArray<Node> nodes;
+
+    private final Object entryPointLock = new Object();
+    private volatile EntryPoint entryPoint;
+
+    /**
+     * Estimates the layers of the index. The vectors are not included,
+     * as their dimension is only known once the node property is read.
+     */
+    static MemoryEstimation memoryEstimation(int m) {
+        // layer i is reached by a fraction of 1 / m^i of the nodes
+        long upperLayers = sizeOfLongArray(m) / (m - 1);
+        return MemoryEstimations.builder(HnswIndex.class)
+            .perNode("nodes", nodeCount -> HugeObjectArray.memoryEstimation(
+                nodeCount,
+                sizeOfInstance(Node.class) + sizeOfObjectArray(2) + sizeOfLongArray(2L * m) + upperLayers
+            ))
+            .build();
+    }
+
+    HnswIndex(
+        String nodeProperty,
+        IdMapping idMapping,
+        HugeObjectArray<float[]> vectors,
+        int dimension,
+        int m,
+        int efConstruction,
+        long randomSeed,
+        AllocationTracker allocationTracker
+    ) {
+        this.nodeProperty = nodeProperty;
+        this.idMapping = idMapping;
+        this.vectors = vectors;
+        this.dimension = dimension;
+        this.maxConnections = m;
+        this.maxConnectionsBottomLayer = 2 * m;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.randomSeed = randomSeed;
+        this.nodes = HugeObjectArray.newArray(Node.class, vectors.size(), allocationTracker);
+    }
+
+    public String nodeProperty() {
+        return nodeProperty;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public long indexedNodeCount() {
+        long count = 0;
+        for (long node = 0; node < nodes.size(); node++) {
+            if (nodes.get(node) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String indexType() {
+        return INDEX_TYPE;
+    }
+
+    @Override
+    public long sizeInBytes() {
+        long size = nodes.sizeOf() + vectors.sizeOf();
+        for (long node = 0; node < nodes.size(); node++) {
+            var hnswNode = nodes.get(node);
+            if (hnswNode != null) {
+                size += sizeOfFloatArray(dimension) + sizeOfInstance(Node.class) + sizeOfObjectArray(hnswNode.levels());
+                for (int level = 0; level < hnswNode.levels(); level++) {
+                    size += sizeOfLongArray(hnswNode.neighbours(level).length);
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void release() {
+        nodes.release();
+        vectors.release();
+    }
+
+    /**
+     * Finds the {@code k} nodes most similar to the given node, excluding the node itself.
+     *
+     * @param originalNodeId a node id of the database
+     * @return similarity results from {@code originalNodeId} to the original ids of its neighbours
+     */
+    public List<SimilarityResult> queryNode(long originalNodeId, int k, int ef) {
+        long node = idMapping.safeToMappedNodeId(originalNodeId);
+        if (node == IdMapping.NOT_FOUND || nodes.get(node) == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node %d is not part of the index over node property `%s`.",
+                originalNodeId,
+                nodeProperty
+            ));
+        }
+        return search(originalNodeId, vectors.get(node), k, ef, node);
+    }
+
+    /**
+     * Finds the {@code k} nodes most similar to the given vector.
+     *
+     * @return similarity results from {@code -1} to the original ids of the neighbours
+     */
+    public List<SimilarityResult> queryVector(double[] vector, int k, int ef) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The query vector has %d dimensions, but the index over node property `%s` has %d.",
+                vector.length,
+                nodeProperty,
+                dimension
+            ));
+        }
+        var query = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            query[i] = (float) vector[i];
+        }
+        normalize(query);
+        return search(-1, query, k, ef, IdMapping.NOT_FOUND);
+    }
+
+    private List<SimilarityResult> search(long queryId, float[] query, int k, int ef, long excludedNode) {
+        var entry = entryPoint;
+        if (entry == null) {
+            return List.of();
+        }
+        var current = new Candidate(entry.node, similarity(query, entry.node));
+        for (int level = entry.level; level > 0; level--) {
+            current = searchLayer(query, List.of(current), 1, level).peek();
+        }
+        int excluded = excludedNode == IdMapping.NOT_FOUND ? 0 : 1;
+        var found = bestFirst(searchLayer(query, List.of(current), Math.max(ef, k + excluded), 0));
+
+        var results = new ArrayList<SimilarityResult>(k);
+        for (Candidate candidate : found) {
+            if (results.size() == k) {
+                break;
+            }
+            if (candidate.node != excludedNode) {
+                results.add(new SimilarityResult(
+                    queryId,
+                    idMapping.toOriginalNodeId(candidate.node),
+                    Math.max(candidate.similarity, 0)
+                ));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Inserts a node with a vector, may be called concurrently for different nodes.
+     */
+    void insert(long node) {
+        float[] query = vectors.get(node);
+        int nodeLevel = randomLevel(node);
+        var hnswNode = new Node(nodeLevel);
+        nodes.set(node, hnswNode);
+
+        EntryPoint entry;
+        synchronized (entryPointLock) {
+            entry = entryPoint;
+            if (entry == null) {
+                entryPoint = new EntryPoint(node, nodeLevel);
+                return;
+            }
+        }
+
+        var current = new Candidate(entry.node, similarity(query, entry.node));
+        for (int level = entry.level; level > nodeLevel; level--) {
+            current = searchLayer(query, List.of(current), 1, level).peek();
+        }
+
+        List<Candidate> entryPoints = List.of(current);
+        for (int level = Math.min(nodeLevel, entry.level); level >= 0; level--) {
+            var found = bestFirst(searchLayer(query, entryPoints, efConstruction, level));
+            long[] neighbours = selectNeighbours(found, maxConnections(level));
+            synchronized (hnswNode) {
+                hnswNode.setNeighbours(level, neighbours);
+            }
+            for (long neighbour : neighbours) {
+                connect(neighbour, node, level);
+            }
+            entryPoints = found;
+        }
+
+        if (nodeLevel > entry.level) {
+            synchronized (entryPointLock) {
+                if (nodeLevel > entryPoint.level) {
+                    entryPoint = new EntryPoint(node, nodeLevel);
+                }
+            }
+        }
+    }
+
+    private void connect(long node, long newNeighbour, int level) {
+        var hnswNode = nodes.get(node);
+        synchronized (hnswNode) {
+            long[] neighbours = hnswNode.neighbours(level);
+            int maxConnections = maxConnections(level);
+            if (neighbours.length < maxConnections) {
+                long[] extended = new long[neighbours.length + 1];
+                System.arraycopy(neighbours, 0, extended, 0, neighbours.length);
+                extended[neighbours.length] = newNeighbour;
+                hnswNode.setNeighbours(level, extended);
+                return;
+            }
+
+            float[] vector = vectors.get(node);
+            var candidates = new ArrayList<Candidate>(neighbours.length + 1);
+            for (long neighbour : neighbours) {
+                candidates.add(new Candidate(neighbour, similarity(vector, neighbour)));
+            }
+            candidates.add(new Candidate(newNeighbour, similarity(vector, newNeighbour)));
+            candidates.sort(BEST_FIRST);
+            hnswNode.setNeighbours(level, selectNeighbours(candidates, maxConnections));
+        }
+    }
+
+    private PriorityQueue<Candidate> searchLayer(float[] query, List<Candidate> entryPoints, int ef, int level) {
+        var visited = new LongHashSet();
+        var candidates = new PriorityQueue<>(BEST_FIRST);
+        var results = new PriorityQueue<>(WORST_FIRST);
+        for (Candidate entryPoint : entryPoints) {
+            if (visited.add(entryPoint.node)) {
+                candidates.add(entryPoint);
+                results.add(entryPoint);
+                if (results.size() > ef) {
+                    results.poll();
+                }
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            var current = candidates.poll();
+            if (results.size() >= ef && current.similarity < results.peek().similarity) {
+                break;
+            }
+            for (long neighbour : nodes.get(current.node).neighbours(level)) {
+                if (!visited.add(neighbour)) {
+                    continue;
+                }
+                double similarity = similarity(query, neighbour);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    var candidate = new Candidate(neighbour, similarity);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Neighbour selection heuristic that prefers candidates in diverse directions:
+     * a candidate is skipped if it is closer to an already selected neighbour than to the query.
+     * Skipped candidates fill up the remaining connections.
+     */
+    private long[] selectNeighbours(List<Candidate> bestFirst, int maxConnections) {
+        var selected = new ArrayList<Candidate>(maxConnections);
+        var skipped = new ArrayList<Candidate>();
+        for (Candidate candidate : bestFirst) {
+            if (selected.size() == maxConnections) {
+                break;
+            }
+            float[] vector = vectors.get(candidate.node);
+            boolean diverse = true;
+            for (Candidate neighbour : selected) {
+                if (similarity(vector, neighbour.node) > candidate.similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < maxConnections; i++) {
+            selected.add(skipped.get(i));
+        }
+
+        long[] neighbours = new long[selected.size()];
+        for (int i = 0; i < neighbours.length; i++) {
+            neighbours[i] = selected.get(i).node;
+        }
+        return neighbours;
+    }
+
+    private static List<Candidate> bestFirst(PriorityQueue<Candidate> candidates) {
+        var sorted = new ArrayList<>(candidates);
+        sorted.sort(BEST_FIRST);
+        return sorted;
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxConnectionsBottomLayer : maxConnections;
+    }
+
+    // The level only depends on the seed and the node, which keeps the layers independent of the insertion order.
+    private int randomLevel(long node) {
+        long bits = BitMixer.mix64(node + randomSeed) >>> 11;
+        double uniform = (bits + 1) * 0x1.0p-53;
+        return (int) (-Math.log(uniform) * levelMultiplier);
+    }
+
+    private double similarity(float[] query, long node) {
+        return VectorKernels.dot(query, vectors.get(node), dimension);
+    }
+
+    static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= scale;
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private final AtomicReferenceArray<long[]> neighbours;
+
+        Node(int level) {
+            this.neighbours = new AtomicReferenceArray<>(level + 1);
+            for (int i = 0; i <= level; i++) {
+                neighbours.set(i, NO_NEIGHBOURS);
+            }
+        }
+
+        int levels() {
+            return neighbours.length();
+        }
+
+        long[] neighbours(int level) {
+            return neighbours.get(level);
+        }
+
+        void setNeighbours(int level, long[] nodes) {
+            neighbours.set(level, nodes);
+        }
+    }
+
+    private static final class EntryPoint {
+        final long node;
+        final int level;
+
+        EntryPoint(long node, int level) {
+            this.node = node;
+            this.level = level;
+        }
+    }
+
+    private static final class Candidate {
+        final long node;
+        final double similarity;
+
+        Candidate(long node, double similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
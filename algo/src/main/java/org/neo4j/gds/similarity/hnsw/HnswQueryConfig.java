@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface HnswQueryConfig extends BaseConfig {
+
+    String indexName();
+
+    /**
+     * Nodes of the graph whose neighbours are looked up, the nodes themselves are excluded from their result.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.config.SourceNodesConfig#parseNodeIds")
+    default List<Long> queryNodeIds() {
+        return List.of();
+    }
+
+    /**
+     * An arbitrary vector whose neighbours are looked up.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("parseVector")
+    default List<Double> queryVector() {
+        return List.of();
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return 10;
+    }
+
+    /**
+     * Size of the dynamic candidate list while searching, higher values trade speed for recall.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int ef() {
+        return 64;
+    }
+
+    @Value.Check
+    default void validateQuery() {
+        if (queryNodeIds().isEmpty() == queryVector().isEmpty()) {
+            throw new IllegalArgumentException("Exactly one of `queryNodeIds` and `queryVector` must be specified.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Double> parseVector(Object input) {
+        if (input instanceof List) {
+            var vector = new ArrayList<Double>();
+            for (Object value : (List<Object>) input) {
+                if (!(value instanceof Number)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Expected a List of Numbers for `queryVector`. Got an element of type %s.",
+                        value == null ? "null" : value.getClass().getSimpleName()
+                    ));
+                }
+                vector.add(((Number) value).doubleValue());
+            }
+            return vector;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected a List of Numbers for `queryVector`. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    static HnswQueryConfig of(CypherMapWrapper userInput) {
+        return new HnswQueryConfigImpl(userInput);
+    }
+}
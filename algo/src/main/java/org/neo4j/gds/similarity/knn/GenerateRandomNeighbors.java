@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.similarity.knn;
 
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -32,7 +31,8 @@ final class GenerateRandomNeighbors implements Runnable {
     private final KnnSampler sampler;
     private final SplittableRandom random;
     private final SimilarityComputer computer;
-    private final HugeObjectArray<NeighborList> neighbors;
+    private final NeighborLists neighbors;
+    private final KnnNodeFilter nodeFilter;
     private final int k;
     private final int boundedK;
     private final ProgressTracker progressTracker;
@@ -43,7 +43,8 @@ final class GenerateRandomNeighbors implements Runnable {
         KnnSampler sampler,
         SplittableRandom random,
         SimilarityComputer computer,
-        HugeObjectArray<NeighborList> neighbors,
+        NeighborLists neighbors,
+        KnnNodeFilter nodeFilter,
         int k,
         int boundedK,
         Partition partition,
@@ -53,6 +54,7 @@ final class GenerateRandomNeighbors implements Runnable {
         this.random = random;
         this.computer = computer;
         this.neighbors = neighbors;
+        this.nodeFilter = nodeFilter;
         this.k = k;
         this.boundedK = boundedK;
         this.progressTracker = progressTracker;
@@ -66,9 +68,14 @@ final class GenerateRandomNeighbors implements Runnable {
         var computer = this.computer;
         var k = this.k;
         var boundedK = this.boundedK;
-        var neighborFilter = computer.createNeighborFilter();
+        var nodeFilter = this.nodeFilter;
+        var neighborFilter = nodeFilter.wrap(computer.createNeighborFilter());
 
         partition.consume(nodeId -> {
+            if (!nodeFilter.isSource(nodeId)) {
+                return;
+            }
+
             long[] chosen = sampler.sample(
                 nodeId,
                 neighborFilter.lowerBoundOfPotentialNeighbours(nodeId),
@@ -76,16 +83,15 @@ final class GenerateRandomNeighbors implements Runnable {
                 l -> neighborFilter.excludeNodePair(nodeId, l)
             );
 
-            var neighbors = new NeighborList(k);
+            var neighbors = this.neighbors;
             for (long candidate : chosen) {
-                neighbors.add(candidate, computer.safeSimilarity(nodeId, candidate), rng);
-            };
+                neighbors.add(nodeId, candidate, computer.safeSimilarity(nodeId, candidate), rng);
+            }
 
-            assert neighbors.size() >= Math.min(neighborFilter.lowerBoundOfPotentialNeighbours(nodeId), boundedK);
-            assert neighbors.size() <= k;
+            assert neighbors.size(nodeId) >= Math.min(neighborFilter.lowerBoundOfPotentialNeighbours(nodeId), boundedK);
+            assert neighbors.size(nodeId) <= k;
 
-            this.neighbors.set(nodeId, neighbors);
-            neighborsFound += neighbors.size();
+            neighborsFound += neighbors.size(nodeId);
         });
         progressTracker.logProgress(partition.nodeCount());
     }
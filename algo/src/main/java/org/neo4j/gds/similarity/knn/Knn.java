@@ -26,7 +26,8 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.ProgressTimer;
-import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -35,9 +36,6 @@ import org.neo4j.gds.similarity.SimilarityResult;
 
 import java.util.Optional;
 import java.util.SplittableRandom;
-import java.util.function.Function;
-import java.util.function.UnaryOperator;
-import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -56,7 +54,16 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         this(
             graph,
             config,
-            SimilarityComputer.ofProperty(graph, config.nodeWeightProperty()),
+            config.sparseWeightProperty() == null
+                ? SimilarityComputer.ofProperty(graph, config.nodeWeightProperty())
+                : SimilarityComputer.ofSparseVectorProperties(
+                    graph,
+                    config.nodeWeightProperty(),
+                    config.sparseWeightProperty(),
+                    config.sparseSimilarityMetric(),
+                    graph.nodeCount(),
+                    context.allocationTracker()
+                ),
             context
         );
     }
@@ -89,11 +96,14 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
     @Override
     public Result compute() {
         this.progressTracker.beginSubTask();
-        HugeObjectArray<NeighborList> neighbors;
+        NeighborLists neighbors;
         try (var ignored1 = ProgressTimer.start(this::logOverallTime)) {
+            var nodeFilter = KnnNodeFilter.isFiltered(config)
+                ? KnnNodeFilter.of(graph, config, context.allocationTracker())
+                : KnnNodeFilter.unfiltered(graph.nodeCount());
             try (var ignored2 = ProgressTimer.start(this::logInitTime)) {
                 this.progressTracker.beginSubTask();
-                neighbors = this.initializeRandomNeighbors();
+                neighbors = this.initializeRandomNeighbors(nodeFilter);
                 this.progressTracker.endSubTask();
             }
             if (neighbors == null) {
@@ -101,8 +111,13 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             }
 
             var maxIterations = this.config.maxIterations();
-            var maxUpdates = (long) Math.ceil(this.config.sampleRate() * this.config.topK() * graph.nodeCount());
-            var updateThreshold = (long) Math.floor(this.config.deltaThreshold() * maxUpdates);
+            var allocationTracker = this.context.allocationTracker();
+
+            // nodes whose neighbor list changed in the previous iteration, which were added to another neighbor list
+            // or which still have unsampled new neighbors, all other nodes have nothing left to join and are skipped
+            var activeNodes = HugeAtomicBitSet.fixed(graph.nodeCount(), allocationTracker);
+            var nextActiveNodes = HugeAtomicBitSet.fixed(graph.nodeCount(), allocationTracker);
+            activeNodes.set(0, graph.nodeCount());
 
             long updateCount;
             int iteration = 0;
@@ -112,17 +127,25 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             for (; iteration < maxIterations; iteration++) {
                 int currentIteration = iteration;
                 try (var ignored3 = ProgressTimer.start(took -> this.logIterationTime(currentIteration + 1, took))) {
-                    updateCount = iteration(neighbors);
+                    updateCount = iteration(neighbors, nodeFilter, currentIteration, activeNodes, nextActiveNodes);
                 }
+
+                var maxUpdates = (long) Math.ceil(this.config.sampleRate(iteration) * this.config.topK() * nodeFilter.sourceCount());
+                var updateThreshold = (long) Math.floor(this.config.deltaThreshold() * maxUpdates);
                 if (updateCount <= updateThreshold) {
                     iteration++;
                     didConverge = true;
                     break;
                 }
+
+                var swap = activeNodes;
+                activeNodes = nextActiveNodes;
+                nextActiveNodes = swap;
+                nextActiveNodes.clear();
             }
             if (config.similarityThreshold() > 0) {
-                for (long i = 0; i < neighbors.size(); i++) {
-                    neighbors.get(i).filterHighSimilarityResults(config.similarityThreshold());
+                for (long i = 0; i < neighbors.nodeCount(); i++) {
+                    neighbors.filterHighSimilarityResults(i, config.similarityThreshold());
                 }
             }
             this.progressTracker.endSubTask();
@@ -141,18 +164,18 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
     public void release() {
 
     }
-    private @Nullable HugeObjectArray<NeighborList> initializeRandomNeighbors() {
+    private @Nullable NeighborLists initializeRandomNeighbors(KnnNodeFilter nodeFilter) {
         var k = this.config.topK();
         // (int) is safe since it is at most k, which is an int
         var boundedK = (int) Math.min(graph.nodeCount() - 1, k);
 
         assert boundedK <= k && boundedK <= graph.nodeCount() - 1;
 
-        if (graph.nodeCount() < 2 || k == 0) {
+        if (graph.nodeCount() < 2 || k == 0 || nodeFilter.sourceCount() == 0 || nodeFilter.targetCount() == 0) {
             return null;
         }
 
-        var neighbors = HugeObjectArray.newArray(NeighborList.class, graph.nodeCount(), this.context.allocationTracker());
+        var neighbors = new NeighborLists(graph.nodeCount(), boundedK, this.context.allocationTracker());
 
         var randomNeighborGenerators = PartitionUtils.rangePartition(
             config.concurrency(),
@@ -160,10 +183,11 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             partition -> {
                 var localRandom = random.split();
                 return new GenerateRandomNeighbors(
-                    initializeSampler(localRandom),
+                    initializeSampler(localRandom, nodeFilter),
                     localRandom,
                     this.computer,
                     neighbors,
+                    nodeFilter,
                     k,
                     boundedK,
                     partition,
@@ -180,17 +204,19 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         return neighbors;
     }
 
-    private KnnSampler initializeSampler(SplittableRandom random) {
+    private KnnSampler initializeSampler(SplittableRandom random, KnnNodeFilter nodeFilter) {
         switch(config.initialSampler()) {
             case UNIFORM: {
-                return new UniformKnnSampler(random, graph.nodeCount());
+                return new UniformKnnSampler(random, nodeFilter.targetCount(), nodeFilter::targetAt);
             }
             case RANDOMWALK: {
                 return new RandomWalkKnnSampler(
                     graph.concurrentCopy(),
                     random,
                     config.randomSeed(),
-                    config.boundedK(graph.nodeCount())
+                    config.boundedK(graph.nodeCount()),
+                    nodeFilter.targetCount(),
+                    nodeFilter::targetAt
                 );
             }
             default:
@@ -198,20 +224,26 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         }
     }
 
-    private long iteration(HugeObjectArray<NeighborList> neighbors) {
+    private long iteration(
+        NeighborLists neighbors,
+        KnnNodeFilter nodeFilter,
+        int iteration,
+        HugeAtomicBitSet activeNodes,
+        HugeAtomicBitSet nextActiveNodes
+    ) {
         // this is a sanity check
         // we check for this before any iteration and return
         // and just make sure that this invariant holds on every iteration
         var nodeCount = graph.nodeCount();
         if (nodeCount < 2 || this.config.topK() == 0) {
-            return NeighborList.NOT_INSERTED;
+            return NeighborLists.NOT_INSERTED;
         }
 
         var allocationTracker = this.context.allocationTracker();
         var concurrency = this.config.concurrency();
         var executor = this.context.executor();
 
-        var sampledK = this.config.sampledK(nodeCount);
+        var sampledK = this.config.sampledK(nodeCount, iteration);
 
         // TODO: init in ctor and reuse - benchmark against new allocations
         var allOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, allocationTracker);
@@ -224,6 +256,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             allOldNeighbors,
             allNewNeighbors,
             sampledK,
+            nextActiveNodes,
             progressTracker
         ));
         progressTracker.endSubTask();
@@ -251,6 +284,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 this.random.split(),
                 this.computer,
                 neighbors,
+                nodeFilter,
                 allOldNeighbors,
                 allNewNeighbors,
                 reverseOldNeighbors,
@@ -259,6 +293,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 this.config.topK(),
                 sampledK,
                 this.config.randomJoins(),
+                activeNodes,
+                nextActiveNodes,
                 partition,
                 progressTracker
             ),
@@ -318,7 +354,9 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
     private static final class JoinNeighbors implements Runnable {
         private final SplittableRandom random;
         private final SimilarityComputer computer;
-        private final HugeObjectArray<NeighborList> neighbors;
+        private final NeighborLists neighbors;
+        private final KnnNodeFilter nodeFilter;
+        private final long[] neighborBuffer;
         private final HugeObjectArray<LongArrayList> allOldNeighbors;
         private final HugeObjectArray<LongArrayList> allNewNeighbors;
         private final HugeObjectArray<LongArrayList> allReverseOldNeighbors;
@@ -329,6 +367,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         private final int randomJoins;
         private final ProgressTracker progressTracker;
         private final NeighborFilter neighborFilter;
+        private final HugeAtomicBitSet activeNodes;
+        private final HugeAtomicBitSet nextActiveNodes;
         private long updateCount;
         private final Partition partition;
         private long nodePairsConsidered;
@@ -336,7 +376,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         private JoinNeighbors(
             SplittableRandom random,
             SimilarityComputer computer,
-            HugeObjectArray<NeighborList> neighbors,
+            NeighborLists neighbors,
+            KnnNodeFilter nodeFilter,
             HugeObjectArray<LongArrayList> allOldNeighbors,
             HugeObjectArray<LongArrayList> allNewNeighbors,
             HugeObjectArray<LongArrayList> allReverseOldNeighbors,
@@ -345,13 +386,17 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             int k,
             int sampledK,
             int randomJoins,
+            HugeAtomicBitSet activeNodes,
+            HugeAtomicBitSet nextActiveNodes,
             Partition partition,
             ProgressTracker progressTracker
         ) {
             this.random = random;
             this.computer = computer;
-            this.neighborFilter = computer.createNeighborFilter();
+            this.neighborFilter = nodeFilter.wrap(computer.createNeighborFilter());
             this.neighbors = neighbors;
+            this.nodeFilter = nodeFilter;
+            this.neighborBuffer = new long[neighbors.capacity()];
             this.allOldNeighbors = allOldNeighbors;
             this.allNewNeighbors = allNewNeighbors;
             this.allReverseOldNeighbors = allReverseOldNeighbors;
@@ -360,6 +405,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             this.k = k;
             this.sampledK = sampledK;
             this.randomJoins = randomJoins;
+            this.activeNodes = activeNodes;
+            this.nextActiveNodes = nextActiveNodes;
             this.partition = partition;
             this.progressTracker = progressTracker;
             this.updateCount = 0;
@@ -383,6 +430,17 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             long endNode = startNode + partition.nodeCount();
 
             for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                // an inactive node neither changed its own neighbor list nor joined another one in the last iteration,
+                // it can still have new reverse neighbors if one of its sources only now sampled it
+                if (!activeNodes.get(nodeId) && allReverseNewNeighbors.get(nodeId) == null) {
+                    continue;
+                }
+
+                // only sources have neighbors
+                if (!nodeFilter.isSource(nodeId)) {
+                    continue;
+                }
+
                 // old[v] ∪ Sample(old′[v], ρK)
                 var oldNeighbors = allOldNeighbors.get(nodeId);
                 if (oldNeighbors != null) {
@@ -392,6 +450,18 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
                 // new[v] ∪ Sample(new′[v], ρK)
                 var newNeighbors = allNewNeighbors.get(nodeId);
+                if (newNeighbors != null && nodeFilter.isFiltered()) {
+                    this.updateCount += joinThroughSharedNeighbors(
+                        rng,
+                        computer,
+                        n,
+                        k,
+                        sampledK,
+                        allNeighbors,
+                        nodeId,
+                        newNeighbors
+                    );
+                }
                 if (newNeighbors != null) {
                     this.updateCount += joinNewNeighbors(
                         rng,
@@ -438,7 +508,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             long n,
             int k,
             int sampledK,
-            HugeObjectArray<NeighborList> allNeighbors,
+            NeighborLists allNeighbors,
             HugeObjectArray<LongArrayList> allReverseNewNeighbors,
             long nodeId,
             LongArrayList oldNeighbors,
@@ -486,15 +556,123 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             return updateCount;
         }
 
+        /**
+         * Joins the node with the neighbors of other sources that share one of its new neighbors and vice versa.
+         * This isn't in the paper: the local join only joins neighbors with each other,
+         * which never happens when sources and targets are disjoint, as targets don't have neighbors themselves.
+         */
+        private long joinThroughSharedNeighbors(
+            SplittableRandom rng,
+            SimilarityComputer computer,
+            long n,
+            int k,
+            int sampledK,
+            NeighborLists allNeighbors,
+            long nodeId,
+            LongArrayList newNeighbors
+        ) {
+            long updateCount = 0;
+
+            // the new neighbors are extended by the local join later on, so read them before that
+            var newNeighborElements = newNeighbors.buffer;
+            var newNeighborsCount = newNeighbors.elementsCount;
+
+            for (int i = 0; i < newNeighborsCount; i++) {
+                var neighbor = newNeighborElements[i];
+                var otherNewSources = allReverseNewNeighbors.get(neighbor);
+                if (otherNewSources != null) {
+                    updateCount += joinWithOtherSources(
+                        rng,
+                        computer,
+                        n,
+                        k,
+                        sampledK,
+                        allNeighbors,
+                        nodeId,
+                        newNeighborElements,
+                        newNeighborsCount,
+                        otherNewSources
+                    );
+                }
+                var otherOldSources = allReverseOldNeighbors.get(neighbor);
+                if (otherOldSources != null) {
+                    updateCount += joinWithOtherSources(
+                        rng,
+                        computer,
+                        n,
+                        k,
+                        sampledK,
+                        allNeighbors,
+                        nodeId,
+                        newNeighborElements,
+                        newNeighborsCount,
+                        otherOldSources
+                    );
+                }
+            }
+            return updateCount;
+        }
+
+        private long joinWithOtherSources(
+            SplittableRandom rng,
+            SimilarityComputer computer,
+            long n,
+            int k,
+            int sampledK,
+            NeighborLists allNeighbors,
+            long nodeId,
+            long[] newNeighborElements,
+            int newNeighborsCount,
+            LongArrayList otherSources
+        ) {
+            long updateCount = 0;
+            var numberOfOtherSources = otherSources.size();
+            for (var otherSourceCursor : otherSources) {
+                var otherSource = otherSourceCursor.value;
+                if (otherSource == nodeId || rng.nextInt(numberOfOtherSources) >= sampledK) {
+                    continue;
+                }
+
+                // join(v, nbd(u))
+                int otherNeighborsCount = allNeighbors.copyElements(otherSource, neighborBuffer);
+                for (int j = 0; j < otherNeighborsCount; j++) {
+                    var otherNeighbor = NeighborLists.clearCheckedFlag(neighborBuffer[j]);
+                    if (otherNeighbor != nodeId) {
+                        updateCount += join(rng, computer, allNeighbors, n, k, nodeId, otherNeighbor);
+                    }
+                }
+
+                // join(u, new_nbd(v))
+                for (int j = 0; j < newNeighborsCount; j++) {
+                    var ownNeighbor = newNeighborElements[j];
+                    if (ownNeighbor != otherSource) {
+                        updateCount += join(rng, computer, allNeighbors, n, k, otherSource, ownNeighbor);
+                    }
+                }
+            }
+            return updateCount;
+        }
+
         private void randomJoins(
             SplittableRandom rng,
             SimilarityComputer computer,
             long n,
             int k,
-            HugeObjectArray<NeighborList> allNeighbors,
+            NeighborLists allNeighbors,
             long nodeId,
             int randomJoins
         ) {
+            if (nodeFilter.isFiltered()) {
+                var targetCount = nodeFilter.targetCount();
+                for (int i = 0; i < randomJoins; i++) {
+                    var randomNodeId = nodeFilter.targetAt(rng.nextLong(targetCount));
+                    if (randomNodeId != nodeId) {
+                        join(rng, computer, allNeighbors, n, k, nodeId, randomNodeId);
+                    }
+                }
+                return;
+            }
+
             for (int i = 0; i < randomJoins; i++) {
                 var randomNodeId = rng.nextLong(n - 1);
                 if (randomNodeId >= nodeId) {
@@ -508,7 +686,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         private long join(
             SplittableRandom splittableRandom,
             SimilarityComputer computer,
-            HugeObjectArray<NeighborList> allNeighbors,
+            NeighborLists allNeighbors,
             long n,
             int k,
             long base,
@@ -523,17 +701,20 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
             var similarity = computer.safeSimilarity(base, joiner);
             nodePairsConsidered++;
-            var neighbors = allNeighbors.get(base);
-
-            synchronized (neighbors) {
-                var k2 = neighbors.size();
-
-                assert k2 > 0;
-                assert k2 <= k;
-                assert k2 <= n - 1;
-
-                return neighbors.add(joiner, similarity, splittableRandom);
+            assert allNeighbors.size(base) <= k;
+            assert allNeighbors.size(base) <= n - 1;
+
+            var inserted = allNeighbors.add(base, joiner, similarity, splittableRandom);
+            if (inserted != NeighborLists.NOT_INSERTED) {
+                // base has a new neighbor and joiner a new reverse neighbor, both have to join again
+                if (!nextActiveNodes.get(base)) {
+                    nextActiveNodes.set(base);
+                }
+                if (!nextActiveNodes.get(joiner)) {
+                    nextActiveNodes.set(joiner);
+                }
             }
+            return inserted;
         }
 
         long nodePairsConsidered() {
@@ -555,7 +736,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
     @ValueClass
     public abstract static class Result {
-        abstract HugeObjectArray<NeighborList> neighborList();
+        abstract NeighborLists neighborList();
 
         public abstract int ranIterations();
 
@@ -564,37 +745,35 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         public abstract long nodePairsConsidered();
 
         public LongStream neighborsOf(long nodeId) {
-            return neighborList().get(nodeId).elements().map(NeighborList::clearCheckedFlag);
+            return neighborList().elements(nodeId).map(NeighborLists::clearCheckedFlag);
         }
 
-        // http://www.flatmapthatshit.com/
         public Stream<SimilarityResult> streamSimilarityResult() {
             var neighborList = neighborList();
-            return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
-                .flatMap(cursor -> IntStream.range(cursor.offset, cursor.limit)
-                    .mapToObj(index -> cursor.array[index].similarityStream(index + cursor.base))
-                    .flatMap(Function.identity())
-                );
+            return LongStream
+                .range(0, neighborList.nodeCount())
+                .boxed()
+                .flatMap(neighborList::similarityStream);
         }
 
         public long totalSimilarityPairs() {
             var neighborList = neighborList();
-            return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
-                .flatMapToLong(cursor -> IntStream.range(cursor.offset, cursor.limit)
-                    .mapToLong(index -> cursor.array[index].size()))
+            return LongStream
+                .range(0, neighborList.nodeCount())
+                .map(neighborList::size)
                 .sum();
         }
 
         public long size() {
-            return neighborList().size();
+            return neighborList().nodeCount();
         }
     }
 
     private static final class EmptyResult extends Result {
 
         @Override
-        HugeObjectArray<NeighborList> neighborList() {
-            return HugeObjectArray.of();
+        NeighborLists neighborList() {
+            return new NeighborLists(0, 1, AllocationTracker.empty());
         }
 
         @Override
@@ -20,12 +20,24 @@
 package org.neo4j.gds.similarity.knn;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.NodeWeightConfig;
 import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.neo4j.gds.core.StringIdentifierValidations.emptyToNull;
+import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteCharacter;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @ValueClass
 @Configuration
@@ -36,6 +48,27 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWei
     @Configuration.ConvertWith("org.neo4j.gds.config.NodeWeightConfig#validatePropertyName")
     String nodeWeightProperty();
 
+    /**
+     * A {@code FLOAT_ARRAY} or {@code DOUBLE_ARRAY} property with the weights of the ids in {@link #nodeWeightProperty()}.
+     * Together they form a sparse vector per node.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("validateSparseWeightProperty")
+    default @Nullable String sparseWeightProperty() {
+        return null;
+    }
+
+    static @Nullable String validateSparseWeightProperty(String input) {
+        return validateNoWhiteCharacter(emptyToNull(input), "sparseWeightProperty");
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.similarity.knn.SparseSimilarityMetric#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.SparseSimilarityMetric#toString")
+    default SparseSimilarityMetric sparseSimilarityMetric() {
+        return SparseSimilarityMetric.COSINE;
+    }
+
     @Value.Default
     @Configuration.IntegerRange(min = 1)
     default int topK() {
@@ -48,6 +81,16 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWei
         return 0.5;
     }
 
+    /**
+     * Factor applied to the sample rate after every iteration.
+     * Later iterations find fewer improvements, so sampling fewer neighbours keeps their cost down.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+    default double sampleRateDecay() {
+        return 1.0;
+    }
+
     @Value.Default
     @Configuration.DoubleRange(min = 0, max = 1)
     default double perturbationRate() {
@@ -85,12 +128,111 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWei
         return 10;
     }
 
+    /**
+     * Labels of the nodes that get neighbors. Empty means all nodes.
+     */
+    @Value.Default
+    default List<String> sourceNodeLabels() {
+        return List.of();
+    }
+
+    /**
+     * Labels of the nodes that are considered as neighbors. Empty means all nodes.
+     */
+    @Value.Default
+    default List<String> targetNodeLabels() {
+        return List.of();
+    }
+
+    /**
+     * Only nodes with a non-zero value for this property get neighbors.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("validateSourceNodeProperty")
+    default @Nullable String sourceNodeProperty() {
+        return null;
+    }
+
+    /**
+     * Only nodes with a non-zero value for this property are considered as neighbors.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("validateTargetNodeProperty")
+    default @Nullable String targetNodeProperty() {
+        return null;
+    }
+
+    static @Nullable String validateSourceNodeProperty(String input) {
+        return validateNoWhiteCharacter(emptyToNull(input), "sourceNodeProperty");
+    }
+
+    static @Nullable String validateTargetNodeProperty(String input) {
+        return validateNoWhiteCharacter(emptyToNull(input), "targetNodeProperty");
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    @Value.Default
+    default void nodeFilterValidation(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        validateNodeFilterLabels("sourceNodeLabels", sourceNodeLabels(), selectedLabels);
+        validateNodeFilterLabels("targetNodeLabels", targetNodeLabels(), selectedLabels);
+        validateNodeProperty("sourceNodeProperty", sourceNodeProperty(), graphStore, selectedLabels);
+        validateNodeProperty("targetNodeProperty", targetNodeProperty(), graphStore, selectedLabels);
+        validateNodeProperty("sparseWeightProperty", sparseWeightProperty(), graphStore, selectedLabels);
+    }
+
+    static void validateNodeFilterLabels(
+        String parameter,
+        Collection<String> labels,
+        Collection<NodeLabel> selectedLabels
+    ) {
+        for (String label : labels) {
+            if (!selectedLabels.contains(NodeLabel.of(label))) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The label `%s` of `%s` is not part of the selected node labels: %s",
+                    label,
+                    parameter,
+                    StringJoining.join(selectedLabels.stream().map(NodeLabel::name))
+                ));
+            }
+        }
+    }
+
+    static void validateNodeProperty(
+        String parameter,
+        @Nullable String property,
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels
+    ) {
+        if (property != null && !graphStore.hasNodeProperty(selectedLabels, property)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` of `%s` is not present for all requested labels. Properties available on all requested labels: %s",
+                property,
+                parameter,
+                StringJoining.join(graphStore.nodePropertyKeys(selectedLabels))
+            ));
+        }
+    }
+
     @Configuration.Ignore
     default int sampledK(long nodeCount) {
+        return sampledK(nodeCount, 0);
+    }
+
+    @Configuration.Ignore
+    default int sampledK(long nodeCount, int iteration) {
         // (int) is safe because value is at most `topK`, which is an int
         // This could be violated if a sampleRate outside of [0,1] is used
         // which is only possible from our tests
-        return Math.max(0, (int) Math.min((long) Math.ceil(this.sampleRate() * this.topK()), nodeCount - 1));
+        return Math.max(0, (int) Math.min((long) Math.ceil(sampleRate(iteration) * this.topK()), nodeCount - 1));
+    }
+
+    @Configuration.Ignore
+    default double sampleRate(int iteration) {
+        return this.sampleRate() * Math.pow(this.sampleRateDecay(), iteration);
     }
 
     @Configuration.Ignore
@@ -27,6 +27,7 @@ import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -77,16 +78,17 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends AlgorithmFactory<K
                         sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
                     ))
                 );
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(Knn.class)
-                    .add(
-                        "top-k-neighbors-list",
-                        HugeObjectArray.memoryEstimation(NeighborList.memoryEstimation(boundedK))
-                    )
+                    .add("top-k-neighbors-list", NeighborLists.memoryEstimation(boundedK))
                     .add("old-neighbors", tempListEstimation)
                     .add("new-neighbors", tempListEstimation)
                     .add("old-reverse-neighbors", tempListEstimation)
                     .add("new-reverse-neighbors", tempListEstimation)
+                    .fixed(
+                        "active-nodes",
+                        MemoryRange.of(2 * HugeAtomicBitSet.memoryEstimation(dim.nodeCount()))
+                    )
                     .fixed(
                         "initial-random-neighbors (per thread)",
                         initialSamplerMemoryEstimation(configuration.initialSampler(), boundedK).times(concurrency)
@@ -96,8 +98,14 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends AlgorithmFactory<K
                         MemoryRange.of(
                             sizeOfIntArray(sizeOfOpenHashContainer(sampledK)) * concurrency
                         )
-                    )
-                    .build();
+                    );
+                if (KnnNodeFilter.isFiltered(configuration)) {
+                    builder.fixed(
+                        "source-and-target-nodes",
+                        MemoryRange.of(KnnNodeFilter.memoryEstimation(dim.nodeCount()))
+                    );
+                }
+                return builder.build();
             }
         );
     }
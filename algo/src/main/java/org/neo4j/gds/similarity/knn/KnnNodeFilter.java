@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfBitset;
+
+/**
+ * Restricts Knn to pairs of a source node and a target node.
+ * <p>
+ * Only source nodes get neighbors and only target nodes are considered as neighbors.
+ * A node belongs to a set if it has one of the configured labels and a non-zero value for the configured property.
+ * Without any configured filter, every node is a source and a target.
+ */
+final class KnnNodeFilter {
+
+    private final long nodeCount;
+    private final @Nullable BitSet sources;
+    private final @Nullable BitSet targets;
+    private final @Nullable HugeLongArray targetIds;
+
+    static boolean isFiltered(KnnBaseConfig config) {
+        return !config.sourceNodeLabels().isEmpty() ||
+               !config.targetNodeLabels().isEmpty() ||
+               config.sourceNodeProperty() != null ||
+               config.targetNodeProperty() != null;
+    }
+
+    static long memoryEstimation(long nodeCount) {
+        return 2 * sizeOfBitset(nodeCount) + HugeLongArray.memoryEstimation(nodeCount);
+    }
+
+    static KnnNodeFilter unfiltered(long nodeCount) {
+        return new KnnNodeFilter(nodeCount, null, null, null);
+    }
+
+    static KnnNodeFilter of(Graph graph, KnnBaseConfig config, AllocationTracker allocationTracker) {
+        var sources = nodeSet(graph, config.sourceNodeLabels(), config.sourceNodeProperty());
+        var targets = nodeSet(graph, config.targetNodeLabels(), config.targetNodeProperty());
+
+        HugeLongArray targetIds = null;
+        if (targets != null) {
+            targetIds = HugeLongArray.newArray(targets.cardinality(), allocationTracker);
+            long index = 0;
+            for (long nodeId = targets.nextSetBit(0); nodeId >= 0; nodeId = targets.nextSetBit(nodeId + 1)) {
+                targetIds.set(index++, nodeId);
+            }
+        }
+
+        return new KnnNodeFilter(graph.nodeCount(), sources, targets, targetIds);
+    }
+
+    private static @Nullable BitSet nodeSet(Graph graph, List<String> labels, @Nullable String property) {
+        if (labels.isEmpty() && property == null) {
+            return null;
+        }
+
+        var nodeLabels = labels.stream().map(NodeLabel::of).collect(Collectors.toList());
+        var nodeProperties = property == null ? null : graph.nodeProperties(property);
+
+        var nodes = new BitSet(graph.nodeCount());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (hasAnyLabel(graph, nodeId, nodeLabels) && (nodeProperties == null || isSet(nodeProperties.doubleValue(nodeId)))) {
+                nodes.set(nodeId);
+            }
+        }
+        return nodes;
+    }
+
+    private static boolean hasAnyLabel(Graph graph, long nodeId, List<NodeLabel> nodeLabels) {
+        if (nodeLabels.isEmpty()) {
+            return true;
+        }
+        for (NodeLabel nodeLabel : nodeLabels) {
+            if (graph.hasLabel(nodeId, nodeLabel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSet(double value) {
+        return value != 0 && !Double.isNaN(value);
+    }
+
+    private KnnNodeFilter(
+        long nodeCount,
+        @Nullable BitSet sources,
+        @Nullable BitSet targets,
+        @Nullable HugeLongArray targetIds
+    ) {
+        this.nodeCount = nodeCount;
+        this.sources = sources;
+        this.targets = targets;
+        this.targetIds = targetIds;
+    }
+
+    boolean isFiltered() {
+        return sources != null || targets != null;
+    }
+
+    boolean isSource(long nodeId) {
+        return sources == null || sources.get(nodeId);
+    }
+
+    boolean isTarget(long nodeId) {
+        return targets == null || targets.get(nodeId);
+    }
+
+    long sourceCount() {
+        return sources == null ? nodeCount : sources.cardinality();
+    }
+
+    long targetCount() {
+        return targetIds == null ? nodeCount : targetIds.size();
+    }
+
+    /**
+     * @return the id of the target at the given index, where {@code 0 <= index < targetCount()}
+     */
+    long targetAt(long index) {
+        return targetIds == null ? index : targetIds.get(index);
+    }
+
+    NeighborFilter wrap(NeighborFilter neighborFilter) {
+        return isFiltered() ? new FilteredNeighborFilter(neighborFilter) : neighborFilter;
+    }
+
+    private final class FilteredNeighborFilter implements NeighborFilter {
+        private final NeighborFilter delegate;
+
+        private FilteredNeighborFilter(NeighborFilter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean excludeNodePair(long firstNodeId, long secondNodeId) {
+            return !isSource(firstNodeId) || !isTarget(secondNodeId) || delegate.excludeNodePair(firstNodeId, secondNodeId);
+        }
+
+        @Override
+        public long lowerBoundOfPotentialNeighbours(long node) {
+            // every node that is not a target might be one of the potential neighbours of the delegate
+            return Math.max(0, delegate.lowerBoundOfPotentialNeighbours(node) - (nodeCount - targetCount()));
+        }
+    }
+}
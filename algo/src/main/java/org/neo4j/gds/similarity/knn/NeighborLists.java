@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.similarity.SimilarityResult;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * The top-k neighbor lists of all nodes in a flat, paged layout.
+ * <p>
+ * Every node owns {@code capacity} consecutive slots in a page of neighbor ids
+ * and the same slots in a parallel page of similarities.
+ * Pages hold a power of two number of nodes, so that the slots of a node never cross a page boundary
+ * and can be shifted with a single {@link System#arraycopy}.
+ * Compared to one array per node, this avoids an object header and an indirection per node.
+ * <p>
+ * Concurrent insertions are guarded by a fixed number of lock stripes.
+ * Reading and flagging elements is not synchronized and must not overlap with insertions.
+ */
+final class NeighborLists {
+
+    // 32 KB pages of neighbor ids
+    private static final int PAGE_SIZE_IN_ELEMENTS = 1 << 12;
+    private static final int LOCK_STRIPES = 1 << 10;
+
+    static MemoryEstimation memoryEstimation(int capacity) {
+        return MemoryEstimations.builder(NeighborLists.class)
+            .perNode("elements", nodeCount -> sizeOfPages(nodeCount, capacity, Long.BYTES))
+            .perNode("similarities", nodeCount -> sizeOfPages(nodeCount, capacity, Double.BYTES))
+            .perNode("sizes", HugeIntArray::memoryEstimation)
+            .fixed("locks", sizeOfObjectArray(LOCK_STRIPES) + LOCK_STRIPES * sizeOfInstance(Object.class))
+            .build();
+    }
+
+    /**
+     * Unset the checked status from a value.
+     *
+     * We use the left-most/sign bit to carry the checked status.
+     *
+     * {@link Long#MAX_VALUE} is the largest positive long value,
+     * so it has 0 in the left-most bit and all others set to 1.
+     * {@code &}-ing that with a value will keep all lower 63 from the input and clear the left-most bit.
+     */
+    static long clearCheckedFlag(long value) {
+        return value & Long.MAX_VALUE;
+    }
+
+    /**
+     * Set the checked status from a value.
+     *
+     * We use the left-most/sign bit to carry the checked status.
+     *
+     * {@link Long#MIN_VALUE} is the smallest negative long value,
+     * in two's complement is has a 1 in the left-most bit and all others set to 0.
+     * {@code |}-ing that with a value will use all lower 63 from the input and always set the left-most bit.
+     */
+    private static long setCheckedFlag(long value) {
+        return value | Long.MIN_VALUE;
+    }
+
+    /**
+     * Query the checked status from a value.
+     *
+     * We use the left-most/sign bit to carry the checked status, so checking for that bit
+     * is the same as checking for the sign.
+     */
+    static boolean isChecked(long value) {
+        return value < 0;
+    }
+
+    /**
+     * see {@link #add(long, long, double, java.util.SplittableRandom)} for an explanation on
+     * why we use these constants and not booleans.
+     */
+    static final int NOT_INSERTED = 0;
+    private static final int INSERTED = 1;
+
+    private final long nodeCount;
+    // maximum number of elements per node, aka the top K
+    private final int capacity;
+    private final int pageShift;
+    private final long pageMask;
+    private final long[][] elementPages;
+    private final double[][] similarityPages;
+    // currently stored number of elements per node
+    private final HugeIntArray sizes;
+    private final Object[] locks;
+
+    NeighborLists(long nodeCount, int capacity, AllocationTracker allocationTracker) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Bound cannot be smaller than or equal to 0");
+        }
+
+        this.nodeCount = nodeCount;
+        this.capacity = capacity;
+
+        int nodesPerPage = nodesPerPage(capacity);
+        this.pageShift = Integer.numberOfTrailingZeros(nodesPerPage);
+        this.pageMask = nodesPerPage - 1;
+
+        int numPages = Math.toIntExact(ceilDiv(nodeCount, nodesPerPage));
+        this.elementPages = new long[numPages][];
+        this.similarityPages = new double[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long nodesInPage = Math.min(nodesPerPage, nodeCount - ((long) page << pageShift));
+            int slots = Math.toIntExact(nodesInPage * capacity);
+            this.elementPages[page] = new long[slots];
+            this.similarityPages[page] = new double[slots];
+        }
+        allocationTracker.add(sizeOfPages(nodeCount, capacity, Long.BYTES) + sizeOfPages(nodeCount, capacity, Double.BYTES));
+
+        this.sizes = HugeIntArray.newArray(nodeCount, allocationTracker);
+        this.locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    long nodeCount() {
+        return nodeCount;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size(long nodeId) {
+        return sizes.get(nodeId);
+    }
+
+    LongStream elements(long nodeId) {
+        var elements = elementPages[page(nodeId)];
+        int offset = offset(nodeId);
+        return IntStream.range(0, size(nodeId)).mapToLong(index -> elements[offset + index]);
+    }
+
+    long elementAt(long nodeId, int index) {
+        return elementPages[page(nodeId)][offset(nodeId) + index];
+    }
+
+    /**
+     * Copies the elements of the given node into the buffer, which must hold at least {@link #capacity()} elements.
+     * Unlike the other read methods, this may overlap with insertions.
+     *
+     * @return the number of copied elements
+     */
+    int copyElements(long nodeId, long[] buffer) {
+        synchronized (locks[(int) (nodeId & (LOCK_STRIPES - 1))]) {
+            int size = sizes.get(nodeId);
+            System.arraycopy(elementPages[page(nodeId)], offset(nodeId), buffer, 0, size);
+            return size;
+        }
+    }
+
+    long getAndFlagAsChecked(long nodeId, int index) {
+        var elements = elementPages[page(nodeId)];
+        int slot = offset(nodeId) + index;
+        var element = elements[slot];
+        elements[slot] = setCheckedFlag(element);
+        return element;
+    }
+
+    /**
+     * Tries to add the given element with the given priority to the list of the given node.
+     *
+     * This method and data structure is purpose-built for KNN, which counts the number
+     * of insertions per round. To simplify that logic, we return 1 or 0 instead of true or false.
+     * This allows KNN to just add the return values together without having the check on each of them.
+     */
+    long add(long nodeId, long element, double priority, SplittableRandom random) {
+        synchronized (locks[(int) (nodeId & (LOCK_STRIPES - 1))]) {
+            return addUnsynchronized(nodeId, element, priority, random);
+        }
+    }
+
+    private long addUnsynchronized(long nodeId, long element, double priority, SplittableRandom random) {
+        int page = page(nodeId);
+        var elements = elementPages[page];
+        var priorities = similarityPages[page];
+        int offset = offset(nodeId);
+        int elementCount = sizes.get(nodeId);
+        int insertIdx = 0;
+
+        if (elementCount != 0) {
+            int lastValueIndex = elementCount - 1;
+            var lowestPriority = priorities[offset + lastValueIndex];
+
+            if (priority < lowestPriority && elementCount == capacity) {
+                return NOT_INSERTED;
+            }
+
+            int lowerBoundIdxInclusive = elementCount;
+            for (int i = 0; i < elementCount; i++) {
+                if (priority >= priorities[offset + i]) {
+                    lowerBoundIdxInclusive = i;
+                    break;
+                }
+            }
+
+            int upperBoundIdxExclusive = elementCount;
+            for (int i = lowerBoundIdxInclusive; i < elementCount; i++) {
+                if (priority > priorities[offset + i]) {
+                    upperBoundIdxExclusive = i;
+                    break;
+                }
+            }
+
+            if (upperBoundIdxExclusive == capacity && lowestPriority == priority) {
+                // TODO: Perturbation (maybe replace last element)
+                return NOT_INSERTED;
+            }
+
+            if (lowerBoundIdxInclusive < elementCount && priority == priorities[offset + lowerBoundIdxInclusive]) {
+                var upperBound = Math.max(upperBoundIdxExclusive, lowerBoundIdxInclusive + 1);
+                for (int i = lowerBoundIdxInclusive; i < upperBound; i++) {
+                    if (clearCheckedFlag(elements[offset + i]) == element) {
+                        return NOT_INSERTED;
+                    }
+                }
+            }
+
+            if (lowerBoundIdxInclusive == upperBoundIdxExclusive) {
+                insertIdx = lowerBoundIdxInclusive;
+            } else {
+                // if multiple entries have the same priority randomly chose the one to replace
+                insertIdx = random.nextInt(lowerBoundIdxInclusive, upperBoundIdxExclusive);
+            }
+
+            if (insertIdx != lastValueIndex || elementCount != capacity) {
+                int length = capacity - insertIdx - 1;
+                System.arraycopy(elements, offset + insertIdx, elements, offset + insertIdx + 1, length);
+                System.arraycopy(priorities, offset + insertIdx, priorities, offset + insertIdx + 1, length);
+            }
+        }
+
+        if (elementCount != capacity) {
+            sizes.set(nodeId, elementCount + 1);
+        }
+
+        priorities[offset + insertIdx] = priority;
+        elements[offset + insertIdx] = element;
+
+        return INSERTED;
+    }
+
+    Stream<SimilarityResult> similarityStream(long nodeId) {
+        int page = page(nodeId);
+        var elements = elementPages[page];
+        var priorities = similarityPages[page];
+        int offset = offset(nodeId);
+        return IntStream.range(0, size(nodeId))
+            .mapToObj(index -> new SimilarityResult(
+                nodeId,
+                clearCheckedFlag(elements[offset + index]),
+                priorities[offset + index]
+            ));
+    }
+
+    /**
+     * Keeps only the neighbors of the given node with similarity >= threshold.
+     * All high similarity elements are moved to the beginning of the slots of the node.
+     *
+     * @param threshold we keep all results with similarity >=threshold.
+     */
+    void filterHighSimilarityResults(long nodeId, double threshold) {
+        int page = page(nodeId);
+        var elements = elementPages[page];
+        var priorities = similarityPages[page];
+        int offset = offset(nodeId);
+        int elementCount = size(nodeId);
+
+        int nextAvailablePosition = 0;
+        for (int i = 0; i < elementCount; i++) {
+            if (priorities[offset + i] >= threshold) {
+                priorities[offset + nextAvailablePosition] = priorities[offset + i];
+                elements[offset + nextAvailablePosition] = elements[offset + i];
+                nextAvailablePosition++;
+            }
+        }
+        sizes.set(nodeId, nextAvailablePosition);
+    }
+
+    private int page(long nodeId) {
+        return (int) (nodeId >>> pageShift);
+    }
+
+    private int offset(long nodeId) {
+        return (int) (nodeId & pageMask) * capacity;
+    }
+
+    private static int nodesPerPage(int capacity) {
+        return Integer.highestOneBit(Math.max(1, PAGE_SIZE_IN_ELEMENTS / Math.max(1, capacity)));
+    }
+
+    private static long sizeOfPages(long nodeCount, int capacity, int bytesPerElement) {
+        int nodesPerPage = nodesPerPage(capacity);
+        long fullPages = nodeCount / nodesPerPage;
+        long remainingNodes = nodeCount % nodesPerPage;
+        long numPages = fullPages + (remainingNodes > 0 ? 1 : 0);
+
+        long sizeOfFullPage = sizeOfPage((long) nodesPerPage * capacity, bytesPerElement);
+        long sizeOfLastPage = remainingNodes > 0 ? sizeOfPage(remainingNodes * capacity, bytesPerElement) : 0;
+        return sizeOfObjectArray(numPages) + fullPages * sizeOfFullPage + sizeOfLastPage;
+    }
+
+    private static long sizeOfPage(long slots, int bytesPerElement) {
+        return bytesPerElement == Long.BYTES ? sizeOfLongArray(slots) : sizeOfDoubleArray(slots);
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
@@ -41,7 +42,8 @@ class RandomWalkKnnSampler implements KnnSampler {
 
     private final RandomWalkSampler randomWalkSampler;
     private final UniformSamplerFromRange uniformSamplerFromRange;
-    private final long exclusiveMax;
+    private final long candidateCount;
+    private final LongUnaryOperator candidateAt;
     private final LongHashSet sampledValuesCache;
 
     RandomWalkKnnSampler(
@@ -50,6 +52,20 @@ class RandomWalkKnnSampler implements KnnSampler {
         // Since RandomWalk seeds per node the RandomWalkSampler can't take a SplittableRandom.
         Optional<Long> randomSeed,
         int k
+    ) {
+        this(graph, random, randomSeed, k, graph.nodeCount(), LongUnaryOperator.identity());
+    }
+
+    /**
+     * Fills up incomplete walks with the candidates {@code candidateAt(0), ..., candidateAt(candidateCount - 1)}.
+     */
+    RandomWalkKnnSampler(
+        Graph graph,
+        SplittableRandom random,
+        Optional<Long> randomSeed,
+        int k,
+        long candidateCount,
+        LongUnaryOperator candidateAt
     ) {
         assert k > 0;
 
@@ -64,7 +80,8 @@ class RandomWalkKnnSampler implements KnnSampler {
             new Random(randomSeed.orElseGet(() -> new Random().nextLong()))
         );
         this.uniformSamplerFromRange = new UniformSamplerFromRange(random);
-        this.exclusiveMax = graph.nodeCount();
+        this.candidateCount = candidateCount;
+        this.candidateAt = candidateAt;
         this.sampledValuesCache = new LongHashSet();
     }
 
@@ -115,13 +132,18 @@ class RandomWalkKnnSampler implements KnnSampler {
         // Fill up with uniformly random nodes if walk did not contain enough unique valid sample candidates.
         var uniformSamples = uniformSamplerFromRange.sample(
             0,
-            exclusiveMax,
+            candidateCount,
             lowerBoundOnValidSamplesInRange - addedSamples,
             numberOfSamples - addedSamples,
-            node -> isInvalidSample.test(node) || sampledValuesCache.contains(node)
+            index -> {
+                var node = candidateAt.applyAsLong(index);
+                return isInvalidSample.test(node) || sampledValuesCache.contains(node);
+            }
         );
 
-        System.arraycopy(uniformSamples, 0, samples, addedSamples, uniformSamples.length);
+        for (int i = 0; i < uniformSamples.length; i++) {
+            samples[addedSamples + i] = candidateAt.applyAsLong(uniformSamples[i]);
+        }
 
         return samples;
     }
@@ -23,6 +23,8 @@ import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.NodePropertyContainer;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.VectorKernels;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -69,6 +71,28 @@ public interface SimilarityComputer {
         }
     }
 
+    static SimilarityComputer ofSparseVectorProperties(
+        NodePropertyContainer graph,
+        String idProperty,
+        String weightProperty,
+        SparseSimilarityMetric metric,
+        long nodeCount,
+        AllocationTracker allocationTracker
+    ) {
+        var idProperties = Objects.requireNonNull(
+            graph.nodeProperties(idProperty),
+            () -> formatWithLocale("The property `%s` has not been loaded", idProperty)
+        );
+        var weightProperties = Objects.requireNonNull(
+            graph.nodeProperties(weightProperty),
+            () -> formatWithLocale("The property `%s` has not been loaded", weightProperty)
+        );
+        return new SparseVectorSimilarityComputer(
+            SparseVectors.of(idProperties, weightProperties, nodeCount, allocationTracker),
+            metric
+        );
+    }
+
     static SimilarityComputer ofDoubleProperty(NodeProperties nodeProperties) {
         return new DoublePropertySimilarityComputer(nodeProperties);
     }
@@ -155,7 +179,7 @@ final class FloatArrayPropertySimilarityComputer implements SimilarityComputer {
         var left = nodeProperties.floatArrayValue(firstNodeId);
         var right = nodeProperties.floatArrayValue(secondNodeId);
         int len = Math.min(left.length, right.length);
-        return Math.max(Intersections.cosine(left, right, len), 0);
+        return Math.max(VectorKernels.cosine(left, right, len), 0);
     }
 
     @Override
@@ -179,7 +203,7 @@ final class DoubleArrayPropertySimilarityComputer implements SimilarityComputer
         var left = nodeProperties.doubleArrayValue(firstNodeId);
         var right = nodeProperties.doubleArrayValue(secondNodeId);
         int len = Math.min(left.length, right.length);
-        return Math.max(Intersections.cosine(left, right, len), 0);
+        return Math.max(VectorKernels.cosine(left, right, len), 0);
     }
 
     @Override
@@ -214,3 +238,29 @@ final class LongArrayPropertySimilarityComputer implements SimilarityComputer {
         return new KnnNeighborFilter(nodeProperties.size());
     }
 }
+
+final class SparseVectorSimilarityComputer implements SimilarityComputer {
+    private final SparseVectors vectors;
+    private final SparseSimilarityMetric metric;
+
+    SparseVectorSimilarityComputer(SparseVectors vectors, SparseSimilarityMetric metric) {
+        if (metric == SparseSimilarityMetric.JACCARD && vectors.hasNegativeWeights()) {
+            throw new IllegalArgumentException("The weighted Jaccard similarity requires non-negative weights");
+        }
+        this.vectors = vectors;
+        this.metric = metric;
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        if (metric == SparseSimilarityMetric.COSINE) {
+            return Math.max(vectors.cosine(firstNodeId, secondNodeId), 0);
+        }
+        return vectors.weightedJaccard(firstNodeId, secondNodeId);
+    }
+
+    @Override
+    public NeighborFilter createNeighborFilter() {
+        return new KnnNeighborFilter(vectors.nodeCount());
+    }
+}
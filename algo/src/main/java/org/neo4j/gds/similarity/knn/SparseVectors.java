@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.VectorKernels;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Sparse vectors of all nodes, built from a {@code LONG_ARRAY} property of ids
+ * and a {@code FLOAT_ARRAY} or {@code DOUBLE_ARRAY} property of weights with the same length.
+ * <p>
+ * The ids of every vector are sorted, duplicate ids are summed up and zero weights are dropped.
+ * The vectors are stored back to back in pages of ids and parallel pages of weights,
+ * a vector never crosses a page boundary, so that two vectors can be intersected
+ * directly on the pages with {@link VectorKernels#sparseDot} and {@link VectorKernels#sparseMinSum}.
+ * Vectors that are larger than a page get a page of their own.
+ */
+final class SparseVectors {
+
+    // 128 KB pages of ids
+    private static final int PAGE_SIZE = 1 << 14;
+
+    private final long[][] idPages;
+    private final float[][] weightPages;
+    // page index in the upper and offset within the page in the lower 32 bits
+    private final HugeLongArray addresses;
+    private final HugeIntArray lengths;
+    private final HugeDoubleArray norms;
+    private final HugeDoubleArray weightSums;
+    private final boolean hasNegativeWeights;
+
+    static SparseVectors of(
+        NodeProperties idProperties,
+        NodeProperties weightProperties,
+        long nodeCount,
+        AllocationTracker allocationTracker
+    ) {
+        if (idProperties.valueType() != ValueType.LONG_ARRAY) {
+            throw new IllegalArgumentException("The ids of a sparse vector must be of type LONG_ARRAY");
+        }
+        if (weightProperties.valueType() != ValueType.FLOAT_ARRAY && weightProperties.valueType() != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException("The weights of a sparse vector must be of type FLOAT_ARRAY or DOUBLE_ARRAY");
+        }
+        return new Builder(weightProperties.valueType() == ValueType.FLOAT_ARRAY, nodeCount, allocationTracker)
+            .build(idProperties, weightProperties);
+    }
+
+    private SparseVectors(
+        long[][] idPages,
+        float[][] weightPages,
+        HugeLongArray addresses,
+        HugeIntArray lengths,
+        HugeDoubleArray norms,
+        HugeDoubleArray weightSums,
+        boolean hasNegativeWeights
+    ) {
+        this.idPages = idPages;
+        this.weightPages = weightPages;
+        this.addresses = addresses;
+        this.lengths = lengths;
+        this.norms = norms;
+        this.weightSums = weightSums;
+        this.hasNegativeWeights = hasNegativeWeights;
+    }
+
+    long nodeCount() {
+        return lengths.size();
+    }
+
+    int length(long nodeId) {
+        return lengths.get(nodeId);
+    }
+
+    long[] ids(long nodeId) {
+        if (length(nodeId) == 0) {
+            return new long[0];
+        }
+        int offset = offset(nodeId);
+        return Arrays.copyOfRange(idPages[page(nodeId)], offset, offset + length(nodeId));
+    }
+
+    float[] weights(long nodeId) {
+        if (length(nodeId) == 0) {
+            return new float[0];
+        }
+        int offset = offset(nodeId);
+        return Arrays.copyOfRange(weightPages[page(nodeId)], offset, offset + length(nodeId));
+    }
+
+    boolean hasNegativeWeights() {
+        return hasNegativeWeights;
+    }
+
+    double cosine(long nodeId1, long nodeId2) {
+        return dot(nodeId1, nodeId2) / (norms.get(nodeId1) * norms.get(nodeId2));
+    }
+
+    /**
+     * Requires non-negative weights.
+     */
+    double weightedJaccard(long nodeId1, long nodeId2) {
+        // empty vectors have no page, there might not be any page at all
+        if (length(nodeId1) == 0 || length(nodeId2) == 0) {
+            return 0;
+        }
+        int page1 = page(nodeId1);
+        int page2 = page(nodeId2);
+        int offset1 = offset(nodeId1);
+        int offset2 = offset(nodeId2);
+        double min = VectorKernels.sparseMinSum(
+            idPages[page1],
+            weightPages[page1],
+            offset1,
+            offset1 + length(nodeId1),
+            idPages[page2],
+            weightPages[page2],
+            offset2,
+            offset2 + length(nodeId2)
+        );
+        // every weight ends up in either the minimum or the maximum of an id
+        double max = weightSums.get(nodeId1) + weightSums.get(nodeId2) - min;
+        return min / max;
+    }
+
+    double dot(long nodeId1, long nodeId2) {
+        // empty vectors have no page, there might not be any page at all
+        if (length(nodeId1) == 0 || length(nodeId2) == 0) {
+            return 0;
+        }
+        int page1 = page(nodeId1);
+        int page2 = page(nodeId2);
+        int offset1 = offset(nodeId1);
+        int offset2 = offset(nodeId2);
+        return VectorKernels.sparseDot(
+            idPages[page1],
+            weightPages[page1],
+            offset1,
+            offset1 + length(nodeId1),
+            idPages[page2],
+            weightPages[page2],
+            offset2,
+            offset2 + length(nodeId2)
+        );
+    }
+
+    private int page(long nodeId) {
+        return (int) (addresses.get(nodeId) >>> 32);
+    }
+
+    private int offset(long nodeId) {
+        return (int) addresses.get(nodeId);
+    }
+
+    private static final class Builder {
+        private final boolean floatWeights;
+        private final long nodeCount;
+        private final AllocationTracker allocationTracker;
+
+        private final ArrayList<long[]> idPages;
+        private final ArrayList<float[]> weightPages;
+        private final HugeLongArray addresses;
+        private final HugeIntArray lengths;
+        private final HugeDoubleArray norms;
+        private final HugeDoubleArray weightSums;
+        private boolean hasNegativeWeights;
+
+        // the page that is currently filled and its first free slot
+        private int currentPage;
+        private int currentOffset;
+
+        private long[] scratchIds;
+        private float[] scratchWeights;
+
+        Builder(boolean floatWeights, long nodeCount, AllocationTracker allocationTracker) {
+            this.floatWeights = floatWeights;
+            this.nodeCount = nodeCount;
+            this.allocationTracker = allocationTracker;
+            this.idPages = new ArrayList<>();
+            this.weightPages = new ArrayList<>();
+            this.addresses = HugeLongArray.newArray(nodeCount, allocationTracker);
+            this.lengths = HugeIntArray.newArray(nodeCount, allocationTracker);
+            this.norms = HugeDoubleArray.newArray(nodeCount, allocationTracker);
+            this.weightSums = HugeDoubleArray.newArray(nodeCount, allocationTracker);
+            this.currentPage = -1;
+            this.currentOffset = PAGE_SIZE;
+            this.scratchIds = new long[0];
+            this.scratchWeights = new float[0];
+        }
+
+        SparseVectors build(NodeProperties idProperties, NodeProperties weightProperties) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                var ids = idProperties.longArrayValue(nodeId);
+                var weights = weights(weightProperties, nodeId);
+                if (ids == null || weights == null) {
+                    continue;
+                }
+                if (ids.length != weights.length) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "The sparse vector of node %d has %d ids but %d weights.",
+                        nodeId,
+                        ids.length,
+                        weights.length
+                    ));
+                }
+                add(nodeId, normalize(ids, weights));
+            }
+
+            // the last page does not need to be filled up
+            if (currentPage >= 0 && currentOffset < idPages.get(currentPage).length) {
+                idPages.set(currentPage, Arrays.copyOf(idPages.get(currentPage), currentOffset));
+                weightPages.set(currentPage, Arrays.copyOf(weightPages.get(currentPage), currentOffset));
+            }
+            for (long[] page : idPages) {
+                allocationTracker.add(sizeOfLongArray(page.length) + sizeOfFloatArray(page.length));
+            }
+
+            return new SparseVectors(
+                idPages.toArray(new long[0][]),
+                weightPages.toArray(new float[0][]),
+                addresses,
+                lengths,
+                norms,
+                weightSums,
+                hasNegativeWeights
+            );
+        }
+
+        private float[] weights(NodeProperties weightProperties, long nodeId) {
+            if (floatWeights) {
+                return weightProperties.floatArrayValue(nodeId);
+            }
+            var doubleWeights = weightProperties.doubleArrayValue(nodeId);
+            if (doubleWeights == null) {
+                return null;
+            }
+            var weights = new float[doubleWeights.length];
+            for (int i = 0; i < doubleWeights.length; i++) {
+                weights[i] = (float) doubleWeights[i];
+            }
+            return weights;
+        }
+
+        /**
+         * Writes the ids in ascending order with the summed up weights of duplicate ids into the scratch arrays.
+         * Zero weights are skipped.
+         *
+         * @return the number of written entries
+         */
+        private int normalize(long[] ids, float[] weights) {
+            int length = ids.length;
+            if (scratchIds.length < length) {
+                scratchIds = new long[length];
+                scratchWeights = new float[length];
+            }
+
+            boolean strictlyAscending = true;
+            for (int i = 1; i < length; i++) {
+                if (ids[i - 1] >= ids[i]) {
+                    strictlyAscending = false;
+                    break;
+                }
+            }
+
+            int size = 0;
+            if (strictlyAscending) {
+                for (int i = 0; i < length; i++) {
+                    if (weights[i] != 0) {
+                        scratchIds[size] = ids[i];
+                        scratchWeights[size] = weights[i];
+                        size++;
+                    }
+                }
+                return size;
+            }
+
+            int[] order = IndirectSort.mergesort(0, length, new AscendingLongComparator(ids));
+            int i = 0;
+            while (i < length) {
+                long id = ids[order[i]];
+                float weight = 0;
+                for (; i < length && ids[order[i]] == id; i++) {
+                    weight += weights[order[i]];
+                }
+                if (weight != 0) {
+                    scratchIds[size] = id;
+                    scratchWeights[size] = weight;
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        private void add(long nodeId, int length) {
+            if (length == 0) {
+                return;
+            }
+
+            int page;
+            int offset;
+            if (length > PAGE_SIZE) {
+                page = newPage(length);
+                offset = 0;
+            } else {
+                if (length > PAGE_SIZE - currentOffset) {
+                    currentPage = newPage(PAGE_SIZE);
+                    currentOffset = 0;
+                }
+                page = currentPage;
+                offset = currentOffset;
+                currentOffset += length;
+            }
+
+            System.arraycopy(scratchIds, 0, idPages.get(page), offset, length);
+            System.arraycopy(scratchWeights, 0, weightPages.get(page), offset, length);
+
+            double squaredNorm = 0;
+            double weightSum = 0;
+            for (int i = 0; i < length; i++) {
+                float weight = scratchWeights[i];
+                squaredNorm += (double) weight * weight;
+                weightSum += weight;
+                hasNegativeWeights |= weight < 0;
+            }
+
+            addresses.set(nodeId, ((long) page << 32) | offset);
+            lengths.set(nodeId, length);
+            norms.set(nodeId, Math.sqrt(squaredNorm));
+            weightSums.set(nodeId, weightSum);
+        }
+
+        private int newPage(int size) {
+            idPages.add(new long[size]);
+            weightPages.add(new float[size]);
+            return idPages.size() - 1;
+        }
+    }
+}
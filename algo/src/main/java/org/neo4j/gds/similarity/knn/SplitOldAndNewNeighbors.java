@@ -22,6 +22,7 @@ package org.neo4j.gds.similarity.knn;
 import com.carrotsearch.hppc.IntArrayList;
 import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.core.utils.BiLongConsumer;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -37,18 +38,20 @@ import java.util.SplittableRandom;
  */
 final class SplitOldAndNewNeighbors implements BiLongConsumer {
     private final SplittableRandom random;
-    private final HugeObjectArray<NeighborList> neighbors;
+    private final NeighborLists neighbors;
     private final HugeObjectArray<LongArrayList> allOldNeighbors;
     private final HugeObjectArray<LongArrayList> allNewNeighbors;
     private final int sampledK;
+    private final HugeAtomicBitSet nextActiveNodes;
     private final ProgressTracker progressTracker;
 
     SplitOldAndNewNeighbors(
         SplittableRandom random,
-        HugeObjectArray<NeighborList> neighbors,
+        NeighborLists neighbors,
         HugeObjectArray<LongArrayList> allOldNeighbors,
         HugeObjectArray<LongArrayList> allNewNeighbors,
         int sampledK,
+        HugeAtomicBitSet nextActiveNodes,
         ProgressTracker progressTracker
     ) {
         this.random = random;
@@ -56,6 +59,7 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
         this.allOldNeighbors = allOldNeighbors;
         this.allNewNeighbors = allNewNeighbors;
         this.sampledK = sampledK;
+        this.nextActiveNodes = nextActiveNodes;
         this.progressTracker = progressTracker;
     }
 
@@ -70,23 +74,23 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
 
         // TODO use cursors
         for (long nodeId = start; nodeId < end; nodeId++) {
-            var neighbors = allNeighbors.get(nodeId);
-            var k2 = neighbors.size();
+            var k2 = allNeighbors.size(nodeId);
             sampled.clear();
             LongArrayList oldNeighbors = null;
+            int newNeighborCount = 0;
 
-            for (int neighborIndex = 0, newNeighborCount = 0; neighborIndex < k2; neighborIndex++) {
-                var neighborElement = neighbors.elementAt(neighborIndex);
+            for (int neighborIndex = 0; neighborIndex < k2; neighborIndex++) {
+                var neighborElement = allNeighbors.elementAt(nodeId, neighborIndex);
                 // incremental search, if we're already done with this node,
                 // sort neighbor to old neighbors
                 // we use the sign bit to keep track of the checked state of a node
-                if (NeighborList.isChecked(neighborElement)) {
+                if (NeighborLists.isChecked(neighborElement)) {
                     if (oldNeighbors == null) {
                         oldNeighbors = new LongArrayList();
                         allOldNeighbors.set(nodeId, oldNeighbors);
                     }
                     // unset the checked bit
-                    var neighborNode = NeighborList.clearCheckedFlag(neighborElement);
+                    var neighborNode = NeighborLists.clearCheckedFlag(neighborElement);
                     oldNeighbors.add(neighborNode);
                 } else {
                     // always start with the first `sampledK` elements
@@ -103,6 +107,11 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
                 }
             }
 
+            // new neighbors that did not make it into the sample are joined in the next iteration
+            if (newNeighborCount > sampledK) {
+                nextActiveNodes.set(nodeId);
+            }
+
             if (sampled.isEmpty()) {
                 continue;
             }
@@ -111,7 +120,7 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
             allNewNeighbors.set(nodeId, newNeighbors);
 
             for (var neighborIndex : sampled) {
-                var neighborNode = neighbors.getAndFlagAsChecked(neighborIndex.value);
+                var neighborNode = allNeighbors.getAndFlagAsChecked(nodeId, neighborIndex.value);
                 assert nodeId != neighborNode;
                 assert neighborNode >= 0;
                 newNeighbors.add(neighborNode);
@@ -24,17 +24,27 @@ import org.neo4j.gds.ml.core.samplers.UniformSamplerFromRange;
 
 import java.util.SplittableRandom;
 import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 
 class UniformKnnSampler implements KnnSampler {
 
     private final UniformSamplerFromRange uniformSamplerFromRange;
-    private final long exclusiveMax;
+    private final long candidateCount;
+    private final LongUnaryOperator candidateAt;
 
     UniformKnnSampler(SplittableRandom random, long exclusiveMax) {
+        this(random, exclusiveMax, LongUnaryOperator.identity());
+    }
+
+    /**
+     * Samples from the candidates {@code candidateAt(0), ..., candidateAt(candidateCount - 1)}.
+     */
+    UniformKnnSampler(SplittableRandom random, long candidateCount, LongUnaryOperator candidateAt) {
         this.uniformSamplerFromRange = new UniformSamplerFromRange(random);
-        this.exclusiveMax = exclusiveMax;
+        this.candidateCount = candidateCount;
+        this.candidateAt = candidateAt;
     }
 
     public static MemoryRange memoryEstimation(long boundedK) {
@@ -49,12 +59,16 @@ class UniformKnnSampler implements KnnSampler {
         int numberOfSamples,
         LongPredicate isInvalidSample
     ) {
-        return uniformSamplerFromRange.sample(
+        var samples = uniformSamplerFromRange.sample(
             0,
-            exclusiveMax,
+            candidateCount,
             lowerBoundOnValidSamplesInRange,
             numberOfSamples,
-            isInvalidSample
+            index -> isInvalidSample.test(candidateAt.applyAsLong(index))
         );
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = candidateAt.applyAsLong(samples[i]);
+        }
+        return samples;
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+public enum CandidateGeneration {
+    /**
+     * Compares every pair of nodes that pass the degree cutoff.
+     */
+    ALL_PAIRS,
+    /**
+     * Walks an inverted index from neighbours back to the compared nodes and
+     * only scores pairs that share at least one neighbour.
+     */
+    INVERTED_INDEX,
+    /**
+     * Only compares nodes whose MinHash signatures collide in at least one LSH band.
+     * Pairs are approximate: similar pairs may be missed with a probability that
+     * decreases with the number of bands.
+     */
+    MIN_HASH;
+
+    private static final List<String> VALUES = Arrays
+        .stream(CandidateGeneration.values())
+        .map(CandidateGeneration::name)
+        .collect(Collectors.toList());
+
+    public static CandidateGeneration parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            if (VALUES.contains(inputString)) {
+                return CandidateGeneration.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Candidate generation `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof CandidateGeneration) {
+            return (CandidateGeneration) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected CandidateGeneration or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(CandidateGeneration candidateGeneration) {
+        return candidateGeneration.toString();
+    }
+}
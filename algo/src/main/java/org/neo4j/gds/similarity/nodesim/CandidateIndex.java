@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+
+import java.util.Arrays;
+
+/**
+ * Generates the nodes that are compared against a given node,
+ * as an alternative to comparing all pairs of nodes.
+ */
+interface CandidateIndex {
+
+    /**
+     * Collects the candidates of {@code node} in ascending order.
+     * If {@code upperTriangle} is set, only nodes with a larger id than {@code node} are collected.
+     */
+    void collectCandidates(long node, long[] vector, boolean upperTriangle, Candidates candidates);
+
+    /**
+     * Whether the overlap accumulated for two vectors of the given lengths
+     * is the exact size of their intersection.
+     */
+    boolean isExactOverlap(int length1, int length2);
+
+    void release();
+
+    /**
+     * Thread-local sparse accumulator of the overlap between one node and its candidates.
+     */
+    final class Candidates {
+
+        // Accumulators that grew beyond this size are released instead of cleared,
+        // so that a single hub does not make every subsequent clear expensive.
+        private static final int RELEASE_THRESHOLD = 1 << 16;
+
+        private LongIntHashMap overlaps;
+        private long[] nodes;
+        private int[] counts;
+        private int size;
+
+        Candidates() {
+            this.overlaps = new LongIntHashMap();
+            this.nodes = new long[0];
+            this.counts = new int[0];
+        }
+
+        int size() {
+            return size;
+        }
+
+        long node(int index) {
+            return nodes[index];
+        }
+
+        int overlap(int index) {
+            return counts[index];
+        }
+
+        void add(long node) {
+            overlaps.addTo(node, 1);
+        }
+
+        void reset() {
+            if (overlaps.size() > RELEASE_THRESHOLD) {
+                overlaps = new LongIntHashMap();
+            } else {
+                overlaps.clear();
+            }
+            size = 0;
+        }
+
+        void sort() {
+            size = overlaps.size();
+            if (nodes.length < size) {
+                nodes = new long[size];
+                counts = new int[size];
+            }
+            int index = 0;
+            for (var cursor : overlaps) {
+                nodes[index++] = cursor.key;
+            }
+            // Sorting makes the order in which pairs are scored independent of the hash order.
+            Arrays.sort(nodes, 0, size);
+            for (int i = 0; i < size; i++) {
+                counts[i] = overlaps.get(nodes[i]);
+            }
+        }
+    }
+}
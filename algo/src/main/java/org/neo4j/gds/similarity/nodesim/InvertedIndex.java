@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Maps every neighbour (target) to the compared nodes (sources) that list it
+ * in the indexed prefix of their neighbour vector. The sources of a target
+ * are stored in ascending order in a CSR layout.
+ */
+final class InvertedIndex implements CandidateIndex {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray sources;
+    private final IntUnaryOperator prefixLength;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(InvertedIndex.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension(
+                "sources",
+                (dimensions, concurrency) -> MemoryRange.of(
+                    HugeLongArray.memoryEstimation(dimensions.maxRelCount())
+                )
+            )
+            .build();
+    }
+
+    static InvertedIndex build(
+        long nodeCount,
+        HugeObjectArray<long[]> vectors,
+        BitSet nodeFilter,
+        IntUnaryOperator prefixLength,
+        AllocationTracker allocationTracker
+    ) {
+        var offsets = HugeLongArray.newArray(nodeCount + 1, allocationTracker);
+
+        for (LongCursor cursor : new SetBitsIterable(nodeFilter)) {
+            long[] vector = vectors.get(cursor.value);
+            int prefix = prefixLength.applyAsInt(vector.length);
+            for (int i = 0; i < prefix; i++) {
+                offsets.addTo(vector[i] + 1, 1);
+            }
+        }
+        for (long target = 1; target <= nodeCount; target++) {
+            offsets.addTo(target, offsets.get(target - 1));
+        }
+
+        var sources = HugeLongArray.newArray(offsets.get(nodeCount), allocationTracker);
+        // Sources are visited in ascending order, which keeps every posting list sorted.
+        for (LongCursor cursor : new SetBitsIterable(nodeFilter)) {
+            long[] vector = vectors.get(cursor.value);
+            int prefix = prefixLength.applyAsInt(vector.length);
+            for (int i = 0; i < prefix; i++) {
+                long target = vector[i];
+                long position = offsets.get(target);
+                sources.set(position, cursor.value);
+                offsets.set(target, position + 1);
+            }
+        }
+        // The fill pass moved every offset to the end of its posting list.
+        for (long target = nodeCount; target > 0; target--) {
+            offsets.set(target, offsets.get(target - 1));
+        }
+        offsets.set(0, 0);
+
+        return new InvertedIndex(offsets, sources, prefixLength);
+    }
+
+    private InvertedIndex(HugeLongArray offsets, HugeLongArray sources, IntUnaryOperator prefixLength) {
+        this.offsets = offsets;
+        this.sources = sources;
+        this.prefixLength = prefixLength;
+    }
+
+    /**
+     * Collects all nodes that share at least one indexed neighbour with the prefix of {@code vector}.
+     */
+    @Override
+    public void collectCandidates(long node, long[] vector, boolean upperTriangle, Candidates candidates) {
+        candidates.reset();
+        int prefix = prefixLength.applyAsInt(vector.length);
+        for (int i = 0; i < prefix; i++) {
+            long target = vector[i];
+            long start = offsets.get(target);
+            long end = offsets.get(target + 1);
+            if (upperTriangle) {
+                for (long j = end - 1; j >= start; j--) {
+                    long other = sources.get(j);
+                    if (other <= node) {
+                        break;
+                    }
+                    candidates.add(other);
+                }
+            } else {
+                for (long j = start; j < end; j++) {
+                    long other = sources.get(j);
+                    if (other != node) {
+                        candidates.add(other);
+                    }
+                }
+            }
+        }
+        candidates.sort();
+    }
+
+    @Override
+    public boolean isExactOverlap(int length1, int length2) {
+        return prefixLength.applyAsInt(length1) == length1 && prefixLength.applyAsInt(length2) == length2;
+    }
+
+    @Override
+    public void release() {
+        offsets.release();
+        sources.release();
+    }
+}
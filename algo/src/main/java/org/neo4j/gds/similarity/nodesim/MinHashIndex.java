@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+
+/**
+ * Locality sensitive hashing over MinHash signatures of the neighbour vectors.
+ * The signature of a node is split into {@code bandCount} bands and two nodes
+ * become candidates if all rows of at least one band agree.
+ * For a Jaccard similarity {@code s} and {@code r} rows per band, that happens
+ * with a probability of {@code 1 - (1 - s^r)^bandCount}.
+ */
+final class MinHashIndex implements CandidateIndex {
+
+    private final int bandCount;
+    private final HugeObjectArray<int[]> signatures;
+    // bucket of every (node, band) or -1 if the node is alone in its bucket
+    private final HugeLongArray nodeBuckets;
+    private final HugeLongArray bucketOffsets;
+    private final HugeLongArray members;
+
+    static MemoryEstimation memoryEstimation(int signatureLength, int bandCount) {
+        return MemoryEstimations.builder(MinHashIndex.class)
+            .perNode(
+                "signatures",
+                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfIntArray(signatureLength))
+            )
+            .perNode("node buckets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * bandCount))
+            .perNode("bucket offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * bandCount / 2 + 1))
+            .perNode("members", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * bandCount))
+            .perNode("band keys", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount))
+            .build();
+    }
+
+    static MinHashIndex build(
+        long nodeCount,
+        HugeObjectArray<long[]> vectors,
+        BitSet nodeFilter,
+        long nodesToCompare,
+        int signatureLength,
+        int bandCount,
+        long randomSeed,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        var comparedNodes = HugeLongArray.newArray(nodesToCompare, allocationTracker);
+        long index = 0;
+        for (LongCursor cursor : new SetBitsIterable(nodeFilter)) {
+            comparedNodes.set(index++, cursor.value);
+        }
+
+        var signatures = computeSignatures(
+            nodeCount,
+            vectors,
+            comparedNodes,
+            signatureLength,
+            randomSeed,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+
+        int rowsPerBand = signatureLength / bandCount;
+        int nodeBits = Math.max(1, 64 - Long.numberOfLeadingZeros(nodeCount));
+        long nodeMask = (1L << nodeBits) - 1;
+
+        var nodeBuckets = HugeLongArray.newArray(nodeCount * bandCount, allocationTracker);
+        nodeBuckets.fill(-1);
+        // every bucket that is stored holds at least two nodes
+        var bucketOffsets = HugeLongArray.newArray(nodesToCompare * bandCount / 2 + 1, allocationTracker);
+        var members = HugeLongArray.newArray(nodesToCompare * bandCount, allocationTracker);
+        long bucketCount = 0;
+        long memberCount = 0;
+
+        var keys = HugeLongArray.newArray(nodesToCompare, allocationTracker);
+        for (int band = 0; band < bandCount; band++) {
+            int currentBand = band;
+            // The upper bits hold the band hash and the lower bits the node,
+            // sorting therefore groups the nodes of a bucket in ascending order.
+            var tasks = PartitionUtils.rangePartition(
+                concurrency,
+                nodesToCompare,
+                partition -> (Runnable) () -> partition.consume(i -> {
+                    long node = comparedNodes.get(i);
+                    long key = bandKey(signatures.get(node), currentBand, rowsPerBand);
+                    keys.set(i, (key & ~nodeMask) | node);
+                }),
+                Optional.empty()
+            );
+            ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+            HugeMergeSort.sort(keys, concurrency, allocationTracker);
+
+            long start = 0;
+            while (start < nodesToCompare) {
+                long bucketKey = keys.get(start) & ~nodeMask;
+                long end = start + 1;
+                while (end < nodesToCompare && (keys.get(end) & ~nodeMask) == bucketKey) {
+                    end++;
+                }
+                if (end - start > 1) {
+                    bucketOffsets.set(bucketCount, memberCount);
+                    for (long i = start; i < end; i++) {
+                        long node = keys.get(i) & nodeMask;
+                        members.set(memberCount++, node);
+                        nodeBuckets.set(node * bandCount + band, bucketCount);
+                    }
+                    bucketCount++;
+                }
+                start = end;
+            }
+        }
+        bucketOffsets.set(bucketCount, memberCount);
+        keys.release();
+        comparedNodes.release();
+
+        return new MinHashIndex(bandCount, signatures, nodeBuckets, bucketOffsets, members);
+    }
+
+    private static HugeObjectArray<int[]> computeSignatures(
+        long nodeCount,
+        HugeObjectArray<long[]> vectors,
+        HugeLongArray comparedNodes,
+        int signatureLength,
+        long randomSeed,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        // h_i(x) = a_i * mix(x) + b_i with odd a_i is a cheap family of hash functions,
+        // the upper 32 bits of the product are used as the hash value.
+        var random = new SplittableRandom(randomSeed);
+        long[] multipliers = new long[signatureLength];
+        long[] increments = new long[signatureLength];
+        for (int i = 0; i < signatureLength; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            increments[i] = random.nextLong();
+        }
+
+        var signatures = HugeObjectArray.newArray(int[].class, nodeCount, allocationTracker);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            comparedNodes.size(),
+            partition -> (Runnable) () -> partition.consume(i -> {
+                long node = comparedNodes.get(i);
+                int[] signature = new int[signatureLength];
+                Arrays.fill(signature, Integer.MAX_VALUE);
+                for (long target : vectors.get(node)) {
+                    long hash = BitMixer.mix64(target);
+                    for (int j = 0; j < signatureLength; j++) {
+                        int value = (int) ((multipliers[j] * hash + increments[j]) >>> 32);
+                        if (value < signature[j]) {
+                            signature[j] = value;
+                        }
+                    }
+                }
+                signatures.set(node, signature);
+            }),
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        return signatures;
+    }
+
+    private static long bandKey(int[] signature, int band, int rowsPerBand) {
+        long key = BitMixer.mix64(band);
+        int offset = band * rowsPerBand;
+        for (int row = offset; row < offset + rowsPerBand; row++) {
+            key = BitMixer.mix64(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    /**
+     * The fraction of equal signature entries is an unbiased estimate of the Jaccard similarity.
+     */
+    static double estimateSimilarity(int[] signature1, int[] signature2) {
+        int equal = 0;
+        for (int i = 0; i < signature1.length; i++) {
+            if (signature1[i] == signature2[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / signature1.length;
+    }
+
+    private MinHashIndex(
+        int bandCount,
+        HugeObjectArray<int[]> signatures,
+        HugeLongArray nodeBuckets,
+        HugeLongArray bucketOffsets,
+        HugeLongArray members
+    ) {
+        this.bandCount = bandCount;
+        this.signatures = signatures;
+        this.nodeBuckets = nodeBuckets;
+        this.bucketOffsets = bucketOffsets;
+        this.members = members;
+    }
+
+    double estimateSimilarity(long node1, long node2) {
+        return estimateSimilarity(signatures.get(node1), signatures.get(node2));
+    }
+
+    /**
+     * Collects all nodes that share a bucket with {@code node} in at least one band.
+     * The accumulated overlap is the number of shared bands.
+     */
+    @Override
+    public void collectCandidates(long node, long[] vector, boolean upperTriangle, Candidates candidates) {
+        candidates.reset();
+        for (int band = 0; band < bandCount; band++) {
+            long bucket = nodeBuckets.get(node * bandCount + band);
+            if (bucket == -1) {
+                continue;
+            }
+            long start = bucketOffsets.get(bucket);
+            long end = bucketOffsets.get(bucket + 1);
+            if (upperTriangle) {
+                for (long j = end - 1; j >= start; j--) {
+                    long other = members.get(j);
+                    if (other <= node) {
+                        break;
+                    }
+                    candidates.add(other);
+                }
+            } else {
+                for (long j = start; j < end; j++) {
+                    long other = members.get(j);
+                    if (other != node) {
+                        candidates.add(other);
+                    }
+                }
+            }
+        }
+        candidates.sort();
+    }
+
+    @Override
+    public boolean isExactOverlap(int length1, int length2) {
+        return false;
+    }
+
+    @Override
+    public void release() {
+        signatures.release();
+        nodeBuckets.release();
+        bucketOffsets.release();
+        members.release();
+    }
+}
@@ -27,23 +27,33 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.BatchingProgressLogger;
 import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.core.utils.VectorKernels;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.gds.similarity.ExternalSimilaritySort;
 import org.neo4j.gds.similarity.SimilarityGraphBuilder;
 import org.neo4j.gds.similarity.SimilarityGraphResult;
 import org.neo4j.gds.similarity.SimilarityResult;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResult> {
 
+    // Guards the prefix length against rounding errors in `similarityCutoff * degree`.
+    private static final double PREFIX_EPSILON = 1E-9;
+
     private final Graph graph;
     private final boolean sortVectors;
     private final NodeSimilarityBaseConfig config;
@@ -58,6 +68,11 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     private long nodesToCompare;
 
     private final boolean weighted;
+    private final boolean prefixFiltering;
+
+    private CandidateIndex candidateIndex;
+    private MinHashIndex minHashIndex;
+    private final ThreadLocal<CandidateIndex.Candidates> candidates;
 
     public NodeSimilarity(
         Graph graph,
@@ -74,6 +89,13 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         this.allocationTracker = allocationTracker;
         this.nodeFilter = new BitSet(graph.nodeCount());
         this.weighted = config.hasRelationshipWeightProperty();
+        // Prefix filtering relies on the overlap bound of unweighted Jaccard.
+        this.prefixFiltering = !weighted && config.similarityCutoff() > 0;
+        this.candidates = ThreadLocal.withInitial(CandidateIndex.Candidates::new);
+    }
+
+    public long nodesCompared() {
+        return nodesToCompare;
     }
 
     @Override
@@ -84,6 +106,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     @Override
     public void release() {
         graph.release();
+        if (candidateIndex != null) {
+            candidateIndex.release();
+        }
     }
 
     @Override
@@ -112,6 +137,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         assertRunning();
 
         // Compute similarities
+        if (config.isSpilling()) {
+            return computeSpilled();
+        }
         if (config.hasTopN() && !config.hasTopK()) {
             // Special case: compute topN without topK.
             // This can not happen when algo is called from proc.
@@ -129,7 +157,8 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         Graph similarityGraph;
         boolean isTopKGraph = false;
 
-        if (config.hasTopK() && !config.hasTopN()) {
+        // spilling keeps the top k results on disk instead of in a TopKMap
+        if (config.hasTopK() && !config.hasTopN() && !config.isSpilling()) {
             prepare();
             assertRunning();
 
@@ -140,13 +169,15 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             isTopKGraph = true;
             similarityGraph = new TopKGraph(graph, topKMap);
         } else {
-            Stream<SimilarityResult> similarities = computeToStream();
-            similarityGraph = new SimilarityGraphBuilder(
-                graph,
-                config.concurrency(),
-                executorService,
-                allocationTracker
-            ).build(similarities);
+            // closing the stream deletes the runs of a spilled computation
+            try (Stream<SimilarityResult> similarities = computeToStream()) {
+                similarityGraph = new SimilarityGraphBuilder(
+                    graph,
+                    config.concurrency(),
+                    executorService,
+                    allocationTracker
+                ).build(similarities);
+            }
         }
         return new SimilarityGraphResult(similarityGraph, nodesToCompare, isTopKGraph);
     }
@@ -185,6 +216,29 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             progressTracker.logProgress(graph.degree(node));
             return null;
         });
+        if (config.candidateGeneration() == CandidateGeneration.INVERTED_INDEX) {
+            candidateIndex = InvertedIndex.build(
+                graph.nodeCount(),
+                vectors,
+                nodeFilter,
+                this::prefixLength,
+                allocationTracker
+            );
+        } else if (config.candidateGeneration() == CandidateGeneration.MIN_HASH) {
+            minHashIndex = MinHashIndex.build(
+                graph.nodeCount(),
+                vectors,
+                nodeFilter,
+                nodesToCompare,
+                config.signatureLength(),
+                config.bandCount(),
+                config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong()),
+                config.concurrency(),
+                executorService,
+                allocationTracker
+            );
+            candidateIndex = minHashIndex;
+        }
         progressTracker.endSubTask();
     }
 
@@ -231,6 +285,13 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         );
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
+                if (candidateIndex != null) {
+                    forEachCandidatePair(node1, true, (n1, n2, similarity) -> {
+                        topKMap.put(n1, n2, similarity);
+                        topKMap.put(n2, n1, similarity);
+                    });
+                    return;
+                }
                 long[] vector1 = vectors.get(node1);
                 nodeStream(node1 + 1)
                     .forEach(node2 -> {
@@ -259,6 +320,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             config.concurrency(),
             stream -> stream
                 .forEach(node1 -> {
+                    if (candidateIndex != null) {
+                        forEachCandidatePair(node1, false, topKMap::put);
+                        return;
+                    }
                     long[] vector1 = vectors.get(node1);
                     // We deliberately compute the full matrix (except the diagonal).
                     // The parallel workload is partitioned based on the outer stream.
@@ -289,6 +354,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         TopNList topNList = new TopNList(config.normalizedN());
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
+                if (candidateIndex != null) {
+                    forEachCandidatePair(node1, true, topNList::add);
+                    return;
+                }
                 long[] vector1 = vectors.get(node1);
 
                 nodeStream(node1 + 1)
@@ -306,6 +375,88 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         return topNList.stream();
     }
 
+    /**
+     * Collects the results in sorted runs on disk instead of a {@link TopKMap} or {@link TopNList}.
+     * With topK, every node computes its full row into a single bounded queue, so no node needs
+     * to keep a queue until all other nodes are done. The spilled runs are then merged in source
+     * order, or in similarity order truncated to topN. With topN, the runs on disk are truncated to topN as well.
+     */
+    private Stream<SimilarityResult> computeSpilled() {
+        progressTracker.beginSubTask(calculateWorkload());
+
+        ExternalSimilaritySort.Order order = !config.hasTopN()
+            ? ExternalSimilaritySort.Order.SOURCE
+            : config.normalizedN() > 0 ? ExternalSimilaritySort.Order.DESCENDING : ExternalSimilaritySort.Order.ASCENDING;
+        long limit = config.hasTopN() ? Math.abs(config.normalizedN()) : Long.MAX_VALUE;
+        ExternalSimilaritySort sort = ExternalSimilaritySort.create(order, ExternalSimilaritySort.DEFAULT_RUN_SIZE, limit);
+
+        // once streaming, closing the stream deletes the runs, before that we have to
+        boolean streaming = false;
+        try {
+            LongConsumer spillNode = config.hasTopK()
+                ? node1 -> spillTopK(node1, sort)
+                : node1 -> spillPairs(node1, sort);
+            if (config.isParallel()) {
+                ParallelUtil.parallelStreamConsume(
+                    loggableAndTerminatableNodeStream(),
+                    config.concurrency(),
+                    stream -> stream.forEach(spillNode)
+                );
+            } else {
+                loggableAndTerminatableNodeStream().forEach(spillNode);
+            }
+
+            progressTracker.endSubTask();
+            var similarities = sort.stream();
+            streaming = true;
+            return similarities;
+        } finally {
+            if (!streaming) {
+                sort.close();
+            }
+        }
+    }
+
+    private void spillTopK(long node1, ExternalSimilaritySort sort) {
+        int k = Math.abs(config.normalizedK());
+        BoundedLongPriorityQueue neighbors = config.normalizedK() > 0
+            ? BoundedLongPriorityQueue.max(k)
+            : BoundedLongPriorityQueue.min(k);
+        if (candidateIndex != null) {
+            forEachCandidatePair(node1, false, (n1, n2, similarity) -> neighbors.offer(n2, similarity));
+        } else {
+            long[] vector1 = vectors.get(node1);
+            nodeStream()
+                .filter(node2 -> node1 != node2)
+                .forEach(node2 -> {
+                    double similarity = weighted
+                        ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
+                        : jaccard(vector1, vectors.get(node2));
+                    if (!Double.isNaN(similarity)) {
+                        neighbors.offer(node2, similarity);
+                    }
+                });
+        }
+        sort.add(node1, neighbors);
+    }
+
+    private void spillPairs(long node1, ExternalSimilaritySort sort) {
+        if (candidateIndex != null) {
+            forEachCandidatePair(node1, true, sort::add);
+            return;
+        }
+        long[] vector1 = vectors.get(node1);
+        nodeStream(node1 + 1)
+            .forEach(node2 -> {
+                double similarity = weighted
+                    ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
+                    : jaccard(vector1, vectors.get(node2));
+                if (!Double.isNaN(similarity)) {
+                    sort.add(node1, node2, similarity);
+                }
+            });
+    }
+
     private Stream<SimilarityResult> computeTopN(TopKMap topKMap) {
         TopNList topNList = new TopNList(config.normalizedN());
         topKMap.forEach(topNList::add);
@@ -313,56 +464,81 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     }
 
     private double jaccard(long[] vector1, long[] vector2) {
-        long intersection = Intersections.intersection3(vector1, vector2);
-        double union = vector1.length + vector2.length - intersection;
-        double similarity = union == 0 ? 0 : intersection / union;
+        double similarity = jaccardSimilarity(vector1, vector2);
         progressTracker.logProgress();
         return similarity >= config.similarityCutoff() ? similarity : Double.NaN;
 
     }
 
+    private static double jaccardSimilarity(long[] vector1, long[] vector2) {
+        long intersection = Intersections.intersection3(vector1, vector2);
+        return jaccardSimilarity(vector1.length, vector2.length, intersection);
+    }
+
+    private static double jaccardSimilarity(int length1, int length2, long intersection) {
+        double union = length1 + length2 - intersection;
+        return union == 0 ? 0 : intersection / union;
+    }
+
     private double weightedJaccard(long[] vector1, long[] vector2, double[] weights1, double[] weights2) {
-        assert vector1.length == weights1.length;
-        assert vector2.length == weights2.length;
-
-        int offset1 = 0;
-        int offset2 = 0;
-        int length1 = weights1.length;
-        int length2 = weights2.length;
-        double max = 0;
-        double min = 0;
-        while (offset1 < length1 && offset2 < length2) {
-            long target1 = vector1[offset1];
-            long target2 = vector2[offset2];
-            if (target1 == target2) {
-                double w1 = weights1[offset1];
-                double w2 = weights2[offset2];
-                if (w1 > w2) {
-                    max += w1;
-                    min += w2;
-                } else {
-                    min += w1;
-                    max += w2;
-                }
-                offset1++;
-                offset2++;
-            } else if (target1 < target2) {
-                max += weights1[offset1];
-                offset1++;
+        double similarity = VectorKernels.weightedJaccard(vector1, weights1, vector2, weights2);
+        progressTracker.logProgress();
+        return similarity >= config.similarityCutoff() ? similarity : Double.NaN;
+    }
+
+    /**
+     * Scores the candidates of {@code node1} from the {@link CandidateIndex}.
+     * Candidates are verified on the full vectors unless their accumulated overlap is exact
+     * or the similarity is estimated from MinHash signatures.
+     */
+    private void forEachCandidatePair(
+        long node1,
+        boolean upperTriangle,
+        BoundedLongLongPriorityQueue.Consumer consumer
+    ) {
+        long[] vector1 = vectors.get(node1);
+        var candidates = this.candidates.get();
+        candidateIndex.collectCandidates(node1, vector1, upperTriangle, candidates);
+
+        double cutoff = config.similarityCutoff();
+        for (int i = 0; i < candidates.size(); i++) {
+            long node2 = candidates.node(i);
+            long[] vector2 = vectors.get(node2);
+            double similarity;
+            if (weighted) {
+                similarity = VectorKernels.weightedJaccard(vector1, weights.get(node1), vector2, weights.get(node2));
+            } else if (config.estimateFromSignatures()) {
+                similarity = minHashIndex.estimateSimilarity(node1, node2);
+            } else if (candidateIndex.isExactOverlap(vector1.length, vector2.length)) {
+                similarity = jaccardSimilarity(vector1.length, vector2.length, candidates.overlap(i));
             } else {
-                max += weights2[offset2];
-                offset2++;
+                // size filter: jaccard is bounded by the ratio of the vector lengths
+                int min = Math.min(vector1.length, vector2.length);
+                int max = Math.max(vector1.length, vector2.length);
+                if (min < cutoff * max - PREFIX_EPSILON) {
+                    continue;
+                }
+                similarity = jaccardSimilarity(vector1, vector2);
+            }
+            if (similarity >= cutoff) {
+                consumer.accept(node1, node2, similarity);
             }
         }
-        for (; offset1 < length1; offset1++) {
-            max += weights1[offset1];
-        }
-        for (; offset2 < length2; offset2++) {
-            max += weights2[offset2];
+        // Keep the progress in line with the all pairs workload.
+        progressTracker.logProgress(calculateWorkload() / nodesToCompare);
+    }
+
+    /**
+     * Two vectors with a Jaccard similarity of at least {@code t} overlap in at least
+     * {@code ceil(t * length)} entries of either vector. Their smallest common entry is
+     * therefore contained in the first {@code length - ceil(t * length) + 1} entries of both.
+     */
+    private int prefixLength(int length) {
+        if (!prefixFiltering) {
+            return length;
         }
-        double similarity = min / max;
-        progressTracker.logProgress();
-        return similarity >= config.similarityCutoff() ? similarity : Double.NaN;
+        int minOverlap = (int) Math.ceil(config.similarityCutoff() * length - PREFIX_EPSILON);
+        return length - Math.max(minOverlap, 1) + 1;
     }
 
     private LongStream nodeStream() {
@@ -387,13 +563,24 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
 
     private long calculateWorkload() {
         long workload = nodesToCompare * nodesToCompare;
-        if (config.concurrency() == 1) {
+        // spilled topK computes full rows even when running single threaded
+        boolean fullRows = config.isSpilling() && config.hasTopK();
+        if (config.concurrency() == 1 && !fullRows) {
             workload = workload / 2;
         }
         return workload;
     }
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long node1) {
+        if (candidateIndex != null) {
+            var similarities = new ArrayList<SimilarityResult>();
+            forEachCandidatePair(
+                node1,
+                true,
+                (n1, n2, similarity) -> similarities.add(new SimilarityResult(n1, n2, similarity))
+            );
+            return similarities.stream();
+        }
         long[] vector1 = vectors.get(node1);
         return nodeStream(node1 + 1)
             .mapToObj(node2 -> {
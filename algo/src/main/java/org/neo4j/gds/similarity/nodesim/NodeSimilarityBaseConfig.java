@@ -22,11 +22,12 @@ package org.neo4j.gds.similarity.nodesim;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig, RandomSeedConfig {
 
     String TOP_K_KEY = "topK";
     int TOP_K_DEFAULT = 10;
@@ -80,6 +81,38 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return BOTTOM_N_DEFAULT;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.similarity.nodesim.CandidateGeneration#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.nodesim.CandidateGeneration#toString")
+    default CandidateGeneration candidateGeneration() {
+        return CandidateGeneration.ALL_PAIRS;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int signatureLength() {
+        return 128;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int bandCount() {
+        return 32;
+    }
+
+    @Value.Default
+    default boolean estimateFromSignatures() {
+        return false;
+    }
+
+    /**
+     * Collects topK and topN results in sorted runs on disk instead of in heap.
+     */
+    @Value.Default
+    default boolean spillToDisk() {
+        return false;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default int normalizedK() {
@@ -114,6 +147,12 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return normalizedN() != 0;
     }
 
+    @Configuration.Ignore
+    @Value.Derived
+    default boolean isSpilling() {
+        return spillToDisk() && (hasTopK() || hasTopN());
+    }
+
     @Configuration.Ignore
     default boolean computeToStream() {
         return false;
@@ -141,5 +180,25 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 BOTTOM_N_KEY
             ));
         }
+        if (candidateGeneration() == CandidateGeneration.MIN_HASH && signatureLength() % bandCount() != 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `signatureLength` (%d) must be a multiple of the `bandCount` (%d).",
+                signatureLength(),
+                bandCount()
+            ));
+        }
+        if (estimateFromSignatures()) {
+            if (candidateGeneration() != CandidateGeneration.MIN_HASH) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Estimating similarities from signatures requires the `candidateGeneration` %s.",
+                    CandidateGeneration.MIN_HASH
+                ));
+            }
+            if (hasRelationshipWeightProperty()) {
+                throw new IllegalArgumentException(
+                    "Estimating similarities from signatures is not supported for weighted similarities."
+                );
+            }
+        }
     }
 }
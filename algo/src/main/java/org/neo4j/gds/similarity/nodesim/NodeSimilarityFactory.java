@@ -31,6 +31,8 @@ import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.gds.similarity.ExternalSimilaritySort;
 import org.neo4j.gds.similarity.SimilarityGraphBuilder;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
@@ -78,6 +80,21 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                     .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
                     .build();
             }));
+        if (config.candidateGeneration() == CandidateGeneration.INVERTED_INDEX) {
+            builder.add("inverted index", InvertedIndex.memoryEstimation());
+        } else if (config.candidateGeneration() == CandidateGeneration.MIN_HASH) {
+            builder.add("min hash index", MinHashIndex.memoryEstimation(config.signatureLength(), config.bandCount()));
+        }
+        if (config.isSpilling()) {
+            builder.add("spill buffer", ExternalSimilaritySort.memoryEstimation(ExternalSimilaritySort.DEFAULT_RUN_SIZE));
+            if (config.hasTopK()) {
+                builder.perThread("topK queue", BoundedLongPriorityQueue.memoryEstimation(topK));
+            }
+            if (config.computeToGraph()) {
+                builder.add("similarity graph", SimilarityGraphBuilder.memoryEstimation(topK, topN));
+            }
+            return builder.build();
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
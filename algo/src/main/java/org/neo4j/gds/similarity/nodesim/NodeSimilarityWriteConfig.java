@@ -43,4 +43,13 @@ public interface NodeSimilarityWriteConfig extends NodeSimilarityBaseConfig, Wri
         config.validate();
         return config;
     }
+
+    /**
+     * Spilled results are written while they are merged, without building a similarity graph first.
+     */
+    @Override
+    @Configuration.Ignore
+    default boolean computeToStream() {
+        return isSpilling();
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.traversal;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.SourceNodeConfig;
+
+public interface BfsBaseConfig extends AlgoBaseConfig, SourceNodeConfig {
+
+    long NO_MAX_DEPTH = -1L;
+
+    /**
+     * Maximum level to expand to, {@code -1} means the traversal
+     * continues until all reachable nodes have been visited.
+     */
+    @Value.Default
+    @Configuration.LongRange(min = -1)
+    default long maxDepth() {
+        return NO_MAX_DEPTH;
+    }
+
+    /**
+     * Switch from top-down (push) to bottom-up (pull) once the edges leaving
+     * the frontier exceed {@code unexploredEdges / alpha}.
+     * Only used on undirected graphs.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 1.0)
+    default double alpha() {
+        return 14.0;
+    }
+
+    /**
+     * Switch back from bottom-up (pull) to top-down (push) once the frontier
+     * holds less than {@code nodeCount / beta} nodes.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 1.0)
+    default double beta() {
+        return 24.0;
+    }
+}
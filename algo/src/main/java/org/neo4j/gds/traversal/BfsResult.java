@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.traversal;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+@ValueClass
+public interface BfsResult {
+
+    /**
+     * BFS level per node, {@link DirectionOptimizingBfs#NOT_VISITED} for unreached nodes.
+     */
+    HugeLongArray levels();
+
+    /**
+     * Internal id of the node a node has been discovered from,
+     * {@link DirectionOptimizingBfs#NOT_VISITED} for unreached nodes and the source node.
+     */
+    HugeLongArray parents();
+
+    long reachedNodes();
+
+    long maxLevel();
+
+    /**
+     * Number of levels that have been expanded bottom-up.
+     */
+    int pullSteps();
+}
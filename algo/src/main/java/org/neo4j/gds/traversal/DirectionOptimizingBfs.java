@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.traversal;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel, level-synchronous breadth first search that switches between
+ * top-down (push) and bottom-up (pull) expansion depending on the size of the frontier.
+ *
+ * Top-down steps keep the frontier in a compact queue and expand it by scanning the
+ * relationships of the frontier nodes. Bottom-up steps keep the frontier in a bitset and
+ * let every unvisited node look for a parent in the frontier, stopping at the first hit.
+ * Bottom-up steps require incoming relationships and are therefore only used on undirected graphs.
+ *
+ * See Beamer et al., "Direction-Optimizing Breadth-First Search", SC 2012.
+ */
+public final class DirectionOptimizingBfs extends Algorithm<DirectionOptimizingBfs, BfsResult> {
+
+    public static final long NOT_VISITED = -1L;
+
+    private static final int LOCAL_BUFFER_SIZE = 1024;
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long maxDepth;
+    private final double alpha;
+    private final double beta;
+    private final int concurrency;
+    private final boolean canPull;
+    private final ExecutorService executorService;
+
+    private final HugeLongArray levels;
+    private final HugeLongArray parents;
+    private HugeAtomicBitSet visited;
+
+    // sparse frontier, used for top-down steps
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private final AtomicLong nextFrontierSize;
+
+    // dense frontier, used for bottom-up steps
+    private HugeAtomicBitSet frontierBits;
+    private HugeAtomicBitSet nextFrontierBits;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(DirectionOptimizingBfs.class)
+            .perNode("levels", HugeLongArray::memoryEstimation)
+            .perNode("parents", HugeLongArray::memoryEstimation)
+            .perNode("visited", HugeAtomicBitSet::memoryEstimation)
+            .perNode("frontier", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount))
+            .perNode("frontier bits", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            .build();
+    }
+
+    public DirectionOptimizingBfs(
+        Graph graph,
+        long sourceNode,
+        BfsBaseConfig config,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.maxDepth = config.maxDepth();
+        this.alpha = config.alpha();
+        this.beta = config.beta();
+        this.concurrency = config.concurrency();
+        this.canPull = graph.isUndirected();
+        this.executorService = executorService;
+
+        var nodeCount = graph.nodeCount();
+        this.levels = HugeLongArray.newArray(nodeCount, allocationTracker);
+        this.parents = HugeLongArray.newArray(nodeCount, allocationTracker);
+        this.visited = HugeAtomicBitSet.fixed(nodeCount, allocationTracker);
+        this.frontier = HugeLongArray.newArray(nodeCount, allocationTracker);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount, allocationTracker);
+        this.nextFrontierSize = new AtomicLong();
+        this.frontierBits = HugeAtomicBitSet.fixed(nodeCount, allocationTracker);
+        this.nextFrontierBits = HugeAtomicBitSet.fixed(nodeCount, allocationTracker);
+    }
+
+    @Override
+    public BfsResult compute() {
+        progressTracker.beginSubTask();
+
+        var nodeCount = graph.nodeCount();
+
+        levels.fill(NOT_VISITED);
+        parents.fill(NOT_VISITED);
+        levels.set(sourceNode, 0);
+        visited.set(sourceNode);
+        frontier.set(0, sourceNode);
+        progressTracker.logProgress(1);
+
+        long frontierSize = 1;
+        long frontierEdges = graph.degree(sourceNode);
+        long unexploredEdges = graph.relationshipCount() - frontierEdges;
+        long reachedNodes = 1;
+        long level = 0;
+        int pullSteps = 0;
+        boolean dense = false;
+
+        while (frontierSize > 0 && running() && (maxDepth == BfsBaseConfig.NO_MAX_DEPTH || level < maxDepth)) {
+            if (canPull) {
+                if (!dense && frontierEdges > unexploredEdges / alpha) {
+                    toDense(frontierSize);
+                    dense = true;
+                } else if (dense && frontierSize < nodeCount / beta) {
+                    frontierSize = toSparse();
+                    dense = false;
+                }
+            }
+
+            var discoveredNodes = new LongAdder();
+            var discoveredEdges = new LongAdder();
+
+            if (dense) {
+                pull(level + 1, discoveredNodes, discoveredEdges);
+                pullSteps++;
+            } else {
+                push(level + 1, frontierSize, discoveredNodes, discoveredEdges);
+            }
+
+            level++;
+            frontierSize = discoveredNodes.sum();
+            frontierEdges = discoveredEdges.sum();
+            unexploredEdges -= frontierEdges;
+            reachedNodes += frontierSize;
+        }
+
+        progressTracker.endSubTask();
+
+        return ImmutableBfsResult.builder()
+            .levels(levels)
+            .parents(parents)
+            .reachedNodes(reachedNodes)
+            .maxLevel(frontierSize > 0 ? level : level - 1)
+            .pullSteps(pullSteps)
+            .build();
+    }
+
+    private void push(long nextLevel, long frontierSize, LongAdder discoveredNodes, LongAdder discoveredEdges) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            frontierSize,
+            partition -> new PushTask(partition, nextLevel, discoveredNodes, discoveredEdges),
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        var tmp = frontier;
+        frontier = nextFrontier;
+        nextFrontier = tmp;
+        nextFrontierSize.set(0);
+    }
+
+    private void pull(long nextLevel, LongAdder discoveredNodes, LongAdder discoveredEdges) {
+        nextFrontierBits.clear();
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new PullTask(partition, nextLevel, discoveredNodes, discoveredEdges),
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        var tmp = frontierBits;
+        frontierBits = nextFrontierBits;
+        nextFrontierBits = tmp;
+    }
+
+    private void toDense(long frontierSize) {
+        frontierBits.clear();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            frontierSize,
+            partition -> (Runnable) () -> partition.consume(index -> frontierBits.set(frontier.get(index))),
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+    }
+
+    private long toSparse() {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var buffer = new FrontierBuffer(frontier);
+                partition.consume(nodeId -> {
+                    if (frontierBits.get(nodeId)) {
+                        buffer.add(nodeId);
+                    }
+                });
+                buffer.flush();
+            },
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        return nextFrontierSize.getAndSet(0);
+    }
+
+    @Override
+    public DirectionOptimizingBfs me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        visited = null;
+        frontier = null;
+        nextFrontier = null;
+        frontierBits = null;
+        nextFrontierBits = null;
+    }
+
+    /**
+     * Collects discovered nodes thread-locally and appends them to the shared queue in batches.
+     */
+    private final class FrontierBuffer {
+        private final HugeLongArray target;
+        private final long[] buffer;
+        private int length;
+
+        FrontierBuffer(HugeLongArray target) {
+            this.target = target;
+            this.buffer = new long[LOCAL_BUFFER_SIZE];
+        }
+
+        void add(long nodeId) {
+            if (length == buffer.length) {
+                flush();
+            }
+            buffer[length++] = nodeId;
+        }
+
+        void flush() {
+            if (length == 0) {
+                return;
+            }
+            long offset = nextFrontierSize.getAndAdd(length);
+            for (int i = 0; i < length; i++) {
+                target.set(offset + i, buffer[i]);
+            }
+            length = 0;
+        }
+    }
+
+    private final class PushTask implements Runnable {
+
+        private final Graph localGraph;
+        private final Partition partition;
+        private final long nextLevel;
+        private final LongAdder discoveredNodes;
+        private final LongAdder discoveredEdges;
+        private final FrontierBuffer buffer;
+
+        private long localNodes;
+        private long localEdges;
+
+        PushTask(Partition partition, long nextLevel, LongAdder discoveredNodes, LongAdder discoveredEdges) {
+            this.localGraph = graph.concurrentCopy();
+            this.partition = partition;
+            this.nextLevel = nextLevel;
+            this.discoveredNodes = discoveredNodes;
+            this.discoveredEdges = discoveredEdges;
+            this.buffer = new FrontierBuffer(nextFrontier);
+        }
+
+        @Override
+        public void run() {
+            partition.consume(index -> localGraph.forEachRelationship(
+                frontier.get(index),
+                (source, target) -> {
+                    if (!visited.getAndSet(target)) {
+                        levels.set(target, nextLevel);
+                        parents.set(target, source);
+                        buffer.add(target);
+                        localNodes++;
+                        localEdges += localGraph.degree(target);
+                    }
+                    return true;
+                }
+            ));
+            buffer.flush();
+
+            discoveredNodes.add(localNodes);
+            discoveredEdges.add(localEdges);
+            progressTracker.logProgress(localNodes);
+        }
+    }
+
+    private final class PullTask implements Runnable {
+
+        private final Graph localGraph;
+        private final Partition partition;
+        private final long nextLevel;
+        private final LongAdder discoveredNodes;
+        private final LongAdder discoveredEdges;
+
+        private long parent;
+
+        PullTask(Partition partition, long nextLevel, LongAdder discoveredNodes, LongAdder discoveredEdges) {
+            this.localGraph = graph.concurrentCopy();
+            this.partition = partition;
+            this.nextLevel = nextLevel;
+            this.discoveredNodes = discoveredNodes;
+            this.discoveredEdges = discoveredEdges;
+        }
+
+        @Override
+        public void run() {
+            long localNodes = 0;
+            long localEdges = 0;
+
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                if (visited.get(nodeId)) {
+                    continue;
+                }
+
+                parent = NOT_VISITED;
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (frontierBits.get(target)) {
+                        parent = target;
+                        return false;
+                    }
+                    return true;
+                });
+
+                if (parent != NOT_VISITED) {
+                    levels.set(nodeId, nextLevel);
+                    parents.set(nodeId, parent);
+                    visited.set(nodeId);
+                    nextFrontierBits.set(nodeId);
+                    localNodes++;
+                    localEdges += localGraph.degree(nodeId);
+                }
+            }
+
+            discoveredNodes.add(localNodes);
+            discoveredEdges.add(localEdges);
+            progressTracker.logProgress(localNodes);
+        }
+    }
+}
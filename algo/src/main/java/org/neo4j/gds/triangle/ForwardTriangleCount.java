@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.triangle.intersect.GraphIntersect;
+import org.neo4j.gds.triangle.intersect.RelationshipIntersectConfig;
+import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactory;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
+
+/**
+ * Counts triangles on a degree-ordered orientation of the graph.
+ *
+ * Every relationship is oriented from the node with the lower degree to the one with the
+ * higher degree (ties are broken by node id). Each triangle {@code (u, v, w)} with
+ * {@code u < v < w} in that order is then found exactly once, when intersecting the
+ * out-neighbours of {@code u} with those of {@code v}. Orienting bounds all out-degrees
+ * by {@code O(sqrt(m))}, which removes the cost of intersecting hub neighbourhoods.
+ *
+ * Out-neighbours of nodes with at least {@link #HASH_THRESHOLD} out-neighbours are hashed once
+ * and probed, smaller neighbourhoods are merged.
+ *
+ * With a {@code samplingRatio} {@code p < 1}, every oriented relationship {@code (u, v)} is
+ * used with probability {@code p}, and counts are scaled by {@code 1 / p}.
+ * The standard error of the global estimate is reported alongside.
+ *
+ * https://doi.org/10.1007/11427186_54 (Schank and Wagner, forward algorithm)
+ */
+final class ForwardTriangleCount {
+
+    static final int HASH_THRESHOLD = 64;
+
+    private static final int BATCH_SIZE = 64;
+
+    private final Graph graph;
+    private final RelationshipIntersectFactory intersectFactory;
+    private final RelationshipIntersectConfig intersectConfig;
+    private final TriangleCountBaseConfig config;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+    private final ProgressTracker progressTracker;
+
+    private final long maxDegree;
+    private final double samplingRatio;
+    private final long samplingSeed;
+
+    ForwardTriangleCount(
+        Graph graph,
+        RelationshipIntersectFactory intersectFactory,
+        RelationshipIntersectConfig intersectConfig,
+        TriangleCountBaseConfig config,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.intersectFactory = intersectFactory;
+        this.intersectConfig = intersectConfig;
+        this.config = config;
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+        this.progressTracker = progressTracker;
+        this.maxDegree = config.maxDegree();
+        this.samplingRatio = config.samplingRatio();
+        this.samplingSeed = config.randomSeed().orElseGet(() -> ThreadLocalRandom.current().nextLong());
+    }
+
+    IntersectingTriangleCount.TriangleCountResult compute(TerminationFlag terminationFlag) {
+        var nodeCount = graph.nodeCount();
+        var triangleCounts = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+
+        // out-degrees first, turned into offsets by a prefix sum
+        var offsets = HugeLongArray.newArray(nodeCount + 1, allocationTracker);
+        runOrientTasks(partition -> new OrientTask(partition, offsets, null, triangleCounts));
+
+        long oriented = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long outDegree = offsets.get(nodeId);
+            offsets.set(nodeId, oriented);
+            oriented += outDegree;
+        }
+        offsets.set(nodeCount, oriented);
+
+        var targets = HugeLongArray.newArray(oriented, allocationTracker);
+        runOrientTasks(partition -> new OrientTask(partition, offsets, targets, triangleCounts));
+
+        var nextBatch = new AtomicLong();
+        var globalTriangles = new LongAdder();
+        var squaredEdgeTriangles = new DoubleAdder();
+        var countTasks = IntStream.range(0, config.concurrency())
+            .mapToObj(i -> new CountTask(
+                offsets,
+                targets,
+                triangleCounts,
+                nextBatch,
+                globalTriangles,
+                squaredEdgeTriangles,
+                terminationFlag
+            ))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(config.concurrency(), countTasks, executorService);
+
+        long globalTriangleCount = globalTriangles.sum();
+        double standardError = 0D;
+        if (samplingRatio < 1) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                long count = triangleCounts.get(nodeId);
+                if (count != EXCLUDED_NODE_TRIANGLE_COUNT) {
+                    triangleCounts.set(nodeId, Math.round(count / samplingRatio));
+                }
+            }
+            globalTriangleCount = Math.round(globalTriangleCount / samplingRatio);
+            // Var = (1 - p) / p * sum(t_e^2) over all edges, where sum(t_e^2) is estimated from the sampled edges
+            standardError = Math.sqrt((1 - samplingRatio) / (samplingRatio * samplingRatio) * squaredEdgeTriangles.sum());
+        }
+
+        return ImmutableTriangleCountResult.builder()
+            .localTriangles(triangleCounts)
+            .globalTriangles(globalTriangleCount)
+            .globalTrianglesStandardError(standardError)
+            .build();
+    }
+
+    private void runOrientTasks(Function<Partition, OrientTask> taskSupplier) {
+        var tasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            graph.nodeCount(),
+            taskSupplier,
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executorService);
+    }
+
+    /**
+     * {@code true} if the relationship between the two nodes is oriented from {@code u} to {@code v}.
+     */
+    private static boolean precedes(long u, int degreeU, long v, int degreeV) {
+        return degreeU < degreeV || (degreeU == degreeV && u < v);
+    }
+
+    /**
+     * Decides deterministically (per seed) whether an oriented relationship is sampled.
+     */
+    private boolean isSampled(long u, long v) {
+        if (samplingRatio >= 1) {
+            return true;
+        }
+        long hash = mix(mix(u ^ samplingSeed) + v);
+        return (hash >>> 11) * 0x1.0p-53 < samplingRatio;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Writes either the out-degree (if {@code targets} is {@code null}) or the out-neighbours
+     * of every node in the partition. Out-neighbours are sorted by node id,
+     * parallel relationships and self-loops are dropped.
+     */
+    private final class OrientTask implements Runnable {
+
+        private final Partition partition;
+        private final HugeLongArray offsets;
+        private final HugeLongArray targets;
+        private final HugeAtomicLongArray triangleCounts;
+        private final Graph localGraph;
+        private final GraphIntersect<?> bulkIntersect;
+
+        private long[] buffer;
+
+        OrientTask(
+            Partition partition,
+            HugeLongArray offsets,
+            HugeLongArray targets,
+            HugeAtomicLongArray triangleCounts
+        ) {
+            this.partition = partition;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.triangleCounts = triangleCounts;
+            this.localGraph = graph.concurrentCopy();
+            var intersect = intersectFactory.load(graph, intersectConfig);
+            this.bulkIntersect = intersect instanceof GraphIntersect ? (GraphIntersect<?>) intersect : null;
+            this.buffer = new long[0];
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                int degree = localGraph.degree(nodeId);
+                if (degree > maxDegree) {
+                    triangleCounts.set(nodeId, EXCLUDED_NODE_TRIANGLE_COUNT);
+                    if (targets == null) {
+                        offsets.set(nodeId, 0);
+                    }
+                    return;
+                }
+
+                int neighbourCount = loadNeighbours(nodeId, degree);
+                long outDegree = 0;
+                long writeIndex = targets == null ? 0 : offsets.get(nodeId);
+                long previous = -1;
+                for (int i = 0; i < neighbourCount; i++) {
+                    long neighbour = buffer[i];
+                    if (neighbour == previous || neighbour == nodeId) {
+                        continue;
+                    }
+                    previous = neighbour;
+                    int neighbourDegree = localGraph.degree(neighbour);
+                    if (neighbourDegree > maxDegree || !precedes(nodeId, degree, neighbour, neighbourDegree)) {
+                        continue;
+                    }
+                    if (targets != null) {
+                        targets.set(writeIndex++, neighbour);
+                    }
+                    outDegree++;
+                }
+
+                if (targets == null) {
+                    offsets.set(nodeId, outDegree);
+                }
+            });
+        }
+
+        private int loadNeighbours(long nodeId, int degree) {
+            if (buffer.length < degree) {
+                buffer = new long[degree];
+            }
+            if (bulkIntersect != null) {
+                return bulkIntersect.neighbours(nodeId, buffer);
+            }
+
+            var count = new int[]{0};
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                buffer[count[0]++] = target;
+                return true;
+            });
+            Arrays.sort(buffer, 0, count[0]);
+            return count[0];
+        }
+    }
+
+    private final class CountTask implements Runnable {
+
+        private final HugeLongArray offsets;
+        private final HugeLongArray targets;
+        private final HugeAtomicLongArray triangleCounts;
+        private final AtomicLong nextBatch;
+        private final LongAdder globalTriangles;
+        private final DoubleAdder squaredEdgeTriangles;
+        private final TerminationFlag terminationFlag;
+
+        private final LongHashSet hashedNeighbours;
+        private long[] neighbours;
+
+        CountTask(
+            HugeLongArray offsets,
+            HugeLongArray targets,
+            HugeAtomicLongArray triangleCounts,
+            AtomicLong nextBatch,
+            LongAdder globalTriangles,
+            DoubleAdder squaredEdgeTriangles,
+            TerminationFlag terminationFlag
+        ) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.triangleCounts = triangleCounts;
+            this.nextBatch = nextBatch;
+            this.globalTriangles = globalTriangles;
+            this.squaredEdgeTriangles = squaredEdgeTriangles;
+            this.terminationFlag = terminationFlag;
+            this.hashedNeighbours = new LongHashSet();
+            this.neighbours = new long[0];
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = graph.nodeCount();
+            long start;
+            while ((start = nextBatch.getAndAdd(BATCH_SIZE)) < nodeCount && terminationFlag.running()) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                long triangles = 0;
+                double squared = 0D;
+                for (long nodeId = start; nodeId < end; nodeId++) {
+                    long begin = offsets.get(nodeId);
+                    int outDegree = (int) (offsets.get(nodeId + 1) - begin);
+                    if (outDegree < 2) {
+                        continue;
+                    }
+
+                    if (neighbours.length < outDegree) {
+                        neighbours = new long[outDegree];
+                    }
+                    for (int i = 0; i < outDegree; i++) {
+                        neighbours[i] = targets.get(begin + i);
+                    }
+                    boolean hashed = outDegree >= HASH_THRESHOLD;
+                    if (hashed) {
+                        hashedNeighbours.clear();
+                        for (int i = 0; i < outDegree; i++) {
+                            hashedNeighbours.add(neighbours[i]);
+                        }
+                    }
+
+                    for (int i = 0; i < outDegree; i++) {
+                        long neighbour = neighbours[i];
+                        if (!isSampled(nodeId, neighbour)) {
+                            continue;
+                        }
+                        long edgeTriangles = hashed
+                            ? probe(nodeId, neighbour)
+                            : merge(nodeId, neighbour, outDegree);
+                        triangles += edgeTriangles;
+                        squared += (double) edgeTriangles * edgeTriangles;
+                    }
+                }
+                globalTriangles.add(triangles);
+                squaredEdgeTriangles.add(squared);
+                progressTracker.logProgress(end - start);
+            }
+        }
+
+        private long probe(long u, long v) {
+            long found = 0;
+            long end = offsets.get(v + 1);
+            for (long j = offsets.get(v); j < end; j++) {
+                long w = targets.get(j);
+                if (hashedNeighbours.contains(w)) {
+                    emit(u, v, w);
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        private long merge(long u, long v, int outDegreeU) {
+            long found = 0;
+            int i = 0;
+            long j = offsets.get(v);
+            long end = offsets.get(v + 1);
+            while (i < outDegreeU && j < end) {
+                long a = neighbours[i];
+                long b = targets.get(j);
+                if (a < b) {
+                    i++;
+                } else if (a > b) {
+                    j++;
+                } else {
+                    emit(u, v, a);
+                    found++;
+                    i++;
+                    j++;
+                }
+            }
+            return found;
+        }
+
+        private void emit(long u, long v, long w) {
+            triangleCounts.getAndAdd(u, 1);
+            triangleCounts.getAndAdd(v, 1);
+            triangleCounts.getAndAdd(w, 1);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Estimates the global clustering coefficient (transitivity) of an undirected graph by wedge sampling.
+ *
+ * A wedge is a path of length two centered at some node, a node of degree {@code d} centers
+ * {@code d * (d - 1) / 2} wedges. Wedges are sampled uniformly by picking the center with a
+ * probability proportional to its wedge count and then two distinct neighbours of it.
+ * The fraction of sampled wedges that are closed by a relationship estimates the coefficient;
+ * by Hoeffding's inequality the estimate is within {@code errorBound} of the exact value with
+ * probability {@code confidenceLevel}. The runtime only depends on the number of samples and
+ * the degrees of the sampled centers, not on the number of triangles.
+ *
+ * Samples are drawn in batches of {@link #SAMPLE_BATCH_SIZE} per thread and sorted by their center,
+ * so the neighbours of a center are decoded only once per batch and the memory does not grow with the number of samples.
+ * The graph is expected to have neither parallel relationships nor self-loops.
+ *
+ * https://doi.org/10.1137/1.9781611972832.2 (Seshadhri, Pinar and Kolda, wedge sampling)
+ */
+public final class GlobalClusteringCoefficient extends Algorithm<GlobalClusteringCoefficient, GlobalClusteringCoefficientResult> {
+
+    static final int SAMPLE_BATCH_SIZE = 1 << 16;
+
+    private final Graph graph;
+    private final long sampleCount;
+    private final double errorBound;
+    private final int concurrency;
+    private final long seed;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+
+    public static MemoryEstimation memoryEstimation(GlobalClusteringCoefficientBaseConfig config) {
+        return MemoryEstimations.builder(GlobalClusteringCoefficient.class)
+            .perNode("cumulative wedges", HugeLongArray::memoryEstimation)
+            .perThread("sampled centers", MemoryUsage.sizeOfLongArray(Math.min(config.sampleCount(), SAMPLE_BATCH_SIZE)))
+            .build();
+    }
+
+    public GlobalClusteringCoefficient(
+        Graph graph,
+        GlobalClusteringCoefficientBaseConfig config,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sampleCount = config.sampleCount();
+        this.errorBound = config.errorBound();
+        this.concurrency = config.concurrency();
+        this.seed = config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong());
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+    }
+
+    @Override
+    public GlobalClusteringCoefficientResult compute() {
+        progressTracker.beginSubTask();
+
+        var cumulativeWedges = HugeLongArray.newArray(graph.nodeCount(), allocationTracker);
+        long wedgeCount = computeCumulativeWedges(cumulativeWedges);
+
+        var closedWedges = new LongAdder();
+        if (wedgeCount > 0) {
+            var random = new SplittableRandom(seed);
+            var tasks = new ArrayList<SampleTask>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                long samples = sampleCount / concurrency + (i < sampleCount % concurrency ? 1 : 0);
+                tasks.add(new SampleTask(samples, cumulativeWedges, wedgeCount, random.split(), closedWedges));
+            }
+            ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        }
+
+        progressTracker.endSubTask();
+
+        long closed = closedWedges.sum();
+        double coefficient = wedgeCount > 0 ? (double) closed / sampleCount : 0D;
+        return ImmutableGlobalClusteringCoefficientResult.builder()
+            .globalClusteringCoefficient(coefficient)
+            .lowerBound(wedgeCount > 0 ? Math.max(0D, coefficient - errorBound) : 0D)
+            .upperBound(wedgeCount > 0 ? Math.min(1D, coefficient + errorBound) : 0D)
+            .estimatedTriangleCount(Math.round(coefficient * wedgeCount / 3))
+            .wedgeCount(wedgeCount)
+            .sampledWedges(wedgeCount > 0 ? sampleCount : 0)
+            .closedWedges(closed)
+            .build();
+    }
+
+    @Override
+    public GlobalClusteringCoefficient me() {
+        return this;
+    }
+
+    @Override
+    public void release() {}
+
+    /**
+     * Parallel prefix sum over the wedge counts: every partition first sums up its own nodes,
+     * then adds the wedges of all partitions before it.
+     *
+     * @return the total number of wedges
+     */
+    private long computeCumulativeWedges(HugeLongArray cumulativeWedges) {
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            Function.identity(),
+            Optional.empty()
+        );
+        var partitionWedges = new long[partitions.size()];
+
+        var localSumTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            int partitionIndex = i;
+            localSumTasks.add(() -> partitionWedges[partitionIndex] = localPrefixSum(
+                partitions.get(partitionIndex),
+                cumulativeWedges
+            ));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, localSumTasks, executorService);
+
+        var partitionOffsets = new long[partitions.size()];
+        long wedgeCount = 0;
+        for (int i = 0; i < partitions.size(); i++) {
+            partitionOffsets[i] = wedgeCount;
+            wedgeCount += partitionWedges[i];
+        }
+
+        var offsetTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 1; i < partitions.size(); i++) {
+            var partition = partitions.get(i);
+            long offset = partitionOffsets[i];
+            offsetTasks.add(() -> partition.consume(nodeId -> cumulativeWedges.addTo(nodeId, offset)));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, offsetTasks, executorService);
+
+        return wedgeCount;
+    }
+
+    private long localPrefixSum(Partition partition, HugeLongArray cumulativeWedges) {
+        long wedges = 0;
+        long end = partition.startNode() + partition.nodeCount();
+        for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+            long degree = graph.degree(nodeId);
+            wedges += degree * (degree - 1) / 2;
+            cumulativeWedges.set(nodeId, wedges);
+        }
+        return wedges;
+    }
+
+    /**
+     * Smallest node id whose cumulative wedge count is larger than {@code wedge}.
+     */
+    private static long center(HugeLongArray cumulativeWedges, long wedge) {
+        long low = 0;
+        long high = cumulativeWedges.size() - 1;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (cumulativeWedges.get(mid) > wedge) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private final class SampleTask implements Runnable {
+
+        private final long samples;
+        private final HugeLongArray cumulativeWedges;
+        private final long wedgeCount;
+        private final SplittableRandom random;
+        private final LongAdder closedWedges;
+        private final Graph localGraph;
+
+        private long[] neighbours;
+
+        SampleTask(
+            long samples,
+            HugeLongArray cumulativeWedges,
+            long wedgeCount,
+            SplittableRandom random,
+            LongAdder closedWedges
+        ) {
+            this.samples = samples;
+            this.cumulativeWedges = cumulativeWedges;
+            this.wedgeCount = wedgeCount;
+            this.random = random;
+            this.closedWedges = closedWedges;
+            this.localGraph = graph.concurrentCopy();
+            this.neighbours = new long[0];
+        }
+
+        @Override
+        public void run() {
+            var centers = new long[(int) Math.min(samples, SAMPLE_BATCH_SIZE)];
+
+            long closed = 0;
+            long remainingSamples = samples;
+            while (remainingSamples > 0 && running()) {
+                int batchSize = (int) Math.min(remainingSamples, centers.length);
+                for (int i = 0; i < batchSize; i++) {
+                    centers[i] = center(cumulativeWedges, random.nextLong(wedgeCount));
+                }
+                Arrays.sort(centers, 0, batchSize);
+
+                closed += sampleBatch(centers, batchSize);
+                remainingSamples -= batchSize;
+            }
+            closedWedges.add(closed);
+        }
+
+        private long sampleBatch(long[] centers, int batchSize) {
+            long closed = 0;
+            int start = 0;
+            while (start < batchSize && running()) {
+                long center = centers[start];
+                int end = start;
+                while (end < batchSize && centers[end] == center) {
+                    end++;
+                }
+
+                int degree = loadNeighbours(center);
+                for (int i = start; i < end; i++) {
+                    int first = random.nextInt(degree);
+                    int second = random.nextInt(degree - 1);
+                    if (second >= first) {
+                        second++;
+                    }
+                    if (isClosed(neighbours[first], neighbours[second])) {
+                        closed++;
+                    }
+                }
+
+                progressTracker.logProgress(end - start);
+                start = end;
+            }
+            return closed;
+        }
+
+        private int loadNeighbours(long nodeId) {
+            int degree = localGraph.degree(nodeId);
+            if (neighbours.length < degree) {
+                neighbours = new long[degree];
+            }
+            var count = new int[]{0};
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                neighbours[count[0]++] = target;
+                return true;
+            });
+            return count[0];
+        }
+
+        private boolean isClosed(long a, long b) {
+            // search the shorter adjacency list
+            return localGraph.degree(a) <= localGraph.degree(b)
+                ? localGraph.exists(a, b)
+                : localGraph.exists(b, a);
+        }
+    }
+}
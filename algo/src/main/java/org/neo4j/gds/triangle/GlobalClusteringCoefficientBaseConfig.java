@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+
+public interface GlobalClusteringCoefficientBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
+
+    /**
+     * Maximum absolute difference between the estimated and the exact coefficient.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double errorBound() {
+        return 0.001;
+    }
+
+    /**
+     * Probability with which the exact coefficient lies within {@link #errorBound()} of the estimate.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double confidenceLevel() {
+        return 0.95;
+    }
+
+    /**
+     * Number of wedges to sample, following Hoeffding's inequality:
+     * {@code ln(2 / (1 - confidenceLevel)) / (2 * errorBound^2)}.
+     */
+    @Configuration.Ignore
+    default long sampleCount() {
+        return (long) Math.ceil(Math.log(2 / (1 - confidenceLevel())) / (2 * errorBound() * errorBound()));
+    }
+}
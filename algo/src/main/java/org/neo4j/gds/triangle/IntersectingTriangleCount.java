@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
@@ -51,6 +52,8 @@ import java.util.concurrent.atomic.LongAdder;
  * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
  * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
  * http://www.math.cmu.edu/~ctsourak/tsourICDM08.pdf
+ *
+ * If {@code degreeOrdering} is enabled, the counting is delegated to {@link ForwardTriangleCount}.
  */
 @SuppressWarnings("FieldCanBeLocal")
 public final class IntersectingTriangleCount extends Algorithm<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult> {
@@ -62,6 +65,7 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
     private final RelationshipIntersectConfig intersectConfig;
     private final TriangleCountBaseConfig config;
     private ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
     private final AtomicLong queue;
 
     // results
@@ -108,6 +112,7 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
         this.intersectConfig = ImmutableRelationshipIntersectConfig.of(config.maxDegree());
         this.config = config;
         this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
         this.triangleCounts = HugeAtomicLongArray.newArray(graph.nodeCount(), allocationTracker);
         this.globalTriangleCounter = new LongAdder();
         this.queue = new AtomicLong();
@@ -127,6 +132,22 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
 
     @Override
     public TriangleCountResult compute() {
+        if (config.degreeOrdering()) {
+            progressTracker.beginSubTask();
+            var result = new ForwardTriangleCount(
+                graph,
+                intersectFactory,
+                intersectConfig,
+                config,
+                executorService,
+                allocationTracker,
+                progressTracker
+            ).compute(terminationFlag);
+            globalTriangleCount = result.globalTriangles();
+            progressTracker.endSubTask();
+            return result;
+        }
+
         progressTracker.beginSubTask();
         queue.set(0);
         globalTriangleCounter.reset();
@@ -187,6 +208,14 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
 
         long globalTriangles();
 
+        /**
+         * Standard error of {@link #globalTriangles()}, which is only an estimate if triangles are sampled.
+         */
+        @Value.Default
+        default double globalTrianglesStandardError() {
+            return 0D;
+        }
+
         static TriangleCountResult of(
             HugeAtomicLongArray triangles,
             long globalTriangles
@@ -26,7 +26,9 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -55,10 +57,21 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(IntersectingTriangleCount.class)
-            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
-            .build();
+            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation);
+
+        if (configuration.degreeOrdering()) {
+            builder
+                .perNode("oriented-offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+                .rangePerGraphDimension("oriented-targets", (dimensions, concurrency) -> MemoryRange.of(
+                    // undirected graphs store every relationship in both directions
+                    HugeLongArray.memoryEstimation(dimensions.maxRelCount() / 2),
+                    HugeLongArray.memoryEstimation(dimensions.maxRelCount())
+                ));
+        }
+
+        return builder.build();
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 import java.util.Optional;
@@ -30,13 +31,32 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface TriangleCountBaseConfig extends AlgoBaseConfig {
+public interface TriangleCountBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
 
     @Value.Default
     default long maxDegree() {
         return Long.MAX_VALUE;
     }
 
+    /**
+     * Orient every relationship from the lower to the higher degree node
+     * and count each triangle exactly once on the oriented graph.
+     */
+    @Value.Default
+    default boolean degreeOrdering() {
+        return false;
+    }
+
+    /**
+     * Fraction of oriented relationships that are used to discover triangles.
+     * Values below 1 turn the counts into unbiased estimates.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+    default double samplingRatio() {
+        return 1.0;
+    }
+
     @Value.Check
     default void validateMaxDegree() {
         if (maxDegree() < 2) {
@@ -44,6 +64,13 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
         }
     }
 
+    @Value.Check
+    default void validateSamplingRatio() {
+        if (samplingRatio() < 1 && !degreeOrdering()) {
+            throw new IllegalArgumentException("The 'samplingRatio' parameter requires 'degreeOrdering' to be enabled.");
+        }
+    }
+
     static TriangleCountBaseConfig of(
         Optional<String> graphName,
         CypherMapWrapper userInput
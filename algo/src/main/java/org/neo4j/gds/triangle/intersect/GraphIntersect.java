@@ -151,6 +151,18 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         cacheB = neighboursB;
     }
 
+    /**
+     * Decodes all neighbours of {@code node} into {@code buffer} at once,
+     * which is considerably cheaper than decoding them one by one.
+     * The buffer must be able to hold all relationships of the node.
+     * Returns the number of neighbours that have been written.
+     */
+    public int neighbours(long node, long[] buffer) {
+        CURSOR cursor = cursorForNode(cache, node, degree(node));
+        cache = cursor;
+        return cursor.nextVLongs(buffer);
+    }
+
     private long checkForAndEmitTriangle(
         IntersectionConsumer consumer,
         long nodeA,
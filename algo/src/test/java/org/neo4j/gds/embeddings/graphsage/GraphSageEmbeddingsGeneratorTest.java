@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -88,6 +89,44 @@ class GraphSageEmbeddingsGeneratorTest {
         LongStream.range(0, graph.nodeCount()).forEach(n -> assertEquals(EMBEDDING_DIMENSION, embeddings.get(n).length));
     }
 
+    @ParameterizedTest
+    @EnumSource(Aggregator.AggregatorType.class)
+    void makesLayerwiseEmbeddings(Aggregator.AggregatorType aggregatorType) {
+        var config = ImmutableGraphSageTrainConfig.builder()
+            .aggregator(aggregatorType)
+            .embeddingDimension(EMBEDDING_DIMENSION)
+            .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
+            .sampleSizes(List.of(3, 2, 2))
+            .batchSize(3)
+            .modelName(MODEL_NAME)
+            .build();
+
+        var features = GraphSageHelper.initializeSingleLabelFeatures(graph, config, AllocationTracker.empty());
+
+        var result = new GraphSageModelTrainer(config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).train(graph, features);
+
+        var embeddingsGenerator = new GraphSageEmbeddingsGenerator(
+            result.layers(),
+            config.batchSize(),
+            config.concurrency(),
+            config.isWeighted(),
+            new SingleLabelFeatureFunction(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+
+        var embeddings = embeddingsGenerator.makeEmbeddings(graph, features);
+        var layerwiseEmbeddings = embeddingsGenerator.makeLayerwiseEmbeddings(graph, features, false);
+        var floatLayerwiseEmbeddings = embeddingsGenerator.makeLayerwiseEmbeddings(graph, features, true);
+
+        assertEquals(graph.nodeCount(), layerwiseEmbeddings.size());
+        LongStream.range(0, graph.nodeCount()).forEach(n -> {
+            assertArrayEquals(embeddings.get(n), layerwiseEmbeddings.get(n));
+            assertArrayEquals(embeddings.get(n), floatLayerwiseEmbeddings.get(n), 1e-5);
+        });
+    }
+
     @ParameterizedTest
     @EnumSource(Aggregator.AggregatorType.class)
     void makesEmbeddingsFromMultiLabelModel(Aggregator.AggregatorType aggregatorType) {
@@ -123,6 +162,7 @@ class GraphSageEmbeddingsGeneratorTest {
         var embeddings = embeddingsGenerator.makeEmbeddings(
             graph,
             GraphSageHelper.initializeMultiLabelFeatures(graph,
+                config,
                 GraphSageHelper.multiLabelFeatureExtractors(graph, config),
                 AllocationTracker.empty()
             )
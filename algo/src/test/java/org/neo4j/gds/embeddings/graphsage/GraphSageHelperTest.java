@@ -63,6 +63,7 @@ class GraphSageHelperTest {
         var multiLabelFeatureExtractors = GraphSageHelper.multiLabelFeatureExtractors(graph, config);
         var actual = config.isMultiLabel() ? GraphSageHelper.initializeMultiLabelFeatures(
             graph,
+            config,
             multiLabelFeatureExtractors, AllocationTracker.empty()
         ) : GraphSageHelper.initializeSingleLabelFeatures(graph, config, AllocationTracker.empty());
 
@@ -82,6 +83,7 @@ class GraphSageHelperTest {
             .build();
         var exception = assertThrows(IllegalArgumentException.class, () ->
             GraphSageHelper.initializeMultiLabelFeatures(graph,
+                config,
                 GraphSageHelper.multiLabelFeatureExtractors(graph, config),
                 AllocationTracker.empty()
             )
@@ -186,6 +188,25 @@ class GraphSageHelperTest {
             assertThat(features.get(validIdFunction.of("a"))).contains(new double[] {1.4, -1.1, 2.5}, Offset.offset(1e-6));
             assertThat(features.get(validIdFunction.of("b"))).contains(new double[] {1.8, 1.0, 2.0}, Offset.offset(1e-6));
         }
+
+        @Test
+        void shouldConcatenateFeaturesAsFloats() {
+            GraphSageTrainConfig graphSageTrainConfig = ImmutableGraphSageTrainConfig.builder()
+                .modelName("foo")
+                .featureProperties(List.of("prop", "arrayProp"))
+                .useFloatFeatures(true)
+                .build();
+
+            var features = GraphSageHelper.initializeSingleLabelFeatures(
+                validGraph,
+                graphSageTrainConfig,
+                AllocationTracker.empty()
+            );
+
+            assertThat(features.dimension(validIdFunction.of("a"))).isEqualTo(3);
+            assertThat(features.get(validIdFunction.of("a"))).containsExactly(1.4F, -1.1F, 2.5F);
+            assertThat(features.get(validIdFunction.of("b"))).containsExactly(1.8F, 1.0F, 2.0F);
+        }
     }
 
     @Nested
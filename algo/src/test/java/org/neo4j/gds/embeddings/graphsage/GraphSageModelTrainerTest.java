@@ -43,6 +43,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.ml.core.AbstractVariable;
 import org.neo4j.gds.ml.core.Dimensions;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.helper.TensorTestUtils;
 
 import java.util.Collections;
@@ -82,17 +83,18 @@ class GraphSageModelTrainerTest {
     private Graph graph;
     @Inject
     private Graph arrayGraph;
-    private HugeObjectArray<double[]> features;
+    private NodeFeatures features;
     private ImmutableGraphSageTrainConfig.Builder configBuilder;
 
 
     @BeforeEach
     void setUp() {
         long nodeCount = graph.nodeCount();
-        features = HugeObjectArray.newArray(double[].class, nodeCount, AllocationTracker.empty());
+        var featureArray = HugeObjectArray.newArray(double[].class, nodeCount, AllocationTracker.empty());
 
         Random random = new Random(19L);
-        LongStream.range(0, nodeCount).forEach(n -> features.set(n, random.doubles(FEATURES_COUNT).toArray()));
+        LongStream.range(0, nodeCount).forEach(n -> featureArray.set(n, random.doubles(FEATURES_COUNT).toArray()));
+        features = NodeFeatures.of(featureArray);
         configBuilder = ImmutableGraphSageTrainConfig.builder()
             .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
             .embeddingDimension(EMBEDDING_DIMENSION);
@@ -247,7 +249,7 @@ class GraphSageModelTrainerTest {
 
         var trainer = new GraphSageModelTrainer(config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
 
-        var result = trainer.train(arrayGraph, arrayFeatures);
+        var result = trainer.train(arrayGraph, NodeFeatures.of(arrayFeatures));
 
         assertThat(result.layers())
             .allSatisfy(layer -> assertThat(layer.weights())
@@ -403,6 +405,33 @@ class GraphSageModelTrainerTest {
         assertThat(result).usingRecursiveComparison().withComparatorForType(new DoubleComparator(1e-10), Double.class).isEqualTo(otherResult);
     }
 
+    @Test
+    void concurrencyDoesNotChangeTrainedModel() {
+        configBuilder
+            .modelName("concurrent")
+            .embeddingDimension(12)
+            .randomSeed(42L)
+            .batchSize(5)
+            .epochs(2);
+
+        var trainer = new GraphSageModelTrainer(
+            configBuilder.concurrency(1).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+        var concurrentTrainer = new GraphSageModelTrainer(
+            configBuilder.concurrency(4).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = trainer.train(graph, features);
+        var concurrentResult = concurrentTrainer.train(graph, features);
+
+        // four batches on one worker or on four workers are both summed up in batch order
+        assertThat(concurrentResult).usingRecursiveComparison().isEqualTo(result);
+    }
+
     @Test
     void seededNeighborBatch() {
         var batchSize = 5;
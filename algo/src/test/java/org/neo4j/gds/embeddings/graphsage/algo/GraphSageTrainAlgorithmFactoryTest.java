@@ -345,9 +345,15 @@ class GraphSageTrainAlgorithmFactoryTest {
                 .add(backwardsLossFunctionMemory)
                 .add(MemoryRange.of(updateAdamMemory));
 
+        // per worker, the gradient sums of the current iteration and of the converged batches
+        // plus the mean gradients, each shaped like the weights
+        var gradientsMemory = MemoryRange.of(layersMemory).add(weightsPerLabel);
+
         var trainOnEpoch = trainOnBatchMemory
+            .add(gradientsMemory.times(2))
             .times(concurrency)
-            .add(MemoryRange.of(initialAdamMemory));
+            .add(MemoryRange.of(initialAdamMemory))
+            .add(gradientsMemory);
 
         var trainMemory =
             trainOnEpoch
@@ -431,7 +437,9 @@ class GraphSageTrainAlgorithmFactoryTest {
             .add(pair(7, "MEAN 1"))
             .add(pair(7, "MEAN 2"))
             .add(pair(7, "normalizeRows"))
-            .add(pair(5, "updateAdamOptimizer"));
+            .add(pair(5, "updateAdamOptimizer"))
+            .add(pair(4, "gradientSums"))
+            .add(pair(3, "meanGradients"));
 
         assertThat(flatten(actualEstimation)).containsExactlyElementsOf(expectedTreeStructure.build().collect(toList()));
     }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class BatchPersonalizedPageRankTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(a)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:REL]->(b)" +
+        ", (e)-[:REL]->(d)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldApproximatePersonalizedPageRankPerSourceNodeSet() {
+        var sourceNodeSets = List.of(
+            List.of(graph.toOriginalNodeId("a")),
+            List.of(graph.toOriginalNodeId("e")),
+            List.of(graph.toOriginalNodeId("b"), graph.toOriginalNodeId("d"))
+        );
+
+        var config = ImmutableBatchPersonalizedPageRankStreamConfig.builder()
+            .sourceNodeSets(sourceNodeSets)
+            .tolerance(1E-10)
+            .topK(5)
+            .build();
+
+        var result = run(graph, config);
+
+        assertThat(result.topScores()).hasSize(3);
+        for (int i = 0; i < sourceNodeSets.size(); i++) {
+            assertMatchesPregel(graph, sourceNodeSets.get(i), result.topScores().get(i).elements().toArray(),
+                result.topScores().get(i).priorities().toArray(), 1E-6
+            );
+        }
+    }
+
+    @Test
+    void shouldOnlyReturnReachableNodes() {
+        var config = ImmutableBatchPersonalizedPageRankStreamConfig.builder()
+            .sourceNodeSets(List.of(List.of(graph.toOriginalNodeId("b"))))
+            .build();
+
+        var topScores = run(graph, config).topScores().get(0);
+
+        assertThat(topScores.contains(idFunction.of("e"))).isFalse();
+        assertThat(topScores.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldLimitToTopK() {
+        var config = ImmutableBatchPersonalizedPageRankStreamConfig.builder()
+            .sourceNodeSets(List.of(List.of(graph.toOriginalNodeId("a"))))
+            .topK(2)
+            .build();
+
+        var topScores = run(graph, config).topScores().get(0);
+
+        assertThat(topScores.size()).isEqualTo(2);
+        var priorities = topScores.priorities().toArray();
+        assertThat(priorities[0]).isGreaterThanOrEqualTo(priorities[1]);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchPregelOnRandomGraph(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sourceNodeSets = List.of(
+            List.of(0L),
+            List.of(1L, 2L),
+            List.of(42L),
+            List.of(100L, 200L, 300L)
+        );
+
+        var config = ImmutableBatchPersonalizedPageRankStreamConfig.builder()
+            .sourceNodeSets(sourceNodeSets)
+            .tolerance(1E-9)
+            .topK(20)
+            .concurrency(concurrency)
+            .build();
+
+        var result = run(randomGraph, config);
+
+        assertThat(result.pushes()).isPositive();
+        for (int i = 0; i < sourceNodeSets.size(); i++) {
+            assertMatchesPregel(
+                randomGraph,
+                sourceNodeSets.get(i),
+                result.topScores().get(i).elements().toArray(),
+                result.topScores().get(i).priorities().toArray(),
+                1E-4
+            );
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyScoresWhenTerminated() {
+        var config = ImmutableBatchPersonalizedPageRankStreamConfig.builder()
+            .sourceNodeSets(List.of(
+                List.of(graph.toOriginalNodeId("a")),
+                List.of(graph.toOriginalNodeId("b"))
+            ))
+            .build();
+
+        var algorithm = new BatchPersonalizedPageRankAlgorithmFactory<>()
+            .build(graph, config, AllocationTracker.empty(), ProgressTracker.NULL_TRACKER);
+        algorithm.withTerminationFlag(() -> false);
+
+        var topScores = algorithm.compute().topScores();
+
+        assertThat(topScores).hasSize(2).allSatisfy(scores -> assertThat(scores.size()).isZero());
+    }
+
+    @Test
+    void shouldRejectEmptySourceNodeSets() {
+        assertThatThrownBy(() -> ImmutableBatchPersonalizedPageRankStreamConfig.builder()
+            .sourceNodeSets(List.of(List.of(0L), List.of()))
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("index 1");
+    }
+
+    private static BatchPersonalizedPageRankResult run(Graph graph, BatchPersonalizedPageRankStreamConfig config) {
+        return new BatchPersonalizedPageRankAlgorithmFactory<>()
+            .build(graph, config, AllocationTracker.empty(), ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    private static void assertMatchesPregel(
+        Graph graph,
+        List<Long> sourceNodes,
+        long[] nodeIds,
+        double[] scores,
+        double precision
+    ) {
+        var pageRankConfig = ImmutablePageRankConfig.builder()
+            .sourceNodes(sourceNodes)
+            .tolerance(1E-12)
+            .maxIterations(1_000)
+            .build();
+        var expected = new PageRankAlgorithmFactory<>()
+            .build(graph, pageRankConfig, AllocationTracker.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .scores();
+
+        for (int i = 0; i < nodeIds.length; i++) {
+            assertThat(scores[i]).isCloseTo(expected.get(nodeIds[i]), within(precision));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.DoubleNodeProperties;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class IncrementalPageRankTest {
+
+    private static final double SCORE_PRECISION = 1E-6;
+
+    private static final String NODES =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)";
+
+    private static final String OLD_GRAPH = NODES +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(a)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:REL]->(b)" +
+        ", (e)-[:REL]->(d)";
+
+    // removes (c)->(d), adds (e)->(a) and (d)->(c)
+    private static final String NEW_GRAPH = NODES +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(a)" +
+        ", (d)-[:REL]->(b)" +
+        ", (d)-[:REL]->(c)" +
+        ", (e)-[:REL]->(d)" +
+        ", (e)-[:REL]->(a)";
+
+    @Test
+    void shouldMatchFullRecomputation() {
+        var oldGraph = fromGdl(OLD_GRAPH);
+        var newGraph = fromGdl(NEW_GRAPH);
+
+        var config = ImmutablePageRankConfig.builder()
+            .tolerance(1E-10)
+            .maxIterations(100)
+            .previousScoreProperty("score")
+            .addedRelationships(List.of(
+                relationship(newGraph, "e", "a"),
+                relationship(newGraph, "d", "c")
+            ))
+            .removedRelationships(List.of(relationship(newGraph, "c", "d")))
+            .build();
+
+        var previousScores = fullRun(oldGraph, config).scores();
+        var expected = fullRun(newGraph, config).scores();
+        var actual = incrementalRun(newGraph, config, previousScores);
+
+        assertThat(actual.didConverge()).isTrue();
+        for (long nodeId = 0; nodeId < newGraph.nodeCount(); nodeId++) {
+            assertThat(actual.scores().get(nodeId)).isCloseTo(expected.get(nodeId), within(SCORE_PRECISION));
+        }
+    }
+
+    @Test
+    void shouldMatchFullRecomputationOnUndirectedGraph() {
+        var oldGraph = fromGdl(OLD_GRAPH, Orientation.UNDIRECTED);
+        var newGraph = fromGdl(NEW_GRAPH, Orientation.UNDIRECTED);
+
+        var config = ImmutablePageRankConfig.builder()
+            .tolerance(1E-10)
+            .maxIterations(100)
+            .previousScoreProperty("score")
+            .addedRelationships(List.of(
+                relationship(newGraph, "e", "a"),
+                relationship(newGraph, "d", "c")
+            ))
+            .removedRelationships(List.of(relationship(newGraph, "c", "d")))
+            .build();
+
+        var previousScores = fullRun(oldGraph, config).scores();
+        var expected = fullRun(newGraph, config).scores();
+        var actual = incrementalRun(newGraph, config, previousScores);
+
+        for (long nodeId = 0; nodeId < newGraph.nodeCount(); nodeId++) {
+            assertThat(actual.scores().get(nodeId)).isCloseTo(expected.get(nodeId), within(SCORE_PRECISION));
+        }
+    }
+
+    @Test
+    void shouldScoreNewNodes() {
+        var oldGraph = fromGdl(OLD_GRAPH);
+        var newGraph = fromGdl(NEW_GRAPH + ", (f:Node)-[:REL]->(a)");
+
+        var config = ImmutablePageRankConfig.builder()
+            .tolerance(1E-10)
+            .maxIterations(100)
+            .previousScoreProperty("score")
+            .addedRelationships(List.of(
+                relationship(newGraph, "e", "a"),
+                relationship(newGraph, "d", "c"),
+                relationship(newGraph, "f", "a")
+            ))
+            .removedRelationships(List.of(relationship(newGraph, "c", "d")))
+            .build();
+
+        var previousScores = fullRun(oldGraph, config).scores();
+        var expected = fullRun(newGraph, config).scores();
+        var actual = incrementalRun(newGraph, config, previousScores);
+
+        for (long nodeId = 0; nodeId < newGraph.nodeCount(); nodeId++) {
+            assertThat(actual.scores().get(nodeId)).isCloseTo(expected.get(nodeId), within(SCORE_PRECISION));
+        }
+    }
+
+    @Test
+    void shouldKeepScoresWithoutChanges() {
+        var graph = fromGdl(OLD_GRAPH);
+
+        var config = ImmutablePageRankConfig.builder()
+            .tolerance(1E-10)
+            .maxIterations(100)
+            .previousScoreProperty("score")
+            .build();
+
+        var previousScores = fullRun(graph, config).scores();
+        var actual = incrementalRun(graph, config, previousScores);
+
+        assertThat(actual.iterations()).isEqualTo(0);
+        assertThat(actual.didConverge()).isTrue();
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.scores().get(nodeId)).isEqualTo(previousScores.get(nodeId));
+        }
+    }
+
+    @Test
+    void shouldRequirePreviousScoresForRelationshipChanges() {
+        assertThatThrownBy(() -> ImmutablePageRankConfig.builder()
+            .addedRelationships(List.of(List.of(0L, 1L)))
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("previousScoreProperty");
+    }
+
+    @Test
+    void shouldRejectWeightsInIncrementalMode() {
+        assertThatThrownBy(() -> ImmutablePageRankConfig.builder()
+            .previousScoreProperty("score")
+            .relationshipWeightProperty("weight")
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("relationshipWeightProperty");
+    }
+
+    @Test
+    void shouldFailOnUnknownNodes() {
+        var graph = fromGdl(OLD_GRAPH);
+
+        var config = ImmutablePageRankConfig.builder()
+            .previousScoreProperty("score")
+            .addedRelationships(List.of(List.of(graph.toOriginalNodeId("a"), 42L)))
+            .build();
+
+        var previousScores = fullRun(graph, config).scores();
+
+        assertThatThrownBy(() -> incrementalRun(graph, config, previousScores))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Node with id `42` of a changed relationship does not exist in the graph.");
+    }
+
+    private static List<Long> relationship(TestGraph graph, String source, String target) {
+        return List.of(graph.toOriginalNodeId(source), graph.toOriginalNodeId(target));
+    }
+
+    private static PageRankResult fullRun(Graph graph, PageRankConfig config) {
+        var fullConfig = ImmutablePageRankConfig.builder()
+            .from(config)
+            .previousScoreProperty(null)
+            .addedRelationships(List.of())
+            .removedRelationships(List.of())
+            .build();
+
+        return new PageRankAlgorithmFactory<>()
+            .build(graph, fullConfig, AllocationTracker.empty(), ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    private static PageRankResult incrementalRun(Graph graph, PageRankConfig config, HugeDoubleArray previousScores) {
+        var previousSize = previousScores.size();
+        var previousScoreProperties = new DoubleNodeProperties() {
+            @Override
+            public double doubleValue(long nodeId) {
+                return nodeId < previousSize ? previousScores.get(nodeId) : Double.NaN;
+            }
+
+            @Override
+            public long size() {
+                return previousSize;
+            }
+        };
+
+        return new IncrementalPageRank(
+            graph,
+            config,
+            new LongHashSet(),
+            previousScoreProperties,
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressTracker.NULL_TRACKER
+        ).compute(TerminationFlag.RUNNING_TRUE);
+    }
+}
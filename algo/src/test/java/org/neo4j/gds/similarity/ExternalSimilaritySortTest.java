@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExternalSimilaritySortTest {
+
+    @ParameterizedTest
+    @EnumSource(ExternalSimilaritySort.Order.class)
+    void shouldMergeSpilledRuns(ExternalSimilaritySort.Order order, @TempDir Path directory) throws IOException {
+        int runSize = 100;
+        // enough runs to require an intermediate merge pass
+        int resultCount = runSize * (ExternalSimilaritySort.MAX_FAN_IN + 10) + 42;
+
+        var runs = Files.createDirectory(directory.resolve("runs"));
+        var sort = new ExternalSimilaritySort(order, runSize, Long.MAX_VALUE, runs);
+        var expected = new ArrayList<SimilarityResult>();
+        var random = new Random(42);
+        for (int i = 0; i < resultCount; i++) {
+            var result = new SimilarityResult(random.nextInt(100), random.nextInt(100), random.nextInt(10) / 10.0);
+            expected.add(result);
+            sort.add(result.node1, result.node2, result.similarity);
+        }
+        expected.sort(comparator(order));
+
+        assertThat(sort.runCount()).isGreaterThan(ExternalSimilaritySort.MAX_FAN_IN);
+
+        List<SimilarityResult> actual;
+        try (var stream = sort.stream()) {
+            actual = stream.collect(Collectors.toList());
+        }
+        assertThat(actual).isEqualTo(expected);
+        assertThat(runs).doesNotExist();
+    }
+
+    @Test
+    void shouldSortSingleRunInMemory(@TempDir Path directory) throws IOException {
+        var runs = Files.createDirectory(directory.resolve("runs"));
+        var sort = new ExternalSimilaritySort(ExternalSimilaritySort.Order.SOURCE, 10, Long.MAX_VALUE, runs);
+        sort.add(2, 0, 0.5);
+        sort.add(0, 2, 0.5);
+        sort.add(0, 1, 0.25);
+
+        assertThat(sort.runCount()).isZero();
+        try (var stream = sort.stream()) {
+            assertThat(stream.collect(Collectors.toList())).containsExactly(
+                new SimilarityResult(0, 1, 0.25),
+                new SimilarityResult(0, 2, 0.5),
+                new SimilarityResult(2, 0, 0.5)
+            );
+        }
+        assertThat(runs).doesNotExist();
+    }
+
+    @Test
+    void shouldLimitMergedResults(@TempDir Path directory) throws IOException {
+        var runs = Files.createDirectory(directory.resolve("runs"));
+        var sort = new ExternalSimilaritySort(ExternalSimilaritySort.Order.DESCENDING, 2, 2, runs);
+        var neighbors = BoundedLongPriorityQueue.max(3);
+        neighbors.offer(1, 0.1);
+        neighbors.offer(2, 0.9);
+        neighbors.offer(3, 0.5);
+        sort.add(0, neighbors);
+        sort.add(4, 5, 0.7);
+
+        try (var stream = sort.stream()) {
+            assertThat(stream.collect(Collectors.toList())).containsExactly(
+                new SimilarityResult(0, 2, 0.9),
+                new SimilarityResult(4, 5, 0.7)
+            );
+        }
+        assertThat(runs).doesNotExist();
+    }
+
+    @Test
+    void shouldSpillFromConcurrentThreads(@TempDir Path directory) throws Exception {
+        int runSize = 100;
+        int threadCount = 4;
+        int resultsPerThread = 10 * runSize + 7;
+
+        var runs = Files.createDirectory(directory.resolve("runs"));
+        var sort = new ExternalSimilaritySort(ExternalSimilaritySort.Order.SOURCE, runSize, Long.MAX_VALUE, runs);
+        var threads = new ArrayList<Thread>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            long source = thread;
+            threads.add(new Thread(() -> {
+                for (int target = 0; target < resultsPerThread; target++) {
+                    sort.add(source, target, 0.5);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        try (var stream = sort.stream()) {
+            assertThat(stream.collect(Collectors.toList()))
+                .hasSize(threadCount * resultsPerThread)
+                .isSortedAccordingTo(comparator(ExternalSimilaritySort.Order.SOURCE));
+        }
+        assertThat(runs).doesNotExist();
+    }
+
+    @Test
+    void shouldDeleteRunsOnCloseWithoutStreaming(@TempDir Path directory) throws IOException {
+        var runs = Files.createDirectory(directory.resolve("runs"));
+        var sort = new ExternalSimilaritySort(ExternalSimilaritySort.Order.SOURCE, 2, Long.MAX_VALUE, runs);
+        for (int i = 0; i < 5; i++) {
+            sort.add(i, i + 1, 0.5);
+        }
+        assertThat(sort.runCount()).isEqualTo(2);
+
+        sort.close();
+
+        assertThat(runs).doesNotExist();
+    }
+
+    @Test
+    void shouldBoundSpilledResultsByLimit(@TempDir Path directory) throws IOException {
+        int runSize = 100;
+        int limit = 10;
+        // source, target and score of a result
+        long resultBytes = 2 * Long.BYTES + Double.BYTES;
+
+        var runs = Files.createDirectory(directory.resolve("runs"));
+        var sort = new ExternalSimilaritySort(ExternalSimilaritySort.Order.DESCENDING, runSize, limit, runs);
+        var expected = new ArrayList<SimilarityResult>();
+        var random = new Random(42);
+        for (int i = 0; i < 20 * runSize; i++) {
+            var result = new SimilarityResult(i, i + 1, random.nextDouble());
+            expected.add(result);
+            sort.add(result.node1, result.node2, result.similarity);
+
+            if (i % runSize == runSize - 1) {
+                long spilledBytes = directorySize(runs);
+                assertThat(spilledBytes)
+                    .isLessThanOrEqualTo(sort.runCount() * limit * resultBytes)
+                    // runs are compacted into a single run once they hold more than twice the limit
+                    .isLessThanOrEqualTo(2 * limit * resultBytes);
+            }
+        }
+        expected.sort(comparator(ExternalSimilaritySort.Order.DESCENDING));
+
+        try (var stream = sort.stream()) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(expected.subList(0, limit));
+        }
+        assertThat(runs).doesNotExist();
+    }
+
+    private static long directorySize(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            long size = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                size += Files.size(file);
+            }
+            return size;
+        }
+    }
+
+    private static Comparator<SimilarityResult> comparator(ExternalSimilaritySort.Order order) {
+        Comparator<SimilarityResult> bySource = Comparator
+            .<SimilarityResult>comparingLong(result -> result.node1)
+            .thenComparingLong(result -> result.node2)
+            .thenComparingDouble(result -> result.similarity);
+        Comparator<SimilarityResult> byScore = Comparator.comparingDouble(result -> result.similarity);
+        switch (order) {
+            case SOURCE:
+                return bySource;
+            case DESCENDING:
+                return byScore.reversed().thenComparing(bySource);
+            case ASCENDING:
+                return byScore.thenComparing(bySource);
+            default:
+                throw new IllegalArgumentException(order.name());
+        }
+    }
+}
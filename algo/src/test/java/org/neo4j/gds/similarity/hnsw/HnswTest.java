@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class HnswTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a {vec: [1.0, 0.0]})" +
+        ", (b {vec: [0.9, 0.1]})" +
+        ", (c {vec: [0.0, 1.0]})" +
+        ", (d {vec: [-1.0, 0.0]})" +
+        ", (e {other: 1.0})";
+
+    @GdlGraph(graphNamePrefix = "mismatch")
+    private static final String MISMATCH_CYPHER =
+        "CREATE" +
+        "  (a {vec: [1.0, 0.0]})" +
+        ", (b {vec: [1.0]})";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private Graph mismatchGraph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldQuerySmallIndex() {
+        var index = build(graph, 1);
+
+        assertThat(index.dimension()).isEqualTo(2);
+        assertThat(index.indexedNodeCount()).isEqualTo(4);
+
+        var result = index.queryNode(idFunction.of("a"), 3, 10);
+        assertThat(result)
+            .extracting(r -> r.node2)
+            .containsExactlyInAnyOrder(idFunction.of("b"), idFunction.of("c"), idFunction.of("d"));
+        assertThat(result.get(0).node2).isEqualTo(idFunction.of("b"));
+        assertThat(result.get(0).similarity).isCloseTo(0.9 / Math.sqrt(0.82), within(1e-5));
+        assertThat(result.get(2).similarity).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldQueryByVector() {
+        var index = build(graph, 1);
+
+        var result = index.queryVector(new double[]{0.0, 5.0}, 1, 10);
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).node1).isEqualTo(-1L);
+        assertThat(result.get(0).node2).isEqualTo(idFunction.of("c"));
+    }
+
+    @Test
+    void shouldFailOnQueryDimensionMismatch() {
+        var index = build(graph, 1);
+
+        assertThatThrownBy(() -> index.queryVector(new double[]{1.0, 2.0, 3.0}, 1, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The query vector has 3 dimensions, but the index over node property `vec` has 2.");
+    }
+
+    @Test
+    void shouldFailOnUnindexedQueryNode() {
+        var index = build(graph, 1);
+
+        assertThatThrownBy(() -> index.queryNode(idFunction.of("e"), 1, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is not part of the index over node property `vec`");
+    }
+
+    @Test
+    void shouldFailOnVectorDimensionMismatch() {
+        assertThatThrownBy(() -> build(mismatchGraph, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("All vectors of property `vec` must have the same dimension, found 2 and 1.");
+    }
+
+    @ParameterizedTest(name = "concurrency: {0}")
+    @ValueSource(ints = {1, 4})
+    void shouldHaveHighRecall(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding("vec", 16, -1.0f, 1.0f))
+            .seed(42L)
+            .build()
+            .generate();
+        var index = build(randomGraph, concurrency);
+        var vectors = randomGraph.nodeProperties("vec");
+
+        int k = 10;
+        long hits = 0;
+        long queries = 0;
+        for (long node = 0; node < randomGraph.nodeCount(); node += 10) {
+            var queryVector = vectors.floatArrayValue(node);
+            long queryNode = node;
+            var expected = LongStream
+                .range(0, randomGraph.nodeCount())
+                .filter(other -> other != queryNode)
+                .boxed()
+                .sorted(Comparator.comparingDouble(other -> -cosine(queryVector, vectors.floatArrayValue(other))))
+                .limit(k)
+                .collect(Collectors.toSet());
+
+            hits += index.queryNode(node, k, 64).stream()
+                .map(result -> result.node2)
+                .filter(expected::contains)
+                .count();
+            queries++;
+        }
+
+        assertThat(hits / (double) (queries * k)).isGreaterThan(0.9);
+    }
+
+    private static HnswIndex build(Graph graph, int concurrency) {
+        var config = ImmutableHnswCreateConfig.builder()
+            .indexName("index")
+            .nodeProperty("vec")
+            .concurrency(concurrency)
+            .randomSeed(42L)
+            .build();
+        return new Hnsw(
+            graph,
+            config,
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    private static double cosine(float[] left, float[] right) {
+        double dot = 0, leftNorm = 0, rightNorm = 0;
+        for (int i = 0; i < left.length; i++) {
+            dot += left[i] * right[i];
+            leftNorm += left[i] * left[i];
+            rightNorm += right[i] * right[i];
+        }
+        return dot / Math.sqrt(leftNorm * rightNorm);
+    }
+}
@@ -25,7 +25,6 @@ import net.jqwik.api.Property;
 import org.eclipse.collections.api.tuple.primitive.IntIntPair;
 import org.neo4j.gds.api.nodeproperties.LongNodeProperties;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -43,11 +42,7 @@ class GenerateRandomNeighborsTest extends RandomNodeCountAndKValues {
         int nodeCount = nAndK.getOne();
         int k = nAndK.getTwo();
 
-        var allNeighbors = HugeObjectArray.newArray(
-            NeighborList.class,
-            nodeCount,
-            AllocationTracker.empty()
-        );
+        var allNeighbors = new NeighborLists(nodeCount, k, AllocationTracker.empty());
 
         var nodeProperties = new LongNodeProperties() {
             @Override
@@ -69,6 +64,7 @@ class GenerateRandomNeighborsTest extends RandomNodeCountAndKValues {
             random,
             similarityComputer,
             allNeighbors,
+            KnnNodeFilter.unfiltered(nodeCount),
             k,
             k,
             Partition.of(0, nodeCount),
@@ -79,8 +75,7 @@ class GenerateRandomNeighborsTest extends RandomNodeCountAndKValues {
 
         var possibleNeighbors = LongStream.range(0, nodeCount).toArray();
         for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            var neighbors = allNeighbors.get(nodeId);
-            assertThat(neighbors.elements().toArray())
+            assertThat(allNeighbors.elements(nodeId).toArray())
                 .doesNotContain(nodeId)
                 .hasSize(Math.min(k, nodeCount - 1))
                 .containsAnyOf(possibleNeighbors)
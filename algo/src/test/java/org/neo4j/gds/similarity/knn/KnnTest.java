@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.TestLog;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
@@ -46,16 +47,23 @@ import org.neo4j.gds.nodeproperties.DoubleTestProperties;
 import org.neo4j.gds.nodeproperties.FloatArrayTestProperties;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.assertj.Extractors.replaceTimings;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @GdlExtension
 @ExtendWith(SoftAssertionsExtension.class)
@@ -80,6 +88,18 @@ class KnnTest {
     @Inject
     private TestGraph simThresholdGraph;
 
+    @GdlGraph(graphNamePrefix = "filtered")
+    private static final String filteredCreateQuery =
+        "CREATE " +
+        "  (c1:Customer {score: 1.0, inStock: 0})" +
+        " ,(c2:Customer {score: 5.0, inStock: 0})" +
+        " ,(p1:Product {score: 1.1, inStock: 1})" +
+        " ,(p2:Product {score: 4.9, inStock: 1})" +
+        " ,(p3:Product {score: 5.0, inStock: 0})" +
+        " ,(p4:Product {score: 9.0, inStock: 1})";
+    @Inject
+    private TestGraph filteredGraph;
+
 
     @Inject
     private IdFunction idFunction;
@@ -136,7 +156,7 @@ class KnnTest {
         long nodeId,
         long... expectedNeighbors
     ) {
-        var actualSimilarityPairs=result.neighborList().get(nodeId).similarityStream(nodeId);
+        var actualSimilarityPairs=result.neighborList().similarityStream(nodeId);
         var actualNeighbors = result.neighborsOf(nodeId).toArray();
         assertThat(actualNeighbors)
             .doesNotContain(nodeId)
@@ -430,6 +450,213 @@ class KnnTest {
 
     }
 
+    @Test
+    void shouldDecaySampleRate() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("knn")
+            .topK(10)
+            .sampleRate(0.5)
+            .sampleRateDecay(0.5)
+            .build();
+
+        assertThat(config.sampledK(100, 0)).isEqualTo(5);
+        assertThat(config.sampledK(100, 1)).isEqualTo(3);
+        assertThat(config.sampledK(100, 2)).isEqualTo(2);
+        assertThat(config.sampledK(100, 10)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunWithSampleRateDecay() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("knn")
+            .topK(1)
+            .sampleRateDecay(0.5)
+            .randomSeed(42L)
+            .concurrency(1)
+            .build();
+
+        var result = new Knn(graph, config, KnnContext.empty()).compute();
+
+        assertCorrectNeighborList(result, idFunction.of("a"), idFunction.of("b"));
+        assertCorrectNeighborList(result, idFunction.of("b"), idFunction.of("a"));
+    }
+
+    @Test
+    void shouldHaveHighRecallWithoutRandomJoins() {
+        int nodeCount = 200;
+        int topK = 5;
+        var random = new Random(42L);
+        var gdl = new StringJoiner(", ");
+        for (int i = 0; i < nodeCount; i++) {
+            gdl.add(formatWithLocale("(n%d {knn: %f})", i, random.nextDouble()));
+        }
+        var recallGraph = GdlFactory.of(gdl.toString()).build().graphStore().getUnion();
+
+        // random joins would cover for nodes that are wrongly skipped as inactive
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("knn")
+            .topK(topK)
+            .randomJoins(0)
+            .deltaThreshold(0.0)
+            .maxIterations(100)
+            .randomSeed(42L)
+            .concurrency(1)
+            .build();
+        var result = new Knn(recallGraph, config, KnnContext.empty()).compute();
+
+        var properties = recallGraph.nodeProperties("knn");
+        long found = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            long nodeId = node;
+            var value = properties.doubleValue(nodeId);
+            var expected = LongStream.range(0, nodeCount)
+                .filter(other -> other != nodeId)
+                .boxed()
+                .sorted(Comparator.comparingDouble(other -> Math.abs(properties.doubleValue(other) - value)))
+                .limit(topK)
+                .collect(Collectors.toSet());
+            found += result.neighborsOf(nodeId).filter(expected::contains).count();
+        }
+
+        assertThat(found / (double) (nodeCount * topK)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void shouldOnlyFindNeighborsFromSourcesToTargets() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("score")
+            .topK(1)
+            .sourceNodeLabels(List.of("Customer"))
+            .targetNodeLabels(List.of("Product"))
+            .randomSeed(42L)
+            .concurrency(1)
+            .build();
+
+        var result = new Knn(filteredGraph, config, KnnContext.empty()).compute();
+
+        assertThat(result.neighborsOf(filteredGraph.toMappedNodeId("c1"))).containsExactly(filteredGraph.toMappedNodeId("p1"));
+        assertThat(result.neighborsOf(filteredGraph.toMappedNodeId("c2"))).containsExactly(filteredGraph.toMappedNodeId("p3"));
+        for (var product : List.of("p1", "p2", "p3", "p4")) {
+            assertThat(result.neighborsOf(filteredGraph.toMappedNodeId(product))).isEmpty();
+        }
+        assertThat(result.streamSimilarityResult()).allSatisfy(similarityResult -> {
+            assertThat(filteredGraph.hasLabel(similarityResult.node1, NodeLabel.of("Customer"))).isTrue();
+            assertThat(filteredGraph.hasLabel(similarityResult.node2, NodeLabel.of("Product"))).isTrue();
+        });
+    }
+
+    @Test
+    void shouldOnlyFindTargetsWithProperty() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("score")
+            .topK(2)
+            .sourceNodeLabels(List.of("Customer"))
+            .targetNodeProperty("inStock")
+            .randomSeed(42L)
+            .concurrency(1)
+            .build();
+
+        var result = new Knn(filteredGraph, config, KnnContext.empty()).compute();
+
+        assertThat(result.neighborsOf(filteredGraph.toMappedNodeId("c2"))).containsExactly(
+            filteredGraph.toMappedNodeId("p2"),
+            filteredGraph.toMappedNodeId("p1")
+        );
+        assertThat(result.neighborsOf(filteredGraph.toMappedNodeId("c1"))).containsExactly(
+            filteredGraph.toMappedNodeId("p1"),
+            filteredGraph.toMappedNodeId("p2")
+        );
+    }
+
+    @Test
+    void shouldReturnEmptyResultWithoutTargets() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("score")
+            .sourceNodeLabels(List.of("Customer"))
+            .targetNodeLabels(List.of("Customer"))
+            .targetNodeProperty("inStock")
+            .build();
+
+        var result = new Knn(filteredGraph, config, KnnContext.empty()).compute();
+
+        assertThat(result.totalSimilarityPairs()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldFailOnUnknownFilterLabel() {
+        var graphStore = GdlFactory.of("(:Customer {score: 1.0}), (:Product {score: 2.0})").build().graphStore();
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("score")
+            .sourceNodeLabels(List.of("Customer"))
+            .targetNodeLabels(List.of("Article"))
+            .build();
+
+        assertThatThrownBy(() -> config.graphStoreValidation(graphStore, graphStore.nodeLabels(), graphStore.relationshipTypes()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("The label `Article` of `targetNodeLabels` is not part of the selected node labels");
+    }
+
+    @Test
+    void shouldFailOnMissingFilterProperty() {
+        var graphStore = GdlFactory.of("(:Customer {score: 1.0}), (:Product {score: 2.0})").build().graphStore();
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("score")
+            .sourceNodeProperty("active")
+            .build();
+
+        assertThatThrownBy(() -> config.graphStoreValidation(graphStore, graphStore.nodeLabels(), graphStore.relationshipTypes()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("The property `active` of `sourceNodeProperty` is not present for all requested labels");
+    }
+
+    @Test
+    void shouldComputeSimilarityOfSparseVectors() {
+        var graph = GdlFactory.of(
+            "  (a {terms: [1, 5, 9], weights: [1.0, 2.0, 3.0]})" +
+            ", (b {terms: [9, 5, 2], weights: [3.0, 2.0, 1.0]})" +
+            ", (c {terms: [3, 4], weights: [1.0, 1.0]})"
+        ).build().graphStore().getUnion();
+
+        for (var metric : SparseSimilarityMetric.values()) {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeWeightProperty("terms")
+                .sparseWeightProperty("weights")
+                .sparseSimilarityMetric(metric)
+                .topK(1)
+                .randomSeed(42L)
+                .concurrency(1)
+                .build();
+
+            var result = new Knn(graph, config, KnnContext.empty()).compute();
+
+            var similarities = result.streamSimilarityResult().filter(similarityResult -> similarityResult.node1 == 0);
+            assertThat(similarities)
+                .singleElement()
+                .satisfies(similarityResult -> {
+                    assertThat(similarityResult.node2).isEqualTo(1);
+                    // cosine: 13 / 14, jaccard: 5 / 7
+                    assertThat(similarityResult.similarity).isCloseTo(metric == SparseSimilarityMetric.COSINE ? 13.0 / 14.0 : 5.0 / 7.0, within(1e-6));
+                });
+        }
+    }
+
+    @Test
+    void shouldFailOnNegativeWeightsForWeightedJaccard() {
+        var graph = GdlFactory.of("({terms: [1], weights: [-1.0]}), ({terms: [1], weights: [1.0]})")
+            .build()
+            .graphStore()
+            .getUnion();
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("terms")
+            .sparseWeightProperty("weights")
+            .sparseSimilarityMetric(SparseSimilarityMetric.JACCARD)
+            .build();
+
+        assertThatThrownBy(() -> new Knn(graph, config, KnnContext.empty()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The weighted Jaccard similarity requires non-negative weights");
+    }
+
     @Test
     void invalidRandomParameters() {
         var configBuilder = ImmutableKnnBaseConfig.builder()
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NeighborListsTest {
+
+    @Test
+    void shouldKeepMaxValues() {
+        long[] expected = {6L, 5L, 2L};
+
+        var queue = new NeighborLists(1, 3, AllocationTracker.empty());
+        SplittableRandom splittableRandom = new SplittableRandom();
+
+        assertEquals(1, queue.add(0, 0, Double.MIN_VALUE, splittableRandom));
+        assertEquals(1, queue.add(0, 6, 6.0, splittableRandom));
+        assertEquals(1, queue.add(0, 1, 1.0, splittableRandom));
+        assertEquals(1, queue.add(0, 5, 5.0, splittableRandom));
+        assertEquals(1, queue.add(0, 2, 4.0, splittableRandom));
+        assertEquals(0, queue.add(0, 4, 2.0, splittableRandom));
+        assertEquals(0, queue.add(0, 3, 3.0, splittableRandom));
+
+        long[] actual = queue.elements(0).toArray();
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void shouldLimitReturnWhenNotFull() {
+        long[] expected = {6L, 5L, 4L};
+
+        var queue = new NeighborLists(1, 10, AllocationTracker.empty());
+        SplittableRandom splittableRandom = new SplittableRandom();
+
+        assertEquals(1, queue.add(0, 6, 6.0, splittableRandom));
+        assertEquals(1, queue.add(0, 5, 5.0, splittableRandom));
+        assertEquals(1, queue.add(0, 4, 4.0, splittableRandom));
+
+        long[] actual = queue.elements(0).toArray();
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void insertEverything() {
+        var nodeCount = 42;
+        var elements = LongStream.range(0, nodeCount).boxed().collect(Collectors.toList());
+        var rng = new SplittableRandom(1337L);
+
+        var queue = new NeighborLists(1, nodeCount, AllocationTracker.empty());
+
+        elements.forEach(candidate -> queue.add(0, candidate, 1.0 / (1.0 + Math.abs(candidate - 2)), rng));
+
+        assertThat(queue.elements(0)).containsExactlyInAnyOrderElementsOf(elements);
+    }
+
+    @Test
+    void insertEveryThingTake2() {
+        List<Long> elements = List.of(0L, 2L);
+        var queue = new NeighborLists(1, 2, AllocationTracker.empty());
+        var rng = new SplittableRandom(1337L);
+
+        elements.forEach(candidate -> queue.add(0, candidate, 1.0 / (1.0 + Math.abs(candidate - 1)), rng));
+
+        assertThat(queue.elements(0)).containsExactlyInAnyOrderElementsOf(elements);
+    }
+
+    @Test
+    void shouldKeepListsOfNodesApart() {
+        // capacity 3 puts several nodes into one page
+        var lists = new NeighborLists(2_000, 3, AllocationTracker.empty());
+        var rng = new SplittableRandom(42L);
+
+        for (long node = 0; node < 2_000; node++) {
+            for (long candidate = 1; candidate <= 5; candidate++) {
+                lists.add(node, node + candidate, candidate, rng);
+            }
+        }
+
+        for (long node = 0; node < 2_000; node++) {
+            assertThat(lists.size(node)).isEqualTo(3);
+            assertThat(lists.elements(node)).containsExactly(node + 5, node + 4, node + 3);
+        }
+    }
+
+    @Test
+    void shouldFilterLowSimilarities() {
+        var lists = new NeighborLists(2, 3, AllocationTracker.empty());
+        var rng = new SplittableRandom(42L);
+        lists.add(1, 4, 0.9, rng);
+        lists.add(1, 5, 0.2, rng);
+        lists.add(1, 6, 0.5, rng);
+
+        lists.filterHighSimilarityResults(1, 0.5);
+
+        assertThat(lists.elements(1)).containsExactly(4L, 6L);
+        assertThat(lists.similarityStream(1)).extracting(result -> result.similarity).containsExactly(0.9, 0.5);
+        assertThat(lists.size(0)).isEqualTo(0);
+    }
+}
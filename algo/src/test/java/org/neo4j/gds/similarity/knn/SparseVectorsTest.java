@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.nodeproperties.DoubleArrayTestProperties;
+import org.neo4j.gds.nodeproperties.FloatArrayTestProperties;
+import org.neo4j.gds.nodeproperties.LongArrayTestProperties;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SparseVectorsTest {
+
+    @Test
+    void shouldSortAndMergeIds() {
+        var ids = new LongArrayTestProperties(nodeId -> new long[]{7, 3, 7, 1, 5});
+        var weights = new FloatArrayTestProperties(nodeId -> new float[]{1, 2, 3, 4, 0});
+
+        var vectors = SparseVectors.of(ids, weights, 1, AllocationTracker.empty());
+
+        assertThat(vectors.ids(0)).containsExactly(1, 3, 7);
+        assertThat(vectors.weights(0)).containsExactly(4, 2, 4);
+    }
+
+    @Test
+    void shouldComputeCosineAndWeightedJaccard() {
+        var ids = new LongArrayTestProperties(nodeId -> nodeId == 0 ? new long[]{1, 3, 5} : new long[]{5, 4, 3});
+        var weights = new DoubleArrayTestProperties(nodeId -> nodeId == 0 ? new double[]{1, 2, 3} : new double[]{5, 1, 1});
+
+        var vectors = SparseVectors.of(ids, weights, 2, AllocationTracker.empty());
+
+        assertThat(vectors.dot(0, 1)).isCloseTo(2 * 1 + 3 * 5, within(1e-9));
+        assertThat(vectors.cosine(0, 1)).isCloseTo(17 / Math.sqrt(14 * 27), within(1e-9));
+        assertThat(vectors.weightedJaccard(0, 1)).isCloseTo(4.0 / 9.0, within(1e-9));
+        assertThat(vectors.hasNegativeWeights()).isFalse();
+    }
+
+    @Test
+    void shouldStoreVectorsLargerThanAPage() {
+        int length = 40_000;
+        var ids = new LongArrayTestProperties(nodeId -> LongStream.range(0, nodeId == 1 ? length : 3).toArray());
+        var weights = new DoubleArrayTestProperties(nodeId -> IntStream
+            .range(0, nodeId == 1 ? length : 3)
+            .mapToDouble(i -> 1)
+            .toArray());
+
+        var vectors = SparseVectors.of(ids, weights, 3, AllocationTracker.empty());
+
+        assertThat(vectors.length(0)).isEqualTo(3);
+        assertThat(vectors.length(1)).isEqualTo(length);
+        assertThat(vectors.length(2)).isEqualTo(3);
+        assertThat(vectors.dot(0, 1)).isEqualTo(3);
+        assertThat(vectors.dot(1, 2)).isEqualTo(3);
+        assertThat(vectors.weightedJaccard(0, 2)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHandleMissingVectors() {
+        var ids = new LongArrayTestProperties(nodeId -> nodeId == 0 ? null : new long[]{1});
+        var weights = new FloatArrayTestProperties(nodeId -> nodeId == 0 ? null : new float[]{1});
+
+        var vectors = SparseVectors.of(ids, weights, 2, AllocationTracker.empty());
+
+        assertThat(vectors.length(0)).isEqualTo(0);
+        assertThat(vectors.dot(0, 1)).isEqualTo(0);
+        assertThat(vectors.cosine(0, 1)).isNaN();
+    }
+
+    @Test
+    void shouldHandleOnlyEmptyVectors() {
+        var ids = new LongArrayTestProperties(nodeId -> new long[0]);
+        var weights = new FloatArrayTestProperties(nodeId -> new float[0]);
+
+        var vectors = SparseVectors.of(ids, weights, 2, AllocationTracker.empty());
+
+        assertThat(vectors.ids(0)).isEmpty();
+        assertThat(vectors.weights(1)).isEmpty();
+        assertThat(vectors.dot(0, 1)).isEqualTo(0);
+        assertThat(vectors.weightedJaccard(0, 1)).isEqualTo(0);
+    }
+
+    @Test
+    void shouldFailOnDifferentLengths() {
+        var ids = new LongArrayTestProperties(nodeId -> new long[]{1, 2});
+        var weights = new FloatArrayTestProperties(nodeId -> new float[]{1});
+
+        assertThatThrownBy(() -> SparseVectors.of(ids, weights, 1, AllocationTracker.empty()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The sparse vector of node 0 has 2 ids but 1 weights.");
+    }
+}
@@ -25,6 +25,7 @@ import net.jqwik.api.From;
 import net.jqwik.api.Property;
 import org.eclipse.collections.api.tuple.primitive.IntIntPair;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -44,15 +45,11 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
         int k = nAndK.getTwo();
         int sampledK = k / 2;
 
-        var allNeighbors = HugeObjectArray.newArray(
-            NeighborList.class,
-            nodeCount,
-            AllocationTracker.empty()
-        );
+        var allNeighbors = new NeighborLists(nodeCount, k, AllocationTracker.empty());
 
         SplittableRandom rng = new SplittableRandom();
-        allNeighbors.setAll(nodeId -> {
-            var neighbors = new NeighborList(k);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long node = nodeId;
             LongStream.concat(
                 LongStream.range(nodeId + 1, nodeCount),
                 LongStream.range(0, nodeId)
@@ -62,11 +59,9 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
                     if (neighbor % 2 != 0) {
                         neighbor |= Long.MIN_VALUE;
                     }
-                    neighbors.add(neighbor, 1.0, rng);
+                    allNeighbors.add(node, neighbor, 1.0, rng);
                 });
-
-            return neighbors;
-        });
+        }
 
         var allOldNeighbors = HugeObjectArray.newArray(
             LongArrayList.class,
@@ -85,6 +80,7 @@ class SplitOldAndNewNeighborsTest extends RandomNodeCountAndKValues {
             allOldNeighbors,
             allNewNeighbors,
             sampledK,
+            HugeAtomicBitSet.fixed(nodeCount, AllocationTracker.empty()),
             ProgressTracker.NULL_TRACKER
         );
         splitNeighbors.apply(0, nodeCount);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.SimilarityResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+class NodeSimilarityInvertedIndexTest {
+
+    private static final Graph GRAPH = RandomGraphGenerator.builder()
+        .nodeCount(300)
+        .averageDegree(6)
+        .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+        .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 1))
+        .aggregation(Aggregation.SINGLE)
+        .seed(42L)
+        .build()
+        .generate();
+
+    static Stream<Arguments> parameters() {
+        return crossArguments(
+            () -> Stream.of(arguments(1), arguments(4)),
+            () -> Stream.of(arguments(1E-42), arguments(0.25), arguments(0.5), arguments(1.0)),
+            () -> Stream.of(arguments(false), arguments(true))
+        );
+    }
+
+    @ParameterizedTest(name = "concurrency: {0}, similarityCutoff: {1}, weighted: {2}")
+    @MethodSource("parameters")
+    void shouldMatchAllPairsForTopK(int concurrency, double similarityCutoff, boolean weighted) {
+        var builder = ImmutableNodeSimilarityStreamConfig.builder()
+            .concurrency(concurrency)
+            .similarityCutoff(similarityCutoff)
+            .topK(5);
+        if (weighted) {
+            builder.relationshipWeightProperty("weight");
+        }
+
+        var expected = run(builder.candidateGeneration(CandidateGeneration.ALL_PAIRS).build());
+        var actual = run(builder.candidateGeneration(CandidateGeneration.INVERTED_INDEX).build());
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "concurrency: {0}, similarityCutoff: {1}, weighted: {2}")
+    @MethodSource("parameters")
+    void shouldMatchAllPairsForTopN(int concurrency, double similarityCutoff, boolean weighted) {
+        var builder = ImmutableNodeSimilarityStreamConfig.builder()
+            .concurrency(concurrency)
+            .similarityCutoff(similarityCutoff)
+            .topK(10)
+            .topN(50);
+        if (weighted) {
+            builder.relationshipWeightProperty("weight");
+        }
+
+        var expected = run(builder.candidateGeneration(CandidateGeneration.ALL_PAIRS).build());
+        var actual = run(builder.candidateGeneration(CandidateGeneration.INVERTED_INDEX).build());
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldMatchAllPairsForTopKGraph() {
+        var builder = ImmutableNodeSimilarityWriteConfig.builder()
+            .writeProperty("similarity")
+            .writeRelationshipType("SIMILAR")
+            .concurrency(4)
+            .similarityCutoff(0.3)
+            .topK(3);
+
+        var expected = new NodeSimilarity(
+            GRAPH,
+            builder.candidateGeneration(CandidateGeneration.ALL_PAIRS).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        ).computeToGraph();
+        var actual = new NodeSimilarity(
+            GRAPH,
+            builder.candidateGeneration(CandidateGeneration.INVERTED_INDEX).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        ).computeToGraph();
+
+        assertThat(actual.comparedNodes()).isEqualTo(expected.comparedNodes());
+        assertThat(actual.similarityGraph().relationshipCount())
+            .isEqualTo(expected.similarityGraph().relationshipCount());
+    }
+
+    @Test
+    void shouldParseCandidateGeneration() {
+        assertThat(CandidateGeneration.parse("inverted_index")).isEqualTo(CandidateGeneration.INVERTED_INDEX);
+        assertThatThrownBy(() -> CandidateGeneration.parse("foo"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Candidate generation `FOO` is not supported");
+    }
+
+    private static List<SimilarityResult> run(NodeSimilarityStreamConfig config) {
+        var nodeSimilarity = new NodeSimilarity(
+            GRAPH,
+            config,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        return nodeSimilarity.computeToStream()
+            .sorted((left, right) -> left.node1 != right.node1
+                ? Long.compare(left.node1, right.node1)
+                : Long.compare(left.node2, right.node2))
+            .collect(Collectors.toList());
+    }
+}
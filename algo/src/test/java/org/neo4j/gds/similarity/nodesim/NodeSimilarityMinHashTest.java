@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.SimilarityResult;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class NodeSimilarityMinHashTest {
+
+    private static final Graph GRAPH = RandomGraphGenerator.builder()
+        .nodeCount(500)
+        .averageDegree(5)
+        .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+        .aggregation(Aggregation.SINGLE)
+        .seed(42L)
+        .build()
+        .generate();
+
+    @ParameterizedTest(name = "concurrency: {0}")
+    @ValueSource(ints = {1, 4})
+    void shouldFindMostSimilarPairs(int concurrency) {
+        var builder = ImmutableNodeSimilarityStreamConfig.builder()
+            .concurrency(concurrency)
+            .similarityCutoff(0.5)
+            .topK(1000)
+            .randomSeed(1337L);
+
+        var expected = run(builder.candidateGeneration(CandidateGeneration.ALL_PAIRS).build());
+        var actual = run(builder
+            .candidateGeneration(CandidateGeneration.MIN_HASH)
+            .signatureLength(128)
+            .bandCount(64)
+            .build()
+        );
+
+        assertThat(expected).isNotEmpty();
+        // verified candidates carry the exact similarity
+        assertThat(expected).containsAllEntriesOf(actual);
+        // two rows per band find a pair with similarity 0.5 with a probability of 1 - 0.75^64
+        assertThat((double) actual.size() / expected.size()).isGreaterThan(0.95);
+    }
+
+    @Test
+    void shouldEstimateFromSignatures() {
+        var builder = ImmutableNodeSimilarityStreamConfig.builder()
+            .concurrency(4)
+            .similarityCutoff(0.3)
+            .topK(1000)
+            .randomSeed(42L);
+
+        var exact = run(builder.candidateGeneration(CandidateGeneration.ALL_PAIRS).build());
+        var estimated = run(builder
+            .candidateGeneration(CandidateGeneration.MIN_HASH)
+            .signatureLength(256)
+            .bandCount(64)
+            .estimateFromSignatures(true)
+            .build()
+        );
+
+        assertThat(estimated).isNotEmpty();
+        estimated.forEach((pair, similarity) -> {
+            if (exact.containsKey(pair)) {
+                assertThat(similarity).isCloseTo(exact.get(pair), within(0.2));
+            }
+        });
+    }
+
+    @Test
+    void shouldBeDeterministicForFixedSeed() {
+        var config = ImmutableNodeSimilarityStreamConfig.builder()
+            .concurrency(4)
+            .candidateGeneration(CandidateGeneration.MIN_HASH)
+            .estimateFromSignatures(true)
+            .randomSeed(42L)
+            .build();
+
+        assertThat(run(config)).isEqualTo(run(config));
+    }
+
+    @Test
+    void shouldEstimateJaccardFromSignatures() {
+        assertThat(MinHashIndex.estimateSimilarity(new int[]{1, 2, 3, 4}, new int[]{1, 2, 5, 6})).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldValidateBandCount() {
+        assertThatThrownBy(() -> ImmutableNodeSimilarityStreamConfig.builder()
+            .candidateGeneration(CandidateGeneration.MIN_HASH)
+            .signatureLength(100)
+            .bandCount(30)
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The `signatureLength` (100) must be a multiple of the `bandCount` (30).");
+    }
+
+    @Test
+    void shouldNotEstimateWithoutMinHash() {
+        assertThatThrownBy(() -> ImmutableNodeSimilarityStreamConfig.builder()
+            .estimateFromSignatures(true)
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires the `candidateGeneration` MIN_HASH");
+    }
+
+    private static Map<String, Double> run(NodeSimilarityStreamConfig config) {
+        var nodeSimilarity = new NodeSimilarity(
+            GRAPH,
+            config,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        return nodeSimilarity.computeToStream()
+            .collect(Collectors.toMap(NodeSimilarityMinHashTest::key, result -> result.similarity));
+    }
+
+    private static String key(SimilarityResult result) {
+        return result.node1 + "," + result.node2;
+    }
+}
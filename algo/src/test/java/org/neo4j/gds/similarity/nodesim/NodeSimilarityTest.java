@@ -393,6 +393,71 @@ final class NodeSimilarityTest {
         assertEquals(orientation == REVERSE ? EXPECTED_INCOMING_TOP_K_1 : EXPECTED_OUTGOING_TOP_K_1, result);
     }
 
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeSpilledTopKAndTopNForSupportedDirections(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        NodeSimilarity topK = new NodeSimilarity(
+            graph,
+            configBuilder().topK(1).concurrency(concurrency).spillToDisk(true).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        Set<String> topKResult = topK
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+        topK.release();
+
+        NodeSimilarity topN = new NodeSimilarity(
+            graph,
+            configBuilder().topN(1).concurrency(concurrency).spillToDisk(true).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        Set<String> topNResult = topN
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+        topN.release();
+
+        assertEquals(orientation == REVERSE ? EXPECTED_INCOMING_TOP_K_1 : EXPECTED_OUTGOING_TOP_K_1, topKResult);
+        assertEquals(orientation == REVERSE ? EXPECTED_INCOMING_TOP_N_1 : EXPECTED_OUTGOING_TOP_N_1, topNResult);
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldSpillTopKWhenComputingToGraph(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        NodeSimilarity inHeap = new NodeSimilarity(
+            graph,
+            configBuilder().topK(1).concurrency(concurrency).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        SimilarityGraphResult expected = inHeap.computeToGraph();
+
+        NodeSimilarity spilled = new NodeSimilarity(
+            graph,
+            configBuilder().topK(1).concurrency(concurrency).spillToDisk(true).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        SimilarityGraphResult actual = spilled.computeToGraph();
+
+        assertThat(expected.isTopKGraph()).isTrue();
+        assertThat(actual.isTopKGraph()).isFalse();
+        assertGraphEquals(expected.similarityGraph(), actual.similarityGraph());
+        inHeap.release();
+        spilled.release();
+    }
+
     @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
     @MethodSource("supportedLoadAndComputeDirections")
     void shouldComputeNegativeTopKForSupportedDirections(Orientation orientation, int concurrency) {
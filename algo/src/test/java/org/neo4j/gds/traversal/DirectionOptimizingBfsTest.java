@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.traversal;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.traversal.DirectionOptimizingBfs.NOT_VISITED;
+
+@GdlExtension
+class DirectionOptimizingBfsTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String GDL =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(c)" +
+        ", (b)-[:REL]->(d)" +
+        ", (c)-[:REL]->(d)" +
+        ", (e)-[:REL]->(f)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldComputeLevelsAndParents() {
+        var result = run(graph, idFunction.of("a"), BfsBaseConfig.NO_MAX_DEPTH, 1);
+
+        var levels = result.levels();
+        assertThat(levels.get(idFunction.of("a"))).isEqualTo(0L);
+        assertThat(levels.get(idFunction.of("b"))).isEqualTo(1L);
+        assertThat(levels.get(idFunction.of("c"))).isEqualTo(1L);
+        assertThat(levels.get(idFunction.of("d"))).isEqualTo(2L);
+        assertThat(levels.get(idFunction.of("e"))).isEqualTo(NOT_VISITED);
+        assertThat(levels.get(idFunction.of("f"))).isEqualTo(NOT_VISITED);
+
+        var parents = result.parents();
+        assertThat(parents.get(idFunction.of("a"))).isEqualTo(NOT_VISITED);
+        assertThat(parents.get(idFunction.of("b"))).isEqualTo(idFunction.of("a"));
+        assertThat(parents.get(idFunction.of("d"))).isIn(idFunction.of("b"), idFunction.of("c"));
+
+        assertThat(result.reachedNodes()).isEqualTo(4L);
+        assertThat(result.maxLevel()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldRespectMaxDepth() {
+        var result = run(graph, idFunction.of("a"), 1, 1);
+
+        assertThat(result.levels().get(idFunction.of("b"))).isEqualTo(1L);
+        assertThat(result.levels().get(idFunction.of("d"))).isEqualTo(NOT_VISITED);
+        assertThat(result.reachedNodes()).isEqualTo(3L);
+        assertThat(result.maxLevel()).isEqualTo(1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchSequentialBfsOnUndirectedGraph(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(20_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var result = run(randomGraph, 0, BfsBaseConfig.NO_MAX_DEPTH, concurrency);
+
+        assertThat(result.pullSteps()).isGreaterThan(0);
+        assertLevelsMatchSequentialBfs(randomGraph, 0, result);
+    }
+
+    @Test
+    void shouldOnlyPushOnDirectedGraph() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(1337L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var result = run(randomGraph, 0, BfsBaseConfig.NO_MAX_DEPTH, 4);
+
+        assertThat(result.pullSteps()).isEqualTo(0);
+        assertLevelsMatchSequentialBfs(randomGraph, 0, result);
+    }
+
+    private static BfsResult run(Graph graph, long sourceNode, long maxDepth, int concurrency) {
+        var config = ImmutableBfsStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId(sourceNode))
+            .maxDepth(maxDepth)
+            .concurrency(concurrency)
+            .build();
+
+        return new DirectionOptimizingBfs(
+            graph,
+            sourceNode,
+            config,
+            Pools.DEFAULT,
+            AllocationTracker.empty(),
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    private static void assertLevelsMatchSequentialBfs(Graph graph, long sourceNode, BfsResult result) {
+        var expected = new long[(int) graph.nodeCount()];
+        Arrays.fill(expected, NOT_VISITED);
+        expected[(int) sourceNode] = 0;
+        var queue = new LongArrayDeque();
+        queue.addLast(sourceNode);
+        while (!queue.isEmpty()) {
+            long node = queue.removeFirst();
+            graph.forEachRelationship(node, (source, target) -> {
+                if (expected[(int) target] == NOT_VISITED) {
+                    expected[(int) target] = expected[(int) source] + 1;
+                    queue.addLast(target);
+                }
+                return true;
+            });
+        }
+
+        for (int nodeId = 0; nodeId < expected.length; nodeId++) {
+            assertThat(result.levels().get(nodeId)).as("level of node %d", nodeId).isEqualTo(expected[nodeId]);
+            long parent = result.parents().get(nodeId);
+            if (expected[nodeId] > 0) {
+                assertThat(expected[(int) parent]).isEqualTo(expected[nodeId] - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.triangle.IntersectingTriangleCount.TriangleCountResult;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+class ForwardTriangleCountTest {
+
+    static Stream<Arguments> graphs() {
+        return Stream.of(
+            Arguments.of("CREATE (a)-[:T]->()-[:T]->()-[:T]->(a)", "triangle"),
+            Arguments.of("CREATE (a)-[:T]->(b)-[:T]->(c)-[:T]->(a)-[:T]->(a)", "self loop"),
+            Arguments.of("CREATE (a)-[:T]->(b)-[:T]->(c)-[:T]->(a), (a)-[:T]->(b)", "parallel relationships"),
+            Arguments.of(
+                "CREATE " +
+                "  (a1)-[:T1]->(a2), (a1)-[:T1]->(a3), (a1)-[:T2]->(a4), (a1)-[:T3]->(a5)" +
+                ", (a2)-[:T4]->(a3), (a2)-[:T2]->(a4), (a2)-[:T2]->(a5)" +
+                ", (a3)-[:T3]->(a4), (a3)-[:T1]->(a5), (a4)-[:T4]->(a5)",
+                "clique5 union graph"
+            ),
+            Arguments.of(
+                "CREATE" +
+                " (a)-[:T]->(b)-[:T]->(b)-[:T]->(c)-[:T]->(a)" +
+                ", (c)-[:T]->(d)-[:T]->(e)-[:T]->(f)-[:T]->(d)" +
+                ", (f)-[:T]->(g)-[:T]->(h)-[:T]->(f)" +
+                ", (h)-[:T]->(i)-[:T]->(j)-[:T]->(k)-[:T]->(e)" +
+                ", (k)-[:T]->(l)" +
+                ", (k)-[:T]->(m)-[:T]->(n)-[:T]->(j)" +
+                ", (o)",
+                "many triangles and other things"
+            )
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("graphs")
+    void shouldMatchIntersectingTriangleCount(String gdl, String ignoredName) {
+        var graph = fromGdl(gdl);
+
+        assertSameCounts(compute(graph, defaultConfig().build()), compute(graph, forwardConfig().build()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3})
+    void shouldExcludeNodesAboveMaxDegree(int maxDegree) {
+        var graph = fromGdl(
+            "CREATE " +
+            "  (n0)-[:REL]->(n1)" +
+            ", (n1)-[:REL]->(n2)" +
+            ", (n2)-[:REL]->(n3)" +
+            ", (n2)-[:REL]->(n4)" +
+            ", (n2)-[:REL]->(n5)" +
+            ", (n3)-[:REL]->(n4)" +
+            ", (n1)-[:REL]->(n6)" +
+            ", (n0)-[:REL]->(n2)" +
+            ", (n0)-[:REL]->(n6)"
+        );
+
+        var expected = compute(graph, defaultConfig().maxDegree(maxDegree).build());
+        var actual = compute(graph, forwardConfig().maxDegree(maxDegree).build());
+
+        assertSameCounts(expected, actual);
+        assertThat(actual.localTriangles().get(2)).isEqualTo(EXCLUDED_NODE_TRIANGLE_COUNT);
+    }
+
+    @Test
+    void shouldHashLargeNeighbourhoods() {
+        int cliqueSize = ForwardTriangleCount.HASH_THRESHOLD + 16;
+        var gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < cliqueSize; i++) {
+            for (int j = i + 1; j < cliqueSize; j++) {
+                if (gdl.length() > "CREATE ".length()) {
+                    gdl.append(", ");
+                }
+                gdl.append(formatWithLocale("(n%d)-[:T]->(n%d)", i, j));
+            }
+        }
+
+        var result = compute(fromGdl(gdl.toString()), forwardConfig().build());
+
+        long n = cliqueSize;
+        assertThat(result.globalTriangles()).isEqualTo(n * (n - 1) * (n - 2) / 6);
+        for (long nodeId = 0; nodeId < n; nodeId++) {
+            assertThat(result.localTriangles().get(nodeId)).isEqualTo((n - 1) * (n - 2) / 2);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchIntersectingTriangleCountOnRandomGraph(int concurrency) {
+        var graph = randomGraph();
+
+        var expected = compute(graph, defaultConfig().concurrency(concurrency).build());
+        var actual = compute(graph, forwardConfig().concurrency(concurrency).build());
+
+        assertThat(expected.globalTriangles()).isPositive();
+        assertSameCounts(expected, actual);
+        assertThat(actual.globalTrianglesStandardError()).isZero();
+    }
+
+    @Test
+    void shouldEstimateGlobalCountWhenSampling() {
+        var graph = randomGraph();
+
+        var exact = compute(graph, defaultConfig().build()).globalTriangles();
+        var estimate = compute(graph, forwardConfig().samplingRatio(0.5).randomSeed(42L).build());
+
+        assertThat(estimate.globalTrianglesStandardError()).isPositive();
+        assertThat((double) estimate.globalTriangles())
+            .isCloseTo(exact, offset(5 * estimate.globalTrianglesStandardError()));
+    }
+
+    @Test
+    void shouldBeDeterministicWithRandomSeed() {
+        var graph = randomGraph();
+        var config = forwardConfig().samplingRatio(0.3).randomSeed(1337L).concurrency(4).build();
+
+        assertSameCounts(compute(graph, config), compute(graph, config));
+    }
+
+    @Test
+    void shouldRequireDegreeOrderingForSampling() {
+        assertThatThrownBy(() -> defaultConfig().samplingRatio(0.5).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("degreeOrdering");
+    }
+
+    private static void assertSameCounts(TriangleCountResult expected, TriangleCountResult actual) {
+        assertThat(actual.globalTriangles()).isEqualTo(expected.globalTriangles());
+        assertThat(actual.localTriangles().size()).isEqualTo(expected.localTriangles().size());
+        for (long nodeId = 0; nodeId < expected.localTriangles().size(); nodeId++) {
+            assertThat(actual.localTriangles().get(nodeId))
+                .as("triangles of node %d", nodeId)
+                .isEqualTo(expected.localTriangles().get(nodeId));
+        }
+    }
+
+    private static ImmutableTriangleCountBaseConfig.Builder defaultConfig() {
+        return ImmutableTriangleCountBaseConfig.builder();
+    }
+
+    private static ImmutableTriangleCountBaseConfig.Builder forwardConfig() {
+        return ImmutableTriangleCountBaseConfig.builder().degreeOrdering(true);
+    }
+
+    private static TriangleCountResult compute(Graph graph, TriangleCountBaseConfig config) {
+        return IntersectingTriangleCount.create(graph, config, Pools.DEFAULT).compute();
+    }
+
+    private static Graph randomGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(20)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    private static Graph fromGdl(String gdl) {
+        return TestSupport.fromGdl(gdl, Orientation.UNDIRECTED).graph();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GlobalClusteringCoefficientTest {
+
+    @Test
+    void shouldBeOneOnClique() {
+        var graph = fromGdl(
+            "CREATE " +
+            "  (a)-[:T]->(b), (a)-[:T]->(c), (a)-[:T]->(d)" +
+            ", (b)-[:T]->(c), (b)-[:T]->(d), (c)-[:T]->(d)"
+        );
+
+        var result = compute(graph, config().build());
+
+        assertThat(result.globalClusteringCoefficient()).isEqualTo(1D);
+        assertThat(result.wedgeCount()).isEqualTo(12L);
+        assertThat(result.estimatedTriangleCount()).isEqualTo(4L);
+        assertThat(result.upperBound()).isEqualTo(1D);
+    }
+
+    @Test
+    void shouldBeZeroOnStar() {
+        var graph = fromGdl("CREATE (a)-[:T]->(b), (a)-[:T]->(c), (a)-[:T]->(d), (a)-[:T]->(e)");
+
+        var result = compute(graph, config().build());
+
+        assertThat(result.globalClusteringCoefficient()).isEqualTo(0D);
+        assertThat(result.closedWedges()).isEqualTo(0L);
+        assertThat(result.wedgeCount()).isEqualTo(6L);
+        assertThat(result.lowerBound()).isEqualTo(0D);
+    }
+
+    @Test
+    void shouldHandleGraphsWithoutWedges() {
+        var graph = fromGdl("CREATE (a)-[:T]->(b), (c)");
+
+        var result = compute(graph, config().build());
+
+        assertThat(result.globalClusteringCoefficient()).isEqualTo(0D);
+        assertThat(result.sampledWedges()).isEqualTo(0L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.01, 0.002})
+    void shouldEstimateWithinErrorBound(double errorBound) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(5_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var triangles = IntersectingTriangleCount
+            .create(graph, ImmutableTriangleCountBaseConfig.builder().build(), Pools.DEFAULT)
+            .compute()
+            .globalTriangles();
+
+        // the smaller error bound needs several sample batches per thread
+        var config = config().errorBound(errorBound).confidenceLevel(0.999).concurrency(4).build();
+        var result = compute(graph, config);
+
+        double exact = 3D * triangles / result.wedgeCount();
+        assertThat(result.sampledWedges()).isEqualTo(config.sampleCount());
+        assertThat(result.globalClusteringCoefficient()).isCloseTo(exact, within(errorBound));
+        assertThat(result.lowerBound()).isLessThanOrEqualTo(exact);
+        assertThat(result.upperBound()).isGreaterThanOrEqualTo(exact);
+    }
+
+    @Test
+    void shouldNotMaterializeAllSamples() {
+        var config = config().errorBound(1E-5).concurrency(4).build();
+
+        var memoryUsage = GlobalClusteringCoefficient
+            .memoryEstimation(config)
+            .estimate(GraphDimensions.of(100), config.concurrency())
+            .memoryUsage();
+
+        assertThat(config.sampleCount()).isGreaterThan(Integer.MAX_VALUE);
+        assertThat(memoryUsage.max).isLessThan(4L * MemoryUsage.sizeOfLongArray(GlobalClusteringCoefficient.SAMPLE_BATCH_SIZE) + 10_000);
+    }
+
+    @Test
+    void shouldDeriveSampleCountFromConfidence() {
+        var config = config().errorBound(0.01).confidenceLevel(0.95).build();
+
+        // ln(2 / 0.05) / (2 * 0.01^2)
+        assertThat(config.sampleCount()).isEqualTo(18445L);
+    }
+
+    private static ImmutableGlobalClusteringCoefficientStatsConfig.Builder config() {
+        return ImmutableGlobalClusteringCoefficientStatsConfig.builder().randomSeed(42L);
+    }
+
+    private static GlobalClusteringCoefficientResult compute(Graph graph, GlobalClusteringCoefficientStatsConfig config) {
+        return new GlobalClusteringCoefficientFactory<>()
+            .build(graph, config, AllocationTracker.empty(), ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    private static Graph fromGdl(String gdl) {
+        return TestSupport.fromGdl(gdl, Orientation.UNDIRECTED).graph();
+    }
+}
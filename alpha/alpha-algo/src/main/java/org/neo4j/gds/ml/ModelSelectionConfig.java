@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+
+public interface ModelSelectionConfig {
+
+    // how many pairs of model candidate and validation fold may be trained at the same time
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int concurrentTrainings() {
+        return 1;
+    }
+
+    // drop the weaker half of the model candidates after each validation fold
+    @Value.Default
+    default boolean successiveHalving() {
+        return false;
+    }
+
+    @Configuration.Ignore
+    @Value.Derived
+    default boolean sequentialModelSelection() {
+        return concurrentTrainings() == 1 && !successiveHalving();
+    }
+}
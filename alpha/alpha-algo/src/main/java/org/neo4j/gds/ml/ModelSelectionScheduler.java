@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml;
+
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.GcListenerExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.core.concurrency.ParallelUtil.runWithConcurrency;
+
+/**
+ * Evaluates model candidates on validation folds, running several of these trainings at the same time.
+ * The number of concurrent trainings is bounded by the configuration, the available concurrency
+ * and by how many single threaded trainings fit into the free heap according to their memory estimation.
+ * Concurrent trainings already occupy threads of the shared pool, so each of them runs single threaded.
+ * Only a training that runs on its own is handed the full concurrency.
+ *
+ * With successive halving, the remaining candidates are evaluated on one fold at a time
+ * and only the better half of them, by their average score so far, is kept for the next fold.
+ */
+public final class ModelSelectionScheduler {
+
+    @FunctionalInterface
+    public interface FoldEvaluator<RESULT> {
+        RESULT evaluate(int candidate, int fold, int concurrency);
+    }
+
+    private final int concurrentTrainings;
+    private final int trainingConcurrency;
+    private final boolean successiveHalving;
+    private final TerminationFlag terminationFlag;
+
+    public ModelSelectionScheduler(
+        int concurrency,
+        ModelSelectionConfig config,
+        IntToLongFunction bytesPerTraining,
+        TerminationFlag terminationFlag
+    ) {
+        this(concurrency, config, bytesPerTraining, GcListenerExtension.freeMemory(), terminationFlag);
+    }
+
+    ModelSelectionScheduler(
+        int concurrency,
+        ModelSelectionConfig config,
+        IntToLongFunction bytesPerTraining,
+        long freeMemory,
+        TerminationFlag terminationFlag
+    ) {
+        long trainingsFittingIntoMemory = Math.max(1, freeMemory / Math.max(1, bytesPerTraining.applyAsLong(1)));
+        this.concurrentTrainings = (int) Math.min(
+            Math.min(config.concurrentTrainings(), Math.max(1, concurrency)),
+            trainingsFittingIntoMemory
+        );
+        this.trainingConcurrency = concurrentTrainings > 1 ? 1 : Math.max(1, concurrency);
+        this.successiveHalving = config.successiveHalving();
+        this.terminationFlag = terminationFlag;
+    }
+
+    public static int numberOfTrainings(int numberOfCandidates, int numberOfFolds, boolean successiveHalving) {
+        if (!successiveHalving) {
+            return numberOfCandidates * numberOfFolds;
+        }
+
+        int trainings = 0;
+        int remainingCandidates = numberOfCandidates;
+        for (int fold = 0; fold < numberOfFolds; fold++) {
+            trainings += remainingCandidates;
+            remainingCandidates = survivors(remainingCandidates);
+        }
+        return trainings;
+    }
+
+    int concurrentTrainings() {
+        return concurrentTrainings;
+    }
+
+    int trainingConcurrency() {
+        return trainingConcurrency;
+    }
+
+    /**
+     * @return the result of each candidate on each fold.
+     *     Folds on which a candidate was not evaluated, because it was dropped before, have a {@code null} result.
+     */
+    public <RESULT> List<List<RESULT>> evaluate(
+        int numberOfCandidates,
+        int numberOfFolds,
+        FoldEvaluator<RESULT> evaluator,
+        ToDoubleFunction<RESULT> score
+    ) {
+        var results = new ArrayList<List<RESULT>>(numberOfCandidates);
+        for (int candidate = 0; candidate < numberOfCandidates; candidate++) {
+            results.add(new ArrayList<>(Collections.nCopies(numberOfFolds, null)));
+        }
+
+        var allCandidates = IntStream.range(0, numberOfCandidates).boxed().collect(Collectors.toList());
+
+        if (!successiveHalving) {
+            var tasks = new ArrayList<Runnable>(numberOfCandidates * numberOfFolds);
+            for (int candidate : allCandidates) {
+                for (int fold = 0; fold < numberOfFolds; fold++) {
+                    tasks.add(evaluationTask(candidate, fold, evaluator, results));
+                }
+            }
+            runWithConcurrency(concurrentTrainings, tasks, terminationFlag, Pools.DEFAULT);
+
+            return results;
+        }
+
+        List<Integer> remainingCandidates = allCandidates;
+        for (int fold = 0; fold < numberOfFolds; fold++) {
+            int currentFold = fold;
+            var tasks = remainingCandidates
+                .stream()
+                .map(candidate -> evaluationTask(candidate, currentFold, evaluator, results))
+                .collect(Collectors.toList());
+            runWithConcurrency(concurrentTrainings, tasks, terminationFlag, Pools.DEFAULT);
+
+            int evaluatedFolds = fold + 1;
+            // the sort is stable, so ties are resolved in favour of the earlier candidate
+            remainingCandidates = remainingCandidates
+                .stream()
+                .sorted(Comparator
+                    .comparingDouble((Integer candidate) -> averageScore(results.get(candidate), evaluatedFolds, score))
+                    .reversed())
+                .limit(survivors(remainingCandidates.size()))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+
+        return results;
+    }
+
+    private <RESULT> Runnable evaluationTask(
+        int candidate,
+        int fold,
+        FoldEvaluator<RESULT> evaluator,
+        List<List<RESULT>> results
+    ) {
+        // every task writes to its own slot, which is safe since the list is never resized
+        return () -> results.get(candidate).set(fold, evaluator.evaluate(candidate, fold, trainingConcurrency));
+    }
+
+    private static <RESULT> double averageScore(List<RESULT> foldResults, int evaluatedFolds, ToDoubleFunction<RESULT> score) {
+        double sum = 0;
+        for (int fold = 0; fold < evaluatedFolds; fold++) {
+            sum += score.applyAsDouble(foldResults.get(fold));
+        }
+        return sum / evaluatedFolds;
+    }
+
+    private static int survivors(int numberOfCandidates) {
+        return (numberOfCandidates + 1) / 2;
+    }
+}
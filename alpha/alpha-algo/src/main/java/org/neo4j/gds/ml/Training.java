@@ -157,6 +157,7 @@ public class Training {
     static class ObjectiveUpdateConsumer implements Consumer<Batch> {
         private final Objective<?> objective;
         private final long trainSize;
+        private final ComputationContext ctx;
         private List<? extends Tensor<?>> summedWeightGradients;
         private int consumedBatches;
 
@@ -172,12 +173,14 @@ public class Training {
                 .map(weight -> weight.data().createWithSameDimensions())
                 .collect(Collectors.toList());
             this.consumedBatches = 0;
+            this.ctx = new ComputationContext();
         }
 
         @Override
         public void accept(Batch batch) {
             Variable<Scalar> loss = objective.loss(batch, trainSize);
-            var ctx = new ComputationContext();
+            // the buffers of the previous batch are handed out again, its gradients were already summed up
+            ctx.reset();
             ctx.forward(loss);
             ctx.backward(loss);
 
@@ -35,10 +35,20 @@ public class ExhaustiveLinkPredictionResult implements LinkPredictionResult {
 
     private final BoundedLongLongPriorityQueue predictionQueue;
     private final long linksConsidered;
+    private final String strategy;
 
     public ExhaustiveLinkPredictionResult(BoundedLongLongPriorityQueue bestPredictions, long linksConsidered) {
+        this(bestPredictions, linksConsidered, "exhaustive");
+    }
+
+    public ExhaustiveLinkPredictionResult(
+        BoundedLongLongPriorityQueue bestPredictions,
+        long linksConsidered,
+        String strategy
+    ) {
         this.predictionQueue = bestPredictions;
         this.linksConsidered = linksConsidered;
+        this.strategy = strategy;
     }
 
     public int size() {
@@ -93,7 +103,7 @@ public class ExhaustiveLinkPredictionResult implements LinkPredictionResult {
     @Override
     public Map<String, Object> samplingStats() {
         return Map.of(
-            "strategy", "exhaustive",
+            "strategy", strategy,
             "linksConsidered", linksConsidered
         );
     }
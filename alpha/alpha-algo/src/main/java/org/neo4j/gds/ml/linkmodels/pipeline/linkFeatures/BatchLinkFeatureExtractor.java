@@ -21,31 +21,27 @@ package org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 class BatchLinkFeatureExtractor implements Runnable {
-    final LinkFeatureExtractor extractor;
     final DegreePartition partition;
     final long relationshipOffset;
     final Graph graph;
-    final HugeObjectArray<double[]> linkFeatures;
+    final LinkConsumer linkConsumer;
     final ProgressTracker progressTracker;
 
     BatchLinkFeatureExtractor(
-        LinkFeatureExtractor extractor,
         DegreePartition partition,
         Graph graph,
         long relationshipOffset,
-        HugeObjectArray<double[]> linkFeatures,
+        LinkConsumer linkConsumer,
         ProgressTracker progressTracker
     ) {
-        this.extractor = extractor;
         this.partition = partition;
         this.relationshipOffset = relationshipOffset;
         this.graph = graph;
-        this.linkFeatures = linkFeatures;
+        this.linkConsumer = linkConsumer;
         this.progressTracker = progressTracker;
     }
 
@@ -55,13 +51,16 @@ class BatchLinkFeatureExtractor implements Runnable {
 
         partition.consume(nodeId -> {
             graph.forEachRelationship(nodeId, ((sourceNodeId, targetNodeId) -> {
-                var features = extractor.extractFeatures(sourceNodeId, targetNodeId);
-                linkFeatures.set(currentRelationshipOffset.getAndIncrement(), features);
+                linkConsumer.accept(currentRelationshipOffset.getAndIncrement(), sourceNodeId, targetNodeId);
                 return true;
             }));
         });
 
         progressTracker.logProgress(partition.totalDegree());
     }
-}
 
+    @FunctionalInterface
+    interface LinkConsumer {
+        void accept(long relationshipIdx, long sourceNodeId, long targetNodeId);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures;
+
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+
+/**
+ * Stores the features of all relationships in one contiguous array,
+ * avoiding an array object per relationship.
+ */
+final class CachedLinkFeatures implements LinkFeatures {
+    private final HugeDoubleArray features;
+    private final long size;
+    private final int featureDimension;
+
+    CachedLinkFeatures(HugeDoubleArray features, long size, int featureDimension) {
+        this.features = features;
+        this.size = size;
+        this.featureDimension = featureDimension;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int featureDimension() {
+        return featureDimension;
+    }
+
+    @Override
+    public void copyFeatures(long relationshipIdx, double[] target, int offset) {
+        long start = relationshipIdx * featureDimension;
+        for (int i = 0; i < featureDimension; i++) {
+            target[offset + i] = features.get(start + i);
+        }
+    }
+}
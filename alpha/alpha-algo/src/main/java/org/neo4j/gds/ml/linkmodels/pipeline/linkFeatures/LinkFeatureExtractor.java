@@ -23,16 +23,19 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.TrainingConfig;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -66,20 +69,67 @@ public final class LinkFeatureExtractor {
         return new LinkFeatureExtractor(linkFeatureProducers, featureDimension, featureDimensions);
     }
 
-    public static HugeObjectArray<double[]> extractFeatures(
+    /**
+     * Computes the features of all relationships of the graph and caches them in a contiguous array.
+     */
+    public static LinkFeatures extractFeatures(
         Graph graph,
         List<LinkFeatureStep> linkFeatureSteps,
         int concurrency,
         ProgressTracker progressTracker
     ) {
         var extractor = of(graph, linkFeatureSteps);
+        int featureDimension = extractor.featureDimension();
 
-        var linkFeatures = HugeObjectArray.newArray(
-            double[].class,
-            graph.relationshipCount(),
+        var linkFeatures = HugeDoubleArray.newArray(
+            graph.relationshipCount() * featureDimension,
             AllocationTracker.empty()
         );
 
+        forEachLink(graph, concurrency, progressTracker, () -> {
+            var features = new double[featureDimension];
+            return (relationshipIdx, sourceNodeId, targetNodeId) -> {
+                extractor.extractFeatures(sourceNodeId, targetNodeId, features, 0);
+                long offset = relationshipIdx * featureDimension;
+                for (int i = 0; i < featureDimension; i++) {
+                    linkFeatures.set(offset + i, features[i]);
+                }
+            };
+        });
+
+        return new CachedLinkFeatures(linkFeatures, graph.relationshipCount(), featureDimension);
+    }
+
+    /**
+     * Only records the end nodes of all relationships of the graph.
+     * The features are computed from the node properties whenever they are accessed,
+     * such that the memory does not grow with the feature dimension.
+     */
+    public static LinkFeatures lazyFeatures(
+        Graph graph,
+        List<LinkFeatureStep> linkFeatureSteps,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        var extractor = of(graph, linkFeatureSteps);
+
+        var sourceNodes = HugeLongArray.newArray(graph.relationshipCount(), AllocationTracker.empty());
+        var targetNodes = HugeLongArray.newArray(graph.relationshipCount(), AllocationTracker.empty());
+
+        forEachLink(graph, concurrency, progressTracker, () -> (relationshipIdx, sourceNodeId, targetNodeId) -> {
+            sourceNodes.set(relationshipIdx, sourceNodeId);
+            targetNodes.set(relationshipIdx, targetNodeId);
+        });
+
+        return new LazyLinkFeatures(extractor, sourceNodes, targetNodes);
+    }
+
+    private static void forEachLink(
+        Graph graph,
+        int concurrency,
+        ProgressTracker progressTracker,
+        Supplier<BatchLinkFeatureExtractor.LinkConsumer> linkConsumerSupplier
+    ) {
         var partitions = PartitionUtils.degreePartition(
             graph,
             concurrency,
@@ -91,30 +141,37 @@ public final class LinkFeatureExtractor {
         var relationshipOffset = 0L;
         for (DegreePartition partition : partitions) {
             linkFeatureWriters.add(new BatchLinkFeatureExtractor(
-                extractor,
                 partition,
                 graph.concurrentCopy(),
                 relationshipOffset,
-                linkFeatures,
+                linkConsumerSupplier.get(),
                 progressTracker
             ));
             relationshipOffset += partition.totalDegree();
         }
 
         ParallelUtil.runWithConcurrency(concurrency, linkFeatureWriters, Pools.DEFAULT);
-
-        return linkFeatures;
     }
 
     public double[] extractFeatures(long source, long target) {
         var featuresForLink = new double[featureDimension];
-        int featureOffset = 0;
+        extractFeatures(source, target, featuresForLink, 0);
+        return featuresForLink;
+    }
+
+    /**
+     * Writes the features of the link into {@code features}, starting at {@code offset}.
+     * This allows filling a flat batch of link features without allocating per link.
+     * The slot of the link is cleared first, as some appenders accumulate into it.
+     */
+    public void extractFeatures(long source, long target, double[] features, int offset) {
+        Arrays.fill(features, offset, offset + featureDimension, 0D);
+        int featureOffset = offset;
         for (int i = 0; i < linkFeatureAppenders.size(); i++) {
             var featureProducer = linkFeatureAppenders.get(i);
-            featureProducer.appendFeatures(source, target, featuresForLink, featureOffset);
+            featureProducer.appendFeatures(source, target, features, featureOffset);
             featureOffset += featureDimensions.get(i);
         }
-        return featuresForLink;
     }
 
     public int featureDimension() {
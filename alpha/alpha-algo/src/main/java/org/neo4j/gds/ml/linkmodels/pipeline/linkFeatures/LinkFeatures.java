@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures;
+
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+/**
+ * The features of all relationships of a graph.
+ * Relationships are identified by their position in the traversal order of the graph.
+ */
+public interface LinkFeatures {
+
+    long size();
+
+    int featureDimension();
+
+    /**
+     * Writes the features of the relationship into {@code features}, starting at {@code offset}.
+     */
+    void copyFeatures(long relationshipIdx, double[] features, int offset);
+
+    default double[] get(long relationshipIdx) {
+        var features = new double[featureDimension()];
+        copyFeatures(relationshipIdx, features, 0);
+        return features;
+    }
+
+    static LinkFeatures of(HugeObjectArray<double[]> features) {
+        int featureDimension = features.size() == 0 ? 0 : features.get(0).length;
+
+        return new LinkFeatures() {
+            @Override
+            public long size() {
+                return features.size();
+            }
+
+            @Override
+            public int featureDimension() {
+                return featureDimension;
+            }
+
+            @Override
+            public void copyFeatures(long relationshipIdx, double[] target, int offset) {
+                System.arraycopy(features.get(relationshipIdx), 0, target, offset, featureDimension);
+            }
+        };
+    }
+}
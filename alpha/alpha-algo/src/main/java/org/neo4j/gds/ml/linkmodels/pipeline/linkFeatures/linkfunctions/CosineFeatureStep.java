@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions;
 
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.utils.VectorKernels;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureAppender;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureStep;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureStepFactory;
@@ -54,11 +55,10 @@ public class CosineFeatureStep implements LinkFeatureStep {
                         var sourceArrayPropValues = props.doubleArrayValue(source);
                         var targetArrayPropValues = props.doubleArrayValue(target);
                         assert sourceArrayPropValues.length == targetArrayPropValues.length;
-                        for (int i = 0; i < sourceArrayPropValues.length; i++) {
-                            linkFeatures[offset] += sourceArrayPropValues[i] * targetArrayPropValues[i];
-                            sourceSquareNorm += sourceArrayPropValues[i] * sourceArrayPropValues[i];
-                            targetSquareNorm += targetArrayPropValues[i] * targetArrayPropValues[i];
-                        }
+                        int length = sourceArrayPropValues.length;
+                        linkFeatures[offset] += VectorKernels.dot(sourceArrayPropValues, targetArrayPropValues, length);
+                        sourceSquareNorm += VectorKernels.squaredNorm(sourceArrayPropValues, length);
+                        targetSquareNorm += VectorKernels.squaredNorm(targetArrayPropValues, length);
                         break;
                     }
                     case LONG_ARRAY: {
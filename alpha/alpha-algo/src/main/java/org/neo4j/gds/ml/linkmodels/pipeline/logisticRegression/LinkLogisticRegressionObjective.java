@@ -21,7 +21,6 @@ package org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression;
 
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.Objective;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.batch.Batch;
@@ -38,19 +37,20 @@ import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Scalar;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 import org.neo4j.gds.ml.core.tensor.Vector;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatures;
 
 import java.util.List;
 
 public class LinkLogisticRegressionObjective implements Objective<LinkLogisticRegressionData> {
     private final LinkLogisticRegressionData modelData;
     private final double penalty;
-    private final HugeObjectArray<double[]> linkFeatures;
+    private final LinkFeatures linkFeatures;
     private final HugeDoubleArray targets;
 
     public LinkLogisticRegressionObjective(
         LinkLogisticRegressionData llrData,
         double penalty,
-        HugeObjectArray<double[]> linkFeatures,
+        LinkFeatures linkFeatures,
         HugeDoubleArray targets
     ) {
         this.modelData = llrData;
@@ -114,16 +114,20 @@ public class LinkLogisticRegressionObjective implements Objective<LinkLogisticRe
      * @param batch Set of relationship ids
      * @param linkFeatures LinkFeatures for relationships
      */
-    Constant<Matrix> features(Batch batch, HugeObjectArray<double[]> linkFeatures) {
+    Constant<Matrix> features(Batch batch, LinkFeatures linkFeatures) {
         assert linkFeatures.size() > 0;
 
         // assume the batch contains relationship ids
         int rows = batch.size();
-        int cols = linkFeatures.get(0).length;
+        int cols = linkFeatures.featureDimension();
         var batchFeatures = new Matrix(rows, cols);
         var batchFeaturesOffset = new MutableInt();
 
-        batch.nodeIds().forEach(id -> batchFeatures.setRow(batchFeaturesOffset.getAndIncrement(), linkFeatures.get(id)));
+        batch.nodeIds().forEach(id -> linkFeatures.copyFeatures(
+            id,
+            batchFeatures.data(),
+            batchFeaturesOffset.getAndAdd(cols)
+        ));
 
         return new Constant<>(batchFeatures);
     }
@@ -43,4 +43,27 @@ public class LinkLogisticRegressionPredictor {
         }
         return Sigmoid.sigmoid(affinity + bias.value());
     }
+
+    /**
+     * Predicts the probabilities of a batch of links at once.
+     *
+     * @param featureBatch the features of the links, one link after another
+     * @param batchSize the number of links in the batch
+     * @param probabilities receives the probability of each link
+     */
+    public void predictedProbabilities(double[] featureBatch, int batchSize, double[] probabilities) {
+        int featureDimension = weights.totalSize();
+        assert featureBatch.length >= batchSize * featureDimension;
+        assert probabilities.length >= batchSize;
+
+        double biasValue = bias.value();
+        for (int link = 0; link < batchSize; link++) {
+            int offset = link * featureDimension;
+            var affinity = 0D;
+            for (int i = 0; i < featureDimension; i++) {
+                affinity += weights.dataAt(i) * featureBatch[offset + i];
+            }
+            probabilities[link] = Sigmoid.sigmoid(affinity + biasValue);
+        }
+    }
 }
@@ -21,19 +21,19 @@ package org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression;
 
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.Training;
 import org.neo4j.gds.ml.core.batch.BatchQueue;
 import org.neo4j.gds.ml.core.batch.HugeBatchQueue;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatures;
 
 import java.util.function.Supplier;
 
 public class LinkLogisticRegressionTrain {
 
     private final ReadOnlyHugeLongArray trainSet;
-    private final HugeObjectArray<double[]> linkFeatures;
+    private final LinkFeatures linkFeatures;
     private final HugeDoubleArray linkTargets;
     private final LinkLogisticRegressionTrainConfig config;
     private final ProgressTracker progressTracker;
@@ -42,7 +42,7 @@ public class LinkLogisticRegressionTrain {
 
     public LinkLogisticRegressionTrain(
         ReadOnlyHugeLongArray trainSet,
-        HugeObjectArray<double[]> linkFeatures,
+        LinkFeatures linkFeatures,
         HugeDoubleArray linkTargets,
         LinkLogisticRegressionTrainConfig config,
         ProgressTracker progressTracker,
@@ -61,7 +61,7 @@ public class LinkLogisticRegressionTrain {
     public LinkLogisticRegressionData compute() {
         assert linkFeatures.size() != 0;
 
-        var llrData = LinkLogisticRegressionData.from(linkFeatures.get(0).length, config.useBiasFeature());
+        var llrData = LinkLogisticRegressionData.from(linkFeatures.featureDimension(), config.useBiasFeature());
         var objective = new LinkLogisticRegressionObjective(llrData, config.penalty(), linkFeatures, linkTargets);
         var training = new Training(config, progressTracker, linkFeatures.size(), terminationFlag);
         Supplier<BatchQueue> queueSupplier = () -> new HugeBatchQueue(trainSet, config.batchSize());
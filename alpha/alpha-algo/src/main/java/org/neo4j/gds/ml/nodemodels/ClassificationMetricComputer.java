@@ -41,6 +41,7 @@ public class ClassificationMetricComputer implements MetricComputer {
     private final Multiset<Long> classCounts;
     private final Graph graph;
     private final NodeClassificationTrainConfig config;
+    private final int concurrency;
     private final ProgressTracker progressTracker;
     private final TerminationFlag terminationFlag;
 
@@ -50,6 +51,7 @@ public class ClassificationMetricComputer implements MetricComputer {
         Multiset<Long> classCounts,
         Graph graph,
         NodeClassificationTrainConfig config,
+        int concurrency,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
@@ -58,6 +60,7 @@ public class ClassificationMetricComputer implements MetricComputer {
         this.classCounts = classCounts;
         this.graph = graph;
         this.config = config;
+        this.concurrency = concurrency;
         this.progressTracker = progressTracker;
         this.terminationFlag = terminationFlag;
     }
@@ -81,7 +84,7 @@ public class ClassificationMetricComputer implements MetricComputer {
         );
 
         var queue = new BatchQueue(evaluationSet.size());
-        queue.parallelConsume(consumer, config.concurrency(), terminationFlag);
+        queue.parallelConsume(consumer, concurrency, terminationFlag);
 
         var localTargets = makeLocalTargets(evaluationSet);
         return metrics.stream().collect(Collectors.toMap(
@@ -26,6 +26,7 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.model.Model;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -36,10 +37,13 @@ import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.ml.ModelSelectionConfig;
+import org.neo4j.gds.ml.ModelSelectionScheduler;
 import org.neo4j.gds.ml.Predictor;
 import org.neo4j.gds.ml.Training;
 import org.neo4j.gds.ml.TrainingConfig;
 import org.neo4j.gds.ml.core.batch.BatchQueue;
+import org.neo4j.gds.ml.core.features.FeatureExtraction;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.nodemodels.logisticregression.NodeLogisticRegressionData;
 import org.neo4j.gds.ml.nodemodels.logisticregression.NodeLogisticRegressionPredictor;
@@ -52,9 +56,12 @@ import org.neo4j.gds.ml.splitting.TrainingExamplesSplit;
 import org.neo4j.gds.ml.util.ShuffleUtil;
 import org.openjdk.jol.util.Multiset;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
@@ -73,6 +80,7 @@ public final class NodeClassificationTrain extends Algorithm<NodeClassificationT
     private final HugeLongArray targets;
     private final HugeLongArray nodeIds;
     private final AllocationTracker allocationTracker;
+    private final Multiset<Long> classCounts;
     private final List<Metric> metrics;
     private final StatsMap trainStats;
     private final StatsMap validationStats;
@@ -124,22 +132,32 @@ public final class NodeClassificationTrain extends Algorithm<NodeClassificationT
         return "NCTrain";
     }
 
-    public static Task progressTask(int validationFolds, int paramsSize) {
+    public static Task progressTask(int validationFolds, int paramsSize, ModelSelectionConfig modelSelectionConfig) {
         return Tasks.task(
             taskName(),
             Tasks.leaf("ShuffleAndSplit"),
-            Tasks.iterativeFixed(
-                "SelectBestModel",
-                () -> List.of(Tasks.iterativeFixed("Model Candidate", () -> List.of(
-                        Tasks.task(
-                            "Split",
-                            Training.progressTask("Training"),
-                            Tasks.leaf("Evaluate")
-                        )
-                    ), validationFolds)
+            modelSelectionConfig.sequentialModelSelection()
+                ? Tasks.iterativeFixed(
+                    "SelectBestModel",
+                    () -> List.of(Tasks.iterativeFixed("Model Candidate", () -> List.of(
+                            Tasks.task(
+                                "Split",
+                                Training.progressTask("Training"),
+                                Tasks.leaf("Evaluate")
+                            )
+                        ), validationFolds)
+                    ),
+                    paramsSize
+                )
+                // concurrent trainings only report how many of them have finished
+                : Tasks.leaf(
+                    "SelectBestModel",
+                    ModelSelectionScheduler.numberOfTrainings(
+                        paramsSize,
+                        validationFolds,
+                        modelSelectionConfig.successiveHalving()
+                    )
                 ),
-                paramsSize
-            ),
             Training.progressTask("TrainSelectedOnRemainder"),
             Tasks.leaf("EvaluateSelectedModel"),
             Training.progressTask("RetrainSelectedModel")
@@ -245,6 +263,7 @@ public final class NodeClassificationTrain extends Algorithm<NodeClassificationT
         this.targets = targets;
         this.metrics = metrics;
         this.nodeIds = nodeIds;
+        this.classCounts = classCounts;
         this.trainStats = trainStats;
         this.validationStats = validationStats;
         this.allocationTracker = allocationTracker;
@@ -254,6 +273,7 @@ public final class NodeClassificationTrain extends Algorithm<NodeClassificationT
             classCounts,
             graph,
             config,
+            config.concurrency(),
             progressTracker,
             terminationFlag
         );
@@ -293,6 +313,10 @@ public final class NodeClassificationTrain extends Algorithm<NodeClassificationT
     }
 
     private ModelSelectResult selectBestModel(List<TrainingExamplesSplit> nodeSplits) {
+        if (!config.sequentialModelSelection()) {
+            return selectBestModelConcurrently(nodeSplits);
+        }
+
         progressTracker.beginSubTask();
         for (NodeLogisticRegressionTrainConfig modelParams : config.paramsConfig()) {
             progressTracker.beginSubTask();
@@ -331,6 +355,105 @@ public final class NodeClassificationTrain extends Algorithm<NodeClassificationT
         return ModelSelectResult.of(bestModelStats.params(), trainStats, validationStats);
     }
 
+    private ModelSelectResult selectBestModelConcurrently(List<TrainingExamplesSplit> nodeSplits) {
+        progressTracker.beginSubTask();
+
+        var paramsConfig = config.paramsConfig();
+        var mainMetric = metrics.get(0);
+        var scheduler = new ModelSelectionScheduler(
+            config.concurrency(),
+            config,
+            trainingConcurrency -> estimateTrainingMemory(nodeSplits, trainingConcurrency),
+            terminationFlag
+        );
+
+        // the trainings run concurrently, so they do not log their individual progress
+        var foldResults = scheduler.evaluate(
+            paramsConfig.size(),
+            nodeSplits.size(),
+            (candidate, fold, concurrency) -> {
+                var nodeSplit = nodeSplits.get(fold);
+                var modelParams = paramsConfig.get(candidate);
+                var train = new NodeLogisticRegressionTrain(
+                    graph,
+                    nodeSplit.trainSet(),
+                    modelParams,
+                    ProgressTracker.NULL_TRACKER,
+                    terminationFlag,
+                    concurrency
+                );
+                var predictor = new NodeLogisticRegressionPredictor(train.compute(), modelParams.featureProperties());
+                var foldMetricComputer = new ClassificationMetricComputer(
+                    allocationTracker,
+                    metrics,
+                    classCounts,
+                    graph,
+                    config,
+                    concurrency,
+                    ProgressTracker.NULL_TRACKER,
+                    terminationFlag
+                );
+
+                FoldMetrics result = ImmutableFoldMetrics.of(
+                    foldMetricComputer.computeMetrics(nodeSplit.trainSet(), predictor),
+                    foldMetricComputer.computeMetrics(nodeSplit.testSet(), predictor)
+                );
+                progressTracker.logProgress();
+                return result;
+            },
+            result -> result.validation().get(mainMetric)
+        );
+
+        // candidates dropped by successive halving cannot be selected
+        var remainingCandidates = new ArrayList<ModelStats<NodeLogisticRegressionTrainConfig>>();
+        for (int candidate = 0; candidate < paramsConfig.size(); candidate++) {
+            var evaluatedFolds = foldResults.get(candidate);
+            var evaluatedFoldCount = (int) evaluatedFolds.stream().filter(Objects::nonNull).count();
+            var validationStatsBuilder = new ModelStatsBuilder(paramsConfig.get(candidate), evaluatedFoldCount);
+            var trainStatsBuilder = new ModelStatsBuilder(paramsConfig.get(candidate), evaluatedFoldCount);
+
+            for (var result : evaluatedFolds) {
+                if (result == null) continue;
+                result.validation().forEach(validationStatsBuilder::update);
+                result.train().forEach(trainStatsBuilder::update);
+            }
+
+            metrics.forEach(metric -> {
+                validationStats.add(metric, validationStatsBuilder.build(metric));
+                trainStats.add(metric, trainStatsBuilder.build(metric));
+            });
+
+            if (evaluatedFoldCount == nodeSplits.size()) {
+                remainingCandidates.add(validationStatsBuilder.build(mainMetric));
+            }
+        }
+        progressTracker.endSubTask();
+
+        var bestModelStats = Collections.max(remainingCandidates, ModelStats.COMPARE_AVERAGE);
+
+        return ModelSelectResult.of(bestModelStats.params(), trainStats, validationStats);
+    }
+
+    private long estimateTrainingMemory(List<TrainingExamplesSplit> nodeSplits, int trainingConcurrency) {
+        var maxBatchSize = config.paramsConfig()
+            .stream()
+            .mapToInt(TrainingConfig::batchSize)
+            .max()
+            .getAsInt();
+        var largestSetSize = nodeSplits
+            .stream()
+            .mapToLong(split -> Math.max(split.trainSet().size(), split.testSet().size()))
+            .max()
+            .orElse(0);
+
+        return modelTrainAndEvaluateMemoryUsage(
+            maxBatchSize,
+            classCounts.keys().size(),
+            FeatureExtraction.featureCountWithBias(graph, config.featureProperties()),
+            nodeCount -> largestSetSize
+        ).estimate(GraphDimensions.of(graph.nodeCount()), trainingConcurrency).memoryUsage().max;
+    }
+
     private Map<Metric, MetricData<NodeLogisticRegressionTrainConfig>> evaluateBestModel(
         TrainingExamplesSplit outerSplit,
         ModelSelectResult modelSelectResult,
@@ -425,6 +548,12 @@ public final class NodeClassificationTrain extends Algorithm<NodeClassificationT
 
     }
 
+    @ValueClass
+    interface FoldMetrics {
+        Map<Metric, Double> train();
+        Map<Metric, Double> validation();
+    }
+
     private static class ModelStatsBuilder {
         private final Map<Metric, Double> min;
         private final Map<Metric, Double> max;
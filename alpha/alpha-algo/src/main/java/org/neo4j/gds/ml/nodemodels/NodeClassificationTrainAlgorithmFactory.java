@@ -53,6 +53,6 @@ public class NodeClassificationTrainAlgorithmFactory extends AlgorithmFactory<No
 
     @Override
     public Task progressTask(Graph graph, NodeClassificationTrainConfig config) {
-        return NodeClassificationTrain.progressTask(config.validationFolds(), config.params().size());
+        return NodeClassificationTrain.progressTask(config.validationFolds(), config.params().size(), config);
     }
 }
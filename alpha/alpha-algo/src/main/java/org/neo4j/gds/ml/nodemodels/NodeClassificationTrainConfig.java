@@ -27,6 +27,7 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.FeaturePropertiesConfig;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.ml.ModelSelectionConfig;
 import org.neo4j.gds.ml.nodemodels.logisticregression.NodeLogisticRegressionTrainConfig;
 import org.neo4j.gds.ml.nodemodels.metrics.MetricSpecification;
 import org.neo4j.gds.model.ModelConfig;
@@ -42,7 +43,7 @@ import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteChar
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface NodeClassificationTrainConfig extends AlgoBaseConfig, FeaturePropertiesConfig, ModelConfig, RandomSeedConfig {
+public interface NodeClassificationTrainConfig extends AlgoBaseConfig, FeaturePropertiesConfig, ModelConfig, RandomSeedConfig, ModelSelectionConfig {
 
     long serialVersionUID = 0x42L;
 
@@ -21,7 +21,6 @@ package org.neo4j.gds.ml.nodemodels.logisticregression;
 
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.ml.Predictor;
-import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.batch.Batch;
 import org.neo4j.gds.ml.core.features.BiasFeature;
@@ -72,10 +71,15 @@ public class NodeLogisticRegressionPredictor implements Predictor<Matrix, NodeLo
         return modelData;
     }
 
+    /**
+     * Computes the class probabilities directly on the extracted feature matrix.
+     * Unlike {@link #predictionsVariable(Graph, Batch)}, this does not build a computation graph.
+     */
     @Override
     public Matrix predict(Graph graph, Batch batch) {
-        ComputationContext ctx = new ComputationContext();
-        return ctx.forward(predictionsVariable(graph, batch));
+        var features = features(graph, batch).data();
+        var weights = modelData.weights().data();
+        return Softmax.softmax(features.multiplyTransB(weights));
     }
 
     Variable<Matrix> predictionsVariable(Graph graph, Batch batch) {
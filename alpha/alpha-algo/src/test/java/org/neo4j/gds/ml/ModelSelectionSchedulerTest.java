@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelSelectionSchedulerTest {
+
+    @Test
+    void shouldCountTrainings() {
+        assertThat(ModelSelectionScheduler.numberOfTrainings(5, 3, false)).isEqualTo(15);
+        // 5 candidates on the first fold, 3 on the second, 2 on the third
+        assertThat(ModelSelectionScheduler.numberOfTrainings(5, 3, true)).isEqualTo(10);
+        assertThat(ModelSelectionScheduler.numberOfTrainings(1, 4, true)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldBoundConcurrentTrainingsByMemory() {
+        var scheduler = new ModelSelectionScheduler(
+            8,
+            config(4, false),
+            trainingConcurrency -> 100L * trainingConcurrency,
+            250,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(scheduler.concurrentTrainings()).isEqualTo(2);
+        assertThat(scheduler.trainingConcurrency()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBoundConcurrentTrainingsByConcurrency() {
+        var scheduler = new ModelSelectionScheduler(
+            2,
+            config(4, false),
+            trainingConcurrency -> 1,
+            1_000,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(scheduler.concurrentTrainings()).isEqualTo(2);
+        assertThat(scheduler.trainingConcurrency()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunAtLeastOneTraining() {
+        var scheduler = new ModelSelectionScheduler(
+            4,
+            config(4, false),
+            trainingConcurrency -> 1_000,
+            10,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(scheduler.concurrentTrainings()).isEqualTo(1);
+        assertThat(scheduler.trainingConcurrency()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldEvaluateAllCandidatesOnAllFolds() {
+        var scheduler = new ModelSelectionScheduler(
+            4,
+            config(2, false),
+            trainingConcurrency -> 1,
+            1_000,
+            TerminationFlag.RUNNING_TRUE
+        );
+        var trainings = new AtomicInteger();
+
+        var results = scheduler.evaluate(
+            3,
+            2,
+            (candidate, fold, concurrency) -> {
+                trainings.incrementAndGet();
+                assertThat(concurrency).isEqualTo(1);
+                return candidate * 10 + fold;
+            },
+            Integer::doubleValue
+        );
+
+        assertThat(trainings.get()).isEqualTo(6);
+        assertThat(results).containsExactly(List.of(0, 1), List.of(10, 11), List.of(20, 21));
+    }
+
+    @Test
+    void shouldKeepBetterHalfWithSuccessiveHalving() {
+        var scheduler = new ModelSelectionScheduler(
+            4,
+            config(2, true),
+            trainingConcurrency -> 1,
+            1_000,
+            TerminationFlag.RUNNING_TRUE
+        );
+        // candidate 3 is the best on the first fold, but candidate 1 is the best on average
+        double[][] scores = {
+            {0.1, 0.1, 0.1},
+            {0.7, 0.9, 0.9},
+            {0.5, 0.1, 0.1},
+            {0.8, 0.1, 0.1},
+            {0.2, 0.9, 0.9}
+        };
+
+        var results = scheduler.evaluate(
+            scores.length,
+            3,
+            (candidate, fold, concurrency) -> scores[candidate][fold],
+            Double::doubleValue
+        );
+
+        assertThat(evaluatedFolds(results.get(0))).isEqualTo(1);
+        assertThat(evaluatedFolds(results.get(4))).isEqualTo(1);
+        assertThat(evaluatedFolds(results.get(2))).isEqualTo(2);
+        assertThat(evaluatedFolds(results.get(1))).isEqualTo(3);
+        assertThat(evaluatedFolds(results.get(3))).isEqualTo(3);
+        assertThat(results.stream().mapToLong(ModelSelectionSchedulerTest::evaluatedFolds).sum())
+            .isEqualTo(ModelSelectionScheduler.numberOfTrainings(scores.length, 3, true));
+    }
+
+    private static long evaluatedFolds(List<?> foldResults) {
+        return foldResults.stream().filter(Objects::nonNull).count();
+    }
+
+    private static ModelSelectionConfig config(int concurrentTrainings, boolean successiveHalving) {
+        return new ModelSelectionConfig() {
+            @Override
+            public int concurrentTrainings() {
+                return concurrentTrainings;
+            }
+
+            @Override
+            public boolean successiveHalving() {
+                return successiveHalving;
+            }
+        };
+    }
+}
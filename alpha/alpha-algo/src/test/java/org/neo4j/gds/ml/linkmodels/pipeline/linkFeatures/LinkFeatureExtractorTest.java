@@ -30,6 +30,8 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.CosineFeatureStep;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.HadamardFeatureStep;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -109,4 +111,57 @@ class LinkFeatureExtractorTest {
             assertThat(actual.get(i)).containsExactly(expected.get(i), withPrecision(1e-4D));
         }
     }
+
+    @Test
+    void lazyFeaturesEqualCachedFeatures() {
+        var linkFeatureSteps = List.<LinkFeatureStep>of(
+            new HadamardFeatureStep(List.of("array")),
+            new CosineFeatureStep(List.of("noise", "z"))
+        );
+
+        var cached = LinkFeatureExtractor.extractFeatures(graph, linkFeatureSteps, 4, ProgressTracker.NULL_TRACKER);
+        var lazy = LinkFeatureExtractor.lazyFeatures(graph, linkFeatureSteps, 4, ProgressTracker.NULL_TRACKER);
+
+        assertThat(lazy.size()).isEqualTo(cached.size());
+        assertThat(lazy.featureDimension()).isEqualTo(cached.featureDimension()).isEqualTo(3);
+
+        // both are compared against features extracted into a fresh buffer per link, in relationship order
+        var extractor = LinkFeatureExtractor.of(graph, linkFeatureSteps);
+        var expected = new ArrayList<double[]>();
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                expected.add(extractor.extractFeatures(source, target));
+                return true;
+            });
+            return true;
+        });
+        assertThat(expected).hasSize(Math.toIntExact(cached.size()));
+
+        var buffer = new double[2 * lazy.featureDimension()];
+        for (int i = 0; i < lazy.size(); i++) {
+            lazy.copyFeatures(i, buffer, lazy.featureDimension());
+            assertThat(Arrays.copyOfRange(buffer, lazy.featureDimension(), buffer.length))
+                .containsExactly(expected.get(i), withPrecision(1e-12D));
+            assertThat(cached.get(i)).containsExactly(expected.get(i), withPrecision(1e-12D));
+        }
+    }
+
+    @Test
+    void reusedBufferEqualsFreshBuffer() {
+        var extractor = LinkFeatureExtractor.of(graph, List.of(
+            new HadamardFeatureStep(List.of("array")),
+            new CosineFeatureStep(List.of("noise", "z"))
+        ));
+        int featureDimension = extractor.featureDimension();
+
+        var batch = new double[2 * featureDimension];
+        for (long source = 0; source < graph.nodeCount(); source++) {
+            for (long target = 0; target < graph.nodeCount(); target++) {
+                int offset = (int) (target % 2) * featureDimension;
+                extractor.extractFeatures(source, target, batch, offset);
+                assertThat(Arrays.copyOfRange(batch, offset, offset + featureDimension))
+                    .containsExactly(extractor.extractFeatures(source, target), withPrecision(1e-12D));
+            }
+        }
+    }
 }
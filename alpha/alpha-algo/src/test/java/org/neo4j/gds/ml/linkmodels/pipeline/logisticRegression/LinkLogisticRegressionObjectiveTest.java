@@ -40,6 +40,7 @@ import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 import org.neo4j.gds.ml.core.tensor.Vector;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureExtractor;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatures;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.L2FeatureStep;
 
 import java.util.Arrays;
@@ -118,7 +119,7 @@ class LinkLogisticRegressionObjectiveTest {
             return features;
         });
 
-        Constant<Matrix> batchFeatures = objective.features(batch, allFeatures);
+        Constant<Matrix> batchFeatures = objective.features(batch, LinkFeatures.of(allFeatures));
 
         assertThat(batchFeatures.data()).isEqualTo(expected);
     }
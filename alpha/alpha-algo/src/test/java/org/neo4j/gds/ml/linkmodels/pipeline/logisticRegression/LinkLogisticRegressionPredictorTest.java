@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression;
 
 import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -62,4 +63,27 @@ class LinkLogisticRegressionPredictorTest {
 
         assertThat(result).isCloseTo(expectedResult, Offset.offset(1e-8));
     }
+
+    @Test
+    void computesProbabilitiesOfBatch() {
+        var modelData = ImmutableLinkLogisticRegressionData.of(
+            new Weights<>(new Matrix(WEIGHTS, 1, WEIGHTS.length)),
+            Weights.ofScalar(0.3)
+        );
+
+        var predictor = new LinkLogisticRegressionPredictor(modelData);
+
+        var links = inputs().map(arguments -> (double[]) arguments.get()[0]).toArray(double[][]::new);
+        var featureBatch = new double[links.length * WEIGHTS.length];
+        for (int i = 0; i < links.length; i++) {
+            System.arraycopy(links[i], 0, featureBatch, i * WEIGHTS.length, WEIGHTS.length);
+        }
+
+        var probabilities = new double[links.length];
+        predictor.predictedProbabilities(featureBatch, links.length, probabilities);
+
+        for (int i = 0; i < links.length; i++) {
+            assertThat(probabilities[i]).isEqualTo(predictor.predictedProbability(links[i]));
+        }
+    }
 }
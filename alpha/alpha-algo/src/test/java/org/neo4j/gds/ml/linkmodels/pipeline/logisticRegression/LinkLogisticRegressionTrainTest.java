@@ -27,7 +27,6 @@ import org.neo4j.gds.core.collections.ReadOnlyHugeLongIdentityArray;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -35,6 +34,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureExtractor;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatures;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.L2FeatureStep;
 
 import java.util.List;
@@ -62,7 +62,7 @@ class LinkLogisticRegressionTrainTest {
     private Graph graph;
 
     List<String> features = List.of("a", "b");
-    private HugeObjectArray<double[]> linkFeatures;
+    private LinkFeatures linkFeatures;
     private HugeDoubleArray targets;
     private ReadOnlyHugeLongArray trainSet;
 
@@ -104,6 +104,34 @@ class LinkLogisticRegressionTrainTest {
         assertThat(result.bias().get().data().value()).isCloseTo(expectedBias, Offset.offset(1e-8));
     }
 
+    @Test
+    void shouldComputeOnLazyFeatures() {
+        var config = LinkLogisticRegressionTrainConfig.of(Map.of("maxEpochs", 100000, "tolerance", 1e-4));
+
+        var lazyLinkFeatures = LinkFeatureExtractor.lazyFeatures(
+            graph,
+            List.of(new L2FeatureStep(features)),
+            4,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = new LinkLogisticRegressionTrain(
+            trainSet,
+            lazyLinkFeatures,
+            targets,
+            config,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE,
+            1
+        ).compute();
+
+        var expected = new Matrix(new double[]{1.4846110075228092, -1.03519781024844}, 1, 2);
+        assertThat(result.weights().data()).matches(matrix -> matrix.equals(expected, 1e-8));
+
+        var expectedBias = -0.17217994185059912;
+        assertThat(result.bias().get().data().value()).isCloseTo(expectedBias, Offset.offset(1e-8));
+    }
+
     @Test
     void shouldComputeWithStreakStopperConcurrently() {
         var config = LinkLogisticRegressionTrainConfig.of(Map.of("penalty", 1.0, "maxEpochs", 100, "tolerance", 1e-10, "batchSize", 1));
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.ml.nodemodels;
 
+import org.assertj.core.data.Offset;
 import org.assertj.core.data.Percentage;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -112,6 +113,46 @@ class NodeClassificationTrainTest {
         assertThat(model1Score).isNotCloseTo(model2Score, Percentage.withPercentage(0.2));
     }
 
+    @ParameterizedTest
+    @MethodSource("metricArguments")
+    void selectsTheBestModelConcurrently(MetricSpecification metricSpecification) {
+        var metric = metricSpecification.createMetrics(List.of()).findFirst().get();
+
+        Map<String, Object> model1 = Map.of("penalty", 1, "maxEpochs", 1);
+        Map<String, Object> model2 = Map.of("penalty", 1, "maxEpochs", 10000, "tolerance", 1e-5);
+
+        var sequentialConfig = createConfig(
+            List.of(model1, model2),
+            "model",
+            List.of("a", "b"),
+            metricSpecification,
+            1L
+        );
+        var concurrentConfig = ImmutableNodeClassificationTrainConfig.builder()
+            .from(sequentialConfig)
+            .concurrency(2)
+            .concurrentTrainings(2)
+            .build();
+
+        var sequentialModel = NodeClassificationTrain
+            .create(graph, sequentialConfig, AllocationTracker.empty(), ProgressTracker.NULL_TRACKER)
+            .compute();
+        var concurrentModel = NodeClassificationTrain
+            .create(graph, concurrentConfig, AllocationTracker.empty(), ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        assertThat(concurrentModel.customInfo().bestParameters())
+            .isEqualTo(sequentialModel.customInfo().bestParameters());
+
+        var sequentialScores = sequentialModel.customInfo().metrics().get(metric).validation();
+        var concurrentScores = concurrentModel.customInfo().metrics().get(metric).validation();
+        assertThat(concurrentScores).hasSize(2);
+        for (int candidate = 0; candidate < 2; candidate++) {
+            assertThat(concurrentScores.get(candidate).avg())
+                .isCloseTo(sequentialScores.get(candidate).avg(), Offset.offset(1e-10));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("metricArguments")
     void shouldProduceDifferentMetricsForDifferentTrainings(MetricSpecification metricSpecification) {
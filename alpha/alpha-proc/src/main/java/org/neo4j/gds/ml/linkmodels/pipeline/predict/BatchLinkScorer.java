@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels.pipeline.predict;
+
+import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
+
+/**
+ * Scores candidate links of one source node at a time in batches of {@link #PREDICTION_BATCH_SIZE}
+ * and offers the ones that reach the threshold to a shared queue.
+ * The batch buffers are reused for every batch, so each prediction task needs a scorer of its own.
+ */
+final class BatchLinkScorer {
+    // number of candidate links whose features are extracted and predicted together
+    static final int PREDICTION_BATCH_SIZE = 1024;
+
+    private final LinkPredictionSimilarityComputer linkPredictionSimilarityComputer;
+    private final BoundedLongLongPriorityQueue predictionQueue;
+    private final double threshold;
+    private final long[] targetBatch;
+    private final double[] featureBatch;
+    private final double[] probabilityBatch;
+    private long sourceId;
+    private int batchSize;
+    private long linksConsidered;
+
+    BatchLinkScorer(
+        LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
+        BoundedLongLongPriorityQueue predictionQueue,
+        double threshold
+    ) {
+        this.linkPredictionSimilarityComputer = linkPredictionSimilarityComputer;
+        this.predictionQueue = predictionQueue;
+        this.threshold = threshold;
+        this.targetBatch = new long[PREDICTION_BATCH_SIZE];
+        this.featureBatch = new double[PREDICTION_BATCH_SIZE * linkPredictionSimilarityComputer.featureDimension()];
+        this.probabilityBatch = new double[PREDICTION_BATCH_SIZE];
+        this.linksConsidered = 0;
+    }
+
+    /**
+     * Adds a candidate link, all links of a batch have to share their source until it is flushed.
+     */
+    void add(long sourceId, long targetId) {
+        assert batchSize == 0 || this.sourceId == sourceId : "Flush the batch before scoring another source.";
+
+        this.sourceId = sourceId;
+        targetBatch[batchSize++] = targetId;
+        if (batchSize == PREDICTION_BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Scores the remaining candidate links of the current source.
+     */
+    void flush() {
+        if (batchSize == 0) {
+            return;
+        }
+
+        linkPredictionSimilarityComputer.similarities(
+            sourceId,
+            targetBatch,
+            batchSize,
+            featureBatch,
+            probabilityBatch
+        );
+        linksConsidered += batchSize;
+
+        for (int i = 0; i < batchSize; i++) {
+            var probability = probabilityBatch[i];
+            if (probability < threshold) continue;
+
+            // links are undirected and reported with the smaller node first
+            long targetId = targetBatch[i];
+            synchronized (predictionQueue) {
+                predictionQueue.offer(Math.min(sourceId, targetId), Math.max(sourceId, targetId), probability);
+            }
+        }
+        batchSize = 0;
+    }
+
+    long linksConsidered() {
+        return linksConsidered;
+    }
+}
@@ -32,7 +32,6 @@ import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureExtractor;
 import org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression.LinkLogisticRegressionData;
 
 import java.util.Optional;
-import java.util.stream.LongStream;
 
 public class ExhaustiveLinkPrediction extends LinkPrediction {
     private final int topN;
@@ -72,6 +71,7 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
                 graph.concurrentCopy(),
                 linkPredictionSimilarityComputer,
                 predictionQueue,
+                threshold,
                 partition,
                 progressTracker
             ),
@@ -86,25 +86,22 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
 
     final class LinkPredictionScoreByIdsConsumer implements Runnable {
         private final Graph graph;
-        private final LinkPredictionSimilarityComputer linkPredictionSimilarityComputer;
-        private final BoundedLongLongPriorityQueue predictionQueue;
+        private final BatchLinkScorer scorer;
         private final ProgressTracker progressTracker;
         private final Partition partition;
-        private long linksConsidered;
 
         LinkPredictionScoreByIdsConsumer(
             Graph graph,
             LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
             BoundedLongLongPriorityQueue predictionQueue,
+            double threshold,
             Partition partition,
             ProgressTracker progressTracker
         ) {
             this.graph = graph;
-            this.linkPredictionSimilarityComputer = linkPredictionSimilarityComputer;
-            this.predictionQueue = predictionQueue;
+            this.scorer = new BatchLinkScorer(linkPredictionSimilarityComputer, predictionQueue, threshold);
             this.progressTracker = progressTracker;
             this.partition = partition;
-            this.linksConsidered = 0;
         }
 
         @Override
@@ -113,17 +110,12 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
                 var largerNeighbors = largerNeighbors(sourceId);
                 // since graph is undirected, only process pairs where sourceId < targetId
                 var smallestTarget = sourceId + 1;
-                LongStream.range(smallestTarget, graph.nodeCount()).forEach(targetId -> {
-                        if (largerNeighbors.contains(targetId)) return;
-                        var probability = linkPredictionSimilarityComputer.similarity(sourceId, targetId);
-                        linksConsidered++;
-                        if (probability < threshold) return;
+                for (long targetId = smallestTarget; targetId < graph.nodeCount(); targetId++) {
+                    if (largerNeighbors.contains(targetId)) continue;
 
-                        synchronized (predictionQueue) {
-                            predictionQueue.offer(sourceId, targetId, probability);
-                        }
-                    }
-                );
+                    scorer.add(sourceId, targetId);
+                }
+                scorer.flush();
             });
 
             progressTracker.logProgress(partition.nodeCount());
@@ -141,7 +133,7 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
         }
 
         long linksConsidered() {
-            return linksConsidered;
+            return scorer.linksConsidered();
         }
     }
 }
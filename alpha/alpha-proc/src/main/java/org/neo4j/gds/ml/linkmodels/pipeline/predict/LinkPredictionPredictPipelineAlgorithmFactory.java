@@ -69,7 +69,10 @@ public class LinkPredictionPredictPipelineAlgorithmFactory<CONFIG extends LinkPr
             ),
         config.isApproximateStrategy()
             ? Tasks.task("approximate link prediction", KnnFactory.knnTaskTree(graph, config.approximateConfig()))
-            : Tasks.leaf("exhaustive link prediction", graph.nodeCount())
+            : Tasks.leaf(
+                config.twoHopCandidates() ? "two-hop link prediction" : "exhaustive link prediction",
+                graph.nodeCount()
+            )
         );
     }
 
@@ -41,6 +41,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 public interface LinkPredictionPredictPipelineBaseConfig extends AlgoBaseConfig, SingleThreadedRandomSeedConfig, ModelConfig {
 
     double DEFAULT_THRESHOLD = 0.0;
+    int DEFAULT_MAX_CANDIDATES_PER_NODE = 1000;
 
     @Value.Default
     @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
@@ -55,6 +56,16 @@ public interface LinkPredictionPredictPipelineBaseConfig extends AlgoBaseConfig,
     @Configuration.DoubleRange(min = 0, max = 1)
     Optional<Double> threshold();
 
+    // only score pairs of nodes sharing a common neighbor instead of all pairs
+    @Value.Default
+    default boolean twoHopCandidates() {
+        return false;
+    }
+
+    // bounds the candidates of a node and how many neighbors of each of its neighbors are visited to find them
+    @Configuration.IntegerRange(min = 1)
+    Optional<Integer> maxCandidatesPerNode();
+
     //Approximate strategy fields
     @Configuration.IntegerRange(min = 1)
     Optional<Integer> topK();
@@ -74,7 +85,9 @@ public interface LinkPredictionPredictPipelineBaseConfig extends AlgoBaseConfig,
         if (isApproximateStrategy()) {
             Map<String, Boolean> exhaustiveStrategyParameters = Map.of(
                 "topN", topN().isPresent(),
-                "threshold", threshold().isPresent()
+                "threshold", threshold().isPresent(),
+                "twoHopCandidates", twoHopCandidates(),
+                "maxCandidatesPerNode", maxCandidatesPerNode().isPresent()
             );
             validateStrategySpecificParameters(exhaustiveStrategyParameters, "equal to 1");
         } else {
@@ -86,6 +99,12 @@ public interface LinkPredictionPredictPipelineBaseConfig extends AlgoBaseConfig,
             validateStrategySpecificParameters(approximateStrategyParameters, "less than 1");
 
             topN().orElseThrow(()-> MissingParameterExceptions.missingValueFor("topN", Collections.emptyList()));
+
+            if (maxCandidatesPerNode().isPresent() && !twoHopCandidates()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameter 'maxCandidatesPerNode' may only be set if parameter 'twoHopCandidates' is true."
+                );
+            }
         }
     }
 
@@ -135,6 +154,12 @@ public interface LinkPredictionPredictPipelineBaseConfig extends AlgoBaseConfig,
         return threshold().orElse(DEFAULT_THRESHOLD);
     }
 
+    @Configuration.Ignore
+    @Value.Derived
+    default int maxCandidatesPerNodeOrDefault() {
+        return maxCandidatesPerNode().orElse(DEFAULT_MAX_CANDIDATES_PER_NODE);
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default boolean isApproximateStrategy() {
@@ -111,6 +111,17 @@ public class LinkPredictionPredictPipelineExecutor extends PipelineExecutor<
                 config.approximateConfig(),
                 progressTracker
             );
+        } else if (config.twoHopCandidates()) {
+            return new TwoHopLinkPrediction(
+                linkLogisticRegressionData,
+                linkFeatureExtractor,
+                graph,
+                config.concurrency(),
+                config.topN().orElseThrow(),
+                config.thresholdOrDefault(),
+                config.maxCandidatesPerNodeOrDefault(),
+                progressTracker
+            );
         } else {
             return new ExhaustiveLinkPrediction(
                 linkLogisticRegressionData,
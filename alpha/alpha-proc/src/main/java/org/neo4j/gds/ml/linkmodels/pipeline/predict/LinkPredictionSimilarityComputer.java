@@ -47,6 +47,23 @@ class LinkPredictionSimilarityComputer implements SimilarityComputer {
         return predictor.predictedProbability(features);
     }
 
+    /**
+     * Computes the similarities of the source node to a batch of target nodes.
+     *
+     * @param featureBuffer holds the link features of the batch, must fit {@code targetCount} links
+     */
+    void similarities(long sourceId, long[] targetIds, int targetCount, double[] featureBuffer, double[] similarities) {
+        int featureDimension = linkFeatureExtractor.featureDimension();
+        for (int i = 0; i < targetCount; i++) {
+            linkFeatureExtractor.extractFeatures(sourceId, targetIds[i], featureBuffer, i * featureDimension);
+        }
+        predictor.predictedProbabilities(featureBuffer, targetCount, similarities);
+    }
+
+    int featureDimension() {
+        return linkFeatureExtractor.featureDimension();
+    }
+
     @Override
     public NeighborFilter createNeighborFilter() {
         return new LinkFilter(graph.concurrentCopy());
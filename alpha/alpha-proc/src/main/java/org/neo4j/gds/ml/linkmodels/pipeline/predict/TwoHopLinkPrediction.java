@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels.pipeline.predict;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
+import org.neo4j.gds.ml.linkmodels.ExhaustiveLinkPredictionResult;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureExtractor;
+import org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression.LinkLogisticRegressionData;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Only scores the non-adjacent node pairs that share at least one common neighbor,
+ * instead of all O(n^2) pairs considered by {@link ExhaustiveLinkPrediction}.
+ * The {@code topN} and {@code threshold} semantics are the same as for the exhaustive search.
+ * <p>
+ * To keep hubs of power-law graphs from bringing back the quadratic work, every node collects at most
+ * {@code maxCandidatesPerNode} candidates and only visits the first {@code maxCandidatesPerNode} neighbors
+ * of each of its neighbors. Pairs beyond these limits are not considered.
+ */
+public class TwoHopLinkPrediction extends LinkPrediction {
+    private final int topN;
+    private final double threshold;
+    private final int maxCandidatesPerNode;
+
+    public TwoHopLinkPrediction(
+        LinkLogisticRegressionData modelData,
+        LinkFeatureExtractor linkFeatureExtractor,
+        Graph graph,
+        int concurrency,
+        int topN,
+        double threshold,
+        int maxCandidatesPerNode,
+        ProgressTracker progressTracker
+    ) {
+        super(
+            modelData,
+            linkFeatureExtractor,
+            graph,
+            concurrency,
+            progressTracker
+        );
+        this.topN = topN;
+        this.threshold = threshold;
+        this.maxCandidatesPerNode = maxCandidatesPerNode;
+    }
+
+    @Override
+    ExhaustiveLinkPredictionResult predictLinks(
+        Graph graph,
+        LinkPredictionSimilarityComputer linkPredictionSimilarityComputer
+    ) {
+        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
+
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> new TwoHopCandidateConsumer(
+                graph.concurrentCopy(),
+                linkPredictionSimilarityComputer,
+                predictionQueue,
+                threshold,
+                partition,
+                progressTracker
+            ),
+            Optional.empty()
+        );
+
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+        long linksConsidered = tasks.stream().mapToLong(TwoHopCandidateConsumer::linksConsidered).sum();
+        return new ExhaustiveLinkPredictionResult(predictionQueue, linksConsidered, "twoHop");
+    }
+
+    final class TwoHopCandidateConsumer implements Runnable {
+        private final Graph graph;
+        private final BatchLinkScorer scorer;
+        private final ProgressTracker progressTracker;
+        private final Partition partition;
+        private final LongHashSet neighbors;
+        private final LongHashSet candidateSet;
+        private final LongArrayList candidates;
+        // the number of visited neighbors of the current neighbor
+        private int visited;
+
+        TwoHopCandidateConsumer(
+            Graph graph,
+            LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
+            BoundedLongLongPriorityQueue predictionQueue,
+            double threshold,
+            Partition partition,
+            ProgressTracker progressTracker
+        ) {
+            this.graph = graph;
+            this.scorer = new BatchLinkScorer(linkPredictionSimilarityComputer, predictionQueue, threshold);
+            this.progressTracker = progressTracker;
+            this.partition = partition;
+            this.neighbors = new LongHashSet();
+            this.candidateSet = new LongHashSet();
+            this.candidates = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            partition.consume(sourceId -> {
+                collectCandidates(sourceId);
+
+                for (int i = 0; i < candidates.size(); i++) {
+                    scorer.add(sourceId, candidates.get(i));
+                }
+                scorer.flush();
+            });
+
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        private void collectCandidates(long sourceId) {
+            neighbors.clear();
+            candidateSet.clear();
+            candidates.clear();
+
+            graph.forEachRelationship(sourceId, (src, trg) -> {
+                neighbors.add(trg);
+                return true;
+            });
+
+            // since graph is undirected, only process pairs where the candidate is the smaller node,
+            // which are at the start of sorted adjacency lists and therefore within the visited neighbors of a hub
+            for (var neighbor : neighbors) {
+                visited = 0;
+                graph.forEachRelationship(neighbor.value, (src, trg) -> {
+                    if (trg < sourceId && !neighbors.contains(trg) && candidateSet.add(trg)) {
+                        candidates.add(trg);
+                    }
+                    return ++visited < maxCandidatesPerNode && candidates.size() < maxCandidatesPerNode;
+                });
+                if (candidates.size() >= maxCandidatesPerNode) {
+                    break;
+                }
+            }
+
+            // keep the order of the candidates independent of the hash set layout
+            Arrays.sort(candidates.buffer, 0, candidates.size());
+        }
+
+        long linksConsidered() {
+            return scorer.linksConsidered();
+        }
+    }
+}
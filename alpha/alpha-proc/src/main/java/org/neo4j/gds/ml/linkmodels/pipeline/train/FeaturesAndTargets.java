@@ -21,11 +21,11 @@ package org.neo4j.gds.ml.linkmodels.pipeline.train;
 
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatures;
 
 @ValueClass
 interface FeaturesAndTargets {
-    HugeObjectArray<double[]> features();
+    LinkFeatures features();
 
     HugeDoubleArray targets();
 
@@ -21,8 +21,10 @@ package org.neo4j.gds.ml.linkmodels.pipeline.train;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.collections.ReadOnlyHugeLongIdentityArray;
 import org.neo4j.gds.core.model.Model;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
@@ -31,7 +33,10 @@ import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.ModelSelectionScheduler;
 import org.neo4j.gds.ml.Training;
+import org.neo4j.gds.ml.TrainingConfig;
 import org.neo4j.gds.ml.core.batch.BatchQueue;
 import org.neo4j.gds.ml.core.batch.HugeBatchQueue;
 import org.neo4j.gds.ml.linkmodels.SignedProbabilities;
@@ -54,6 +59,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -117,12 +123,24 @@ public class LinkPredictionTrain
 
         // train best model on the entire training graph
         progressTracker.beginSubTask("train best model");
-        var modelData = trainModel(trainRelationshipIds, trainData, bestParameters, progressTracker);
+        var modelData = trainModel(
+            trainRelationshipIds,
+            trainData,
+            bestParameters,
+            progressTracker,
+            trainConfig.concurrency()
+        );
         progressTracker.endSubTask("train best model");
 
         // evaluate the best model on the training and test graphs
         progressTracker.beginSubTask("compute train metrics");
-        var outerTrainMetrics = computeTrainMetric(trainData, modelData, trainRelationshipIds, progressTracker);
+        var outerTrainMetrics = computeTrainMetric(
+            trainData,
+            modelData,
+            trainRelationshipIds,
+            progressTracker,
+            trainConfig.concurrency()
+        );
         progressTracker.endSubTask("compute train metrics");
 
         progressTracker.beginSubTask("evaluate on test data");
@@ -142,12 +160,19 @@ public class LinkPredictionTrain
 
     private FeaturesAndTargets extractFeaturesAndTargets(Graph graph) {
         progressTracker.setVolume(graph.relationshipCount() * 2);
-        var features = LinkFeatureExtractor.extractFeatures(
-            graph,
-            pipeline.featureSteps(),
-            trainConfig.concurrency(),
-            progressTracker
-        );
+        var features = trainConfig.cacheLinkFeatures()
+            ? LinkFeatureExtractor.extractFeatures(
+                graph,
+                pipeline.featureSteps(),
+                trainConfig.concurrency(),
+                progressTracker
+            )
+            : LinkFeatureExtractor.lazyFeatures(
+                graph,
+                pipeline.featureSteps(),
+                trainConfig.concurrency(),
+                progressTracker
+            );
 
         var targets = extractTargets(graph, features.size());
 
@@ -182,6 +207,9 @@ public class LinkPredictionTrain
         ReadOnlyHugeLongArray trainRelationshipIds
     ) {
         var validationSplits = trainValidationSplits(trainRelationshipIds, trainData.targets());
+        if (!trainConfig.sequentialModelSelection()) {
+            return modelSelectConcurrently(trainData, validationSplits);
+        }
 
         var trainStats = initStatsMap();
         var validationStats = initStatsMap();
@@ -202,13 +230,29 @@ public class LinkPredictionTrain
                 var trainSet = relSplit.trainSet();
                 var validationSet = relSplit.testSet();
                 // the below calls intentionally suppress progress logging of individual models
-                var modelData = trainModel(ReadOnlyHugeLongArray.of(trainSet), trainData, modelParams, ProgressTracker.NULL_TRACKER);
+                var modelData = trainModel(
+                    ReadOnlyHugeLongArray.of(trainSet),
+                    trainData,
+                    modelParams,
+                    ProgressTracker.NULL_TRACKER,
+                    trainConfig.concurrency()
+                );
 
                 // evaluate each model candidate on the train and validation sets
-                computeTrainMetric(trainData, modelData, ReadOnlyHugeLongArray.of(trainSet), ProgressTracker.NULL_TRACKER)
-                    .forEach(trainStatsBuilder::update);
-                computeTrainMetric(trainData, modelData, ReadOnlyHugeLongArray.of(validationSet), ProgressTracker.NULL_TRACKER)
-                    .forEach(validationStatsBuilder::update);
+                computeTrainMetric(
+                    trainData,
+                    modelData,
+                    ReadOnlyHugeLongArray.of(trainSet),
+                    ProgressTracker.NULL_TRACKER,
+                    trainConfig.concurrency()
+                ).forEach(trainStatsBuilder::update);
+                computeTrainMetric(
+                    trainData,
+                    modelData,
+                    ReadOnlyHugeLongArray.of(validationSet),
+                    ProgressTracker.NULL_TRACKER,
+                    trainConfig.concurrency()
+                ).forEach(validationStatsBuilder::update);
             }
 
             // insert the candidates metrics into trainStats and validationStats
@@ -230,6 +274,105 @@ public class LinkPredictionTrain
         return LinkPredictionTrain.ModelSelectResult.of(bestConfig, trainStats, validationStats);
     }
 
+    private LinkPredictionTrain.ModelSelectResult modelSelectConcurrently(
+        FeaturesAndTargets trainData,
+        List<TrainingExamplesSplit> validationSplits
+    ) {
+        var trainStats = initStatsMap();
+        var validationStats = initStatsMap();
+
+        var linkLogisticRegressionTrainConfigs = pipeline.trainingParameterSpace();
+        var mainMetric = trainConfig.metrics().get(0);
+        var scheduler = new ModelSelectionScheduler(
+            trainConfig.concurrency(),
+            trainConfig,
+            trainingConcurrency -> estimateTrainingMemory(trainData, trainingConcurrency),
+            terminationFlag
+        );
+
+        progressTracker.setVolume(ModelSelectionScheduler.numberOfTrainings(
+            linkLogisticRegressionTrainConfigs.size(),
+            validationSplits.size(),
+            trainConfig.successiveHalving()
+        ));
+        // the trainings run concurrently, so they do not log their individual progress
+        var foldResults = scheduler.evaluate(
+            linkLogisticRegressionTrainConfigs.size(),
+            validationSplits.size(),
+            (candidate, fold, concurrency) -> {
+                var trainSet = ReadOnlyHugeLongArray.of(validationSplits.get(fold).trainSet());
+                var validationSet = ReadOnlyHugeLongArray.of(validationSplits.get(fold).testSet());
+                var modelData = trainModel(
+                    trainSet,
+                    trainData,
+                    linkLogisticRegressionTrainConfigs.get(candidate),
+                    ProgressTracker.NULL_TRACKER,
+                    concurrency
+                );
+
+                FoldMetrics result = ImmutableFoldMetrics.of(
+                    computeTrainMetric(trainData, modelData, trainSet, ProgressTracker.NULL_TRACKER, concurrency),
+                    computeTrainMetric(trainData, modelData, validationSet, ProgressTracker.NULL_TRACKER, concurrency)
+                );
+                progressTracker.logProgress();
+                return result;
+            },
+            result -> result.validation().get(mainMetric)
+        );
+
+        // candidates dropped by successive halving cannot be selected
+        var remainingCandidates = new ArrayList<ModelStats<LinkLogisticRegressionTrainConfig>>();
+        for (int candidate = 0; candidate < linkLogisticRegressionTrainConfigs.size(); candidate++) {
+            var modelParams = linkLogisticRegressionTrainConfigs.get(candidate);
+            var evaluatedFolds = foldResults.get(candidate);
+            var evaluatedFoldCount = (int) evaluatedFolds.stream().filter(Objects::nonNull).count();
+            var trainStatsBuilder = new ModelStatsBuilder(modelParams, evaluatedFoldCount);
+            var validationStatsBuilder = new ModelStatsBuilder(modelParams, evaluatedFoldCount);
+
+            for (var result : evaluatedFolds) {
+                if (result == null) continue;
+                result.train().forEach(trainStatsBuilder::update);
+                result.validation().forEach(validationStatsBuilder::update);
+            }
+
+            trainConfig.metrics().forEach(metric -> {
+                validationStats.get(metric).add(validationStatsBuilder.modelStats(metric));
+                trainStats.get(metric).add(trainStatsBuilder.modelStats(metric));
+            });
+
+            if (evaluatedFoldCount == validationSplits.size()) {
+                remainingCandidates.add(validationStatsBuilder.modelStats(mainMetric));
+            }
+        }
+
+        var bestConfig = Collections.max(remainingCandidates, COMPARE_AVERAGE).params();
+
+        return LinkPredictionTrain.ModelSelectResult.of(bestConfig, trainStats, validationStats);
+    }
+
+    private long estimateTrainingMemory(FeaturesAndTargets trainData, int trainingConcurrency) {
+        var maxBatchSize = pipeline.trainingParameterSpace()
+            .stream()
+            .mapToInt(TrainingConfig::batchSize)
+            .max()
+            .getAsInt();
+        var featureDimension = trainData.features().featureDimension();
+
+        var trainingMemory = Training
+            .memoryEstimation(featureDimension, 1, 1)
+            .estimate(GraphDimensions.of(trainData.size()), trainingConcurrency)
+            .memoryUsage().max;
+        var batchMemory = trainingConcurrency * MemoryUsage.sizeOfDoubleArray((long) maxBatchSize * featureDimension);
+        // the signed probabilities are sized for the whole train data, independent of the evaluated set
+        var evaluationMemory = MemoryUsage.sizeOfObjectArray(trainData.size()) + SignedProbabilities.estimateMemory(
+            GraphDimensions.of(trainGraph.nodeCount(), trainData.size()),
+            RelationshipType.ALL_RELATIONSHIPS,
+            1.0
+        );
+
+        return trainingMemory + batchMemory + evaluationMemory;
+    }
+
     private Map<LinkMetric, Double> computeTestMetric(LinkLogisticRegressionData modelData) {
         progressTracker.beginSubTask("extract test features");
         var testData = extractFeaturesAndTargets(validationGraph);
@@ -240,7 +383,8 @@ public class LinkPredictionTrain
             testData,
             modelData,
             new BatchQueue(testData.size()),
-            progressTracker
+            progressTracker,
+            trainConfig.concurrency()
         );
         progressTracker.endSubTask("compute test metrics");
 
@@ -298,12 +442,19 @@ public class LinkPredictionTrain
         }
     }
 
+    @ValueClass
+    interface FoldMetrics {
+        Map<LinkMetric, Double> train();
+        Map<LinkMetric, Double> validation();
+    }
+
 
     private LinkLogisticRegressionData trainModel(
         ReadOnlyHugeLongArray trainSet,
         FeaturesAndTargets trainData,
         LinkLogisticRegressionTrainConfig llrConfig,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        int concurrency
     ) {
         var llrTrain = new LinkLogisticRegressionTrain(
             trainSet,
@@ -312,7 +463,7 @@ public class LinkPredictionTrain
             llrConfig,
             progressTracker,
             terminationFlag,
-            trainConfig.concurrency()
+            concurrency
         );
 
         return llrTrain.compute();
@@ -322,16 +473,18 @@ public class LinkPredictionTrain
         FeaturesAndTargets trainData,
         LinkLogisticRegressionData modelData,
         ReadOnlyHugeLongArray evaluationSet,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        int concurrency
     ) {
-        return computeMetric(trainData, modelData, new HugeBatchQueue(evaluationSet), progressTracker);
+        return computeMetric(trainData, modelData, new HugeBatchQueue(evaluationSet), progressTracker, concurrency);
     }
 
     private Map<LinkMetric, Double> computeMetric(
         FeaturesAndTargets inputData,
         LinkLogisticRegressionData modelData,
         BatchQueue evaluationQueue,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        int concurrency
     ) {
         progressTracker.setVolume(inputData.size());
 
@@ -340,9 +493,12 @@ public class LinkPredictionTrain
         var targets = inputData.targets();
         var features = inputData.features();
 
-        evaluationQueue.parallelConsume(trainConfig.concurrency(), thread -> (batch) -> {
+        evaluationQueue.parallelConsume(concurrency, thread -> {
+            var linkFeatures = new double[features.featureDimension()];
+            return (batch) -> {
                 for (Long relationshipIdx : batch.nodeIds()) {
-                    double predictedProbability = predictor.predictedProbability(features.get(relationshipIdx));
+                    features.copyFeatures(relationshipIdx, linkFeatures, 0);
+                    double predictedProbability = predictor.predictedProbability(linkFeatures);
                     boolean isEdge = targets.get(relationshipIdx) == 1.0D;
 
                     var signedProbability = isEdge ? predictedProbability : -1 * predictedProbability;
@@ -350,9 +506,8 @@ public class LinkPredictionTrain
                 }
 
                 progressTracker.logProgress(batch.size());
-            },
-            terminationFlag
-        );
+            };
+        }, terminationFlag);
 
         return trainConfig.metrics().stream().collect(Collectors.toMap(
             Function.identity(),
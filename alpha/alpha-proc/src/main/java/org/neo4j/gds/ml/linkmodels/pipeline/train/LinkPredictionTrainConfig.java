@@ -26,6 +26,7 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.ml.ModelSelectionConfig;
 import org.neo4j.gds.ml.linkmodels.metrics.LinkMetric;
 import org.neo4j.gds.model.ModelConfig;
 
@@ -35,7 +36,7 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LinkPredictionTrainConfig extends AlgoBaseConfig, ModelConfig, RandomSeedConfig {
+public interface LinkPredictionTrainConfig extends AlgoBaseConfig, ModelConfig, RandomSeedConfig, ModelSelectionConfig {
 
     @Value.Default
     @Configuration.DoubleRange(min = 0, minInclusive = false)
@@ -45,6 +46,12 @@ public interface LinkPredictionTrainConfig extends AlgoBaseConfig, ModelConfig,
 
     String pipeline();
 
+    // if false, link features are computed from the node properties for each batch instead of being cached
+    @Value.Default
+    default boolean cacheLinkFeatures() {
+        return true;
+    }
+
     @Configuration.Ignore
     @Value.Default
     default List<LinkMetric> metrics() {
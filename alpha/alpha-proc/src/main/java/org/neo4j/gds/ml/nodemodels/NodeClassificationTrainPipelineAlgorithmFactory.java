@@ -114,7 +114,8 @@ public class NodeClassificationTrainPipelineAlgorithmFactory extends AlgorithmFa
             ),
             NodeClassificationTrain.progressTask(
                 pipeline.splitConfig().validationFolds(),
-                pipeline.trainingParameterSpace().size()
+                pipeline.trainingParameterSpace().size(),
+                config
             )
         );
     }
@@ -120,6 +120,8 @@ public class NodeClassificationTrainPipelineExecutor extends PipelineExecutor<
             .nodeLabels(config.nodeLabels())
             .relationshipTypes(config.relationshipTypes())
             .minBatchSize(config.minBatchSize())
+            .concurrentTrainings(config.concurrentTrainings())
+            .successiveHalving(config.successiveHalving())
             .build();
     }
 }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.linkmodels.pipeline.predict;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.neo4j.gds.BaseProcTest;
@@ -38,8 +39,10 @@ import org.neo4j.gds.ml.core.functions.Weights;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.linkmodels.PredictedLink;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureExtractor;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.CosineFeatureStep;
 import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.L2FeatureStep;
 import org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression.ImmutableLinkLogisticRegressionData;
+import org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression.LinkLogisticRegressionPredictor;
 
 import java.util.List;
 import java.util.Map;
@@ -47,6 +50,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 class ExhaustiveLinkPredictionTest extends BaseProcTest {
     public static final String GRAPH_NAME = "g";
@@ -180,4 +184,39 @@ class ExhaustiveLinkPredictionTest extends BaseProcTest {
 
         assertThat(predictedLinks).allMatch(l -> l.probability() >= threshold);
     }
+
+    @Test
+    void shouldNotAccumulateFeaturesAcrossSourcesAndBatches() {
+        // cosine adds up into its slot of the feature batch, which is reused for all sources of a task
+        var featureStep = new CosineFeatureStep(List.of("a", "b", "c"));
+
+        var modelData = ImmutableLinkLogisticRegressionData.of(
+            new Weights<>(new Matrix(new double[]{2.0}, 1, 1)),
+            Weights.ofScalar(-1.0)
+        );
+
+        var graph = graphStore.getGraph(
+            List.of(NodeLabel.of("N")),
+            List.of(RelationshipType.of("T")),
+            Optional.empty()
+        );
+        var linkFeatureExtractor = LinkFeatureExtractor.of(graph, List.of(featureStep));
+        var linkPrediction = new ExhaustiveLinkPrediction(
+            modelData,
+            linkFeatureExtractor,
+            graph,
+            1,
+            6,
+            0D,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var predictedLinks = linkPrediction.compute().stream().collect(Collectors.toList());
+
+        var predictor = new LinkLogisticRegressionPredictor(modelData);
+        assertThat(predictedLinks).hasSize(6).allSatisfy(link -> assertThat(link.probability()).isCloseTo(
+            predictor.predictedProbability(linkFeatureExtractor.extractFeatures(link.sourceId(), link.targetId())),
+            within(1e-12)
+        ));
+    }
 }
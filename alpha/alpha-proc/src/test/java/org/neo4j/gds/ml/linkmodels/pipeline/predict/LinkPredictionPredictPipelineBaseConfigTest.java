@@ -55,6 +55,22 @@ class LinkPredictionPredictPipelineBaseConfigTest {
                 ),
                 "Configuration parameters ['threshold'] may only be set if parameter 'sampleRate' is equal to 1."
             ),
+            Arguments.of(
+                Map.of("modelName", "testModel",
+                    "sampleRate", 0.5,
+                    "topK", 10,
+                    "twoHopCandidates", true
+                ),
+                "Configuration parameters ['twoHopCandidates'] may only be set if parameter 'sampleRate' is equal to 1."
+            ),
+            Arguments.of(
+                Map.of("modelName", "testModel",
+                    "sampleRate", 1,
+                    "topN", 10,
+                    "maxCandidatesPerNode", 5
+                ),
+                "Configuration parameter 'maxCandidatesPerNode' may only be set if parameter 'twoHopCandidates' is true."
+            ),
             Arguments.of(
                 Map.of("modelName", "testModel",
                     "sampleRate", 1,
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels.pipeline.predict;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.catalog.GraphCreateProc;
+import org.neo4j.gds.catalog.GraphStreamNodePropertiesProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.linkmodels.PredictedLink;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.LinkFeatureExtractor;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.CosineFeatureStep;
+import org.neo4j.gds.ml.linkmodels.pipeline.linkFeatures.linkfunctions.L2FeatureStep;
+import org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression.ImmutableLinkLogisticRegressionData;
+import org.neo4j.gds.ml.linkmodels.pipeline.logisticRegression.LinkLogisticRegressionPredictor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TwoHopLinkPredictionTest extends BaseProcTest {
+    public static final String GRAPH_NAME = "g";
+
+    @Neo4jGraph
+    static String GDL = "CREATE " +
+                        "  (n0:N {a: 1.0, b: 0.8, c: 1.0})" +
+                        ", (n1:N {a: 2.0, b: 1.0, c: 1.0})" +
+                        ", (n2:N {a: 3.0, b: 1.5, c: 1.0})" +
+                        ", (n3:N {a: 0.0, b: 2.8, c: 1.0})" +
+                        ", (n4:N {a: 1.0, b: 0.9, c: 1.0})" +
+                        ", (n1)-[:T]->(n2)" +
+                        ", (n3)-[:T]->(n4)" +
+                        ", (n1)-[:T]->(n3)" +
+                        ", (n2)-[:T]->(n4)";
+
+    private static final double[] WEIGHTS = new double[]{-2.0, -1.0, 3.0};
+
+    private GraphStore graphStore;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphCreateProc.class,
+            GraphStreamNodePropertiesProc.class
+        );
+        String createQuery = GdsCypher.call(GRAPH_NAME)
+            .graphCreate()
+            .withNodeLabel("N")
+            .withRelationshipType("T", Orientation.UNDIRECTED)
+            .withNodeProperties(List.of("a", "b", "c"), DefaultValue.DEFAULT)
+            .yields();
+
+        runQuery(createQuery);
+
+        graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "g").graphStore();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"1, 1", "1, 4", "50, 1", "50, 4"})
+    void shouldOnlyPredictTwoHopCandidates(int topN, int concurrency) {
+        var featureStep = new L2FeatureStep(List.of("a", "b", "c"));
+
+        var modelData = ImmutableLinkLogisticRegressionData.of(
+            new Weights<>(
+                new Matrix(
+                    WEIGHTS,
+                    1,
+                    WEIGHTS.length
+                )),
+            Weights.ofScalar(0)
+        );
+
+        var graph = graphStore.getGraph(
+            List.of(NodeLabel.of("N")),
+            List.of(RelationshipType.of("T")),
+            Optional.empty()
+        );
+        var linkFeatureExtractor = LinkFeatureExtractor.of(graph, List.of(featureStep));
+        var linkPrediction = new TwoHopLinkPrediction(
+            modelData,
+            linkFeatureExtractor,
+            graph,
+            concurrency,
+            topN,
+            0D,
+            LinkPredictionPredictPipelineBaseConfig.DEFAULT_MAX_CANDIDATES_PER_NODE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var predictionResult = linkPrediction.compute();
+        assertThat(predictionResult.samplingStats()).isEqualTo(
+            Map.of(
+                "strategy", "twoHop",
+                "linksConsidered", 2L
+            )
+        );
+
+        // n0 has no neighbors, so only (n1, n4) and (n2, n3) share a common neighbor
+        var expectedLinks = List.of(
+            PredictedLink.of(1, 4, 0.11815697780926958),
+            PredictedLink.of(2, 3, 2.810228605019867E-9)
+        );
+        var endIndex = Math.min(topN, expectedLinks.size());
+        assertThat(predictionResult.stream().collect(Collectors.toList())).containsExactly(expectedLinks
+            .subList(0, endIndex)
+            .toArray(PredictedLink[]::new));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"1, 0.1", "2, 0.0", "0, 0.2"})
+    void shouldPredictWithThreshold(int expectedPredictions, double threshold) {
+        var featureStep = new L2FeatureStep(List.of("a", "b", "c"));
+
+        var modelData = ImmutableLinkLogisticRegressionData.of(
+            new Weights<>(
+                new Matrix(
+                    WEIGHTS,
+                    1,
+                    WEIGHTS.length
+                )),
+            Weights.ofScalar(0)
+        );
+
+        var graph = graphStore.getGraph(
+            List.of(NodeLabel.of("N")),
+            List.of(RelationshipType.of("T")),
+            Optional.empty()
+        );
+
+        var linkFeatureExtractor = LinkFeatureExtractor.of(graph, List.of(featureStep));
+
+        var linkPrediction = new TwoHopLinkPrediction(
+            modelData,
+            linkFeatureExtractor,
+            graph,
+            4,
+            6,
+            threshold,
+            LinkPredictionPredictPipelineBaseConfig.DEFAULT_MAX_CANDIDATES_PER_NODE,
+            ProgressTracker.NULL_TRACKER
+        );
+        var predictedLinks = linkPrediction.compute().stream().collect(Collectors.toList());
+        assertThat(predictedLinks).hasSize(expectedPredictions);
+
+        assertThat(predictedLinks).allMatch(l -> l.probability() >= threshold);
+    }
+
+    @Test
+    void shouldNotAccumulateFeaturesAcrossSources() {
+        // cosine adds up into its slot of the feature batch, which is reused for all sources of a task
+        var featureStep = new CosineFeatureStep(List.of("a", "b", "c"));
+
+        var modelData = ImmutableLinkLogisticRegressionData.of(
+            new Weights<>(new Matrix(new double[]{2.0}, 1, 1)),
+            Weights.ofScalar(-1.0)
+        );
+
+        var graph = graphStore.getGraph(
+            List.of(NodeLabel.of("N")),
+            List.of(RelationshipType.of("T")),
+            Optional.empty()
+        );
+        var linkFeatureExtractor = LinkFeatureExtractor.of(graph, List.of(featureStep));
+        var linkPrediction = new TwoHopLinkPrediction(
+            modelData,
+            linkFeatureExtractor,
+            graph,
+            1,
+            6,
+            0D,
+            LinkPredictionPredictPipelineBaseConfig.DEFAULT_MAX_CANDIDATES_PER_NODE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var predictedLinks = linkPrediction.compute().stream().collect(Collectors.toList());
+
+        var predictor = new LinkLogisticRegressionPredictor(modelData);
+        assertThat(predictedLinks).hasSize(2).allSatisfy(link -> assertThat(link.probability()).isCloseTo(
+            predictor.predictedProbability(linkFeatureExtractor.extractFeatures(link.sourceId(), link.targetId())),
+            within(1e-12)
+        ));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"1000, 45", "3, 24"})
+    void shouldCapCandidatesAroundHubs(int maxCandidatesPerNode, long expectedLinksConsidered) {
+        runQuery(
+            "CREATE (hub:Star {a: 1.0, b: 1.0, c: 1.0}) " +
+            "WITH hub UNWIND range(1, 10) AS i " +
+            "CREATE (hub)-[:S]->(:Star {a: toFloat(i), b: 1.0, c: 1.0})"
+        );
+        runQuery(GdsCypher.call("star")
+            .graphCreate()
+            .withNodeLabel("Star")
+            .withRelationshipType("S", Orientation.UNDIRECTED)
+            .withNodeProperties(List.of("a", "b", "c"), DefaultValue.DEFAULT)
+            .yields());
+
+        var graph = GraphStoreCatalog.get(getUsername(), db.databaseId(), "star").graphStore().getUnion();
+        var modelData = ImmutableLinkLogisticRegressionData.of(
+            new Weights<>(new Matrix(WEIGHTS, 1, WEIGHTS.length)),
+            Weights.ofScalar(0)
+        );
+        var linkPrediction = new TwoHopLinkPrediction(
+            modelData,
+            LinkFeatureExtractor.of(graph, List.of(new L2FeatureStep(List.of("a", "b", "c")))),
+            graph,
+            1,
+            100,
+            0D,
+            maxCandidatesPerNode,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var predictionResult = linkPrediction.compute();
+
+        // without the cap, every pair of the 10 leaves is considered
+        // with the cap, a leaf only visits the first 3 leaves of the hub and links to the smaller ones of them
+        assertThat(predictionResult.samplingStats()).containsEntry("linksConsidered", expectedLinksConsidered);
+        assertThat(predictionResult.stream()).allMatch(link -> link.sourceId() < link.targetId());
+    }
+}
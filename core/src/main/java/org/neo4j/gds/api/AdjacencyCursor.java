@@ -71,6 +71,18 @@ public interface AdjacencyCursor extends AutoCloseable {
      */
     int remaining();
 
+    /**
+     * Decode up to {@code buffer.length} of the remaining target ids into {@code buffer}, starting at index 0.
+     * Returns the number of target ids that have been written.
+     */
+    default int nextVLongs(long[] buffer) {
+        int count = Math.min(buffer.length, remaining());
+        for (int i = 0; i < count; i++) {
+            buffer[i] = nextVLong();
+        }
+        return count;
+    }
+
     /**
      * Read and decode target ids until it is strictly larger than ({@literal >}) the provided {@code target}.
      * If there are no such targets before this cursor is exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
@@ -94,6 +94,39 @@ final class AdjacencyDecompressingReader {
         return block[0];
     }
 
+    /**
+     * Decodes the next {@code length} targets into {@code out}.
+     * Targets that are still buffered in the current block are copied,
+     * all full blocks after that are decoded directly into {@code out}.
+     */
+    void nextBulk(long[] out, int length, int remaining) {
+        int copied = Math.min(CHUNK_SIZE - pos, length);
+        System.arraycopy(block, pos, out, 0, copied);
+        pos += copied;
+        remaining -= copied;
+
+        long last = block[CHUNK_SIZE - 1];
+        boolean decodedDirectly = false;
+        while (length - copied >= CHUNK_SIZE) {
+            int needToDecode = Math.min(CHUNK_SIZE, remaining);
+            offset = decodeDeltaVLongs(last, array, offset, needToDecode, out, copied);
+            copied += needToDecode;
+            remaining -= needToDecode;
+            last = out[copied - 1];
+            decodedDirectly = true;
+        }
+
+        if (decodedDirectly) {
+            // the block is stale, but keeps the base value for decoding the next block
+            block[CHUNK_SIZE - 1] = last;
+            pos = CHUNK_SIZE;
+        }
+
+        while (copied < length) {
+            out[copied++] = next(remaining--);
+        }
+    }
+
     long skipUntil(long target, int remaining, MutableIntValue consumed) {
         int pos = this.pos;
         long[] block = this.block;
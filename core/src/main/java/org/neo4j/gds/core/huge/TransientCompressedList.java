@@ -213,6 +213,14 @@ public final class TransientCompressedList implements AdjacencyList {
             return decompress.peek(remaining);
         }
 
+        @Override
+        public int nextVLongs(long[] buffer) {
+            int count = Math.min(buffer.length, remaining());
+            decompress.nextBulk(buffer, count, remaining());
+            currentPosition += count;
+            return count;
+        }
+
         /**
          * Read and decode target ids until it is strictly larger than ({@literal >}) the provided {@code target}.
          * If there are no such targets before this cursor is exhausted, {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} is returned.
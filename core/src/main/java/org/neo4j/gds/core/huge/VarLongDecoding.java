@@ -27,9 +27,21 @@ final class VarLongDecoding {
         int offset,
         int limit,
         long[] out
+    ) {
+        return decodeDeltaVLongs(startValue, adjacencyPage, offset, limit, out, 0);
+    }
+
+    static int decodeDeltaVLongs(
+        long startValue,
+        byte[] adjacencyPage,
+        int offset,
+        int limit,
+        long[] out,
+        int outOffset
     ) {
         long input, value = 0L;
-        int into = 0, shift = 0;
+        int into = outOffset, shift = 0;
+        limit += outOffset;
         while (into < limit) {
             input = adjacencyPage[offset++];
             value += (input & 127L) << shift;
@@ -27,6 +27,7 @@ import org.neo4j.gds.config.GraphCreateConfig;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.kernel.database.NamedDatabaseId;
 
+import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -202,7 +203,34 @@ public final class GraphStoreCatalog {
         );
     }
 
+    public static Optional<GraphStoreIndex> getIndex(
+        String username,
+        NamedDatabaseId databaseId,
+        String graphName,
+        String indexName
+    ) {
+        return getUserCatalog(username).getIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName);
+    }
+
+    /**
+     * Stores an index next to the given graph. An existing index with the same name is replaced and released.
+     */
+    public static void setIndex(
+        String username,
+        NamedDatabaseId databaseId,
+        String graphName,
+        String indexName,
+        GraphStoreIndex index
+    ) {
+        getUserCatalog(username).setIndex(
+            UserCatalog.UserCatalogKey.of(databaseId, graphName),
+            indexName,
+            index
+        );
+    }
+
     public static void removeAllLoadedGraphs() {
+        userCatalogs.values().forEach(UserCatalog::removeAllIndexes);
         userCatalogs.clear();
     }
 
@@ -263,6 +291,19 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Map<String, IndexWithGraphVersion>> indexesByName = new ConcurrentHashMap<>();
+
+        /**
+         * An index together with the modification time of the graph it was built on.
+         */
+        @ValueClass
+        interface IndexWithGraphVersion {
+
+            GraphStoreIndex index();
+
+            ZonedDateTime graphModificationTime();
+        }
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphCreateConfig config,
@@ -280,7 +321,10 @@ public final class GraphStoreCatalog {
                     config.graphName()
                 ));
             }
-            graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            if (graphsByName.put(userCatalogKey, graphStoreWithConfig) != null) {
+                // indexes of the overwritten graph do not apply to the new one
+                removeIndexes(userCatalogKey);
+            }
             graphStore.canRelease(false);
         }
 
@@ -302,6 +346,62 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private void setIndex(UserCatalogKey userCatalogKey, String indexName, GraphStoreIndex index) {
+            if (indexName == null || index == null) {
+                throw new IllegalArgumentException("Both index name and index must be not null");
+            }
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot set index `%s` because graph %s does not exist",
+                    indexName,
+                    userCatalogKey.graphName()
+                ));
+            }
+            var previous = indexesByName
+                .computeIfAbsent(userCatalogKey, key -> new ConcurrentHashMap<>())
+                .put(indexName, ImmutableIndexWithGraphVersion.of(
+                    index,
+                    graphStoreWithConfig.graphStore().modificationTime()
+                ));
+            if (previous != null && previous.index() != index) {
+                previous.index().release();
+            }
+        }
+
+        /**
+         * Indexes are dropped and released once the graph has been modified after they were built.
+         */
+        private Optional<GraphStoreIndex> getIndex(UserCatalogKey userCatalogKey, String indexName) {
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            var indexes = indexesByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null || indexes == null) {
+                return Optional.empty();
+            }
+            var entry = indexes.get(indexName);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (!entry.graphModificationTime().equals(graphStoreWithConfig.graphStore().modificationTime())) {
+                if (indexes.remove(indexName, entry)) {
+                    entry.index().release();
+                }
+                return Optional.empty();
+            }
+            return Optional.of(entry.index());
+        }
+
+        private void removeIndexes(UserCatalogKey userCatalogKey) {
+            var indexes = indexesByName.remove(userCatalogKey);
+            if (indexes != null) {
+                indexes.values().forEach(entry -> entry.index().release());
+            }
+        }
+
+        private void removeAllIndexes() {
+            indexesByName.keySet().forEach(this::removeIndexes);
+        }
+
         private GraphStoreWithConfig get(UserCatalogKey userCatalogKey) {
             //noinspection ConstantConditions
             return get(userCatalogKey, true);
@@ -351,6 +451,7 @@ public final class GraphStoreCatalog {
                     graphStoreWithConfig.graphStore().canRelease(true);
                     graphStoreWithConfig.graphStore().release();
                     removeDegreeDistribution(userCatalogKey);
+                    removeIndexes(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
                     return Boolean.TRUE;
                 })
@@ -359,6 +460,11 @@ public final class GraphStoreCatalog {
 
         private void remove(String databaseName) {
             graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            indexesByName.keySet()
+                .stream()
+                .filter(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName))
+                .collect(Collectors.toList())
+                .forEach(this::removeIndexes);
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
@@ -100,12 +100,7 @@ public final class Intersections {
     }
 
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
-        double result = 0;
-        for (int i = 0; i < len; i++) {
-            double delta = vector1[i] - vector2[i];
-            result += delta * delta;
-        }
-        return result;
+        return VectorKernels.squaredEuclidean(vector1, vector2, len);
     }
 
     public static double[] sumSquareDeltas(double[] vector1, double[][] vector2, int len) {
@@ -231,38 +226,10 @@ public final class Intersections {
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
-        double dotProduct = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
-            double weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
-            double weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
-        }
-
-        return dotProduct / Math.sqrt(xLength * yLength);
+        return VectorKernels.cosine(vector1, vector2, len);
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
-        float dotProduct = 0F;
-        float xLength = 0F;
-        float yLength = 0F;
-        for (int i = 0; i < len; i++) {
-            float weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
-            float weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
-        }
-
-        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+        return VectorKernels.cosine(vector1, vector2, len);
     }
 }
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+/**
+ * Dense vector kernels shared by the similarity algorithms and the link feature steps.
+ * <p>
+ * The loops are unrolled four times into independent accumulators.
+ * The JIT does not reorder floating point additions on its own,
+ * so a single accumulator serializes every iteration on the latency of the previous add.
+ * With four accumulators the adds can be pipelined and the loads are laid out for the auto-vectorizer.
+ * All kernels consider the first {@code len} entries of both vectors.
+ * <p>
+ * The sparse kernels take vectors as ids sorted in ascending order and parallel weights
+ * and intersect them by merging.
+ * If one vector is much shorter than the other, the longer one is galloped through instead of scanned.
+ */
+public final class VectorKernels {
+
+    // the length ratio from which galloping through the longer sparse vector beats scanning it
+    private static final int GALLOP_RATIO = 32;
+
+    private VectorKernels() {}
+
+    public static float dot(float[] left, float[] right, int len) {
+        float sum0 = 0F, sum1 = 0F, sum2 = 0F, sum3 = 0F;
+        int i = 0;
+        int bound = len & ~3;
+        for (; i < bound; i += 4) {
+            sum0 += left[i] * right[i];
+            sum1 += left[i + 1] * right[i + 1];
+            sum2 += left[i + 2] * right[i + 2];
+            sum3 += left[i + 3] * right[i + 3];
+        }
+        for (; i < len; i++) {
+            sum0 += left[i] * right[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    public static double dot(double[] left, double[] right, int len) {
+        double sum0 = 0D, sum1 = 0D, sum2 = 0D, sum3 = 0D;
+        int i = 0;
+        int bound = len & ~3;
+        for (; i < bound; i += 4) {
+            sum0 += left[i] * right[i];
+            sum1 += left[i + 1] * right[i + 1];
+            sum2 += left[i + 2] * right[i + 2];
+            sum3 += left[i + 3] * right[i + 3];
+        }
+        for (; i < len; i++) {
+            sum0 += left[i] * right[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    public static float squaredEuclidean(float[] left, float[] right, int len) {
+        float sum0 = 0F, sum1 = 0F, sum2 = 0F, sum3 = 0F;
+        int i = 0;
+        int bound = len & ~3;
+        for (; i < bound; i += 4) {
+            float delta0 = left[i] - right[i];
+            float delta1 = left[i + 1] - right[i + 1];
+            float delta2 = left[i + 2] - right[i + 2];
+            float delta3 = left[i + 3] - right[i + 3];
+            sum0 += delta0 * delta0;
+            sum1 += delta1 * delta1;
+            sum2 += delta2 * delta2;
+            sum3 += delta3 * delta3;
+        }
+        for (; i < len; i++) {
+            float delta = left[i] - right[i];
+            sum0 += delta * delta;
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    public static double squaredEuclidean(double[] left, double[] right, int len) {
+        double sum0 = 0D, sum1 = 0D, sum2 = 0D, sum3 = 0D;
+        int i = 0;
+        int bound = len & ~3;
+        for (; i < bound; i += 4) {
+            double delta0 = left[i] - right[i];
+            double delta1 = left[i + 1] - right[i + 1];
+            double delta2 = left[i + 2] - right[i + 2];
+            double delta3 = left[i + 3] - right[i + 3];
+            sum0 += delta0 * delta0;
+            sum1 += delta1 * delta1;
+            sum2 += delta2 * delta2;
+            sum3 += delta3 * delta3;
+        }
+        for (; i < len; i++) {
+            double delta = left[i] - right[i];
+            sum0 += delta * delta;
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Computes the dot product and both squared norms in a single pass.
+     *
+     * @return the cosine similarity, or {@code NaN} if one of the vectors has no magnitude
+     */
+    public static float cosine(float[] left, float[] right, int len) {
+        float dot0 = 0F, dot1 = 0F;
+        float leftNorm0 = 0F, leftNorm1 = 0F;
+        float rightNorm0 = 0F, rightNorm1 = 0F;
+        int i = 0;
+        int bound = len & ~1;
+        for (; i < bound; i += 2) {
+            float l0 = left[i], l1 = left[i + 1];
+            float r0 = right[i], r1 = right[i + 1];
+            dot0 += l0 * r0;
+            dot1 += l1 * r1;
+            leftNorm0 += l0 * l0;
+            leftNorm1 += l1 * l1;
+            rightNorm0 += r0 * r0;
+            rightNorm1 += r1 * r1;
+        }
+        if (i < len) {
+            float l = left[i], r = right[i];
+            dot0 += l * r;
+            leftNorm0 += l * l;
+            rightNorm0 += r * r;
+        }
+        return (float) ((dot0 + dot1) / Math.sqrt((leftNorm0 + leftNorm1) * (rightNorm0 + rightNorm1)));
+    }
+
+    /**
+     * Computes the dot product and both squared norms in a single pass.
+     *
+     * @return the cosine similarity, or {@code NaN} if one of the vectors has no magnitude
+     */
+    public static double cosine(double[] left, double[] right, int len) {
+        double dot0 = 0D, dot1 = 0D;
+        double leftNorm0 = 0D, leftNorm1 = 0D;
+        double rightNorm0 = 0D, rightNorm1 = 0D;
+        int i = 0;
+        int bound = len & ~1;
+        for (; i < bound; i += 2) {
+            double l0 = left[i], l1 = left[i + 1];
+            double r0 = right[i], r1 = right[i + 1];
+            dot0 += l0 * r0;
+            dot1 += l1 * r1;
+            leftNorm0 += l0 * l0;
+            leftNorm1 += l1 * l1;
+            rightNorm0 += r0 * r0;
+            rightNorm1 += r1 * r1;
+        }
+        if (i < len) {
+            double l = left[i], r = right[i];
+            dot0 += l * r;
+            leftNorm0 += l * l;
+            rightNorm0 += r * r;
+        }
+        return (dot0 + dot1) / Math.sqrt((leftNorm0 + leftNorm1) * (rightNorm0 + rightNorm1));
+    }
+
+    public static double squaredNorm(double[] vector, int len) {
+        return dot(vector, vector, len);
+    }
+
+    /**
+     * @return the dot product of the sparse vectors in the ranges {@code [from1, to1)} and {@code [from2, to2)}
+     */
+    public static double sparseDot(
+        long[] ids1,
+        float[] weights1,
+        int from1,
+        int to1,
+        long[] ids2,
+        float[] weights2,
+        int from2,
+        int to2
+    ) {
+        return sparseIntersection(ids1, weights1, from1, to1, ids2, weights2, from2, to2, false);
+    }
+
+    /**
+     * @return the sum of the minimum weights of the ids shared by the sparse vectors
+     *     in the ranges {@code [from1, to1)} and {@code [from2, to2)}
+     */
+    public static double sparseMinSum(
+        long[] ids1,
+        float[] weights1,
+        int from1,
+        int to1,
+        long[] ids2,
+        float[] weights2,
+        int from2,
+        int to2
+    ) {
+        return sparseIntersection(ids1, weights1, from1, to1, ids2, weights2, from2, to2, true);
+    }
+
+    /**
+     * @return the weighted Jaccard similarity of two sparse vectors with non-negative weights
+     */
+    public static double weightedJaccard(long[] ids1, double[] weights1, long[] ids2, double[] weights2) {
+        assert ids1.length == weights1.length;
+        assert ids2.length == weights2.length;
+
+        int offset1 = 0;
+        int offset2 = 0;
+        int length1 = weights1.length;
+        int length2 = weights2.length;
+        double max = 0;
+        double min = 0;
+        while (offset1 < length1 && offset2 < length2) {
+            long target1 = ids1[offset1];
+            long target2 = ids2[offset2];
+            if (target1 == target2) {
+                double w1 = weights1[offset1];
+                double w2 = weights2[offset2];
+                if (w1 > w2) {
+                    max += w1;
+                    min += w2;
+                } else {
+                    min += w1;
+                    max += w2;
+                }
+                offset1++;
+                offset2++;
+            } else if (target1 < target2) {
+                max += weights1[offset1];
+                offset1++;
+            } else {
+                max += weights2[offset2];
+                offset2++;
+            }
+        }
+        for (; offset1 < length1; offset1++) {
+            max += weights1[offset1];
+        }
+        for (; offset2 < length2; offset2++) {
+            max += weights2[offset2];
+        }
+        return min / max;
+    }
+
+    private static double sparseIntersection(
+        long[] ids1,
+        float[] weights1,
+        int from1,
+        int to1,
+        long[] ids2,
+        float[] weights2,
+        int from2,
+        int to2,
+        boolean minimum
+    ) {
+        // disjoint id ranges cannot share any id
+        if (from1 == to1 || from2 == to2 || ids1[to1 - 1] < ids2[from2] || ids2[to2 - 1] < ids1[from1]) {
+            return 0;
+        }
+
+        long length1 = to1 - from1;
+        long length2 = to2 - from2;
+        if (length1 * GALLOP_RATIO < length2) {
+            return gallopingIntersection(ids1, weights1, from1, to1, ids2, weights2, from2, to2, minimum);
+        }
+        if (length2 * GALLOP_RATIO < length1) {
+            return gallopingIntersection(ids2, weights2, from2, to2, ids1, weights1, from1, to1, minimum);
+        }
+
+        double sum = 0;
+        int i = from1;
+        int j = from2;
+        while (i < to1 && j < to2) {
+            long id1 = ids1[i];
+            long id2 = ids2[j];
+            if (id1 == id2) {
+                sum += combine(weights1[i], weights2[j], minimum);
+                i++;
+                j++;
+            } else if (id1 < id2) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    private static double gallopingIntersection(
+        long[] shortIds,
+        float[] shortWeights,
+        int shortFrom,
+        int shortTo,
+        long[] longIds,
+        float[] longWeights,
+        int longFrom,
+        int longTo,
+        boolean minimum
+    ) {
+        double sum = 0;
+        int j = longFrom;
+        for (int i = shortFrom; i < shortTo && j < longTo; i++) {
+            j = gallop(longIds, j, longTo, shortIds[i]);
+            if (j < longTo && longIds[j] == shortIds[i]) {
+                sum += combine(shortWeights[i], longWeights[j], minimum);
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return the first index in {@code [from, to)} with an id of at least {@code key}, or {@code to} if there is none
+     */
+    private static int gallop(long[] ids, int from, int to, long key) {
+        int bound = 1;
+        while (from + bound < to && ids[from + bound] < key) {
+            bound <<= 1;
+        }
+        int low = from + (bound >> 1);
+        int high = Math.min(from + bound, to);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double combine(float weight1, float weight2, boolean minimum) {
+        return minimum ? Math.min(weight1, weight2) : (double) weight1 * weight2;
+    }
+}
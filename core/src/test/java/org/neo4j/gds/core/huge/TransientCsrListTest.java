@@ -123,6 +123,44 @@ class TransientCsrListTest {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
+    void shouldDecodeInBulk(TestMethodRunner runner) {
+        runner.run(() -> {
+            long[] targets = LongStream.range(0, 3 * CHUNK_SIZE + 7).map(i -> 3 * i).toArray();
+            var adjacencyCursor = adjacencyCursorFromTargets(targets);
+            long[] buffer = new long[targets.length];
+            assertThat(adjacencyCursor.nextVLongs(buffer)).isEqualTo(targets.length);
+            assertThat(buffer).containsExactly(targets);
+            assertFalse(adjacencyCursor.hasNextVLong());
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
+    void shouldContinueAfterPartialBulkDecode(TestMethodRunner runner) {
+        runner.run(() -> {
+            long[] targets = LongStream.range(0, 4 * CHUNK_SIZE + 3).map(i -> 2 * i).toArray();
+            var adjacencyCursor = adjacencyCursorFromTargets(targets);
+
+            // start in the middle of the first block
+            assertThat(adjacencyCursor.nextVLong()).isEqualTo(targets[0]);
+            assertThat(adjacencyCursor.nextVLong()).isEqualTo(targets[1]);
+
+            long[] buffer = new long[2 * CHUNK_SIZE + 5];
+            assertThat(adjacencyCursor.nextVLongs(buffer)).isEqualTo(buffer.length);
+            assertThat(buffer).containsExactly(Arrays.copyOfRange(targets, 2, 2 + buffer.length));
+
+            int position = 2 + buffer.length;
+            assertThat(adjacencyCursor.remaining()).isEqualTo(targets.length - position);
+            assertThat(adjacencyCursor.peekVLong()).isEqualTo(targets[position]);
+            while (adjacencyCursor.hasNextVLong()) {
+                assertThat(adjacencyCursor.nextVLong()).isEqualTo(targets[position++]);
+            }
+            assertThat(position).isEqualTo(targets.length);
+        });
+    }
+
     @ParameterizedTest
     @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
     void shouldPeekAcrossBlocks(TestMethodRunner runner) {
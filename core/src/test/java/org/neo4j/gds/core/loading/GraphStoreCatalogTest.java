@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphCreateFromStoreConfig;
+import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
@@ -43,6 +44,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.neo4j.gds.NodeLabel.ALL_NODES;
 import static org.neo4j.gds.extension.GdlSupportExtension.DATABASE_ID;
 
 @GdlExtension
@@ -198,6 +200,91 @@ class GraphStoreCatalogTest {
         assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
     }
 
+    @Test
+    void setAndGetIndex() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new TestIndex();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).containsSame(index);
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "other")).isEmpty();
+
+        var replacement = new TestIndex();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", replacement);
+        assertThat(index.released).isTrue();
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).containsSame(replacement);
+    }
+
+    @Test
+    void removeReleasesIndexes() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new TestIndex();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        GraphStoreCatalog.remove(
+            CatalogRequest.of(USER_NAME, DATABASE_ID),
+            GRAPH_NAME,
+            graphStoreWithConfig -> {},
+            true
+        );
+
+        assertThat(index.released).isTrue();
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).isEmpty();
+    }
+
+    @Test
+    void removeDatabaseReleasesIndexes() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new TestIndex();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        GraphStoreCatalog.removeAllLoadedGraphs(DATABASE_ID);
+
+        assertThat(index.released).isTrue();
+    }
+
+    @Test
+    void removeAllLoadedGraphsReleasesIndexes() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new TestIndex();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+
+        assertThat(index.released).isTrue();
+    }
+
+    @Test
+    void overwriteReleasesIndexes() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new TestIndex();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        GraphStoreCatalog.overwrite(CONFIG, otherGraphStore);
+
+        assertThat(index.released).isTrue();
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).isEmpty();
+    }
+
+    @Test
+    void mutationInvalidatesIndexes() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new TestIndex();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        graphStore.addNodeProperty(ALL_NODES, "foo", new DoubleNullPropertyMap(42.0));
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).isEmpty();
+        assertThat(index.released).isTrue();
+    }
+
+    @Test
+    void setIndexFailsForMissingGraph() {
+        assertThatThrownBy(() -> GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", new TestIndex()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cannot set index `index` because graph graph does not exist");
+    }
+
     @Test
     void removeAsAdmin() {
         GraphStoreCatalog.set(CONFIG, graphStore);
@@ -441,4 +528,24 @@ class GraphStoreCatalogTest {
             ))
             .withMessage("Graph with name `myGraph` does not exist on database `mydatabase`. It might exist on another database.");
     }
+
+    private static final class TestIndex implements GraphStoreIndex {
+
+        boolean released = false;
+
+        @Override
+        public String indexType() {
+            return "test";
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 0;
+        }
+
+        @Override
+        public void release() {
+            released = true;
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorKernelsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 7, 8, 13, 256})
+    void doubleKernels(int length) {
+        var random = new SplittableRandom(length);
+        var left = random.doubles(length + 3, -1, 1).toArray();
+        var right = random.doubles(length + 3, -1, 1).toArray();
+
+        double dot = 0, leftNorm = 0, rightNorm = 0, squaredEuclidean = 0;
+        for (int i = 0; i < length; i++) {
+            dot += left[i] * right[i];
+            leftNorm += left[i] * left[i];
+            rightNorm += right[i] * right[i];
+            squaredEuclidean += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+
+        assertThat(VectorKernels.dot(left, right, length)).isCloseTo(dot, within(1e-9));
+        assertThat(VectorKernels.squaredNorm(left, length)).isCloseTo(leftNorm, within(1e-9));
+        assertThat(VectorKernels.squaredEuclidean(left, right, length)).isCloseTo(squaredEuclidean, within(1e-9));
+        if (length > 0) {
+            assertThat(VectorKernels.cosine(left, right, length))
+                .isCloseTo(dot / Math.sqrt(leftNorm * rightNorm), within(1e-9));
+        } else {
+            assertThat(VectorKernels.cosine(left, right, length)).isNaN();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 7, 8, 13, 256})
+    void floatKernels(int length) {
+        var random = new SplittableRandom(length);
+        var left = new float[length + 3];
+        var right = new float[length + 3];
+        for (int i = 0; i < left.length; i++) {
+            left[i] = (float) random.nextDouble(-1, 1);
+            right[i] = (float) random.nextDouble(-1, 1);
+        }
+
+        double dot = 0, leftNorm = 0, rightNorm = 0, squaredEuclidean = 0;
+        for (int i = 0; i < length; i++) {
+            dot += left[i] * right[i];
+            leftNorm += left[i] * left[i];
+            rightNorm += right[i] * right[i];
+            squaredEuclidean += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+
+        assertThat((double) VectorKernels.dot(left, right, length)).isCloseTo(dot, within(1e-4));
+        assertThat((double) VectorKernels.squaredEuclidean(left, right, length)).isCloseTo(squaredEuclidean, within(1e-4));
+        if (length > 0) {
+            assertThat((double) VectorKernels.cosine(left, right, length))
+                .isCloseTo(dot / Math.sqrt(leftNorm * rightNorm), within(1e-5));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 10", "1, 1", "5, 7", "10, 100", "3, 1000", "1000, 3", "64, 64"})
+    void sparseKernels(int length1, int length2) {
+        var random = new SplittableRandom(31L * length1 + length2);
+        // padded on both sides to check that only the given ranges are read
+        var ids1 = sparseIds(random, length1 + 2);
+        var ids2 = sparseIds(random, length2 + 2);
+        var weights1 = sparseWeights(random, length1 + 2);
+        var weights2 = sparseWeights(random, length2 + 2);
+
+        double dot = 0, minSum = 0;
+        for (int i = 1; i <= length1; i++) {
+            for (int j = 1; j <= length2; j++) {
+                if (ids1[i] == ids2[j]) {
+                    dot += (double) weights1[i] * weights2[j];
+                    minSum += Math.min(weights1[i], weights2[j]);
+                }
+            }
+        }
+
+        assertThat(VectorKernels.sparseDot(ids1, weights1, 1, length1 + 1, ids2, weights2, 1, length2 + 1))
+            .isCloseTo(dot, within(1e-6));
+        assertThat(VectorKernels.sparseMinSum(ids1, weights1, 1, length1 + 1, ids2, weights2, 1, length2 + 1))
+            .isCloseTo(minSum, within(1e-6));
+    }
+
+    @Test
+    void weightedJaccard() {
+        long[] ids1 = {1, 3, 5};
+        double[] weights1 = {1, 2, 3};
+        long[] ids2 = {3, 4, 5};
+        double[] weights2 = {1, 1, 5};
+
+        // min: 1 + 3, max: 1 + 2 + 1 + 5
+        assertThat(VectorKernels.weightedJaccard(ids1, weights1, ids2, weights2)).isCloseTo(4.0 / 9.0, within(1e-9));
+    }
+
+    private static long[] sparseIds(SplittableRandom random, int length) {
+        var ids = new long[length];
+        long id = 0;
+        for (int i = 0; i < length; i++) {
+            id += 1 + random.nextInt(3);
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    private static float[] sparseWeights(SplittableRandom random, int length) {
+        var weights = new float[length];
+        for (int i = 0; i < length; i++) {
+            weights[i] = (float) random.nextDouble(0.1, 1);
+        }
+        return weights;
+    }
+}
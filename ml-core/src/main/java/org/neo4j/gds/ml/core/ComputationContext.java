@@ -19,145 +19,421 @@
  */
 package org.neo4j.gds.ml.core;
 
-import org.neo4j.gds.ml.core.functions.PassthroughVariable;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 import org.neo4j.gds.ml.core.tensor.TensorFactory;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+import static org.neo4j.gds.ml.core.Dimensions.COLUMNS_INDEX;
+import static org.neo4j.gds.ml.core.Dimensions.ROWS_INDEX;
+
+/**
+ * Evaluates a computation graph and back-propagates gradients through it.
+ *
+ * The first {@link #forward(Variable)} of a root compiles an execution plan: the ancestors of the root
+ * in topological order, each assigned a fixed slot for its data and gradient.
+ * Repeated passes over the same graph, separated by {@link #reset()}, reuse that plan and the gradient buffers
+ * of the previous pass instead of allocating new ones.
+ * Functions which write their data into {@link #matrixBuffer(Variable)} reuse their forward buffers in the same way.
+ * When a new graph is compiled after a reset, buffers of the previous graph are handed out again by their dimensions.
+ * Data and gradients are therefore only valid until the next {@link #backward(Variable)} or {@link #reset()}
+ * on this context.
+ *
+ * While a variable is applied or back-propagated, lookups of the variable itself and of its parents
+ * are resolved through the slots of the plan.
+ *
+ * A context is not thread-safe and is meant to be owned by a single worker.
+ */
 public class ComputationContext {
-    private final Map<Variable<?>, Tensor<?>> data;
-    private final Map<Variable<?>, Tensor<?>> gradients;
+
+    private final Map<Variable<?>, Integer> slots;
+    private final List<Variable<?>> variables;
+    private final List<int[]> parentSlots;
+    private final List<Tensor<?>> gradientPool;
+    private final List<Matrix> dataPool;
+
+    private Tensor<?>[] data;
+    // forward buffers handed out by matrixBuffer, reused by the same slot in the next pass
+    private Matrix[] dataBuffers;
+    private Tensor<?>[] gradients;
+    // gradients of the previous pass, reused by the same slot in the next pass
+    private Tensor<?>[] gradientBuffers;
+    private boolean computedAnything;
+
+    private Variable<?> planRoot;
+    // slots of all ancestors of the plan root in topological order, ending with the root itself
+    private int[] forwardOrder;
+    // per slot, the number of children propagating a gradient into it during back propagation
+    private int[] upstreamCounts;
+    private int backPropTasks;
+    // slot of the variable currently applied or back-propagated, -1 outside of a pass
+    private int currentSlot;
 
     public ComputationContext() {
-        this.data = new ConcurrentHashMap<>();
-        this.gradients = new ConcurrentHashMap<>();
+        this.slots = new IdentityHashMap<>();
+        this.variables = new ArrayList<>();
+        this.parentSlots = new ArrayList<>();
+        this.gradientPool = new ArrayList<>();
+        this.dataPool = new ArrayList<>();
+        this.data = new Tensor[0];
+        this.dataBuffers = new Matrix[0];
+        this.gradients = new Tensor[0];
+        this.gradientBuffers = new Tensor[0];
+        this.currentSlot = -1;
     }
 
-    // Only one forward call is expected for the caching strategy
     public <T extends Tensor<T>> T forward(Variable<T> variable) {
-        var cachedData = (T) data.get(variable);
+        var cachedData = data(variable);
         if (cachedData != null) {
             return cachedData;
         }
-        for (Variable<?> parent : variable.parents()) {
-            forward(parent);
+
+        compile(variable);
+        int callerSlot = currentSlot;
+        for (int slot : forwardOrder) {
+            if (data[slot] == null) {
+                currentSlot = slot;
+                data[slot] = variables.get(slot).apply(this);
+            }
         }
-        T variableResult = variable.apply(this);
-        data.put(variable, variableResult);
-        return variableResult;
+        currentSlot = callerSlot;
+        computedAnything = true;
+        // buffers of a previous graph which were not handed out again are not kept any longer
+        dataPool.clear();
+        return (T) data[forwardOrder[forwardOrder.length - 1]];
     }
 
     public <T extends Tensor<T>> T data(Variable<T> variable) {
-        return (T) data.get(variable);
+        int slot = lookup(variable);
+        return slot == -1 ? null : (T) data[slot];
     }
 
     public <T extends Tensor<T>> T gradient(Variable<T> variable) {
-        return (T) gradients.get(variable);
+        int slot = lookup(variable);
+        return slot == -1 ? null : (T) gradients[slot];
+    }
+
+    /**
+     * Returns a matrix for the variable which is currently applied to write its data into.
+     * The matrix is owned by this context and handed out again in later passes,
+     * so its entries are stale and must all be overwritten.
+     * Outside of a forward pass of this context, a new matrix is returned.
+     */
+    public Matrix matrixBuffer(Variable<Matrix> variable) {
+        int rows = variable.dimension(ROWS_INDEX);
+        int cols = variable.dimension(COLUMNS_INDEX);
+        int slot = currentSlot;
+        if (slot == -1 || variables.get(slot) != variable) {
+            return new Matrix(rows, cols);
+        }
+
+        var buffer = dataBuffers[slot];
+        if (buffer == null) {
+            buffer = borrowData(rows, cols);
+            dataBuffers[slot] = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Drops all data and gradients, so that the graph can be evaluated again for a new batch.
+     * The compiled plan of the last root as well as the forward and gradient buffers are kept for the next pass.
+     */
+    public void reset() {
+        Arrays.fill(data, null);
+        releaseGradients();
+        computedAnything = false;
     }
 
     public void backward(Variable<?> function) {
         assert (Dimensions.isScalar(function.dimensions())) : "Root variable must be scalar.";
         assert function.requireGradient() : "Root variable must have requireGradient==true";
 
-        gradients.clear();
-        Queue<BackPropTask> executionQueue = new LinkedBlockingQueue<>();
-        PassthroughVariable<?> dummy = new PassthroughVariable<>(function);
-        executionQueue.add(new BackPropTask(function, dummy));
-        Map<Variable<?>, AtomicInteger> upstreamCounters = new HashMap<>();
-        initUpstream(dummy, upstreamCounters);
-        backward(executionQueue, upstreamCounters);
-    }
-
-    private void backward(Queue<BackPropTask> executionQueue, Map<Variable<?>, AtomicInteger> upstreamCounters) {
-        while (!executionQueue.isEmpty()) {
-            BackPropTask task = executionQueue.poll();
-            var variable = task.variable;
-            var child = task.child;
-            Tensor<?> gradient = child.gradient(variable, this);
-            updateGradient(variable, gradient);
-
-            if (upstreamCounters.get(variable).decrementAndGet() == 0) {
-                for (Variable<?> parent : variable.parents()) {
-                    if (parent.requireGradient()) {
-                        executionQueue.offer(new BackPropTask(parent, variable));
-                    }
+        releaseGradients();
+        forward(function);
+        compile(function);
+
+        var counters = Arrays.copyOf(upstreamCounts, upstreamCounts.length);
+        // pairs of (variable slot, child slot) in the order they become ready
+        var tasks = new int[2 * backPropTasks];
+        int head = 0;
+        int tail = 0;
+
+        // the root receives the gradient of the identity
+        int rootSlot = forwardOrder[forwardOrder.length - 1];
+        gradientBuffer(rootSlot).setDataAt(0, 1D);
+        if (--counters[rootSlot] == 0) {
+            tail = offerParents(rootSlot, tasks, tail);
+        }
+
+        while (head < tail) {
+            int slot = tasks[head++];
+            int childSlot = tasks[head++];
+
+            currentSlot = childSlot;
+            Tensor<?> gradient = variables.get(childSlot).gradient(variables.get(slot), this);
+            gradientBuffer(slot).addInPlace(gradient);
+
+            if (--counters[slot] == 0) {
+                tail = offerParents(slot, tasks, tail);
+            }
+        }
+        currentSlot = -1;
+        // gradient buffers of a previous graph which were not handed out again are not kept any longer
+        gradientPool.clear();
+    }
+
+    // resolves the variable and its parents through the plan, other variables through the slot map
+    private int lookup(Variable<?> variable) {
+        int slot = currentSlot;
+        if (slot != -1) {
+            if (variables.get(slot) == variable) {
+                return slot;
+            }
+            for (int parentSlot : parentSlots.get(slot)) {
+                if (variables.get(parentSlot) == variable) {
+                    return parentSlot;
                 }
             }
         }
+        var mappedSlot = slots.get(variable);
+        return mappedSlot == null ? -1 : mappedSlot;
+    }
+
+    private int offerParents(int slot, int[] tasks, int tail) {
+        for (int parentSlot : parentSlots.get(slot)) {
+            if (variables.get(parentSlot).requireGradient()) {
+                tasks[tail++] = parentSlot;
+                tasks[tail++] = slot;
+            }
+        }
+        return tail;
+    }
+
+    private Tensor<?> gradientBuffer(int slot) {
+        var gradient = gradients[slot];
+        if (gradient == null) {
+            gradient = gradientBuffers[slot];
+            if (gradient == null) {
+                gradient = borrowZeroed(variables.get(slot).dimensions());
+            } else {
+                Arrays.fill(gradient.data(), 0D);
+            }
+            gradients[slot] = gradient;
+        }
+        return gradient;
+    }
+
+    private Tensor<?> borrowZeroed(int[] dimensions) {
+        int last = gradientPool.size() - 1;
+        for (int i = last; i >= 0; i--) {
+            var candidate = gradientPool.get(i);
+            if (Arrays.equals(candidate.dimensions(), dimensions)) {
+                gradientPool.set(i, gradientPool.get(last));
+                gradientPool.remove(last);
+                Arrays.fill(candidate.data(), 0D);
+                return candidate;
+            }
+        }
+        return TensorFactory.constant(0D, dimensions);
     }
 
-    private void initUpstream(Variable<?> function, Map<Variable<?>, AtomicInteger> upstreamCounters) {
-        for (Variable<?> parent : function.parents()) {
-            if (parent.requireGradient()) {
-                boolean firstToSeeParent = !upstreamCounters.containsKey(parent);
-                if (firstToSeeParent) {
-                    initUpstream(parent, upstreamCounters);
-                    upstreamCounters.put(parent, new AtomicInteger(0));
+    private Matrix borrowData(int rows, int cols) {
+        int last = dataPool.size() - 1;
+        for (int i = last; i >= 0; i--) {
+            var candidate = dataPool.get(i);
+            if (candidate.rows() == rows && candidate.cols() == cols) {
+                dataPool.set(i, dataPool.get(last));
+                dataPool.remove(last);
+                return candidate;
+            }
+        }
+        return new Matrix(rows, cols);
+    }
+
+    private void releaseDataBuffers() {
+        // only the buffers of the graph compiled last are kept around
+        dataPool.clear();
+        for (int slot = 0; slot < dataBuffers.length; slot++) {
+            if (dataBuffers[slot] != null) {
+                dataPool.add(dataBuffers[slot]);
+                dataBuffers[slot] = null;
+            }
+        }
+    }
+
+    private void releaseGradients() {
+        for (int slot = 0; slot < gradients.length; slot++) {
+            if (gradients[slot] != null) {
+                gradientBuffers[slot] = gradients[slot];
+                gradients[slot] = null;
+            }
+        }
+    }
+
+    private void releaseGradientBuffers() {
+        // only the buffers of the graph compiled last are kept around
+        gradientPool.clear();
+        for (int slot = 0; slot < gradientBuffers.length; slot++) {
+            if (gradientBuffers[slot] != null) {
+                gradientPool.add(gradientBuffers[slot]);
+                gradientBuffers[slot] = null;
+            }
+        }
+    }
+
+    private void compile(Variable<?> root) {
+        if (root == planRoot) {
+            return;
+        }
+        if (!computedAnything) {
+            // nothing is cached, so slots of a previous graph can be dropped
+            slots.clear();
+            variables.clear();
+            parentSlots.clear();
+            Arrays.fill(data, null);
+            releaseDataBuffers();
+            releaseGradients();
+            releaseGradientBuffers();
+        }
+
+        var order = topologicalOrder(root);
+        for (Variable<?> variable : order) {
+            slotOf(variable);
+        }
+        this.forwardOrder = new int[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            var variable = order.get(i);
+            int slot = slots.get(variable);
+            forwardOrder[i] = slot;
+            if (parentSlots.get(slot) == null) {
+                var parents = new ArrayList<Integer>();
+                variable.parents().forEach(parent -> parents.add(slots.get(parent)));
+                parentSlots.set(slot, parents.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+
+        if (data.length < variables.size()) {
+            data = Arrays.copyOf(data, variables.size());
+            gradients = Arrays.copyOf(gradients, variables.size());
+            gradientBuffers = Arrays.copyOf(gradientBuffers, variables.size());
+            dataBuffers = Arrays.copyOf(dataBuffers, variables.size());
+        }
+
+        countUpstream();
+        this.planRoot = root;
+    }
+
+    // mirrors which (child, parent) edges the back propagation traverses, starting from the root
+    private void countUpstream() {
+        this.upstreamCounts = new int[variables.size()];
+        var reachable = new boolean[variables.size()];
+        int rootSlot = forwardOrder[forwardOrder.length - 1];
+        reachable[rootSlot] = true;
+        upstreamCounts[rootSlot] = 1;
+        int edges = 0;
+
+        for (int i = forwardOrder.length - 1; i >= 0; i--) {
+            int slot = forwardOrder[i];
+            if (!reachable[slot]) {
+                continue;
+            }
+            for (int parentSlot : parentSlots.get(slot)) {
+                if (variables.get(parentSlot).requireGradient()) {
+                    reachable[parentSlot] = true;
+                    upstreamCounts[parentSlot]++;
+                    edges++;
                 }
-                upstreamCounters.get(parent).incrementAndGet();
             }
         }
+        this.backPropTasks = edges;
+    }
+
+    private int slotOf(Variable<?> variable) {
+        var slot = slots.get(variable);
+        if (slot == null) {
+            slot = variables.size();
+            slots.put(variable, slot);
+            variables.add(variable);
+            parentSlots.add(null);
+        }
+        return slot;
     }
 
-    private void updateGradient(Variable<?> variable, Tensor<?> gradient) {
-        gradients.putIfAbsent(variable, TensorFactory.constant(0D, variable.dimensions()));
-        gradients.get(variable).addInPlace(gradient);
+    private static List<Variable<?>> topologicalOrder(Variable<?> root) {
+        List<Variable<?>> order = new ArrayList<>();
+        Set<Variable<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Variable<?>> path = new ArrayDeque<>();
+        Deque<Iterator<? extends Variable<?>>> pendingParents = new ArrayDeque<>();
+
+        visited.add(root);
+        path.push(root);
+        pendingParents.push(root.parents().iterator());
+
+        while (!path.isEmpty()) {
+            var parents = pendingParents.peek();
+            if (parents.hasNext()) {
+                var parent = parents.next();
+                if (visited.add(parent)) {
+                    path.push(parent);
+                    pendingParents.push(parent.parents().iterator());
+                }
+            } else {
+                pendingParents.pop();
+                order.add(path.pop());
+            }
+        }
+
+        return order;
     }
 
     public String render() {
         StringBuilder result = new StringBuilder();
 
-        data.forEach((variable, dataEntry) -> {
-            result.append(variable)
+        for (int slot = 0; slot < variables.size(); slot++) {
+            var dataEntry = data[slot];
+            if (dataEntry == null) {
+                continue;
+            }
+            result.append(variables.get(slot))
                 .append(System.lineSeparator())
                 .append("\t data: ")
                 .append(dataEntry)
                 .append(System.lineSeparator());
 
-            var gradient = Optional.ofNullable(gradients.get(variable)).map(Tensor::toString);
+            var gradient = Optional.ofNullable(gradients[slot]).map(Tensor::toString);
             result.append("\t gradient: " + gradient.orElse("None") + System.lineSeparator());
-        });
+        }
 
         renderOrphanGradients(result);
 
         return result.toString();
-
     }
 
     private void renderOrphanGradients(StringBuilder result) {
-        var expectedVariables = data.keySet();
-        var unmatchedGradients = gradients
-            .entrySet()
-            .stream()
-            .filter(entry -> !expectedVariables.contains(entry.getKey()))
-            .collect(Collectors.toList());
-
-        if (!unmatchedGradients.isEmpty()) {
-            result.append("Found gradients but no data for: ");
-            unmatchedGradients.forEach(entry -> result
-                .append(System.lineSeparator())
-                .append(entry.getKey())
-                .append(entry.getValue())
-            );
-        }
-    }
-
-    static class BackPropTask {
-        Variable<?> variable;
-        Variable<?> child;
-
-        BackPropTask(Variable<?> variable, Variable<?> child) {
-            this.variable = variable;
-            this.child = child;
+        boolean foundOrphan = false;
+        for (int slot = 0; slot < variables.size(); slot++) {
+            if (gradients[slot] != null && data[slot] == null) {
+                if (!foundOrphan) {
+                    result.append("Found gradients but no data for: ");
+                    foundOrphan = true;
+                }
+                result
+                    .append(System.lineSeparator())
+                    .append(variables.get(slot))
+                    .append(gradients[slot]);
+            }
         }
     }
-
 }
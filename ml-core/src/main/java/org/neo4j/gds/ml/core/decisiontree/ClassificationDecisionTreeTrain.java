@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.ml.core.decisiontree;
 
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
@@ -33,6 +35,12 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
     private final int[] classes;
     private final HugeIntArray allLabels;
     private final Map<Integer, Integer> classToIdx;
+    private final AllocationTracker allocationTracker;
+    private final Optional<FeatureBins> featureBins;
+    private final int concurrency;
+    // only used for histogram based splits
+    private final ClassificationLoss classificationLoss;
+    private final HugeIntArray classIndices;
 
     public ClassificationDecisionTreeTrain(
         AllocationTracker allocationTracker,
@@ -45,7 +53,9 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
         Optional<Random> random,
         int[] classes,
         HugeIntArray allLabels,
-        Map<Integer, Integer> classToIdx
+        Map<Integer, Integer> classToIdx,
+        Optional<FeatureBins> featureBins,
+        int concurrency
     ) {
         super(
             allocationTracker,
@@ -66,6 +76,24 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
 
         assert classToIdx.keySet().size() == classes.length;
         this.classToIdx = classToIdx;
+
+        this.allocationTracker = allocationTracker;
+        this.concurrency = concurrency;
+        this.featureBins = featureBins;
+
+        if (featureBins.isPresent()) {
+            if (!(lossFunction instanceof ClassificationLoss)) {
+                throw new IllegalArgumentException("Histogram based splits require a loss computed from class counts.");
+            }
+            assert featureBins.get().numberOfFeatures() == allFeatures.get(0).length;
+
+            this.classificationLoss = (ClassificationLoss) lossFunction;
+            this.classIndices = HugeIntArray.newArray(allLabels.size(), allocationTracker);
+            classIndices.setAll(i -> classToIdx.get(allLabels.get(i)));
+        } else {
+            this.classificationLoss = null;
+            this.classIndices = null;
+        }
     }
 
     public static final class Builder<LOSS extends DecisionTreeLoss> {
@@ -82,6 +110,8 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
         private double featureBaggingRatio = 0.0; // Use all feature indices.
         private double numFeatureVectorsRatio = 0.0; // Use all feature vectors.
         private Optional<Random> random = Optional.empty();
+        private Optional<FeatureBins> featureBins = Optional.empty();
+        private int concurrency = 1;
 
         public Builder(
             AllocationTracker allocationTracker,
@@ -113,7 +143,9 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
                 random,
                 classes,
                 allLabels,
-                classToIdx
+                classToIdx,
+                featureBins,
+                concurrency
             );
         }
 
@@ -136,6 +168,23 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
             this.random = Optional.of(new Random(seed));
             return this;
         }
+
+        /**
+         * Find splits from histograms over the given bins of the feature vectors instead of trying every feature value.
+         */
+        public Builder<LOSS> withFeatureBins(FeatureBins featureBins) {
+            this.featureBins = Optional.of(featureBins);
+            return this;
+        }
+
+        /**
+         * The number of threads searching for the best split over different features.
+         * Only used with feature bins.
+         */
+        public Builder<LOSS> withConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
     }
 
     @Override
@@ -161,4 +210,106 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
 
         return classes[maxClassIdx];
     }
+
+    @Override
+    Split findBestSplit(final HugeLongArray group, final long groupSize) {
+        if (featureBins.isEmpty()) {
+            return super.findBestSplit(group, groupSize);
+        }
+
+        assert groupSize > 0;
+        assert group.size() >= groupSize;
+
+        var featureBag = sampleFeatureBag();
+        var bestFeatureSplits = new FeatureSplit[featureBag.length];
+        var tasks = ParallelUtil.tasks(
+            featureBag.length,
+            bagIdx -> () -> bestFeatureSplits[bagIdx] = findBestSplit(featureBag[bagIdx], group, groupSize)
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+        // on equal loss, prefer the split found first by the exhaustive search
+        var bestSplit = bestFeatureSplits[0];
+        for (int bagIdx = 1; bagIdx < bestFeatureSplits.length; bagIdx++) {
+            if (bestFeatureSplits[bagIdx].isBetterThan(bestSplit)) {
+                bestSplit = bestFeatureSplits[bagIdx];
+            }
+        }
+
+        var childGroups = ImmutableGroups.of(
+            HugeLongArray.newArray(groupSize, allocationTracker),
+            HugeLongArray.newArray(groupSize, allocationTracker)
+        );
+        var groupSizes = createSplit(bestSplit.featureIdx, bestSplit.value, group, groupSize, childGroups);
+
+        return ImmutableSplit.of(bestSplit.featureIdx, bestSplit.value, childGroups, groupSizes);
+    }
+
+    private FeatureSplit findBestSplit(int featureIdx, HugeLongArray group, long groupSize) {
+        var bins = featureBins.get();
+        int numberOfBins = bins.numberOfBins(featureIdx);
+        int numberOfClasses = classes.length;
+
+        var binClassCounts = new long[numberOfBins * numberOfClasses];
+        var binSizes = new long[numberOfBins];
+        var firstOccurrences = new long[numberOfBins];
+        var rightClassCounts = new long[numberOfClasses];
+
+        for (long i = 0; i < groupSize; i++) {
+            long featureVectorIdx = group.get(i);
+            int bin = bins.bin(featureVectorIdx, featureIdx);
+            int classIdx = classIndices.get(featureVectorIdx);
+
+            if (binSizes[bin]++ == 0) {
+                firstOccurrences[bin] = i;
+            }
+            binClassCounts[bin * numberOfClasses + classIdx]++;
+            rightClassCounts[classIdx]++;
+        }
+
+        // splitting at a bin puts all smaller bins into the left group
+        var leftClassCounts = new long[numberOfClasses];
+        long leftSize = 0;
+        var bestSplit = new FeatureSplit(featureIdx);
+
+        for (int bin = 0; bin < numberOfBins; bin++) {
+            if (binSizes[bin] == 0) continue;
+
+            double loss = classificationLoss.splitLoss(leftClassCounts, leftSize, rightClassCounts, groupSize - leftSize);
+            bestSplit.offer(loss, firstOccurrences[bin], bins.threshold(featureIdx, bin));
+
+            for (int classIdx = 0; classIdx < numberOfClasses; classIdx++) {
+                long count = binClassCounts[bin * numberOfClasses + classIdx];
+                leftClassCounts[classIdx] += count;
+                rightClassCounts[classIdx] -= count;
+            }
+            leftSize += binSizes[bin];
+        }
+
+        return bestSplit;
+    }
+
+    private static final class FeatureSplit {
+        private final int featureIdx;
+        private double loss = Double.MAX_VALUE;
+        // the position in the group at which the exhaustive search would have tried this split first
+        private long firstOccurrence = Long.MAX_VALUE;
+        private double value = Double.MAX_VALUE;
+
+        FeatureSplit(int featureIdx) {
+            this.featureIdx = featureIdx;
+        }
+
+        void offer(double loss, long firstOccurrence, double value) {
+            if (loss < this.loss || (loss == this.loss && firstOccurrence < this.firstOccurrence)) {
+                this.loss = loss;
+                this.firstOccurrence = firstOccurrence;
+                this.value = value;
+            }
+        }
+
+        boolean isBetterThan(FeatureSplit other) {
+            return loss < other.loss || (loss == other.loss && firstOccurrence < other.firstOccurrence);
+        }
+    }
 }
@@ -30,13 +30,20 @@ public class DecisionTreePredict<PREDICTION> {
     public PREDICTION predict(double[] features) {
         assert features.length > 0;
 
+        return predict(features, 0);
+    }
+
+    /**
+     * Predicts the feature vector starting at {@code offset} in a flat batch of feature vectors.
+     */
+    public PREDICTION predict(double[] featureBatch, int offset) {
         TreeNode<PREDICTION> node = root;
 
         while (node.leftChild != null) {
-            assert features.length > node.index;
+            assert featureBatch.length > offset + node.index;
             assert node.rightChild != null;
 
-            if (features[node.index] < node.value) {
+            if (featureBatch[offset + node.index] < node.value) {
                 node = node.leftChild;
             } else {
                 node = node.rightChild;
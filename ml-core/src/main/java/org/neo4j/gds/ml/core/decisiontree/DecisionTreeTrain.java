@@ -162,7 +162,7 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
         return node;
     }
 
-    private GroupSizes createSplit(
+    GroupSizes createSplit(
         final int index,
         final double value,
         HugeLongArray group,
@@ -192,7 +192,7 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
         return ImmutableGroupSizes.of(leftGroupSize, rightGroupSize);
     }
 
-    private Split findBestSplit(final HugeLongArray group, final long groupSize) {
+    Split findBestSplit(final HugeLongArray group, final long groupSize) {
         assert groupSize > 0;
         assert group.size() >= groupSize;
 
@@ -210,9 +210,7 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
         );
         var bestGroupSizes = ImmutableGroupSizes.of(-1, -1);
 
-        if (featureBagger != null) {
-            featureBagger.sample(featureBag);
-        }
+        var featureBag = sampleFeatureBag();
 
         for (long j = 0; j < groupSize; j++) {
             for (int i : featureBag) {
@@ -245,6 +243,16 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
 
     }
 
+    /**
+     * The feature indices to consider for the next split, in the order in which they are evaluated.
+     */
+    int[] sampleFeatureBag() {
+        if (featureBagger != null) {
+            featureBagger.sample(featureBag);
+        }
+        return featureBag;
+    }
+
     @ValueClass
     interface Split {
         int index();
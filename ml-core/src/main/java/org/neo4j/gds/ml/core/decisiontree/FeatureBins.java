@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.decisiontree;
+
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfShortArray;
+
+/**
+ * The feature vectors of a dataset quantized into bins, computed once and shared by all decision trees trained on it.
+ * Features with at most {@code maxBins} distinct values get one bin per value, which makes the histogram based
+ * split search find the same splits as the exhaustive one.
+ * Otherwise the bins are quantiles over the distinct values, each holding about the same number of distinct values,
+ * regardless of how often every value occurs or how far apart the values are.
+ */
+public final class FeatureBins {
+
+    public static final int DEFAULT_MAX_BINS = 256;
+    // bins are stored as unsigned shorts
+    static final int MAX_BINS = 1 << Short.SIZE;
+
+    // per feature, the smallest feature value of every bin in ascending order
+    private final double[][] thresholds;
+    // per feature vector, the bin of every feature
+    private final HugeObjectArray<short[]> bins;
+
+    private FeatureBins(double[][] thresholds, HugeObjectArray<short[]> bins) {
+        this.thresholds = thresholds;
+        this.bins = bins;
+    }
+
+    public static MemoryRange memoryEstimation(
+        long numberOfFeatureVectors,
+        int numberOfFeatures,
+        int maxBins,
+        int concurrency
+    ) {
+        // every feature has at least one and at most one bin per feature vector
+        long maxBinsPerFeature = Math.min(maxBins, numberOfFeatureVectors);
+        var thresholds = MemoryRange.of(
+            sizeOfObjectArray(numberOfFeatures) + numberOfFeatures * sizeOfDoubleArray(1),
+            sizeOfObjectArray(numberOfFeatures) + numberOfFeatures * sizeOfDoubleArray(maxBinsPerFeature)
+        );
+        long bins = HugeObjectArray.memoryEstimation(numberOfFeatureVectors, sizeOfShortArray(numberOfFeatures));
+        // the sorted values of the features whose thresholds are computed at the same time
+        long sortedValues = Math.min(concurrency, numberOfFeatures) * sizeOfDoubleArray(numberOfFeatureVectors);
+
+        return thresholds.add(MemoryRange.of(bins + sortedValues));
+    }
+
+    public static FeatureBins of(
+        HugeObjectArray<double[]> allFeatureVectors,
+        int maxBins,
+        int concurrency,
+        AllocationTracker allocationTracker
+    ) {
+        assert allFeatureVectors.size() > 0;
+        assert maxBins > 0 && maxBins <= MAX_BINS;
+
+        int numberOfFeatures = allFeatureVectors.get(0).length;
+        var thresholds = new double[numberOfFeatures][];
+
+        var thresholdTasks = ParallelUtil.tasks(
+            numberOfFeatures,
+            featureIdx -> () -> thresholds[featureIdx] = thresholds(allFeatureVectors, featureIdx, maxBins)
+        );
+        ParallelUtil.runWithConcurrency(concurrency, thresholdTasks, Pools.DEFAULT);
+
+        var bins = HugeObjectArray.newArray(short[].class, allFeatureVectors.size(), allocationTracker);
+        ParallelUtil.parallelForEachNode(allFeatureVectors.size(), concurrency, vectorIdx -> {
+            var features = allFeatureVectors.get(vectorIdx);
+            var vectorBins = new short[numberOfFeatures];
+            for (int featureIdx = 0; featureIdx < numberOfFeatures; featureIdx++) {
+                vectorBins[featureIdx] = (short) bin(thresholds[featureIdx], features[featureIdx]);
+            }
+            bins.set(vectorIdx, vectorBins);
+        });
+
+        return new FeatureBins(thresholds, bins);
+    }
+
+    public int numberOfFeatures() {
+        return thresholds.length;
+    }
+
+    public int numberOfBins(int featureIdx) {
+        return thresholds[featureIdx].length;
+    }
+
+    /**
+     * The bin of the given feature of a feature vector.
+     * A feature value is in a bin {@code b} or above, iff it is not smaller than {@code threshold(featureIdx, b)}.
+     */
+    public int bin(long featureVectorIdx, int featureIdx) {
+        return Short.toUnsignedInt(bins.get(featureVectorIdx)[featureIdx]);
+    }
+
+    public double threshold(int featureIdx, int bin) {
+        return thresholds[featureIdx][bin];
+    }
+
+    private static double[] thresholds(HugeObjectArray<double[]> allFeatureVectors, int featureIdx, int maxBins) {
+        var values = new double[Math.toIntExact(allFeatureVectors.size())];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = allFeatureVectors.get(i)[featureIdx];
+        }
+        Arrays.sort(values);
+
+        int distinctValues = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[distinctValues++] = values[i];
+            }
+        }
+
+        if (distinctValues <= maxBins) {
+            return Arrays.copyOf(values, distinctValues);
+        }
+
+        // quantiles over the distinct values, so that frequent values do not take up several bins
+        var thresholds = new double[maxBins];
+        for (int bin = 0; bin < maxBins; bin++) {
+            thresholds[bin] = values[(int) ((long) bin * distinctValues / maxBins)];
+        }
+        return thresholds;
+    }
+
+    private static int bin(double[] thresholds, double value) {
+        int idx = Arrays.binarySearch(thresholds, value);
+        // for values between two thresholds, the binary search returns the negated insertion point minus one
+        return idx >= 0 ? idx : Math.max(-idx - 2, 0);
+    }
+}
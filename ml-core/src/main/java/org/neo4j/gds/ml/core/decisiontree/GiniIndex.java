@@ -24,7 +24,7 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 import java.util.Map;
 
-public class GiniIndex implements DecisionTreeLoss {
+public class GiniIndex implements ClassificationLoss {
 
     private final int[] classes;
     private final HugeIntArray allLabels;
@@ -60,6 +60,19 @@ public class GiniIndex implements DecisionTreeLoss {
         return loss / totalSize;
     }
 
+    @Override
+    public double splitLoss(long[] leftClassCounts, long leftSize, long[] rightClassCounts, long rightSize) {
+        long totalSize = leftSize + rightSize;
+
+        if (totalSize == 0) {
+            throw new IllegalStateException("Cannot compute loss over only empty groups");
+        }
+
+        double loss = computeGroupLoss(leftClassCounts, leftSize) + computeGroupLoss(rightClassCounts, rightSize);
+
+        return loss / totalSize;
+    }
+
     private double computeGroupLoss(final HugeLongArray group, final long groupSize) {
         assert group.size() >= groupSize;
 
@@ -71,6 +84,12 @@ public class GiniIndex implements DecisionTreeLoss {
             groupClassCounts[classToIdx.get(label)]++;
         }
 
+        return computeGroupLoss(groupClassCounts, groupSize);
+    }
+
+    private static double computeGroupLoss(final long[] groupClassCounts, final long groupSize) {
+        if (groupSize == 0) return 0;
+
         double score = 0.0;
         for (var count : groupClassCounts) {
             score += Math.pow(count, 2);
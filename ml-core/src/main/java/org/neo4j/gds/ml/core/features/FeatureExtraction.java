@@ -101,6 +101,21 @@ public final class FeatureExtraction {
         return features;
     }
 
+    public static HugeObjectArray<float[]> extractFloats(
+        Graph graph,
+        List<FeatureExtractor> extractors,
+        HugeObjectArray<float[]> features
+    ) {
+        int featureCount = featureCount(extractors);
+        features.setAll(i -> new float[featureCount]);
+        var featureConsumer = new HugeObjectArrayFloatFeatureConsumer(features);
+        graph.forEachNode(nodeId -> {
+            extract(nodeId, nodeId, extractors, featureConsumer);
+            return true;
+        });
+        return features;
+    }
+
     public static int featureCount(Collection<FeatureExtractor> extractors) {
         return extractors.stream().mapToInt(FeatureExtractor::dimension).sum();
     }
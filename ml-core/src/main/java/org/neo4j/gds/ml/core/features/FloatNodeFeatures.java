@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.features;
+
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+final class FloatNodeFeatures implements NodeFeatures {
+
+    private final HugeObjectArray<float[]> features;
+
+    FloatNodeFeatures(HugeObjectArray<float[]> features) {
+        this.features = features;
+    }
+
+    @Override
+    public long size() {
+        return features.size();
+    }
+
+    @Override
+    public double[] get(long nodeId) {
+        var nodeFeatures = features.get(nodeId);
+        var result = new double[nodeFeatures.length];
+        copy(nodeFeatures, result, 0);
+        return result;
+    }
+
+    @Override
+    public int dimension(long nodeId) {
+        return features.get(nodeId).length;
+    }
+
+    @Override
+    public void copyTo(long nodeId, double[] target, int targetOffset) {
+        copy(features.get(nodeId), target, targetOffset);
+    }
+
+    private static void copy(float[] source, double[] target, int targetOffset) {
+        for (int i = 0; i < source.length; i++) {
+            target[targetOffset + i] = source[i];
+        }
+    }
+}
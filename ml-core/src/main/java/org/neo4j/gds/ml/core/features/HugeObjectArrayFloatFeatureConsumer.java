@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.features;
+
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+public class HugeObjectArrayFloatFeatureConsumer implements FeatureConsumer {
+    private final HugeObjectArray<float[]> features;
+
+    public HugeObjectArrayFloatFeatureConsumer(HugeObjectArray<float[]> features) {
+        this.features = features;
+    }
+
+    @Override
+    public void acceptScalar(long nodeOffset, int offset, double value) {
+        features.get(nodeOffset)[offset] = (float) value;
+    }
+
+    @Override
+    public void acceptArray(long nodeOffset, int offset, double[] values) {
+        var nodeFeatures = features.get(nodeOffset);
+        for (int i = 0; i < values.length; i++) {
+            nodeFeatures[offset + i] = (float) values[i];
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.features;
+
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+/**
+ * The feature vectors of all nodes of a graph, stored either in double or in single precision.
+ * Computations always happen in double precision, so single precision features are widened when they are read.
+ */
+public interface NodeFeatures {
+
+    long size();
+
+    /**
+     * The features of the given node.
+     * The returned array may be the backing storage and must not be modified.
+     */
+    double[] get(long nodeId);
+
+    int dimension(long nodeId);
+
+    void copyTo(long nodeId, double[] target, int targetOffset);
+
+    static NodeFeatures of(HugeObjectArray<double[]> features) {
+        return new DoubleNodeFeatures(features);
+    }
+
+    static NodeFeatures ofFloats(HugeObjectArray<float[]> features) {
+        return new FloatNodeFeatures(features);
+    }
+}
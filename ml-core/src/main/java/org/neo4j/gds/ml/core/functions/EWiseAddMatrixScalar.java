@@ -44,10 +44,15 @@ public class EWiseAddMatrixScalar extends AbstractVariable<Matrix> {
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        var matrix = ctx.data(matrixVariable);
+        double[] matrix = ctx.data(matrixVariable).data();
         double scalarValue = ctx.data(scalarVariable).value();
 
-        return matrix.map(v -> v + scalarValue);
+        var result = ctx.matrixBuffer(this);
+        double[] resultData = result.data();
+        for (int i = 0; i < matrix.length; i++) {
+            resultData[i] = matrix[i] + scalarValue;
+        }
+        return result;
     }
 
     @Override
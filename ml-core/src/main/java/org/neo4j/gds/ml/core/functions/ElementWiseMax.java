@@ -26,6 +26,8 @@ import org.neo4j.gds.ml.core.subgraph.BatchNeighbors;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 
+import java.util.Arrays;
+
 
 public class ElementWiseMax extends SingleParentVariable<Matrix> {
     public static final int INVALID_NEIGHBOR = -1;
@@ -51,7 +53,8 @@ public class ElementWiseMax extends SingleParentVariable<Matrix> {
         var cols = parentData.cols();
         var batchIds = batchNeighbors.batchIds();
 
-        var max = Matrix.create(Double.NEGATIVE_INFINITY, rows, cols);
+        var max = ctx.matrixBuffer(this);
+        Arrays.fill(max.data(), Double.NEGATIVE_INFINITY);
 
         for (int batchIdx = 0; batchIdx < rows; batchIdx++) {
             // node-ids respond to rows in parentData
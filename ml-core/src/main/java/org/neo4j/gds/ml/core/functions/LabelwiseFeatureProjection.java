@@ -22,11 +22,11 @@ package org.neo4j.gds.ml.core.functions;
 import org.ejml.data.DMatrix1Row;
 import org.ejml.data.DMatrixRMaj;
 import org.neo4j.gds.NodeLabel;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.AbstractVariable;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Dimensions;
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 import org.neo4j.gds.ml.core.tensor.operations.DoubleMatrixOperations;
@@ -38,14 +38,14 @@ import java.util.stream.IntStream;
 public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
 
     private final long[] nodeIds;
-    private final HugeObjectArray<double[]> features;
+    private final NodeFeatures features;
     private final Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel;
     private final int projectedFeatureDimension;
     private final NodeLabel[] labels;
 
     public LabelwiseFeatureProjection(
         long[] nodeIds,
-        HugeObjectArray<double[]> features,
+        NodeFeatures features,
         Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel,
         int projectedFeatureDimension,
         NodeLabel[] labels
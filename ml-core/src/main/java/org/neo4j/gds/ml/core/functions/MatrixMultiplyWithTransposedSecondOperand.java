@@ -54,7 +54,7 @@ public class MatrixMultiplyWithTransposedSecondOperand extends AbstractVariable<
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        return ctx.data(A).multiplyTransB(ctx.data(B));
+        return ctx.data(A).multiplyTransB(ctx.data(B), ctx.matrixBuffer(this));
     }
 
     @Override
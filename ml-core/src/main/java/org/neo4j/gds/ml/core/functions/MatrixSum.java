@@ -28,9 +28,6 @@ import org.neo4j.gds.ml.core.tensor.Tensor;
 import java.util.Arrays;
 import java.util.List;
 
-import static org.neo4j.gds.ml.core.Dimensions.COLUMNS_INDEX;
-import static org.neo4j.gds.ml.core.Dimensions.ROWS_INDEX;
-
 public class MatrixSum extends AbstractVariable<Matrix> {
 
     public MatrixSum(List<Variable<Matrix>> parents) {
@@ -39,7 +36,8 @@ public class MatrixSum extends AbstractVariable<Matrix> {
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        Matrix sum = Matrix.create(0D, dimension(ROWS_INDEX), dimension(COLUMNS_INDEX));
+        Matrix sum = ctx.matrixBuffer(this);
+        Arrays.fill(sum.data(), 0D);
         for (Variable<?> parent : parents()) {
             sum.addInPlace(ctx.data(parent));
         }
@@ -26,6 +26,8 @@ import org.neo4j.gds.ml.core.subgraph.BatchNeighbors;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 
+import java.util.Arrays;
+
 import static org.neo4j.gds.ml.core.Dimensions.COLUMNS_INDEX;
 import static org.neo4j.gds.ml.core.Dimensions.ROWS_INDEX;
 
@@ -54,7 +56,8 @@ public class MultiMean extends SingleParentVariable<Matrix> {
 
         int cols = parentVariable.dimension(COLUMNS_INDEX);
 
-        var resultMeans = Matrix.create(0, batchSize, cols);
+        var resultMeans = ctx.matrixBuffer(this);
+        Arrays.fill(resultMeans.data(), 0D);
 
         for (int batchIdx = 0; batchIdx < batchSize; batchIdx++) {
             // node-ids respond to rows in parentData
@@ -42,7 +42,8 @@ public class NormalizeRows extends SingleParentVariable<Matrix> {
         double[] parentData = ctx.data(parent()).data();
         int rows = this.rows;
         int cols = this.cols;
-        double[] result = new double[rows * cols];
+        var resultMatrix = ctx.matrixBuffer(this);
+        double[] result = resultMatrix.data();
         for (int row = 0; row < rows; row++) {
             double sum = 0;
             for (int col = 0; col < cols; col++) {
@@ -55,7 +56,7 @@ public class NormalizeRows extends SingleParentVariable<Matrix> {
                 result[elementIndex] = parentData[elementIndex] / (l2 + EPSILON);
             }
         }
-        return new Matrix(result, this.rows, this.cols);
+        return resultMatrix;
     }
 
     @Override
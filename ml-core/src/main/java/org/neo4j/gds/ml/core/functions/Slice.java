@@ -43,13 +43,14 @@ public class Slice extends SingleParentVariable<Matrix> {
     public Matrix apply(ComputationContext ctx) {
         double[] parentData = ctx.data(parent()).data();
 
-        double[] result = new double[rows * cols];
+        var resultMatrix = ctx.matrixBuffer(this);
+        double[] result = resultMatrix.data();
 
         for (int row = 0; row < rows; row++) {
             System.arraycopy(parentData, batchIds[row] * cols, result, row * cols, cols);
         }
 
-        return new Matrix(result, rows, cols);
+        return resultMatrix;
     }
 
     @Override
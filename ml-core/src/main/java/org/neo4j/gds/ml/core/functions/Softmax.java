@@ -44,8 +44,19 @@ public class Softmax extends SingleParentVariable<Matrix> {
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        var data = (Matrix) ctx.data(parent());
-        var result = data.createWithSameDimensions();
+        return softmax((Matrix) ctx.data(parent()), ctx.matrixBuffer(this));
+    }
+
+    /**
+     * Computes the row-wise softmax of the given matrix without building a computation graph.
+     */
+    public static Matrix softmax(Matrix data) {
+        return softmax(data, data.createWithSameDimensions());
+    }
+
+    private static Matrix softmax(Matrix data, Matrix result) {
+        int rows = data.rows();
+        int cols = data.cols();
         boolean rescale = false;
         for (int row = 0; row < rows; row++) {
             double rowSum = 1e-15;
@@ -77,7 +88,9 @@ public class Softmax extends SingleParentVariable<Matrix> {
         return result;
     }
 
-    private void rescale(Matrix result) {
+    private static void rescale(Matrix result) {
+        int rows = result.rows();
+        int cols = result.cols();
         for (int row = 0; row < rows; row++) {
             double rowSum = 1e-15;
             for (int col = 0; col < cols; col++) {
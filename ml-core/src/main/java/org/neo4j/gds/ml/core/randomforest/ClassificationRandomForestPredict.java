@@ -28,6 +28,7 @@ import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.decisiontree.DecisionTreePredict;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
@@ -78,6 +79,41 @@ public class ClassificationRandomForestPredict {
         return classes[maxClassIdx];
     }
 
+    /**
+     * Predicts a batch of feature vectors on the calling thread.
+     * Parallelism is expected to come from predicting several batches concurrently.
+     *
+     * @param featureBatch the feature vectors, one after another
+     * @param numberOfFeatures the length of a single feature vector
+     * @param predictions receives the predicted class of each feature vector
+     */
+    public void predict(final double[] featureBatch, final int numberOfFeatures, final int[] predictions) {
+        assert featureBatch.length % numberOfFeatures == 0;
+
+        int batchSize = featureBatch.length / numberOfFeatures;
+        assert predictions.length >= batchSize;
+
+        var predictionsPerClass = new int[classes.length];
+        for (int vectorIdx = 0; vectorIdx < batchSize; vectorIdx++) {
+            Arrays.fill(predictionsPerClass, 0);
+            int offset = vectorIdx * numberOfFeatures;
+            for (var tree : decisionTrees) {
+                predictionsPerClass[classToIdx.get(tree.predict(featureBatch, offset))]++;
+            }
+
+            int max = -1;
+            int maxClassIdx = 0;
+            for (int i = 0; i < predictionsPerClass.length; i++) {
+                if (predictionsPerClass[i] <= max) continue;
+
+                max = predictionsPerClass[i];
+                maxClassIdx = i;
+            }
+
+            predictions[vectorIdx] = classes[maxClassIdx];
+        }
+    }
+
     public double outOfBagError(
         final HugeByteArray[] bootstrappedDatasets,
         final HugeObjectArray<double[]> allFeatureVectors,
@@ -22,16 +22,22 @@ package org.neo4j.gds.ml.core.randomforest;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeByteArray;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.decisiontree.ClassificationDecisionTreeTrain;
+import org.neo4j.gds.ml.core.decisiontree.ClassificationLoss;
 import org.neo4j.gds.ml.core.decisiontree.DecisionTreeLoss;
 import org.neo4j.gds.ml.core.decisiontree.DecisionTreePredict;
+import org.neo4j.gds.ml.core.decisiontree.FeatureBins;
 
 import java.util.HashMap;
 import java.util.Optional;
 
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
 public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
 
     private final AllocationTracker allocationTracker;
@@ -75,6 +81,43 @@ public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
         this.allLabels = allLabels;
     }
 
+    /**
+     * Estimates the memory for training with histogram based splits, excluding the trained decision trees.
+     */
+    public static MemoryRange memoryEstimation(
+        long numberOfFeatureVectors,
+        int numberOfFeatures,
+        int numberOfClasses,
+        int maxDepth,
+        int numDecisionTrees,
+        int concurrency
+    ) {
+        // see train() for how the concurrency is shared between trees and split searches
+        int concurrentTrees = numDecisionTrees < concurrency ? 1 : concurrency;
+
+        // the class indices and the active feature vectors of a tree
+        long perTree = HugeIntArray.memoryEstimation(numberOfFeatureVectors) +
+                       HugeLongArray.memoryEstimation(numberOfFeatureVectors);
+        // the child groups of a depth level together hold at most all feature vectors twice
+        var childGroups = MemoryRange.of(
+            2 * HugeLongArray.memoryEstimation(numberOfFeatureVectors),
+            2L * maxDepth * HugeLongArray.memoryEstimation(numberOfFeatureVectors)
+        );
+        // the bootstrapped datasets of all trees are part of the result
+        long bootstrappedDatasets = numDecisionTrees * HugeByteArray.memoryEstimation(numberOfFeatureVectors);
+
+        // every thread searches the split of one feature at a time
+        long maxBins = Math.min(FeatureBins.DEFAULT_MAX_BINS, numberOfFeatureVectors);
+        long histogram = sizeOfLongArray(maxBins * numberOfClasses) +
+                         2 * sizeOfLongArray(maxBins) +
+                         2 * sizeOfLongArray(numberOfClasses);
+
+        return FeatureBins
+            .memoryEstimation(numberOfFeatureVectors, numberOfFeatures, FeatureBins.DEFAULT_MAX_BINS, concurrency)
+            .add(childGroups.add(MemoryRange.of(perTree)).times(concurrentTrees))
+            .add(MemoryRange.of(bootstrappedDatasets + concurrency * histogram));
+    }
+
     public ClassificationRandomForestTrainResult train() {
         var decisionTrees = new DecisionTreePredict[numDecisionTrees];
         var bootstrappedDatasets = new HugeByteArray[numDecisionTrees];
@@ -84,6 +127,15 @@ public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
             classToIdx.put(classes[i], i);
         }
 
+        // quantizing the features once for all trees allows histogram based splits
+        Optional<FeatureBins> featureBins = lossFunction instanceof ClassificationLoss
+            ? Optional.of(FeatureBins.of(allFeatureVectors, FeatureBins.DEFAULT_MAX_BINS, concurrency, allocationTracker))
+            : Optional.empty();
+
+        // with fewer trees than threads, the trees are trained one after another, each searching splits in parallel
+        int treeConcurrency = numDecisionTrees < concurrency ? 1 : concurrency;
+        int splitConcurrency = numDecisionTrees < concurrency ? concurrency : 1;
+
         var tasks = ParallelUtil.tasks(numDecisionTrees, index -> () -> {
             var decisionTreeBuilder =
                 new ClassificationDecisionTreeTrain.Builder<>(
@@ -97,7 +149,10 @@ public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
                 )
                     .withMinSize(minSize)
                     .withFeatureBaggingRatio(numFeatureIndicesRatio)
-                    .withNumFeatureVectorsRatio(numFeatureVectorsRatio);
+                    .withNumFeatureVectorsRatio(numFeatureVectorsRatio)
+                    .withConcurrency(splitConcurrency);
+
+            featureBins.ifPresent(decisionTreeBuilder::withFeatureBins);
 
             randomSeed.ifPresent(seed -> {
                 decisionTreeBuilder.withRandomSeed(seed + index);
@@ -107,7 +162,7 @@ public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
             decisionTrees[index] = decisionTree.train();
             bootstrappedDatasets[index] = decisionTree.bootstrappedDataset();
         });
-        ParallelUtil.runWithConcurrency(this.concurrency, tasks, Pools.DEFAULT);
+        ParallelUtil.runWithConcurrency(treeConcurrency, tasks, Pools.DEFAULT);
 
         return ImmutableClassificationRandomForestTrainResult.of(
             new ClassificationRandomForestPredict(decisionTrees, classes, classToIdx, concurrency, allocationTracker),
@@ -20,10 +20,10 @@
 package org.neo4j.gds.ml.core.tensor;
 
 import org.ejml.data.DMatrixRMaj;
-import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
 import org.neo4j.gds.core.utils.ArrayUtil;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.core.Dimensions;
+import org.neo4j.gds.ml.core.tensor.operations.DoubleMatrixOperations;
 
 import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
@@ -125,19 +125,25 @@ public class Matrix extends Tensor<Matrix> {
 
     public Matrix multiply(Matrix other) {
         DMatrixRMaj result = new DMatrixRMaj(this.rows, other.cols());
-        MatrixMatrixMult_DDRM.mult_reorder(this.toEjml(), other.toEjml(), result);
+        DoubleMatrixOperations.mult(this.toEjml(), other.toEjml(), result);
         return Matrix.of(result);
     }
 
     public Matrix multiplyTransB(Matrix other) {
-        DMatrixRMaj result = new DMatrixRMaj(this.rows, other.rows);
-        MatrixMatrixMult_DDRM.multTransB(this.toEjml(), other.toEjml(), result);
-        return Matrix.of(result);
+        return multiplyTransB(other, new Matrix(this.rows, other.rows));
+    }
+
+    /**
+     * Computes this * other^T into the given result, overwriting its previous content.
+     */
+    public Matrix multiplyTransB(Matrix other, Matrix result) {
+        DoubleMatrixOperations.multTransB(this.toEjml(), other.toEjml(), result.toEjml());
+        return result;
     }
 
     public Matrix multiplyTransA(Matrix other) {
         DMatrixRMaj prod = new DMatrixRMaj(this.cols(), other.cols());
-        MatrixMatrixMult_DDRM.multTransA_reorder(this.toEjml(), other.toEjml(), prod);
+        DoubleMatrixOperations.multTransA(this.toEjml(), other.toEjml(), prod);
         return Matrix.of(prod);
     }
 
@@ -145,8 +151,13 @@ public class Matrix extends Tensor<Matrix> {
      * C[a, b] = A[a, b] + v[b]
      */
     public Matrix sumBroadcastColumnWise(Vector vector) {
-        var result = this.createWithSameDimensions();
+        return sumBroadcastColumnWise(vector, createWithSameDimensions());
+    }
 
+    /**
+     * C[a, b] = A[a, b] + v[b], written into the given result
+     */
+    public Matrix sumBroadcastColumnWise(Vector vector, Matrix result) {
         for(int row = 0; row < rows; row++) {
             for (int col = 0; col < columns; col++) {
                 int matrixIndex = row * columns + col;
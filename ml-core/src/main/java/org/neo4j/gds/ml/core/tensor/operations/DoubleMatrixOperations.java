@@ -22,10 +22,126 @@ package org.neo4j.gds.ml.core.tensor.operations;
 import org.ejml.MatrixDimensionException;
 import org.ejml.data.DMatrix1Row;
 
+import java.util.Arrays;
 import java.util.function.IntPredicate;
 
 public final class DoubleMatrixOperations {
 
+    // number of rows of the right operand kept hot in cache while sweeping over the rows of the left operand
+    static final int DEPTH_BLOCK_SIZE = 128;
+    // number of result columns updated by the innermost loop, sized so that a block row of 'b' fits into L1
+    static final int COLUMN_BLOCK_SIZE = 512;
+
+    /**
+     * Computes c = a * b.
+     *
+     * The result is blocked along the shared dimension and the columns of 'b'. The innermost loop is a plain
+     * 'c[j] += a[k] * b[j]' over contiguous memory, which the JIT vectorizes.
+     * Products are summed in the same order as the naive triple loop, so results are identical to Ejml's.
+     */
+    public static void mult(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c) {
+        if (a == c || b == c)
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if (a.numCols != b.numRows) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+        c.reshape(a.numRows, b.numCols);
+        Arrays.fill(c.data, 0, a.numRows * b.numCols, 0D);
+
+        multAdd(a.data, a.numRows, a.numCols, b.data, b.numCols, c.data);
+    }
+
+    /**
+     * Computes c = a * b^T.
+     *
+     * 'b' is transposed block-wise into a buffer, so that the product can use the same vectorizable kernel as
+     * {@link #mult(DMatrix1Row, DMatrix1Row, DMatrix1Row)} instead of strided dot products.
+     */
+    public static void multTransB(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c) {
+        if (a == c || b == c)
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if (a.numCols != b.numCols) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+        c.reshape(a.numRows, b.numRows);
+        Arrays.fill(c.data, 0, a.numRows * b.numRows, 0D);
+
+        multAdd(a.data, a.numRows, a.numCols, transpose(b.data, b.numRows, b.numCols), b.numRows, c.data);
+    }
+
+    /**
+     * Computes c = a^T * b.
+     *
+     * Iterates over the shared rows of 'a' and 'b' and accumulates outer products, blocked along the columns of 'b'.
+     */
+    public static void multTransA(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c) {
+        if (a == c || b == c)
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if (a.numRows != b.numRows) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+        c.reshape(a.numCols, b.numCols);
+        Arrays.fill(c.data, 0, a.numCols * b.numCols, 0D);
+
+        double[] aData = a.data;
+        double[] bData = b.data;
+        double[] cData = c.data;
+        int depth = a.numRows;
+        int rows = a.numCols;
+        int cols = b.numCols;
+
+        for (int colStart = 0; colStart < cols; colStart += COLUMN_BLOCK_SIZE) {
+            int colEnd = Math.min(colStart + COLUMN_BLOCK_SIZE, cols);
+            for (int k = 0; k < depth; k++) {
+                int aOffset = k * rows;
+                int bOffset = k * cols;
+                for (int i = 0; i < rows; i++) {
+                    double aValue = aData[aOffset + i];
+                    int cOffset = i * cols;
+                    for (int j = colStart; j < colEnd; j++) {
+                        cData[cOffset + j] += aValue * bData[bOffset + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multAdd(double[] a, int rows, int depth, double[] b, int cols, double[] c) {
+        for (int colStart = 0; colStart < cols; colStart += COLUMN_BLOCK_SIZE) {
+            int colEnd = Math.min(colStart + COLUMN_BLOCK_SIZE, cols);
+            for (int depthStart = 0; depthStart < depth; depthStart += DEPTH_BLOCK_SIZE) {
+                int depthEnd = Math.min(depthStart + DEPTH_BLOCK_SIZE, depth);
+                for (int i = 0; i < rows; i++) {
+                    int aOffset = i * depth;
+                    int cOffset = i * cols;
+                    for (int k = depthStart; k < depthEnd; k++) {
+                        double aValue = a[aOffset + k];
+                        int bOffset = k * cols;
+                        for (int j = colStart; j < colEnd; j++) {
+                            c[cOffset + j] += aValue * b[bOffset + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static double[] transpose(double[] data, int rows, int cols) {
+        double[] transposed = new double[rows * cols];
+        for (int rowStart = 0; rowStart < rows; rowStart += DEPTH_BLOCK_SIZE) {
+            int rowEnd = Math.min(rowStart + DEPTH_BLOCK_SIZE, rows);
+            for (int colStart = 0; colStart < cols; colStart += DEPTH_BLOCK_SIZE) {
+                int colEnd = Math.min(colStart + DEPTH_BLOCK_SIZE, cols);
+                for (int row = rowStart; row < rowEnd; row++) {
+                    for (int col = colStart; col < colEnd; col++) {
+                        transposed[col * rows + row] = data[row * cols + col];
+                    }
+                }
+            }
+        }
+        return transposed;
+    }
+
     /**
      * Modified version of Ejml implementation.
      *
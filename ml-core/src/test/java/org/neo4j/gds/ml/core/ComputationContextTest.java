@@ -23,7 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.ml.core.functions.Constant;
 import org.neo4j.gds.ml.core.functions.ConstantScale;
 import org.neo4j.gds.ml.core.functions.ElementSum;
+import org.neo4j.gds.ml.core.functions.MatrixMultiplyWithTransposedSecondOperand;
 import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Scalar;
 
 import java.util.List;
@@ -81,4 +83,74 @@ public class ComputationContextTest {
                 "\t data: Scalar: [12.0]" + System.lineSeparator() +
                 "\t gradient: Scalar: [1.0]" + System.lineSeparator());
     }
+
+    @Test
+    void reusesGradientBuffersAfterReset() {
+        var ctx = new ComputationContext();
+
+        var weights = new Weights<>(new Scalar(4));
+        var loss = new ElementSum(List.of(weights, new ConstantScale<>(weights, 3)));
+
+        assertThat(ctx.forward(loss).value()).isEqualTo(16D);
+        ctx.backward(loss);
+        var gradient = ctx.gradient(weights);
+        assertThat(gradient).isEqualTo(new Scalar(4));
+
+        weights.data().setDataAt(0, 5);
+        ctx.reset();
+        assertThat(ctx.data(loss)).isNull();
+        assertThat(ctx.gradient(weights)).isNull();
+
+        assertThat(ctx.forward(loss).value()).isEqualTo(20D);
+        ctx.backward(loss);
+        assertThat(ctx.gradient(weights))
+            .isSameAs(gradient)
+            .isEqualTo(new Scalar(4));
+    }
+
+    @Test
+    void evaluatesNewGraphAfterReset() {
+        var ctx = new ComputationContext();
+
+        var weights = new Weights<>(new Scalar(4));
+        var loss = new ConstantScale<>(weights, 2);
+        ctx.forward(loss);
+        ctx.backward(loss);
+        assertThat(ctx.gradient(weights)).isEqualTo(new Scalar(2));
+
+        ctx.reset();
+
+        var otherWeights = new Weights<>(new Scalar(1));
+        var otherLoss = new ElementSum(List.of(otherWeights, Constant.scalar(2)));
+        assertThat(ctx.forward(otherLoss).value()).isEqualTo(3D);
+        ctx.backward(otherLoss);
+        assertThat(ctx.gradient(otherWeights)).isEqualTo(new Scalar(1));
+        assertThat(ctx.data(loss)).isNull();
+        assertThat(ctx.gradient(weights)).isNull();
+    }
+
+    @Test
+    void reusesForwardBuffers() {
+        var ctx = new ComputationContext();
+
+        var weights = new Weights<>(new Matrix(new double[]{1, 2, 3, 4}, 2, 2));
+        var product = MatrixMultiplyWithTransposedSecondOperand.of(weights, weights);
+        var data = ctx.forward(product);
+        assertThat(data).isEqualTo(new Matrix(new double[]{5, 11, 11, 25}, 2, 2));
+
+        weights.data().setDataAt(1, 0);
+        weights.data().setDataAt(2, 0);
+        ctx.reset();
+        assertThat(ctx.forward(product))
+            .isSameAs(data)
+            .isEqualTo(new Matrix(new double[]{1, 0, 0, 16}, 2, 2));
+
+        // a new graph after a reset is handed the buffers of the previous graph by their dimensions
+        ctx.reset();
+        var otherWeights = new Weights<>(new Matrix(new double[]{1, 1, 0, 1}, 2, 2));
+        var otherProduct = MatrixMultiplyWithTransposedSecondOperand.of(otherWeights, otherWeights);
+        assertThat(ctx.forward(otherProduct))
+            .isSameAs(data)
+            .isEqualTo(new Matrix(new double[]{2, 1, 1, 1}, 2, 2));
+    }
 }
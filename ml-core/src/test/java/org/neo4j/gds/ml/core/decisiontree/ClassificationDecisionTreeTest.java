@@ -30,6 +30,7 @@ import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,6 +113,82 @@ class ClassificationDecisionTreeTest {
         assertThat(decisionTreePredict.predict(features)).isEqualTo(expectedPrediction);
     }
 
+    @Test
+    void shouldTrainIdenticalTreesFromHistogramsWithFewDistinctValues() {
+        int numSamples = 500;
+        var random = new Random(42);
+        var labels = HugeIntArray.newArray(numSamples, AllocationTracker.empty());
+        var featureVectors = HugeObjectArray.newArray(double[].class, numSamples, AllocationTracker.empty());
+        for (int i = 0; i < numSamples; i++) {
+            // far fewer distinct values than bins, so that every value gets a bin of its own
+            featureVectors.set(i, new double[]{random.nextInt(10), random.nextInt(3) / 4.0, random.nextInt(50) - 25});
+            labels.set(i, random.nextBoolean() ? 42 : 1337);
+        }
+        var loss = new GiniIndex(CLASSES, labels, CLASS_TO_IDX);
+
+        var exhaustive = new ClassificationDecisionTreeTrain.Builder<>(
+            AllocationTracker.empty(),
+            loss,
+            featureVectors,
+            8,
+            CLASSES,
+            labels,
+            CLASS_TO_IDX
+        )
+            .withMinSize(1)
+            .withRandomSeed(42L)
+            .build()
+            .train();
+
+        var featureBins = FeatureBins.of(featureVectors, FeatureBins.DEFAULT_MAX_BINS, 4, AllocationTracker.empty());
+        var fromHistograms = new ClassificationDecisionTreeTrain.Builder<>(
+            AllocationTracker.empty(),
+            loss,
+            featureVectors,
+            8,
+            CLASSES,
+            labels,
+            CLASS_TO_IDX
+        )
+            .withMinSize(1)
+            .withRandomSeed(42L)
+            .withFeatureBins(featureBins)
+            .withConcurrency(4)
+            .build()
+            .train();
+
+        assertThat(fromHistograms).usingRecursiveComparison().isEqualTo(exhaustive);
+    }
+
+    @ParameterizedTest
+    @MethodSource("predictionWithoutSamplingParameters")
+    void shouldMakeSanePredictionFromHistograms(
+        double[] features,
+        int expectedPrediction,
+        int maxDepth,
+        int minSize
+    ) {
+        var featureBins = FeatureBins.of(allFeatureVectors, FeatureBins.DEFAULT_MAX_BINS, 1, AllocationTracker.empty());
+
+        var decisionTree = new ClassificationDecisionTreeTrain.Builder<>(
+            AllocationTracker.empty(),
+            giniIndexLoss,
+            allFeatureVectors,
+            maxDepth,
+            CLASSES,
+            allLabels,
+            CLASS_TO_IDX
+        )
+            .withMinSize(minSize)
+            .withFeatureBins(featureBins)
+            .withConcurrency(4)
+            .build();
+
+        var decisionTreePredict = decisionTree.train();
+
+        assertThat(decisionTreePredict.predict(features)).isEqualTo(expectedPrediction);
+    }
+
     @Test
     void indexSamplingShouldWork() {
         var decisionTreeBuilder = new ClassificationDecisionTreeTrain.Builder<>(
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.decisiontree;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfShortArray;
+
+class FeatureBinsTest {
+
+    @Test
+    void shouldUseOneBinPerDistinctValue() {
+        var featureVectors = HugeObjectArray.of(
+            new double[]{3.0, -1.0},
+            new double[]{1.0, -1.0},
+            new double[]{3.0, 5.5},
+            new double[]{2.0, -1.0}
+        );
+
+        var featureBins = FeatureBins.of(featureVectors, 4, 1, AllocationTracker.empty());
+
+        assertThat(featureBins.numberOfFeatures()).isEqualTo(2);
+        assertThat(featureBins.numberOfBins(0)).isEqualTo(3);
+        assertThat(featureBins.numberOfBins(1)).isEqualTo(2);
+
+        assertThat(featureBins.threshold(0, 0)).isEqualTo(1.0);
+        assertThat(featureBins.threshold(0, 1)).isEqualTo(2.0);
+        assertThat(featureBins.threshold(0, 2)).isEqualTo(3.0);
+
+        assertThat(featureBins.bin(0, 0)).isEqualTo(2);
+        assertThat(featureBins.bin(1, 0)).isEqualTo(0);
+        assertThat(featureBins.bin(2, 1)).isEqualTo(1);
+        assertThat(featureBins.bin(3, 1)).isEqualTo(0);
+    }
+
+    @Test
+    void shouldBinByQuantilesWithTooManyDistinctValues() {
+        var featureVectors = HugeObjectArray.newArray(double[].class, 100, AllocationTracker.empty());
+        featureVectors.setAll(i -> new double[]{99 - i});
+
+        var featureBins = FeatureBins.of(featureVectors, 10, 4, AllocationTracker.empty());
+
+        assertThat(featureBins.numberOfBins(0)).isEqualTo(10);
+        for (int bin = 0; bin < 10; bin++) {
+            assertThat(featureBins.threshold(0, bin)).isEqualTo(bin * 10D);
+        }
+
+        for (long i = 0; i < 100; i++) {
+            var value = featureVectors.get(i)[0];
+            assertThat(featureBins.bin(i, 0)).isEqualTo((int) value / 10);
+        }
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var memoryRange = FeatureBins.memoryEstimation(100, 3, 10, 2);
+
+        // between one and ten bins per feature
+        long thresholdsMin = sizeOfObjectArray(3) + 3 * sizeOfDoubleArray(1);
+        long thresholdsMax = sizeOfObjectArray(3) + 3 * sizeOfDoubleArray(10);
+        long bins = HugeObjectArray.memoryEstimation(100, sizeOfShortArray(3));
+        // two features are sorted at the same time
+        long sortedValues = 2 * sizeOfDoubleArray(100);
+
+        assertThat(memoryRange.min).isEqualTo(thresholdsMin + bins + sortedValues);
+        assertThat(memoryRange.max).isEqualTo(thresholdsMax + bins + sortedValues);
+    }
+}
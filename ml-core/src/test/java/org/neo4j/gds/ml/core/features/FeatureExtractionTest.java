@@ -88,6 +88,21 @@ public class FeatureExtractionTest extends FeatureExtractionBaseTest {
         );
     }
 
+    @Test
+    void shouldConcatenateFeaturesIntoFloats() {
+        var featureExtractors = FeatureExtraction.propertyExtractors(validGraph, List.of("a", "b"));
+        var floatFeatures = HugeObjectArray.newArray(float[].class, 4, AllocationTracker.empty());
+        var features = NodeFeatures.ofFloats(FeatureExtraction.extractFloats(validGraph, featureExtractors, floatFeatures));
+
+        assertThat(floatFeatures.get(0)).containsExactly(2.0F, 1.0F, 1.2F);
+        assertThat(features.dimension(1)).isEqualTo(3);
+        assertThat(features.get(1)).containsExactly(1.3F, 1.0F, 0.5F);
+
+        var target = new double[5];
+        features.copyTo(3, target, 2);
+        assertThat(target).containsExactly(0.0, 0.0, 1.0, 1.0, 0.9F);
+    }
+
     @Test
     void shouldConcatenateFeaturesHOAWithDegreeFeature() {
         var featureExtractors = new ArrayList<>(FeatureExtraction.propertyExtractors(validGraph, List.of("a", "b")));
@@ -22,6 +22,7 @@ package org.neo4j.gds.ml.core.functions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.FiniteDifferenceTest;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.helper.L2Norm;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
@@ -63,11 +64,11 @@ class LabelwiseFeatureProjectionTest implements FiniteDifferenceTest {
             labels[i] = graph.nodeLabels(nodeIds[i]).stream().findFirst().get();
         }
 
-        var features = HugeObjectArray.of(
+        var features = NodeFeatures.of(HugeObjectArray.of(
             new double[]{5.0, 2.0},
             new double[]{3.0, 5.0},
             new double[]{15.0}
-        );
+        ));
 
         Map<NodeLabel, Weights<? extends Tensor<?>>> nodeLabelWeightsMap = makeWeights();
         var projection = new LabelwiseFeatureProjection(
@@ -97,11 +98,11 @@ class LabelwiseFeatureProjectionTest implements FiniteDifferenceTest {
             labels[i] = graph.nodeLabels(nodeIds[i]).stream().findFirst().get();
         }
 
-        var features = HugeObjectArray.of(
+        var features = NodeFeatures.of(HugeObjectArray.of(
             new double[]{5.0, 2.0},
             new double[]{3.0, 5.0},
             new double[]{15.0}
-        );
+        ));
         Map<NodeLabel, Weights<? extends Tensor<?>>> nodeLabelWeightsMap = makeWeights();
         var projection = new LabelwiseFeatureProjection(
             nodeIds,
@@ -69,6 +69,15 @@ class SoftmaxTest implements FiniteDifferenceTest {
         assertThat(result).matches(matrix -> matrix.equals(expected, 1e-8));
     }
 
+    @Test
+    void shouldApplyWithoutComputationGraph() {
+        var data = new Matrix(new double[]{0.6, 1.1, -1.5, 1.2, 3.2, -1.1, 800, 1, 800}, 3, 3);
+
+        var expected = new ComputationContext().forward(new Softmax(new Constant<>(data)));
+
+        assertThat(Softmax.softmax(data)).isEqualTo(expected);
+    }
+
     @Test
     void computesGradientCorrectly() {
 
@@ -21,10 +21,13 @@ package org.neo4j.gds.ml.core.randomforest;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeByteArray;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.decisiontree.GiniIndex;
 
@@ -32,6 +35,10 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfShortArray;
 
 public class ClassificationRandomForestTest {
     private static final long NUM_SAMPLES = 10;
@@ -144,4 +151,58 @@ public class ClassificationRandomForestTest {
         assertThat(randomForestPredict.outOfBagError(bootstrappedDatasets, allFeatureVectors, allLabels))
             .isCloseTo(0.2, Offset.offset(0.000001D));
     }
+
+    @Test
+    void shouldPredictBatch() {
+        var randomForestTrain = new ClassificationRandomForestTrain(
+            AllocationTracker.empty(),
+            giniIndexLoss,
+            allFeatureVectors,
+            2,
+            1,
+            0.5D,
+            0.5D,
+            Optional.of(1337L),
+            20,
+            4,
+            CLASSES,
+            allLabels
+        );
+
+        var randomForestPredict = randomForestTrain.train().predictor();
+
+        var featureBatch = new double[(int) NUM_SAMPLES * 2];
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            System.arraycopy(allFeatureVectors.get(i), 0, featureBatch, i * 2, 2);
+        }
+        var predictions = new int[(int) NUM_SAMPLES];
+        randomForestPredict.predict(featureBatch, 2, predictions);
+
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            assertThat(predictions[i]).isEqualTo(randomForestPredict.predict(allFeatureVectors.get(i)));
+        }
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var memoryRange = ClassificationRandomForestTrain.memoryEstimation(NUM_SAMPLES, 2, CLASSES.length, 3, 2, 1);
+
+        // one bin per feature vector and feature at most, since there are fewer feature vectors than bins
+        long thresholdsMin = sizeOfObjectArray(2) + 2 * sizeOfDoubleArray(1);
+        long thresholdsMax = sizeOfObjectArray(2) + 2 * sizeOfDoubleArray(NUM_SAMPLES);
+        long bins = HugeObjectArray.memoryEstimation(NUM_SAMPLES, sizeOfShortArray(2));
+        long sortedValues = sizeOfDoubleArray(NUM_SAMPLES);
+
+        // two trees with a concurrency of one are trained one after another
+        long classIndicesAndActiveVectors = HugeIntArray.memoryEstimation(NUM_SAMPLES) +
+                                            HugeLongArray.memoryEstimation(NUM_SAMPLES);
+        long childGroupsMin = 2 * HugeLongArray.memoryEstimation(NUM_SAMPLES);
+        long childGroupsMax = 2 * 3 * HugeLongArray.memoryEstimation(NUM_SAMPLES);
+        long bootstrappedDatasets = 2 * HugeByteArray.memoryEstimation(NUM_SAMPLES);
+        long histogram = sizeOfLongArray(NUM_SAMPLES * 2) + 2 * sizeOfLongArray(NUM_SAMPLES) + 2 * sizeOfLongArray(2);
+
+        long shared = bins + sortedValues + classIndicesAndActiveVectors + bootstrappedDatasets + histogram;
+        assertThat(memoryRange.min).isEqualTo(thresholdsMin + childGroupsMin + shared);
+        assertThat(memoryRange.max).isEqualTo(thresholdsMax + childGroupsMax + shared);
+    }
 }
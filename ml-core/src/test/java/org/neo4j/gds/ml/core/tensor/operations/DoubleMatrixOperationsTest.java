@@ -22,10 +22,16 @@ package org.neo4j.gds.ml.core.tensor.operations;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.function.IntPredicate;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class DoubleMatrixOperationsTest {
@@ -54,4 +60,67 @@ class DoubleMatrixOperationsTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("shapes")
+    void multMatchesEjml(int rows, int depth, int cols) {
+        var random = new Random(42L);
+        var a = randomMatrix(random, rows, depth);
+        var b = randomMatrix(random, depth, cols);
+
+        var expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.mult_reorder(a, b, expected);
+        var actual = new DMatrixRMaj(rows, cols);
+        DoubleMatrixOperations.mult(a, b, actual);
+
+        assertArrayEquals(expected.data, actual.data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("shapes")
+    void multTransBMatchesEjml(int rows, int depth, int cols) {
+        var random = new Random(42L);
+        var a = randomMatrix(random, rows, depth);
+        var b = randomMatrix(random, cols, depth);
+
+        var expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.multTransB(a, b, expected);
+        var actual = new DMatrixRMaj(rows, cols);
+        DoubleMatrixOperations.multTransB(a, b, actual);
+
+        assertArrayEquals(expected.data, actual.data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("shapes")
+    void multTransAMatchesEjml(int rows, int depth, int cols) {
+        var random = new Random(42L);
+        var a = randomMatrix(random, depth, rows);
+        var b = randomMatrix(random, depth, cols);
+
+        var expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.multTransA_reorder(a, b, expected);
+        var actual = new DMatrixRMaj(rows, cols);
+        DoubleMatrixOperations.multTransA(a, b, actual);
+
+        assertArrayEquals(expected.data, actual.data);
+    }
+
+    static Stream<Arguments> shapes() {
+        return Stream.of(
+            Arguments.of(1, 1, 1),
+            Arguments.of(3, 7, 1),
+            Arguments.of(1, 64, 64),
+            Arguments.of(17, 3, 5),
+            Arguments.of(32, DoubleMatrixOperations.DEPTH_BLOCK_SIZE + 3, 64),
+            Arguments.of(5, 2 * DoubleMatrixOperations.DEPTH_BLOCK_SIZE + 1, DoubleMatrixOperations.COLUMN_BLOCK_SIZE + 7)
+        );
+    }
+
+    private static DMatrixRMaj randomMatrix(Random random, int rows, int cols) {
+        var data = new double[rows * cols];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextDouble() - 0.5;
+        }
+        return DMatrixRMaj.wrap(rows, cols, data);
+    }
 }
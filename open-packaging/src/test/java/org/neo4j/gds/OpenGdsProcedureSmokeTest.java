@@ -155,9 +155,20 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.articleRank.write",
         "gds.articleRank.write.estimate",
 
+        "gds.beta.bfs.mutate",
+        "gds.beta.bfs.mutate.estimate",
+        "gds.beta.bfs.stream",
+        "gds.beta.bfs.stream.estimate",
+
+        "gds.beta.globalClusteringCoefficient.stats",
+        "gds.beta.globalClusteringCoefficient.stats.estimate",
+
         "gds.beta.graph.export.csv",
         "gds.beta.graph.export.csv.estimate",
 
+        "gds.beta.personalizedPageRank.batch.stream",
+        "gds.beta.personalizedPageRank.batch.stream.estimate",
+
         "gds.beta.node2vec.mutate",
         "gds.beta.node2vec.mutate.estimate",
         "gds.beta.node2vec.stream",
@@ -177,6 +188,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.beta.graph.generate",
         "gds.beta.graph.create.subgraph",
 
+        "gds.beta.hnsw.create",
+        "gds.beta.hnsw.create.estimate",
+        "gds.beta.hnsw.query.stream",
+
         "gds.beta.k1coloring.mutate",
         "gds.beta.k1coloring.mutate.estimate",
         "gds.beta.k1coloring.stats",
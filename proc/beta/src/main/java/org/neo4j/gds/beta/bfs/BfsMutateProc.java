@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.bfs;
+
+import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.MutatePropertyProc;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.results.StandardMutateResult;
+import org.neo4j.gds.traversal.BfsAlgorithmFactory;
+import org.neo4j.gds.traversal.BfsMutateConfig;
+import org.neo4j.gds.traversal.BfsResult;
+import org.neo4j.gds.traversal.DirectionOptimizingBfs;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.beta.bfs.BfsProc.BFS_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+public class BfsMutateProc extends MutatePropertyProc<DirectionOptimizingBfs, BfsResult, BfsMutateProc.MutateResult, BfsMutateConfig> {
+
+    @Procedure(value = "gds.beta.bfs.mutate", mode = READ)
+    @Description(BFS_DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphName, configuration));
+    }
+
+    @Procedure(value = "gds.beta.bfs.mutate.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected BfsMutateConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        CypherMapWrapper config
+    ) {
+        return BfsMutateConfig.of(graphName, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<DirectionOptimizingBfs, BfsMutateConfig> algorithmFactory() {
+        return new BfsAlgorithmFactory<>();
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(ComputationResult<DirectionOptimizingBfs, BfsResult, BfsMutateConfig> computationResult) {
+        return BfsProc.nodeProperties(computationResult);
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(ComputationResult<DirectionOptimizingBfs, BfsResult, BfsMutateConfig> computeResult) {
+        var builder = new MutateResult.Builder();
+        if (!computeResult.isGraphEmpty()) {
+            builder
+                .withReachedNodes(computeResult.result().reachedNodes())
+                .withMaxLevel(computeResult.result().maxLevel());
+        }
+        return builder;
+    }
+
+    @SuppressWarnings("unused")
+    public static final class MutateResult extends StandardMutateResult {
+
+        public final long nodePropertiesWritten;
+        public final long reachedNodes;
+        public final long maxLevel;
+
+        MutateResult(
+            long createMillis,
+            long computeMillis,
+            long mutateMillis,
+            long nodePropertiesWritten,
+            long reachedNodes,
+            long maxLevel,
+            Map<String, Object> configuration
+        ) {
+            super(createMillis, computeMillis, 0L, mutateMillis, configuration);
+            this.nodePropertiesWritten = nodePropertiesWritten;
+            this.reachedNodes = reachedNodes;
+            this.maxLevel = maxLevel;
+        }
+
+        static final class Builder extends AbstractResultBuilder<MutateResult> {
+
+            private long reachedNodes;
+            private long maxLevel;
+
+            Builder withReachedNodes(long reachedNodes) {
+                this.reachedNodes = reachedNodes;
+                return this;
+            }
+
+            Builder withMaxLevel(long maxLevel) {
+                this.maxLevel = maxLevel;
+                return this;
+            }
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    createMillis,
+                    computeMillis,
+                    mutateMillis,
+                    nodePropertiesWritten,
+                    reachedNodes,
+                    maxLevel,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.bfs;
+
+import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.traversal.BfsBaseConfig;
+import org.neo4j.gds.traversal.BfsResult;
+import org.neo4j.gds.traversal.DirectionOptimizingBfs;
+
+final class BfsProc {
+
+    static final String BFS_DESCRIPTION =
+        "Parallel breadth first search that computes the BFS level and parent of every node reachable from the source node.";
+
+    private BfsProc() {}
+
+    static <CONFIG extends BfsBaseConfig> NodeProperties nodeProperties(
+        AlgoBaseProc.ComputationResult<DirectionOptimizingBfs, BfsResult, CONFIG> computationResult
+    ) {
+        return computationResult.result().levels().asNodeProperties();
+    }
+}
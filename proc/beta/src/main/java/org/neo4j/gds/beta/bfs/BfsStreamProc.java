@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.bfs;
+
+import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.traversal.BfsAlgorithmFactory;
+import org.neo4j.gds.traversal.BfsResult;
+import org.neo4j.gds.traversal.BfsStreamConfig;
+import org.neo4j.gds.traversal.DirectionOptimizingBfs;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.beta.bfs.BfsProc.BFS_DESCRIPTION;
+import static org.neo4j.gds.traversal.DirectionOptimizingBfs.NOT_VISITED;
+import static org.neo4j.procedure.Mode.READ;
+
+public class BfsStreamProc extends AlgoBaseProc<DirectionOptimizingBfs, BfsResult, BfsStreamConfig> {
+
+    @Procedure(name = "gds.beta.bfs.stream", mode = READ)
+    @Description(BFS_DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphName, configuration, false, false);
+
+        return runWithExceptionLogging("Result streaming failed", () -> {
+            if (computationResult.isGraphEmpty()) {
+                return Stream.empty();
+            }
+
+            var graph = computationResult.graph();
+            var levels = computationResult.result().levels();
+            var parents = computationResult.result().parents();
+
+            return LongStream
+                .range(0, graph.nodeCount())
+                .filter(nodeId -> levels.get(nodeId) != NOT_VISITED)
+                .mapToObj(nodeId -> {
+                    var parent = parents.get(nodeId);
+                    return new StreamResult(
+                        graph.toOriginalNodeId(nodeId),
+                        levels.get(nodeId),
+                        parent == NOT_VISITED ? null : graph.toOriginalNodeId(parent)
+                    );
+                });
+        });
+    }
+
+    @Procedure(value = "gds.beta.bfs.stream.estimate", mode = READ)
+    @Description(BaseProc.ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected BfsStreamConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        CypherMapWrapper config
+    ) {
+        return BfsStreamConfig.of(graphName, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<DirectionOptimizingBfs, BfsStreamConfig> algorithmFactory() {
+        return new BfsAlgorithmFactory<>();
+    }
+
+    @SuppressWarnings("unused")
+    public static final class StreamResult {
+        public final long nodeId;
+        public final long level;
+        public final Long parentId;
+
+        StreamResult(long nodeId, long level, Long parentId) {
+            this.nodeId = nodeId;
+            this.level = level;
+            this.parentId = parentId;
+        }
+    }
+}
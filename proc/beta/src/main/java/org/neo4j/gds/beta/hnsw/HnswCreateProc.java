@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.hnsw;
+
+import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.similarity.hnsw.Hnsw;
+import org.neo4j.gds.similarity.hnsw.HnswCreateConfig;
+import org.neo4j.gds.similarity.hnsw.HnswFactory;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class HnswCreateProc extends AlgoBaseProc<Hnsw, HnswIndex, HnswCreateConfig> {
+
+    static final String DESCRIPTION =
+        "Builds an HNSW index over a vector node property of a named graph " +
+        "and stores it next to the graph in the catalog.";
+
+    @Procedure(name = "gds.beta.hnsw.create", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<CreateResult> create(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphName, configuration, false, false);
+
+        return runWithExceptionLogging("Index creation failed", () -> {
+            var config = computationResult.config();
+            var index = computationResult.result();
+            long indexedNodes = 0;
+            int dimension = 0;
+            if (!computationResult.isGraphEmpty()) {
+                GraphStoreCatalog.setIndex(username(), databaseId(), graphName, config.indexName(), index);
+                indexedNodes = index.indexedNodeCount();
+                dimension = index.dimension();
+            }
+
+            return Stream.of(new CreateResult(
+                config.indexName(),
+                config.nodeProperty(),
+                indexedNodes,
+                dimension,
+                computationResult.createMillis(),
+                computationResult.computeMillis(),
+                config.toMap()
+            ));
+        });
+    }
+
+    @Procedure(value = "gds.beta.hnsw.create.estimate", mode = READ)
+    @Description(BaseProc.ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected HnswCreateConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        CypherMapWrapper config
+    ) {
+        return HnswCreateConfig.of(graphName, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<Hnsw, HnswCreateConfig> algorithmFactory() {
+        return new HnswFactory<>();
+    }
+
+    @SuppressWarnings("unused")
+    public static final class CreateResult {
+        public final String indexName;
+        public final String nodeProperty;
+        public final long indexedNodes;
+        public final long dimension;
+        public final long createMillis;
+        public final long computeMillis;
+        public final Map<String, Object> configuration;
+
+        CreateResult(
+            String indexName,
+            String nodeProperty,
+            long indexedNodes,
+            long dimension,
+            long createMillis,
+            long computeMillis,
+            Map<String, Object> configuration
+        ) {
+            this.indexName = indexName;
+            this.nodeProperty = nodeProperty;
+            this.indexedNodes = indexedNodes;
+            this.dimension = dimension;
+            this.createMillis = createMillis;
+            this.computeMillis = computeMillis;
+            this.configuration = configuration;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.hnsw;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.ProcPreconditions;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswQueryConfig;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class HnswQueryProc extends BaseProc {
+
+    static final String DESCRIPTION =
+        "Streams the most similar nodes to the given nodes or vector, " +
+        "using an HNSW index stored with the graph.";
+
+    @Procedure(name = "gds.beta.hnsw.query.stream", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+        CypherMapWrapper.failOnBlank("graphName", graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = HnswQueryConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+        // fails if the graph does not exist
+        graphStoreFromCatalog(graphName, config);
+
+        var graphIndex = GraphStoreCatalog
+            .getIndex(username(), databaseId(), graphName, config.indexName())
+            .orElseThrow(() -> new NoSuchElementException(formatWithLocale(
+                "Index with name `%s` does not exist on graph `%s`.",
+                config.indexName(),
+                graphName
+            )));
+        if (!(graphIndex instanceof HnswIndex)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Index `%s` is of type `%s`, expected `%s`.",
+                config.indexName(),
+                graphIndex.indexType(),
+                HnswIndex.INDEX_TYPE
+            ));
+        }
+        var index = (HnswIndex) graphIndex;
+
+        return runWithExceptionLogging("Index query failed", () -> {
+            if (!config.queryVector().isEmpty()) {
+                double[] vector = config.queryVector().stream().mapToDouble(Double::doubleValue).toArray();
+                return index
+                    .queryVector(vector, config.topK(), config.ef())
+                    .stream()
+                    .map(result -> new StreamResult(null, result));
+            }
+            return config.queryNodeIds().stream().flatMap(queryNodeId -> index
+                .queryNode(queryNodeId, config.topK(), config.ef())
+                .stream()
+                .map(result -> new StreamResult(queryNodeId, result)));
+        });
+    }
+
+    @SuppressWarnings("unused")
+    public static final class StreamResult {
+        public final Long queryNodeId;
+        public final long nodeId;
+        public final double similarity;
+
+        StreamResult(Long queryNodeId, SimilarityResult result) {
+            this.queryNodeId = queryNodeId;
+            this.nodeId = result.node2;
+            this.similarity = result.similarity;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pagerank;
+
+import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.pagerank.BatchPersonalizedPageRank;
+import org.neo4j.gds.pagerank.BatchPersonalizedPageRankAlgorithmFactory;
+import org.neo4j.gds.pagerank.BatchPersonalizedPageRankResult;
+import org.neo4j.gds.pagerank.BatchPersonalizedPageRankStreamConfig;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class BatchPersonalizedPageRankStreamProc extends AlgoBaseProc<BatchPersonalizedPageRank, BatchPersonalizedPageRankResult, BatchPersonalizedPageRankStreamConfig> {
+
+    static final String DESCRIPTION =
+        "Approximates personalized PageRank for many source node sets in one run " +
+        "and streams the highest scoring nodes per source node set.";
+
+    @Procedure(name = "gds.beta.personalizedPageRank.batch.stream", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphName, configuration, false, false);
+
+        return runWithExceptionLogging("Result streaming failed", () -> {
+            if (computationResult.isGraphEmpty()) {
+                return Stream.empty();
+            }
+
+            var graph = computationResult.graph();
+            var topScores = computationResult.result().topScores();
+
+            return IntStream
+                .range(0, topScores.size())
+                .boxed()
+                .flatMap(sourceNodeSet -> {
+                    var scores = topScores.get(sourceNodeSet);
+                    var builder = Stream.<StreamResult>builder();
+                    scores.forEach((nodeId, score) -> builder.add(new StreamResult(
+                        sourceNodeSet,
+                        graph.toOriginalNodeId(nodeId),
+                        score
+                    )));
+                    return builder.build();
+                });
+        });
+    }
+
+    @Procedure(value = "gds.beta.personalizedPageRank.batch.stream.estimate", mode = READ)
+    @Description(BaseProc.ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    protected BatchPersonalizedPageRankStreamConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        CypherMapWrapper config
+    ) {
+        return BatchPersonalizedPageRankStreamConfig.of(graphName, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<BatchPersonalizedPageRank, BatchPersonalizedPageRankStreamConfig> algorithmFactory() {
+        return new BatchPersonalizedPageRankAlgorithmFactory<>();
+    }
+
+    @SuppressWarnings("unused")
+    public static final class StreamResult {
+        public final long sourceNodeSet;
+        public final long nodeId;
+        public final double score;
+
+        StreamResult(long sourceNodeSet, long nodeId, double score) {
+            this.sourceNodeSet = sourceNodeSet;
+            this.nodeId = nodeId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.triangle;
+
+import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.StatsProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.results.StandardStatsResult;
+import org.neo4j.gds.triangle.GlobalClusteringCoefficient;
+import org.neo4j.gds.triangle.GlobalClusteringCoefficientFactory;
+import org.neo4j.gds.triangle.GlobalClusteringCoefficientResult;
+import org.neo4j.gds.triangle.GlobalClusteringCoefficientStatsConfig;
+import org.neo4j.gds.validation.BeforeLoadValidation;
+import org.neo4j.gds.validation.GraphCreateConfigValidations;
+import org.neo4j.gds.validation.ValidationConfiguration;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class GlobalClusteringCoefficientStatsProc extends StatsProc<GlobalClusteringCoefficient, GlobalClusteringCoefficientResult, GlobalClusteringCoefficientStatsProc.StatsResult, GlobalClusteringCoefficientStatsConfig> {
+
+    static final String DESCRIPTION =
+        "Estimates the global clustering coefficient of the graph by sampling wedges, " +
+        "within a given error bound and confidence level.";
+
+    @Procedure(value = "gds.beta.globalClusteringCoefficient.stats", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<StatsResult> stats(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return stats(compute(graphName, configuration));
+    }
+
+    @Procedure(value = "gds.beta.globalClusteringCoefficient.stats.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimateStats(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return computeEstimate(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    public ValidationConfiguration<GlobalClusteringCoefficientStatsConfig> getValidationConfig() {
+        return new ValidationConfiguration<>() {
+            @Override
+            public List<BeforeLoadValidation<GlobalClusteringCoefficientStatsConfig>> beforeLoadValidations() {
+                return List.of(
+                    new GraphCreateConfigValidations.UndirectedGraphValidation<>()
+                );
+            }
+        };
+    }
+
+    @Override
+    protected AbstractResultBuilder<StatsResult> resultBuilder(ComputationResult<GlobalClusteringCoefficient, GlobalClusteringCoefficientResult, GlobalClusteringCoefficientStatsConfig> computeResult) {
+        return new StatsBuilder(Optional.ofNullable(computeResult.result()));
+    }
+
+    @Override
+    protected GlobalClusteringCoefficientStatsConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        CypherMapWrapper config
+    ) {
+        return GlobalClusteringCoefficientStatsConfig.of(graphName, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<GlobalClusteringCoefficient, GlobalClusteringCoefficientStatsConfig> algorithmFactory() {
+        return new GlobalClusteringCoefficientFactory<>();
+    }
+
+    @SuppressWarnings("unused")
+    public static class StatsResult extends StandardStatsResult {
+
+        public final double globalClusteringCoefficient;
+        public final double lowerBound;
+        public final double upperBound;
+        public final long estimatedTriangleCount;
+        public final long wedgeCount;
+        public final long sampledWedges;
+        public final long nodeCount;
+
+        StatsResult(
+            double globalClusteringCoefficient,
+            double lowerBound,
+            double upperBound,
+            long estimatedTriangleCount,
+            long wedgeCount,
+            long sampledWedges,
+            long nodeCount,
+            long createMillis,
+            long computeMillis,
+            Map<String, Object> configuration
+        ) {
+            // sampling happens during compute, there is no post-processing
+            super(createMillis, computeMillis, 0L, configuration);
+            this.globalClusteringCoefficient = globalClusteringCoefficient;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.estimatedTriangleCount = estimatedTriangleCount;
+            this.wedgeCount = wedgeCount;
+            this.sampledWedges = sampledWedges;
+            this.nodeCount = nodeCount;
+        }
+    }
+
+    static final class StatsBuilder extends AbstractResultBuilder<StatsResult> {
+
+        private final Optional<GlobalClusteringCoefficientResult> result;
+
+        StatsBuilder(Optional<GlobalClusteringCoefficientResult> result) {
+            this.result = result;
+        }
+
+        @Override
+        public StatsResult build() {
+            return new StatsResult(
+                result.map(GlobalClusteringCoefficientResult::globalClusteringCoefficient).orElse(0D),
+                result.map(GlobalClusteringCoefficientResult::lowerBound).orElse(0D),
+                result.map(GlobalClusteringCoefficientResult::upperBound).orElse(0D),
+                result.map(GlobalClusteringCoefficientResult::estimatedTriangleCount).orElse(0L),
+                result.map(GlobalClusteringCoefficientResult::wedgeCount).orElse(0L),
+                result.map(GlobalClusteringCoefficientResult::sampledWedges).orElse(0L),
+                nodeCount,
+                createMillis,
+                computeMillis,
+                config.toMap()
+            );
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.bfs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.catalog.GraphCreateProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BfsProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "bfsGraph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(c)" +
+        ", (c)-[:REL]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(BfsStreamProc.class, BfsMutateProc.class, GraphCreateProc.class);
+
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .graphCreate()
+            .loadEverything(Orientation.UNDIRECTED)
+            .yields());
+    }
+
+    @Test
+    void shouldStreamLevelsOfReachableNodes() {
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds", "beta", "bfs")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .yields("nodeId", "level", "parentId");
+
+        Map<Long, Long> levels = new HashMap<>();
+        Map<Long, Object> parents = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> {
+            levels.put(row.getNumber("nodeId").longValue(), row.getNumber("level").longValue());
+            parents.put(row.getNumber("nodeId").longValue(), row.get("parentId"));
+        });
+
+        assertThat(levels).containsExactlyInAnyOrderEntriesOf(Map.of(
+            idFunction.of("a"), 0L,
+            idFunction.of("b"), 1L,
+            idFunction.of("c"), 1L,
+            idFunction.of("d"), 2L
+        ));
+        assertThat(parents.get(idFunction.of("a"))).isNull();
+        assertThat(parents.get(idFunction.of("d"))).isEqualTo(idFunction.of("c"));
+    }
+
+    @Test
+    void shouldMutateLevels() {
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds", "beta", "bfs")
+            .mutateMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("mutateProperty", "level")
+            .yields("nodePropertiesWritten", "reachedNodes", "maxLevel");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(5L);
+            assertThat(row.getNumber("reachedNodes").longValue()).isEqualTo(4L);
+            assertThat(row.getNumber("maxLevel").longValue()).isEqualTo(2L);
+        });
+
+        var graph = GraphStoreCatalog.get(getUsername(), db.databaseId(), GRAPH_NAME).graphStore().getUnion();
+        var levels = graph.nodeProperties("level");
+        assertThat(levels.longValue(graph.toMappedNodeId(idFunction.of("d")))).isEqualTo(2L);
+        assertThat(levels.longValue(graph.toMappedNodeId(idFunction.of("e")))).isEqualTo(-1L);
+    }
+}
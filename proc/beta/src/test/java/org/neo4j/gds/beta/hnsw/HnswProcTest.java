@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.hnsw;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphCreateProc;
+import org.neo4j.gds.catalog.GraphDropProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {embedding: [1.0, 0.0, 0.0]})" +
+        ", (b:Node {embedding: [0.9, 0.1, 0.0]})" +
+        ", (c:Node {embedding: [0.0, 1.0, 0.0]})" +
+        ", (d:Node {embedding: [0.0, 0.9, 0.1]})" +
+        ", (e:Node {embedding: [0.0, 0.0, 1.0]})";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(HnswCreateProc.class, HnswQueryProc.class, GraphCreateProc.class, GraphDropProc.class);
+
+        runQuery("CALL gds.graph.create('graph', 'Node', '*', {nodeProperties: 'embedding'})");
+        runQueryWithRowConsumer(
+            "CALL gds.beta.hnsw.create('graph', {indexName: 'index', nodeProperty: 'embedding', randomSeed: 42}) " +
+            "YIELD indexName, indexedNodes, dimension",
+            row -> {
+                assertThat(row.getString("indexName")).isEqualTo("index");
+                assertThat(row.getNumber("indexedNodes").longValue()).isEqualTo(5L);
+                assertThat(row.getNumber("dimension").longValue()).isEqualTo(3L);
+            }
+        );
+    }
+
+    @Test
+    void shouldQueryByNode() {
+        var query = "CALL gds.beta.hnsw.query.stream('graph', {indexName: 'index', queryNodeIds: $nodes, topK: 1}) " +
+                    "YIELD queryNodeId, nodeId, similarity";
+
+        List<List<Long>> pairs = new ArrayList<>();
+        runQueryWithRowConsumer(
+            query,
+            Map.of("nodes", List.of(idFunction.of("a"), idFunction.of("c"))),
+            row -> pairs.add(List.of(row.getNumber("queryNodeId").longValue(), row.getNumber("nodeId").longValue()))
+        );
+
+        assertThat(pairs).containsExactly(
+            List.of(idFunction.of("a"), idFunction.of("b")),
+            List.of(idFunction.of("c"), idFunction.of("d"))
+        );
+    }
+
+    @Test
+    void shouldQueryByVector() {
+        var query = "CALL gds.beta.hnsw.query.stream('graph', {indexName: 'index', queryVector: [0.1, 0.0, 2.0], topK: 2}) " +
+                    "YIELD queryNodeId, nodeId, similarity";
+
+        List<Long> nodes = new ArrayList<>();
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.get("queryNodeId")).isNull();
+            nodes.add(row.getNumber("nodeId").longValue());
+        });
+
+        assertThat(nodes).hasSize(2).first().isEqualTo(idFunction.of("e"));
+    }
+
+    @Test
+    void shouldFailForMissingIndex() {
+        assertError(
+            "CALL gds.beta.hnsw.query.stream('graph', {indexName: 'missing', queryNodeIds: [0]})",
+            "Index with name `missing` does not exist on graph `graph`."
+        );
+    }
+
+    @Test
+    void shouldDropIndexWithGraph() {
+        runQuery("CALL gds.graph.drop('graph')");
+        runQuery("CALL gds.graph.create('graph', 'Node', '*', {nodeProperties: 'embedding'})");
+
+        assertThat(GraphStoreCatalog.getIndex(getUsername(), db.databaseId(), GRAPH_NAME, "index")).isEmpty();
+    }
+}
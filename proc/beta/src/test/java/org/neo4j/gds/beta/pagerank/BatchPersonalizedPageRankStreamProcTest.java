@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pagerank;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphCreateProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchPersonalizedPageRankStreamProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(a)" +
+        ", (d)-[:REL]->(e)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(BatchPersonalizedPageRankStreamProc.class, GraphCreateProc.class);
+
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .graphCreate()
+            .loadEverything()
+            .yields());
+    }
+
+    @Test
+    void shouldStreamTopScoresPerSourceNodeSet() {
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds", "beta", "personalizedPageRank", "batch")
+            .streamMode()
+            .addParameter("sourceNodeSets", List.of(
+                List.of(idFunction.of("a")),
+                List.of(idFunction.of("d"))
+            ))
+            .addParameter("topK", 2)
+            .yields("sourceNodeSet", "nodeId", "score");
+
+        Map<Long, List<Long>> nodesPerSet = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> nodesPerSet
+            .computeIfAbsent(row.getNumber("sourceNodeSet").longValue(), ignore -> new ArrayList<>())
+            .add(row.getNumber("nodeId").longValue())
+        );
+
+        assertThat(nodesPerSet).containsOnlyKeys(0L, 1L);
+        assertThat(nodesPerSet.get(0L)).hasSize(2).first().isEqualTo(idFunction.of("a"));
+        assertThat(nodesPerSet.get(1L)).containsExactly(idFunction.of("d"), idFunction.of("e"));
+    }
+}
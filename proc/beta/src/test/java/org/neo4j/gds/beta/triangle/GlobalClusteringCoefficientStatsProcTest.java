@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.triangle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.catalog.GraphCreateProc;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.isA;
+
+class GlobalClusteringCoefficientStatsProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(a)" +
+        ", (a)-[:REL]->(d)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GlobalClusteringCoefficientStatsProc.class, GraphCreateProc.class);
+
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .graphCreate()
+            .loadEverything(Orientation.UNDIRECTED)
+            .yields());
+    }
+
+    @Test
+    void shouldEstimateCoefficient() {
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds", "beta", "globalClusteringCoefficient")
+            .statsMode()
+            .addParameter("errorBound", 0.05)
+            .addParameter("randomSeed", 42L)
+            .yields("globalClusteringCoefficient", "wedgeCount", "nodeCount", "computeMillis", "configuration");
+
+        // 3 closed wedges out of 5
+        assertCypherResult(query, List.of(Map.of(
+            "globalClusteringCoefficient", closeTo(0.6, 0.1),
+            "wedgeCount", 5L,
+            "nodeCount", 4L,
+            "computeMillis", greaterThan(-1L),
+            "configuration", isA(Map.class)
+        )));
+    }
+
+    @Test
+    void shouldRequireUndirectedGraph() {
+        runQuery(GdsCypher.call("directed")
+            .graphCreate()
+            .loadEverything(Orientation.NATURAL)
+            .yields());
+
+        var query = GdsCypher.call("directed")
+            .algo("gds", "beta", "globalClusteringCoefficient")
+            .statsMode()
+            .yields();
+
+        assertThatThrownBy(() -> runQuery(query))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("UNDIRECTED");
+    }
+}
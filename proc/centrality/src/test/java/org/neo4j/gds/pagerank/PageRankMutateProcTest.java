@@ -148,4 +148,54 @@ class PageRankMutateProcTest extends PageRankProcTest<PageRankMutateConfig> impl
             "configuration", allOf(isA(Map.class), hasEntry("mutateProperty", mutateProperty()))
         )));
     }
+
+    @Test
+    void shouldRefreshPreviousScoresIncrementally() {
+        runQuery(GdsCypher
+            .call(GRAPH_NAME)
+            .algo("pageRank")
+            .mutateMode()
+            .addParameter("mutateProperty", "previousScore")
+            .yields());
+
+        String query = GdsCypher
+            .call(GRAPH_NAME)
+            .algo("pageRank")
+            .mutateMode()
+            .addParameter("mutateProperty", "refreshedScore")
+            .addParameter("previousScoreProperty", "previousScore")
+            .yields("nodePropertiesWritten", "didConverge", "ranIterations");
+
+        // without relationship changes the previous scores are already a fixpoint
+        assertCypherResult(query, List.of(Map.of(
+            "nodePropertiesWritten", 10L,
+            "didConverge", true,
+            "ranIterations", 0L
+        )));
+    }
+
+    @Test
+    void shouldFailOnUnknownNodeInChangedRelationships() {
+        runQuery(GdsCypher
+            .call(GRAPH_NAME)
+            .algo("pageRank")
+            .mutateMode()
+            .addParameter("mutateProperty", "previousScore")
+            .yields());
+
+        String query = GdsCypher
+            .call(GRAPH_NAME)
+            .algo("pageRank")
+            .mutateMode()
+            .addParameter("mutateProperty", "refreshedScore")
+            .addParameter("previousScoreProperty", "previousScore")
+            .addPlaceholder("addedRelationships", "added")
+            .yields();
+
+        assertError(
+            query,
+            Map.of("added", List.of(List.of(idFunction.of("a"), 4242L))),
+            "Node with id `4242` of a changed relationship does not exist in the graph."
+        );
+    }
 }
@@ -47,7 +47,9 @@ final class TriangleCountCompanion {
         AlgoBaseProc.ComputationResult<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult, CONFIG> computeResult
     ) {
         var result = Optional.ofNullable(computeResult.result()).orElse(EmptyResult.EMPTY_RESULT);
-        return procResultBuilder.withGlobalTriangleCount(result.globalTriangles());
+        return procResultBuilder
+            .withGlobalTriangleCount(result.globalTriangles())
+            .withGlobalTriangleCountStandardError(result.globalTrianglesStandardError());
     }
 
     static <CONFIG extends TriangleCountBaseConfig> ValidationConfiguration<CONFIG> getValidationConfig() {
@@ -64,12 +66,18 @@ final class TriangleCountCompanion {
     abstract static class TriangleCountResultBuilder<PROC_RESULT> extends AbstractResultBuilder<PROC_RESULT> {
 
         long globalTriangleCount = 0;
+        double globalTriangleCountStandardError = 0;
 
         TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCountStandardError(double globalTriangleCountStandardError) {
+            this.globalTriangleCountStandardError = globalTriangleCountStandardError;
+            return this;
+        }
+
     }
 
     private TriangleCountCompanion() {}
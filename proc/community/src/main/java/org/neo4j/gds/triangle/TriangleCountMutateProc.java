@@ -97,6 +97,7 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
 
         MutateResult(
             long globalTriangleCount,
+            double globalTriangleCountStandardError,
             long nodeCount,
             long createMillis,
             long computeMillis,
@@ -106,6 +107,7 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -122,6 +124,7 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
         public MutateResult build() {
             return new MutateResult(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -85,10 +85,12 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
     public static class StatsResult extends StandardStatsResult {
 
         public final long globalTriangleCount;
+        public final double globalTriangleCountStandardError;
         public final long nodeCount;
 
         StatsResult(
             long globalTriangleCount,
+            double globalTriangleCountStandardError,
             long nodeCount,
             long createMillis,
             long computeMillis,
@@ -97,6 +99,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
             // post-processing is instant for TC
             super(createMillis, computeMillis, 0L, configuration);
             this.globalTriangleCount = globalTriangleCount;
+            this.globalTriangleCountStandardError = globalTriangleCountStandardError;
             this.nodeCount = nodeCount;
         }
     }
@@ -107,6 +110,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
         public StatsResult build() {
             return new StatsResult(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -95,6 +95,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
 
         public WriteResult(
             long globalTriangleCount,
+            double globalTriangleCountStandardError,
             long nodeCount,
             long createMillis,
             long computeMillis,
@@ -104,6 +105,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -120,6 +122,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         public WriteResult build() {
             return new WriteResult(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 createMillis,
                 computeMillis,
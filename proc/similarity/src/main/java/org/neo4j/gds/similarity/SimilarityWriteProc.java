@@ -29,8 +29,16 @@ import org.neo4j.gds.config.WriteRelationshipConfig;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.RelationshipExporter;
+import org.neo4j.gds.core.write.ImmutableRelationship;
+import org.neo4j.gds.core.write.Relationship;
 import org.neo4j.gds.core.write.RelationshipExporterBuilder;
+import org.neo4j.gds.core.write.RelationshipStreamExporter;
+import org.neo4j.gds.core.write.RelationshipStreamExporterBuilder;
+import org.neo4j.procedure.Context;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.core.ProcedureConstants.HISTOGRAM_PRECISION_DEFAULT;
@@ -41,6 +49,9 @@ public abstract class SimilarityWriteProc<
     PROC_RESULT extends SimilarityWriteResult,
     CONFIG extends WritePropertyConfig & WriteRelationshipConfig & AlgoBaseConfig> extends WriteRelationshipsProc<ALGO, ALGO_RESULT, PROC_RESULT, CONFIG> {
 
+    @Context
+    public RelationshipStreamExporterBuilder<? extends RelationshipStreamExporter> relationshipStreamExporterBuilder;
+
     public abstract String procedureName();
 
     protected abstract SimilarityProc.SimilarityResultBuilder<PROC_RESULT> resultBuilder(AlgoBaseProc.ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult);
@@ -54,6 +65,11 @@ public abstract class SimilarityWriteProc<
                 return Stream.of(resultBuilder(computationResult).withConfig(config).build());
             }
 
+            var maybeSimilarities = similarityStream(computationResult);
+            if (maybeSimilarities.isPresent()) {
+                return Stream.of(writeStream(computationResult, maybeSimilarities.get()));
+            }
+
             var algorithm = computationResult.algorithm();
             var similarityGraphResult = similarityGraphResult(computationResult);
             var similarityGraph = similarityGraphResult.similarityGraph();
@@ -115,5 +131,61 @@ public abstract class SimilarityWriteProc<
         });
     }
 
+    /**
+     * Returns the similarities if they should be written while they are streamed,
+     * instead of being collected into a similarity graph first.
+     */
+    protected Optional<Stream<SimilarityResult>> similarityStream(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult) {
+        return Optional.empty();
+    }
+
+    private PROC_RESULT writeStream(
+        ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult,
+        Stream<SimilarityResult> similarities
+    ) {
+        CONFIG config = computationResult.config();
+        SimilarityProc.SimilarityResultBuilder<PROC_RESULT> resultBuilder = SimilarityProc.resultBuilderWithTimings(
+            resultBuilder(computationResult),
+            computationResult
+        );
+        Optional<DoubleHistogram> maybeHistogram = SimilarityProc.shouldComputeHistogram(callContext)
+            ? Optional.of(new DoubleHistogram(HISTOGRAM_PRECISION_DEFAULT))
+            : Optional.empty();
+
+        runWithExceptionLogging(
+            procedureName() + " write-back failed",
+            () -> {
+                try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis); similarities) {
+                    var progressTracker = new TaskProgressTracker(
+                        RelationshipStreamExporter.baseTask(procName()),
+                        log,
+                        RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY,
+                        taskRegistryFactory
+                    );
+                    Stream<Relationship> relationships = similarities.map(similarity -> {
+                        maybeHistogram.ifPresent(histogram -> histogram.recordValue(similarity.similarity));
+                        return ImmutableRelationship.of(
+                            similarity.node1,
+                            similarity.node2,
+                            new Value[]{Values.doubleValue(similarity.similarity)}
+                        );
+                    });
+                    var exporter = relationshipStreamExporterBuilder
+                        .withIdMapping(computationResult.graph())
+                        .withRelationships(relationships)
+                        .withTerminationFlag(computationResult.algorithm().getTerminationFlag())
+                        .withProgressTracker(progressTracker)
+                        .build();
+                    resultBuilder.withRelationshipsWritten(exporter.write(
+                        config.writeRelationshipType(),
+                        config.writeProperty()
+                    ));
+                }
+            }
+        );
+        maybeHistogram.ifPresent(resultBuilder::withHistogram);
+        return resultBuilder.build();
+    }
+
     protected abstract SimilarityGraphResult similarityGraphResult(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult);
 }
@@ -25,6 +25,7 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.gds.similarity.SimilarityGraphResult;
 import org.neo4j.gds.similarity.SimilarityProc;
+import org.neo4j.gds.similarity.SimilarityResult;
 import org.neo4j.gds.similarity.SimilarityWriteProc;
 import org.neo4j.gds.similarity.SimilarityWriteResult;
 import org.neo4j.procedure.Description;
@@ -66,7 +67,11 @@ public class NodeSimilarityWriteProc extends SimilarityWriteProc<NodeSimilarity,
 
     @Override
     protected SimilarityProc.SimilarityResultBuilder<SimilarityWriteResult> resultBuilder(ComputationResult<NodeSimilarity, NodeSimilarityResult, NodeSimilarityWriteConfig> computationResult) {
-        return new SimilarityWriteResult.Builder();
+        var resultBuilder = new SimilarityWriteResult.Builder();
+        if (computationResult.algorithm() != null) {
+            resultBuilder.withNodesCompared(computationResult.algorithm().nodesCompared());
+        }
+        return resultBuilder;
     }
 
     @Override
@@ -88,6 +93,11 @@ public class NodeSimilarityWriteProc extends SimilarityWriteProc<NodeSimilarity,
         throw new UnsupportedOperationException("NodeSimilarity does not write node properties.");
     }
 
+    @Override
+    protected Optional<Stream<SimilarityResult>> similarityStream(ComputationResult<NodeSimilarity, NodeSimilarityResult, NodeSimilarityWriteConfig> computationResult) {
+        return computationResult.result().maybeStreamResult();
+    }
+
     @Override
     protected SimilarityGraphResult similarityGraphResult(ComputationResult<NodeSimilarity, NodeSimilarityResult, NodeSimilarityWriteConfig> computationResult) {
         return computationResult.result().graphResult();
@@ -28,11 +28,15 @@ import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
 
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
@@ -112,17 +116,34 @@ class KnnFactoryTest {
     ) {
         long knnAlgo = /* KNN */ 48;
 
-        long topKNeighborList = /* NL */ 24 + sizeOfLongArray(boundedK * 2);
-        long topKNeighborsList = /* HOA */ sizeOfHugeArrayInstance + sizeOfHugeArray + nodeCount * topKNeighborList;
+        // pages hold the largest power of two number of nodes whose slots fit into 4096 elements
+        long nodesPerPage = Integer.highestOneBit(Math.max(1, 4096 / Math.max(1, boundedK)));
+        long fullPages = nodeCount / nodesPerPage;
+        long lastPageNodes = nodeCount % nodesPerPage;
+        long numPages = ceilDiv(nodeCount, nodesPerPage);
+        long elementPages = sizeOfObjectArray(numPages)
+                            + fullPages * sizeOfLongArray(nodesPerPage * boundedK)
+                            + (lastPageNodes > 0 ? sizeOfLongArray(lastPageNodes * boundedK) : 0);
+        long similarityPages = sizeOfObjectArray(numPages)
+                               + fullPages * sizeOfDoubleArray(nodesPerPage * boundedK)
+                               + (lastPageNodes > 0 ? sizeOfDoubleArray(lastPageNodes * boundedK) : 0);
+        long sizes = HugeIntArray.memoryEstimation(nodeCount);
+        long locks = sizeOfObjectArray(1024) + 1024 * sizeOfInstance(Object.class);
+        long topKNeighborsList = /* NLs */ sizeOfInstance(NeighborLists.class)
+                                 + elementPages
+                                 + similarityPages
+                                 + sizes
+                                 + locks;
 
         long tempNeighborsListMin = /* HOA */ sizeOfHugeArrayInstance + sizeOfHugeArray;
         long tempNeighborsListMax = tempNeighborsListMin + nodeCount * (/* LAL */ 24 + sizeOfLongArray(sampledK));
 
         var randomList = KnnFactory.initialSamplerMemoryEstimation(initialSampler, boundedK);
         long sampledList = sizeOfIntArray(sizeOfOpenHashContainer(sampledK));
+        long activeNodes = 2 * HugeAtomicBitSet.memoryEstimation(nodeCount);
 
-        long expectedMin = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList.min + sampledList;
-        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList.max + sampledList;
+        long expectedMin = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList.min + sampledList + activeNodes;
+        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList.max + sampledList + activeNodes;
 
         assertEquals(expectedMin, actual.min);
         assertEquals(expectedMax, actual.max);
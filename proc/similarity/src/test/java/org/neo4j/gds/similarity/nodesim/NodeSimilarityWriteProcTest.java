@@ -282,6 +282,40 @@ public class NodeSimilarityWriteProcTest
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void shouldWriteSpilledResults(int topN) {
+        var graphName = "undirectedGraph";
+
+        var graphCreateQuery = GdsCypher.call(graphName)
+            .graphCreate()
+            .withAnyLabel()
+            .withRelationshipType("LIKES", Orientation.UNDIRECTED)
+            .yields();
+
+        runQuery(graphCreateQuery);
+
+        var query = GdsCypher.call(graphName)
+            .algo("gds", "nodeSimilarity")
+            .writeMode()
+            .addParameter("sudo", true)
+            .addParameter("topK", 1)
+            .addParameter("topN", topN)
+            .addParameter("spillToDisk", true)
+            .addParameter("writeRelationshipType", "SIMILAR")
+            .addParameter("writeProperty", "score")
+            .yields("relationshipsWritten", "similarityDistribution");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertEquals(topN == 0 ? 6 : 1, row.getNumber("relationshipsWritten").longValue());
+            Map<String, Double> distribution = (Map<String, Double>) row.get("similarityDistribution");
+            assertThat("Missing max", -1.0, lessThan(distribution.get("max")));
+        });
+
+        var written = runQuery("MATCH ()-[r:SIMILAR]->() RETURN count(r) AS count", result -> result.<Long>columnAs("count").next());
+        assertEquals(topN == 0 ? 6L : 1L, written);
+    }
+
     @Override
     public String writeRelationshipType() {
         return "NODE_SIM_REL";